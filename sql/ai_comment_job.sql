@@ -0,0 +1,20 @@
+-- AI 답변 생성 작업 큐 (질문 게시글당 1건)
+-- next_attempt_at: PENDING 이면 다음 실행 시각, RUNNING 이면 점유 만료 시각
+-- revivals: 백필 배치가 DEAD 작업을 되살린 횟수 (기존 테이블: ALTER TABLE ai_comment_job ADD COLUMN revivals INT NOT NULL DEFAULT 0 AFTER attempts;)
+-- lease_owner: 마지막 점유 토큰, 완료/실패 처리는 토큰이 일치할 때만 반영 (기존 테이블: ALTER TABLE ai_comment_job ADD COLUMN lease_owner VARCHAR(36) NULL AFTER completed_at;)
+CREATE TABLE ai_comment_job (
+    id VARCHAR(36) PRIMARY KEY,
+    community_id VARCHAR(36) NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    revivals INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error VARCHAR(1000),
+    completed_at TIMESTAMP NULL,
+    lease_owner VARCHAR(36) NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    UNIQUE KEY uk_ai_comment_job_community_id (community_id),
+    INDEX idx_ai_comment_job_status_next (status, next_attempt_at)
+);
@@ -0,0 +1,13 @@
+-- 배치 작업 진행 위치 (키셋 커서). 재시작 시 마지막으로 처리한 (created_at, id) 다음부터 이어서 실행
+CREATE TABLE batch_checkpoint (
+    job_name VARCHAR(64) PRIMARY KEY,
+    last_created_at TIMESTAMP NULL,
+    last_id VARCHAR(36),
+    processed_count BIGINT NOT NULL DEFAULT 0,
+    last_completed_at TIMESTAMP NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+-- AI 답변 백필: 질문 게시글을 (category, created_at, id) 순서로 훑기 위한 인덱스
+ALTER TABLE community ADD INDEX idx_community_category_created_at_id (category, created_at, id);
@@ -0,0 +1,10 @@
+-- 게시글 댓글 수 비정규화 컬럼 추가 및 기존 데이터 백필
+ALTER TABLE community ADD COLUMN comment_count BIGINT NOT NULL DEFAULT 0 AFTER like_count;
+
+UPDATE community c
+LEFT JOIN (
+    SELECT community_id, COUNT(*) AS cnt
+    FROM comments
+    GROUP BY community_id
+) x ON x.community_id = c.id
+SET c.comment_count = COALESCE(x.cnt, 0);
@@ -0,0 +1,3 @@
+-- 커뮤니티 목록 커서(keyset) 페이지네이션용 인덱스
+-- ORDER BY created_at DESC, id DESC + (created_at, id) < (:cursorCreatedAt, :cursorId) 범위 조회에 사용
+ALTER TABLE community ADD INDEX idx_community_created_at_id (created_at, id);
@@ -0,0 +1,8 @@
+-- 커뮤니티 검색용 FULLTEXT 인덱스 (community.search.backend=fulltext)
+-- ngram parser 로 한국어를 2글자(ngram_token_size 기본값) 단위로 토큰화합니다.
+ALTER TABLE community
+    ADD FULLTEXT INDEX ft_community_title_content (title, content) WITH PARSER ngram;
+
+-- LIKE '%kw%' 경로(type=ALL, 전체 스캔)와 FULLTEXT 경로(type=fulltext)의 실행 계획 및 검색 결과 비교는
+-- MySqlCommunitySearchBackendTest 가 이 파일을 실제 MySQL(Testcontainers)에 적용하여 검증합니다.
+-- 두 경로의 소요 시간은 CommunitySearchBenchmarkTest 로 측정합니다. (./gradlew test -Dsearch.benchmark=true --tests '*CommunitySearchBenchmarkTest')
@@ -0,0 +1,9 @@
+-- 업로드 이미지 축소 변형(thumbnail/feed/full) URL 컬럼 추가
+-- 기존 행은 NULL 로 두며, 조회 시 NULL 이면 원본(object_path / profile_image_url)을 사용
+ALTER TABLE images
+    ADD COLUMN thumbnail_url VARCHAR(512) NULL AFTER object_path,
+    ADD COLUMN feed_url VARCHAR(512) NULL AFTER thumbnail_url,
+    ADD COLUMN full_url VARCHAR(512) NULL AFTER feed_url;
+
+ALTER TABLE user
+    ADD COLUMN profile_thumbnail_url VARCHAR(255) NULL AFTER profile_image_url;
@@ -0,0 +1,19 @@
+-- 좋아요 토글 원자화를 위한 (user_id, community_id) 유니크 제약 추가
+-- A. 동시 요청으로 생긴 중복 좋아요 제거 (가장 먼저 생성된 행만 유지)
+DELETE l1 FROM likes l1
+JOIN likes l2
+  ON l1.user_id = l2.user_id
+ AND l1.community_id = l2.community_id
+ AND (l1.created_at > l2.created_at OR (l1.created_at = l2.created_at AND l1.id > l2.id));
+
+-- B. 유니크 제약 추가
+ALTER TABLE likes ADD CONSTRAINT uk_likes_user_community UNIQUE (user_id, community_id);
+
+-- C. 어긋난 like_count 를 실제 좋아요 수로 보정
+UPDATE community c
+LEFT JOIN (
+    SELECT community_id, COUNT(*) AS cnt
+    FROM likes
+    GROUP BY community_id
+) x ON x.community_id = c.id
+SET c.like_count = COALESCE(x.cnt, 0);
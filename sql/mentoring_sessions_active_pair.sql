@@ -0,0 +1,40 @@
+-- 멘토링 세션 생성 멱등화: 멘토-멘티 쌍의 진행 중 세션 1개 제약 + 재시도 식별 키
+-- 0. status 를 엔티티(@Enumerated STRING)와 같은 enum 이름으로 정규화
+--    예전 스키마('진행중'/'완료')로 만든 DB 에서는 active_pair 가 항상 NULL 이 되어 제약이 동작하지 않음
+ALTER TABLE mentoring_sessions
+    MODIFY COLUMN status ENUM('진행중', '완료', 'IN_PROGRESS', 'COMPLETED') NOT NULL DEFAULT 'IN_PROGRESS';
+UPDATE mentoring_sessions SET status = 'IN_PROGRESS' WHERE status = '진행중';
+UPDATE mentoring_sessions SET status = 'COMPLETED' WHERE status = '완료';
+ALTER TABLE mentoring_sessions
+    MODIFY COLUMN status ENUM('IN_PROGRESS', 'COMPLETED') NOT NULL DEFAULT 'IN_PROGRESS';
+
+-- A. 동시 요청으로 생긴 진행 중 중복 세션 제거 (가장 먼저 생성된 행만 유지)
+DELETE s1 FROM mentoring_sessions s1
+JOIN mentoring_sessions s2
+  ON s1.mentor_user_id = s2.mentor_user_id
+ AND s1.mentee_user_id = s2.mentee_user_id
+ AND s1.status = 'IN_PROGRESS'
+ AND s2.status = 'IN_PROGRESS'
+ AND (s1.created_at > s2.created_at OR (s1.created_at = s2.created_at AND s1.id > s2.id));
+
+-- B. 진행 중일 때만 값이 있는 생성 칼럼 (완료 세션은 NULL 이라 유니크 제약에 걸리지 않음)
+ALTER TABLE mentoring_sessions
+    ADD COLUMN active_pair VARCHAR(73) GENERATED ALWAYS AS
+        (CASE WHEN status = 'IN_PROGRESS' THEN CONCAT(mentor_user_id, ':', mentee_user_id) END) STORED,
+    ADD CONSTRAINT uk_mentoring_active_pair UNIQUE (active_pair);
+
+-- C. 클라이언트 재시도 식별 키 (Idempotency-Key 헤더), 멘티별 유일
+ALTER TABLE mentoring_sessions
+    ADD COLUMN idempotency_key VARCHAR(64) NULL,
+    ADD CONSTRAINT uk_mentoring_mentee_idempotency_key UNIQUE (mentee_user_id, idempotency_key);
+
+-- D. 정규화된 status 값으로 멘토 통계 뷰 재생성
+CREATE OR REPLACE VIEW mentor_statistics AS
+SELECT
+    m.mentor_user_id,
+    COUNT(*) AS total_sessions,  -- 총 멘토링 횟수
+    SUM(CASE WHEN m.status = 'IN_PROGRESS' THEN 1 ELSE 0 END) AS ongoing_sessions,  -- 진행 중인 멘토링 횟수
+    AVG(r.star) AS average_rating  -- 평균 만족도
+FROM mentoring_sessions m
+         LEFT JOIN review r ON m.id = r.mentoring_session_id
+GROUP BY m.mentor_user_id;
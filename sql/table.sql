@@ -21,10 +21,12 @@ CREATE TABLE user(
          user_name_attribute VARCHAR(50) NOT NULL ,
          nickname VARCHAR(100) NOT NULL ,
          name VARCHAR(100) NOT NULL ,
-         role ENUM('ROLE_TEMP', 'ROLE_MENTOR', 'ROLE_MENTEE') DEFAULT 'ROLE_TEMP',
+         role ENUM('ROLE_TEMP', 'ROLE_MENTOR', 'ROLE_MENTEE', 'ROLE_ADMIN') DEFAULT 'ROLE_TEMP',
          profile_image_url VARCHAR(255) NOT NULL ,
+         profile_thumbnail_url VARCHAR(255) ,
          account_disable BOOLEAN DEFAULT FALSE,
-         area_id tinyint,
+         area tinyint,
+         sigungu_code int,
          introduction VARCHAR(255),
          interest ENUM('프로그래밍/웹개발', '프로그래밍/앱개발', '디자인/UX/UI', '디자인/그래픽',
     '교육/수학', '교육/영어', '음악/피아노', '운동/요가'),
@@ -37,7 +39,8 @@ CREATE TABLE user(
          created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
          updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
          UNIQUE KEY uk_provider_provider_id (provider, provider_id),
-         UNIQUE KEY uk_nickname(nickname)
+         UNIQUE KEY uk_nickname(nickname),
+         INDEX idx_user_mentor_filter (role, match_status, interest, area, sigungu_code)
 );
 
 CREATE TABLE refresh_token (
@@ -61,10 +64,14 @@ CREATE TABLE community (
        content LONGTEXT NOT NULL,
        view_count bigint default 0 not null,
        like_count bigint default 0 not null,
+       comment_count bigint default 0 not null,
        created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
        updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
 
        INDEX idx_user_id (user_id),
+       INDEX idx_community_created_at_id (created_at, id),
+       INDEX idx_community_category_created_at_id (category, created_at, id),
+       FULLTEXT INDEX ft_community_title_content (title, content) WITH PARSER ngram,
        CONSTRAINT fk_community_user_id FOREIGN KEY (user_id) REFERENCES user(id) ON DELETE RESTRICT
 );
 
@@ -89,6 +96,9 @@ CREATE TABLE images (
     user_id VARCHAR(36),
     community_id VARCHAR(36),
     object_path VARCHAR(512) NOT NULL,   -- ← image_url → object_path
+    thumbnail_url VARCHAR(512),
+    feed_url VARCHAR(512),
+    full_url VARCHAR(512),
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
 
@@ -106,6 +116,7 @@ CREATE TABLE likes (
 
     INDEX idx_comment_community_id (community_id),
     INDEX idx_comment_user_id (user_id),
+    CONSTRAINT uk_likes_user_community UNIQUE (user_id, community_id),
 
     CONSTRAINT fk_like_community_id FOREIGN KEY (community_id) REFERENCES community(id) ON DELETE CASCADE,
     CONSTRAINT fk_like_user_id FOREIGN KEY (user_id) REFERENCES user(id) ON DELETE CASCADE
@@ -146,16 +157,51 @@ CREATE TABLE comments (
 );
 
 
+-- AI 답변 생성 작업 큐 (질문 게시글당 1건)
+CREATE TABLE ai_comment_job (
+    id VARCHAR(36) PRIMARY KEY,
+    community_id VARCHAR(36) NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    revivals INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error VARCHAR(1000),
+    completed_at TIMESTAMP NULL,
+    lease_owner VARCHAR(36) NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    UNIQUE KEY uk_ai_comment_job_community_id (community_id),
+    INDEX idx_ai_comment_job_status_next (status, next_attempt_at)
+);
+
+-- 배치 작업 진행 위치 (키셋 커서)
+CREATE TABLE batch_checkpoint (
+    job_name VARCHAR(64) PRIMARY KEY,
+    last_created_at TIMESTAMP NULL,
+    last_id VARCHAR(36),
+    processed_count BIGINT NOT NULL DEFAULT 0,
+    last_completed_at TIMESTAMP NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+
 CREATE TABLE mentoring_sessions (
     id varchar(36) PRIMARY KEY ,
     mentor_user_id varchar(36) NOT NULL ,
     mentee_user_id varchar(36) NOT NULL ,
     interest ENUM('프로그래밍/웹개발', '프로그래밍/앱개발', '디자인/UX/UI', '디자인/그래픽',
 '교육/수학', '교육/영어', '음악/피아노', '운동/요가'),
-    status ENUM('완료', '진행중') NOT NULL DEFAULT '진행중',
+    status ENUM('IN_PROGRESS', 'COMPLETED') NOT NULL DEFAULT 'IN_PROGRESS', -- MentoringStatus enum 이름으로 저장
+    idempotency_key varchar(64),
+    active_pair varchar(73) GENERATED ALWAYS AS
+        (CASE WHEN status = 'IN_PROGRESS' THEN CONCAT(mentor_user_id, ':', mentee_user_id) END) STORED,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
 
+    UNIQUE KEY uk_mentoring_active_pair (active_pair),
+    UNIQUE KEY uk_mentoring_mentee_idempotency_key (mentee_user_id, idempotency_key),
     CONSTRAINT fk_mentoring_session_mentor_user_id FOREIGN KEY (mentor_user_id) REFERENCES user(id) ON DELETE CASCADE ,
     CONSTRAINT fk_mentoring_session_mentee_user_id FOREIGN KEY (mentee_user_id) REFERENCES user(id) ON DELETE CASCADE
 );
@@ -178,7 +224,7 @@ CREATE VIEW mentor_statistics AS
 SELECT
     m.mentor_user_id,
     COUNT(*) AS total_sessions,  -- 총 멘토링 횟수
-    SUM(CASE WHEN m.status = '진행중' THEN 1 ELSE 0 END) AS ongoing_sessions,  -- 진행 중인 멘토링 횟수
+    SUM(CASE WHEN m.status = 'IN_PROGRESS' THEN 1 ELSE 0 END) AS ongoing_sessions,  -- 진행 중인 멘토링 횟수
     AVG(r.star) AS average_rating  -- 평균 만족도
 FROM mentoring_sessions m
          LEFT JOIN review r ON m.id = r.mentoring_session_id
@@ -0,0 +1,4 @@
+-- 수동 매칭 멘토 필터용 복합 인덱스
+-- WHERE role = 'ROLE_MENTOR' AND match_status = true [AND interest = ? [AND area = ? [AND sigungu_code = ?]]]
+-- + ORDER BY id (PK 가 보조 인덱스에 포함되므로 커서 조회도 인덱스 범위 안에서 처리)
+ALTER TABLE user ADD INDEX idx_user_mentor_filter (role, match_status, interest, area, sigungu_code);
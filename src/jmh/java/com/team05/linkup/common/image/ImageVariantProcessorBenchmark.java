@@ -0,0 +1,69 @@
+package com.team05.linkup.common.image;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ByteArrayResource;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미지 변형 생성 처리량 벤치마크.
+ * 단일 스레드(@Threads(1))에서 측정하므로 결과는 코어 1개당 초당 처리 가능한 업로드 수입니다.
+ * 작업 풀 크기(image.processing.workers)를 정할 때 예상 업로드 TPS / 이 값을 기준으로 삼습니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Threads(1)
+public class ImageVariantProcessorBenchmark {
+
+    /** 휴대폰 사진(12MP), 일반 사진(FHD), 작은 이미지 */
+    @Param({"4000x3000", "1920x1080", "640x480"})
+    private String resolution;
+
+    @Param({"jpeg", "png"})
+    private String format;
+
+    private ImageVariantProcessor processor;
+    private ByteArrayResource source;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        processor = new ImageVariantProcessor(1, 1, 50_000_000L, 0.82f);
+        String[] size = resolution.split("x");
+        source = new ByteArrayResource(encode(Integer.parseInt(size[0]), Integer.parseInt(size[1]), format));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        processor.shutdown();
+    }
+
+    @Benchmark
+    public ProcessedImage process() throws IOException {
+        return processor.process(source);
+    }
+
+    // 압축률이 실제 사진과 비슷하도록 그라데이션과 도형을 섞은 합성 이미지
+    private static byte[] encode(int width, int height, String format) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setPaint(new GradientPaint(0, 0, Color.ORANGE, width, height, Color.BLUE));
+            g.fillRect(0, 0, width, height);
+            g.setColor(Color.WHITE);
+            for (int i = 0; i < 200; i++) {
+                g.drawOval((i * 37) % width, (i * 53) % height, 20 + i % 80, 20 + i % 60);
+            }
+        } finally {
+            g.dispose();
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+}
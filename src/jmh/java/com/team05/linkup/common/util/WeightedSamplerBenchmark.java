@@ -0,0 +1,66 @@
+package com.team05.linkup.common.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가중치 비복원 추출 벤치마크 (후보 n 명 중 k 명 추출).
+ * legacy 는 기존 RecommendationLogic 방식(추출마다 누적 합 선형 탐색 + 목록에서 제거)이며, 입력을 보존하기 위한 복사 비용을 포함합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class WeightedSamplerBenchmark {
+
+    @Param({"50", "500", "5000"})
+    private int candidates;
+
+    @Param({"4"})
+    private int k;
+
+    private List<Candidate> items;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        items = new ArrayList<>(candidates);
+        for (int i = 0; i < candidates; i++) {
+            items.add(new Candidate("mentor-" + i, random.nextDouble()));
+        }
+    }
+
+    @Benchmark
+    public List<Candidate> efraimidisSpirakis() {
+        return WeightedSampler.sample(items, Candidate::similarity, k);
+    }
+
+    @Benchmark
+    public List<Candidate> legacy() {
+        List<Candidate> copy = new ArrayList<>(items);
+        Random rand = new Random();
+        List<Candidate> sampled = new ArrayList<>();
+        double totalWeight = copy.stream().mapToDouble(Candidate::similarity).sum();
+        for (int i = 0; i < k && !copy.isEmpty(); i++) {
+            double r = rand.nextDouble() * totalWeight;
+            double cumulative = 0.0;
+            for (int j = 0; j < copy.size(); j++) {
+                Candidate item = copy.get(j);
+                cumulative += item.similarity();
+                if (cumulative >= r) {
+                    sampled.add(item);
+                    totalWeight -= item.similarity();
+                    copy.remove(j);
+                    break;
+                }
+            }
+        }
+        return sampled;
+    }
+
+    public record Candidate(String nickname, double similarity) {
+    }
+}
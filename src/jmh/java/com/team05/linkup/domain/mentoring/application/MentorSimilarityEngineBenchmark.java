@@ -0,0 +1,115 @@
+package com.team05.linkup.domain.mentoring.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.team05.linkup.common.util.ApiUtils;
+import com.team05.linkup.domain.mentoring.dto.AiMatchingRequestDTO;
+import com.team05.linkup.domain.mentoring.dto.AiMatchingResponseDTO;
+import com.team05.linkup.domain.mentoring.util.NgrokApiUrl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유사도 엔진 지연 시간 벤치마크 (요청 1건 = 멘티 1명 x 후보 candidates 명).
+ * <p>
+ * remote 는 같은 JVM 의 로컬 HTTP 서버가 local 엔진으로 계산해 응답하므로, 실제 원격 서버의 계산 시간과
+ * 네트워크(ngrok) 왕복을 뺀 JSON 직렬화 + HTTP 왕복 비용의 하한입니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(1)
+public class MentorSimilarityEngineBenchmark {
+
+    private static final String[] TAGS = {"자바", "스프링", "스프링부트", "리액트", "타입스크립트", "파이썬", "장고", "코틀린",
+            "안드로이드", "iOS", "스위프트", "피그마", "UX", "일러스트", "포토샵", "수학", "영어", "피아노", "요가", "AWS"};
+
+    /** 관심사가 같은 후보 멘토 수 */
+    @Param({"50", "500"})
+    private int candidates;
+
+    private LocalMentorSimilarityEngine localEngine;
+    private RemoteMentorSimilarityEngine remoteEngine;
+    private AiMatchingRequestDTO request;
+    private HttpServer server;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        localEngine = new LocalMentorSimilarityEngine(0.5);
+        request = request(candidates, new Random(42));
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.createContext("/word-similarity", this::handle);
+        server.start();
+
+        String baseUrl = "http://127.0.0.1:%d".formatted(server.getAddress().getPort());
+        NgrokApiUrl apiUrl = new NgrokApiUrl() {
+            @Override
+            public String getApiUrl() {
+                return baseUrl;
+            }
+        };
+        remoteEngine = new RemoteMentorSimilarityEngine(new ApiUtils(objectMapper, new StandardEnvironment()), apiUrl);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    public Optional<AiMatchingResponseDTO> local() {
+        return localEngine.score(request);
+    }
+
+    @Benchmark
+    public Optional<AiMatchingResponseDTO> remote() {
+        return remoteEngine.score(request);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            AiMatchingRequestDTO received = objectMapper.readValue(in, AiMatchingRequestDTO.class);
+            byte[] response = objectMapper.writeValueAsBytes(localEngine.score(received).orElseThrow());
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static AiMatchingRequestDTO request(int count, Random random) {
+        List<AiMatchingRequestDTO.OtherProfile> profiles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            profiles.add(new AiMatchingRequestDTO.OtherProfile(1, "서울", 680, "강남구", "mentor-" + i,
+                    randomTags(random), "https://example.com/profile/" + i + ".png", "provider-" + i, null));
+        }
+        return new AiMatchingRequestDTO(randomTags(random), profiles);
+    }
+
+    private static String randomTags(Random random) {
+        int size = 2 + random.nextInt(4);
+        List<String> tags = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tags.add(TAGS[random.nextInt(TAGS.length)]);
+        }
+        return String.join(",", tags);
+    }
+}
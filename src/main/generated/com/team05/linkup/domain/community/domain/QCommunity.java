@@ -28,6 +28,8 @@ public class QCommunity extends EntityPathBase<Community> {
 
     public final EnumPath<CommunityCategory> category = createEnum("category", CommunityCategory.class);
 
+    public final NumberPath<Long> commentCount = createNumber("commentCount", Long.class);
+
     public final StringPath content = createString("content");
 
     //inherited
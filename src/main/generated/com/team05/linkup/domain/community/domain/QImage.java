@@ -29,10 +29,16 @@ public class QImage extends EntityPathBase<Image> {
     //inherited
     public final DateTimePath<java.time.ZonedDateTime> createdAt = _super.createdAt;
 
+    public final StringPath feedUrl = createString("feedUrl");
+
+    public final StringPath fullUrl = createString("fullUrl");
+
     public final StringPath id = createString("id");
 
     public final StringPath objectPath = createString("objectPath");
 
+    public final StringPath thumbnailUrl = createString("thumbnailUrl");
+
     //inherited
     public final DateTimePath<java.time.ZonedDateTime> updatedAt = _super.updatedAt;
 
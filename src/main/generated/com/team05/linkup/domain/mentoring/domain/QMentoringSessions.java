@@ -24,11 +24,15 @@ public class QMentoringSessions extends EntityPathBase<MentoringSessions> {
 
     public final com.team05.linkup.domain.baseEntity.QBaseEntity _super = new com.team05.linkup.domain.baseEntity.QBaseEntity(this);
 
+    public final StringPath activePair = createString("activePair");
+
     //inherited
     public final DateTimePath<java.time.ZonedDateTime> createdAt = _super.createdAt;
 
     public final StringPath id = createString("id");
 
+    public final StringPath idempotencyKey = createString("idempotencyKey");
+
     public final EnumPath<com.team05.linkup.domain.enums.Interest> interest = createEnum("interest", com.team05.linkup.domain.enums.Interest.class);
 
     public final com.team05.linkup.domain.user.domain.QUser mentee;
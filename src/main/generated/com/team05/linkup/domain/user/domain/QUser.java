@@ -32,6 +32,8 @@ public class QUser extends EntityPathBase<User> {
 
     public final QArea area;
 
+    public final NumberPath<Integer> areaCode = createNumber("areaCode", Integer.class);
+
     public final StringPath contactLink = createString("contactLink");
 
     //inherited
@@ -53,6 +55,8 @@ public class QUser extends EntityPathBase<User> {
 
     public final StringPath profileTag = createString("profileTag");
 
+    public final StringPath profileThumbnailUrl = createString("profileThumbnailUrl");
+
     public final StringPath provider = createString("provider");
 
     public final StringPath providerId = createString("providerId");
@@ -0,0 +1,34 @@
+package com.team05.linkup.common.api;
+
+import com.team05.linkup.common.dto.ApiEndpointMetrics;
+import com.team05.linkup.common.dto.ApiResponse;
+import com.team05.linkup.common.util.ApiUtils;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 외부 API 호출 지표 조회 API (관리자 전용)
+ */
+@Tag(name = "운영 지표 API", description = "내부 컴포넌트 상태 조회")
+@RestController
+@RequestMapping("/v1/internal")
+@RequiredArgsConstructor
+public class ApiClientMetricsController {
+
+    private final ApiUtils apiUtils;
+
+    @Operation(summary = "외부 API 호출 지표", description = "엔드포인트별 서킷 상태, 실패/타임아웃/거절 수, 지연 시간 분포를 조회합니다.")
+    @GetMapping("/http-client/metrics")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<ApiResponse<List<ApiEndpointMetrics>>> httpClientMetrics() {
+        return ResponseEntity.ok(ApiResponse.success(apiUtils.metrics()));
+    }
+}
@@ -0,0 +1,32 @@
+package com.team05.linkup.common.api;
+
+import com.team05.linkup.common.dto.ApiResponse;
+import com.team05.linkup.common.storage.ObjectStorage;
+import com.team05.linkup.common.storage.StorageMetrics;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 운영 지표 조회 API (관리자 전용)
+ */
+@Tag(name = "운영 지표 API", description = "내부 컴포넌트 상태 조회")
+@RestController
+@RequestMapping("/v1/internal")
+@RequiredArgsConstructor
+public class StorageMetricsController {
+
+    private final ObjectStorage objectStorage;
+
+    @Operation(summary = "스토리지 게이트웨이 지표", description = "요청 수, 동시 실행/대기열 상태, 커넥션 재사용 비율을 조회합니다.")
+    @GetMapping("/storage/metrics")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<ApiResponse<StorageMetrics>> storageMetrics() {
+        return ResponseEntity.ok(ApiResponse.success(objectStorage.metrics()));
+    }
+}
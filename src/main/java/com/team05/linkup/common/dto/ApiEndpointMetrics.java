@@ -0,0 +1,38 @@
+package com.team05.linkup.common.dto;
+
+import com.team05.linkup.common.util.CircuitBreaker;
+import com.team05.linkup.common.util.LatencyHistogram;
+
+/**
+ * 외부 API 엔드포인트별 호출 지표 스냅샷.
+ *
+ * @param endpoint         엔드포인트 이름
+ * @param circuitState     서킷 브레이커 상태
+ * @param calls            완료된 호출 수 (성공 + 실패)
+ * @param failures         실패한 호출 수 (타임아웃, 네트워크 오류, 5xx)
+ * @param timeouts         실패 중 타임아웃 수
+ * @param clientErrors     4xx 응답 수 (서킷 브레이커 실패로 보지 않음)
+ * @param rejected         동시 호출 한도(bulkhead) 초과로 거절된 호출 수
+ * @param shortCircuited   서킷이 열려 있어 보내지 않은 호출 수
+ * @param inFlight         현재 진행 중인 호출 수
+ * @param maxConcurrent    동시 호출 한도
+ * @param connectTimeoutMs 연결 타임아웃(ms)
+ * @param readTimeoutMs    응답 타임아웃(ms)
+ * @param latency          완료된 호출의 지연 시간 분포
+ */
+public record ApiEndpointMetrics(
+        String endpoint,
+        CircuitBreaker.State circuitState,
+        long calls,
+        long failures,
+        long timeouts,
+        long clientErrors,
+        long rejected,
+        long shortCircuited,
+        int inFlight,
+        int maxConcurrent,
+        long connectTimeoutMs,
+        long readTimeoutMs,
+        LatencyHistogram.Snapshot latency
+) {
+}
@@ -0,0 +1,16 @@
+package com.team05.linkup.common.exception;
+
+import lombok.Getter;
+
+/**
+ * 외부 API 가 오류 상태 코드로 응답한 경우
+ */
+@Getter
+public class ExternalApiException extends RuntimeException {
+    private final int statusCode;
+
+    public ExternalApiException(String message, int statusCode) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+}
@@ -0,0 +1,32 @@
+package com.team05.linkup.common.image;
+
+import java.util.Locale;
+
+/**
+ * 업로드 이미지로부터 생성하는 크기별 변형.
+ * 긴 변 기준 최대 크기(px)로 축소하며, 원본이 더 작으면 확대하지 않습니다.
+ */
+public enum ImageVariant {
+
+    /** 아바타, 목록 썸네일 */
+    THUMBNAIL(160),
+    /** 피드/목록 카드 */
+    FEED(720),
+    /** 상세 화면 */
+    FULL(2048);
+
+    private final int maxEdge;
+
+    ImageVariant(int maxEdge) {
+        this.maxEdge = maxEdge;
+    }
+
+    public int maxEdge() {
+        return maxEdge;
+    }
+
+    /** 오브젝트 경로 접미사 (예: thumbnail) */
+    public String suffix() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,259 @@
+package com.team05.linkup.common.image;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지를 크기별 변형({@link ImageVariant})으로 축소·재인코딩하는 컴포넌트.
+ * 불투명 이미지는 JPEG, 투명도가 있는 이미지는 PNG 로 인코딩합니다.
+ * <p>
+ * 메모리 사용량 제한:
+ * <ul>
+ *     <li>디코딩 전에 헤더의 해상도를 확인하여 max-source-pixels 를 넘으면 변형을 만들지 않습니다.</li>
+ *     <li>가장 큰 변형보다 훨씬 큰 원본은 서브샘플링으로 디코딩하여 원본 해상도 전체를 메모리에 올리지 않습니다.</li>
+ *     <li>작업은 고정 크기 스레드 풀과 제한된 대기열에서 실행되며, 대기열이 가득 차면 즉시 실패합니다.</li>
+ * </ul>
+ * ImageIO 가 읽을 수 없는 형식(webp, svg 등)은 빈 결과를 반환하며, 호출 측은 원본만 저장합니다.
+ * 일부 변형만 저장하는 호출 측은 필요한 변형을 지정하여 나머지의 축소·인코딩 비용을 줄일 수 있습니다.
+ */
+@Slf4j
+@Component
+public class ImageVariantProcessor {
+
+    private final ExecutorService executor;
+    private final long maxSourcePixels;
+    private final float jpegQuality;
+
+    public ImageVariantProcessor(@Value("${image.processing.workers:0}") int workers,
+                                 @Value("${image.processing.queue-capacity:32}") int queueCapacity,
+                                 @Value("${image.processing.max-source-pixels:50000000}") long maxSourcePixels,
+                                 @Value("${image.processing.jpeg-quality:0.82}") float jpegQuality) {
+        int threads = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread thread = new Thread(r, "image-processing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.maxSourcePixels = maxSourcePixels;
+        this.jpegQuality = jpegQuality;
+    }
+
+    /**
+     * 작업 풀에서 변형을 생성합니다. 대기열이 가득 차면 {@link RejectedExecutionException} 으로 실패한 future 를 반환합니다.
+     *
+     * @param source 원본 이미지
+     * @return 변형 생성 결과로 완료되는 future
+     */
+    public CompletableFuture<ProcessedImage> processAsync(InputStreamSource source) {
+        return processAsync(source, EnumSet.allOf(ImageVariant.class));
+    }
+
+    /**
+     * 작업 풀에서 지정한 변형만 생성합니다.
+     *
+     * @param source   원본 이미지
+     * @param variants 생성할 변형
+     * @return 변형 생성 결과로 완료되는 future
+     */
+    public CompletableFuture<ProcessedImage> processAsync(InputStreamSource source, Set<ImageVariant> variants) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return process(source, variants);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 호출 스레드에서 변형을 생성합니다.
+     *
+     * @param source 원본 이미지
+     * @return 변형 생성 결과 (지원하지 않는 형식이거나 해상도 상한을 넘으면 빈 결과)
+     * @throws IOException 이미지 디코딩/인코딩 실패
+     */
+    public ProcessedImage process(InputStreamSource source) throws IOException {
+        return process(source, EnumSet.allOf(ImageVariant.class));
+    }
+
+    /**
+     * 호출 스레드에서 지정한 변형만 생성합니다. 원본은 요청한 변형 중 가장 큰 크기를 기준으로 서브샘플링합니다.
+     *
+     * @param source   원본 이미지
+     * @param wanted   생성할 변형
+     * @return 변형 생성 결과 (지원하지 않는 형식이거나 해상도 상한을 넘으면 빈 결과)
+     * @throws IOException 이미지 디코딩/인코딩 실패
+     */
+    public ProcessedImage process(InputStreamSource source, Set<ImageVariant> wanted) throws IOException {
+        if (wanted.isEmpty()) {
+            return ProcessedImage.empty();
+        }
+        int largestEdge = wanted.stream().mapToInt(ImageVariant::maxEdge).max().getAsInt();
+        BufferedImage decoded;
+        try (InputStream in = source.getInputStream();
+             ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            if (iis == null) {
+                return ProcessedImage.empty();
+            }
+            decoded = decode(iis, largestEdge);
+        }
+        if (decoded == null) {
+            return ProcessedImage.empty();
+        }
+
+        boolean hasAlpha = decoded.getColorModel().hasAlpha();
+        BufferedImage current = normalize(decoded, hasAlpha);
+
+        // 큰 변형부터 만들고, 직전 결과를 다음 변형의 입력으로 사용
+        Map<ImageVariant, ProcessedImage.EncodedImage> variants = new EnumMap<>(ImageVariant.class);
+        ImageVariant[] ordered = ImageVariant.values();
+        for (int i = ordered.length - 1; i >= 0; i--) {
+            ImageVariant variant = ordered[i];
+            if (!wanted.contains(variant)) {
+                continue;
+            }
+            current = scaleToFit(current, variant.maxEdge(), hasAlpha);
+            variants.put(variant, encode(current, hasAlpha));
+        }
+        return new ProcessedImage(variants);
+    }
+
+    private BufferedImage decode(ImageInputStream iis, int largestEdge) throws IOException {
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+        if (!readers.hasNext()) {
+            return null;
+        }
+        ImageReader reader = readers.next();
+        try {
+            reader.setInput(iis, true, true);
+            int width = reader.getWidth(0);
+            int height = reader.getHeight(0);
+            if ((long) width * height > maxSourcePixels) {
+                log.warn("이미지 해상도가 상한을 넘어 변형을 생성하지 않습니다: {}x{}", width, height);
+                return null;
+            }
+
+            // 요청한 가장 큰 변형의 2배 이상이면 정수배 서브샘플링으로 디코딩 메모리를 줄인다
+            int longEdge = Math.max(width, height);
+            int subsampling = Math.max(1, longEdge / largestEdge);
+            ImageReadParam param = reader.getDefaultReadParam();
+            param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+            return reader.read(0, param);
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    // 인코딩 가능한 픽셀 형식으로 변환 (JPEG 는 알파 채널이 없어야 함)
+    private static BufferedImage normalize(BufferedImage image, boolean hasAlpha) {
+        int type = hasAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        if (image.getType() == type) {
+            return image;
+        }
+        BufferedImage converted = new BufferedImage(image.getWidth(), image.getHeight(), type);
+        Graphics2D g = converted.createGraphics();
+        try {
+            if (!hasAlpha) {
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, image.getWidth(), image.getHeight());
+            }
+            g.drawImage(image, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return converted;
+    }
+
+    /**
+     * 긴 변이 maxEdge 이하가 되도록 축소합니다. 절반씩 단계적으로 줄여 한 번에 크게 줄일 때의 계단 현상을 막습니다.
+     */
+    private static BufferedImage scaleToFit(BufferedImage image, int maxEdge, boolean hasAlpha) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int longEdge = Math.max(width, height);
+        if (longEdge <= maxEdge) {
+            return image;
+        }
+        double scale = (double) maxEdge / longEdge;
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = image;
+        while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+            current = resize(current, current.getWidth() / 2, current.getHeight() / 2, hasAlpha);
+        }
+        if (current.getWidth() != targetWidth || current.getHeight() != targetHeight) {
+            current = resize(current, targetWidth, targetHeight, hasAlpha);
+        }
+        return current;
+    }
+
+    private static BufferedImage resize(BufferedImage image, int width, int height, boolean hasAlpha) {
+        BufferedImage resized = new BufferedImage(width, height,
+                hasAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = resized.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return resized;
+    }
+
+    private ProcessedImage.EncodedImage encode(BufferedImage image, boolean hasAlpha) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (hasAlpha) {
+            ImageIO.write(image, "png", out);
+            return new ProcessedImage.EncodedImage(out.toByteArray(), "image/png", "png", image.getWidth(), image.getHeight());
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return new ProcessedImage.EncodedImage(out.toByteArray(), "image/jpeg", "jpg", image.getWidth(), image.getHeight());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,27 @@
+package com.team05.linkup.common.image;
+
+import java.util.Map;
+
+/**
+ * 이미지 변형 생성 결과.
+ *
+ * @param variants 생성된 변형 (원본이 지원하지 않는 형식이면 비어 있음)
+ */
+public record ProcessedImage(Map<ImageVariant, EncodedImage> variants) {
+
+    public static ProcessedImage empty() {
+        return new ProcessedImage(Map.of());
+    }
+
+    /**
+     * 인코딩된 변형 이미지.
+     *
+     * @param data        인코딩된 바이트
+     * @param contentType MIME 타입 (image/jpeg, image/png)
+     * @param extension   파일 확장자 (jpg, png)
+     * @param width       가로 크기(px)
+     * @param height      세로 크기(px)
+     */
+    public record EncodedImage(byte[] data, String contentType, String extension, int width, int height) {
+    }
+}
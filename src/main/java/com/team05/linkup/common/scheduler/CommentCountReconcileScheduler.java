@@ -0,0 +1,33 @@
+package com.team05.linkup.common.scheduler;
+
+import com.team05.linkup.domain.community.infrastructure.CommunityRepository;
+import lombok.RequiredArgsConstructor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * community.comment_count 컬럼의 드리프트를 보정하는 스케줄러.
+ * 댓글 작성/삭제 시 카운터를 함께 갱신하지만, 직접적인 DB 수정이나 장애로 어긋난 값을 실제 댓글 수로 맞춥니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentCountReconcileScheduler {
+    private static final Logger logger = LogManager.getLogger();
+    private final CommunityRepository communityRepository;
+
+    @Scheduled(cron = "${community.comment-count.reconcile-cron:0 30 4 * * *}")
+    public void reconcileCommentCounts() {
+        try {
+            int fixed = communityRepository.reconcileCommentCounts();
+            if (fixed > 0) {
+                logger.warn("comment_count drift fixed: {} posts", fixed);
+            } else {
+                logger.info("comment_count reconcile: no drift");
+            }
+        } catch (Exception e) {
+            logger.error("comment_count reconcile Exception error {}", e.getMessage(), e);
+        }
+    }
+}
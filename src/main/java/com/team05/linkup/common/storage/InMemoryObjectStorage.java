@@ -0,0 +1,141 @@
+package com.team05.linkup.common.storage;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 메모리에 오브젝트를 보관하는 로컬 대체 {@link ObjectStorage}.
+ * storage.provider=memory 로 설정하면 Supabase 없이 로컬 개발이 가능하며, 테스트에서는 지연/실패를 주입할 수 있습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.provider", havingValue = "memory")
+public class InMemoryObjectStorage implements ObjectStorage {
+
+    private static final String BASE_URL = "memory://storage";
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private volatile Duration latency = Duration.ZERO;
+    private volatile Predicate<String> failure = path -> false;
+    private final AtomicInteger signCount = new AtomicInteger();
+    private final StorageRequestStats stats = new StorageRequestStats();
+
+    @Override
+    public CompletableFuture<String> upload(String bucket, String objectPath, InputStreamSource source,
+                                            long contentLength, String contentType) {
+        return run(() -> {
+            byte[] content;
+            try (InputStream in = source.getInputStream()) {
+                content = in.readAllBytes();
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+            if (failure.test(objectPath)) {
+                throw new IllegalStateException("업로드 실패(주입): " + objectPath);
+            }
+            objects.put(key(bucket, objectPath), content);
+            return objectPath;
+        });
+    }
+
+    @Override
+    public String publicUrl(String bucket, String objectPath) {
+        return "%s/object/public/%s/%s".formatted(BASE_URL, bucket, StoragePaths.encode(objectPath));
+    }
+
+    @Override
+    public CompletableFuture<String> createSignedUrl(String bucket, String objectPath, int expiresInSeconds) {
+        return run(() -> {
+            if (failure.test(objectPath)) {
+                throw new IllegalStateException("서명 URL 발급 실패(주입): " + objectPath);
+            }
+            signCount.incrementAndGet();
+            return "%s/object/sign/%s/%s?token=%s&expiresIn=%d".formatted(
+                    BASE_URL, bucket, StoragePaths.encode(objectPath), UUID.randomUUID(), expiresInSeconds);
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String bucket, Collection<String> objectPaths) {
+        return run(() -> {
+            objectPaths.forEach(path -> objects.remove(key(bucket, path)));
+            return null;
+        });
+    }
+
+    /**
+     * 요청 통계를 반환합니다. 네트워크를 사용하지 않으므로 커넥션/풀 지표는 항상 0 입니다.
+     */
+    @Override
+    public StorageMetrics metrics() {
+        return stats.snapshot(0, 0, 0, 0);
+    }
+
+    /**
+     * 지금까지 서명 URL 을 발급한 횟수를 반환합니다.
+     */
+    public int signCount() {
+        return signCount.get();
+    }
+
+    /**
+     * 저장된 오브젝트 본문을 반환합니다. (없으면 null)
+     */
+    public byte[] get(String bucket, String objectPath) {
+        return objects.get(key(bucket, objectPath));
+    }
+
+    /**
+     * 저장된 오브젝트 수를 반환합니다.
+     */
+    public int size() {
+        return objects.size();
+    }
+
+    /**
+     * 모든 요청에 적용할 응답 지연을 설정합니다.
+     */
+    public void setLatency(Duration latency) {
+        this.latency = latency;
+    }
+
+    /**
+     * 조건에 맞는 오브젝트 경로의 업로드를 실패시킵니다.
+     */
+    public void setFailure(Predicate<String> failure) {
+        this.failure = failure;
+    }
+
+    // 설정된 지연 이후 작업을 실행하며 요청 통계를 기록
+    private <T> CompletableFuture<T> run(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(() -> {
+            long started = stats.start();
+            boolean success = false;
+            try {
+                T result = task.get();
+                success = true;
+                return result;
+            } finally {
+                stats.finish(started, success);
+            }
+        }, CompletableFuture.delayedExecutor(latency.toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    private static String key(String bucket, String objectPath) {
+        return bucket + "/" + objectPath;
+    }
+}
@@ -0,0 +1,60 @@
+package com.team05.linkup.common.storage;
+
+import org.springframework.core.io.InputStreamSource;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 오브젝트 스토리지(Supabase Storage 등) 접근 추상화.
+ * 업로드 본문은 {@link InputStreamSource}(MultipartFile 포함)에서 바로 스트리밍하므로 임시 파일을 만들지 않습니다.
+ * 구현체는 애플리케이션 전체에서 하나의 인스턴스(커넥션 풀, 동시 실행 한도)를 공유합니다.
+ */
+public interface ObjectStorage {
+
+    /**
+     * 오브젝트를 업로드합니다.
+     *
+     * @param bucket        버킷 이름
+     * @param objectPath    버킷 내 오브젝트 경로 (예: userId/uuid-파일명)
+     * @param source        업로드할 본문
+     * @param contentLength 본문 크기(byte)
+     * @param contentType   MIME 타입 (null 이면 application/octet-stream)
+     * @return 업로드가 끝나면 objectPath 로 완료되는 future
+     */
+    CompletableFuture<String> upload(String bucket, String objectPath, InputStreamSource source,
+                                     long contentLength, String contentType);
+
+    /**
+     * 공개 버킷 오브젝트의 public URL 을 반환합니다. (네트워크 호출 없음)
+     *
+     * @param bucket     버킷 이름
+     * @param objectPath 오브젝트 경로
+     * @return public URL
+     */
+    String publicUrl(String bucket, String objectPath);
+
+    /**
+     * 비공개 버킷 오브젝트의 서명 URL 을 발급합니다.
+     *
+     * @param bucket           버킷 이름
+     * @param objectPath       오브젝트 경로
+     * @param expiresInSeconds 서명 URL 유효 시간(초)
+     * @return 발급된 서명 URL 로 완료되는 future
+     */
+    CompletableFuture<String> createSignedUrl(String bucket, String objectPath, int expiresInSeconds);
+
+    /**
+     * 오브젝트를 삭제합니다. 존재하지 않는 경로는 무시합니다.
+     *
+     * @param bucket      버킷 이름
+     * @param objectPaths 삭제할 오브젝트 경로 목록
+     * @return 삭제 요청이 끝나면 완료되는 future
+     */
+    CompletableFuture<Void> delete(String bucket, Collection<String> objectPaths);
+
+    /**
+     * 요청 처리량과 커넥션 재사용 지표를 반환합니다.
+     */
+    StorageMetrics metrics();
+}
@@ -0,0 +1,154 @@
+package com.team05.linkup.common.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 URL 캐시.
+ * (버킷, 오브젝트 경로, TTL 구간) 단위로 발급된 URL 을 보관하여 만료 직전까지 재사용하고,
+ * 유효 기간의 일정 비율이 지나면 현재 URL 을 그대로 응답하면서 백그라운드에서 새 URL 을 발급받습니다.
+ * 같은 키에 대한 동시 요청은 하나의 발급 요청으로 합쳐집니다.
+ */
+@Slf4j
+@Component
+public class SignedUrlCache {
+
+    /** 요청 TTL 을 이 단위(초)로 올림하여 키를 만든다 (비슷한 TTL 요청이 같은 항목을 공유) */
+    private static final int TTL_BUCKET_SECONDS = 60;
+    /** 유효 기간 중 이 비율이 지나면 백그라운드 갱신 시작 */
+    private static final double REFRESH_AHEAD_RATIO = 0.8;
+
+    private final ObjectStorage objectStorage;
+    private final long expirySafetyMillis;
+    private final int maxEntries;
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    public SignedUrlCache(ObjectStorage objectStorage,
+                          @Value("${storage.signed-url.expiry-safety-ms:5000}") long expirySafetyMillis,
+                          @Value("${storage.signed-url.max-entries:10000}") int maxEntries) {
+        this.objectStorage = objectStorage;
+        this.expirySafetyMillis = expirySafetyMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 서명 URL 을 반환합니다. 캐시에 유효한 URL 이 있으면 즉시 완료된 future 를 반환합니다.
+     *
+     * @param bucket     버킷 이름
+     * @param objectPath 오브젝트 경로
+     * @param ttlSeconds 필요한 유효 시간(초). 실제 발급은 {@value #TTL_BUCKET_SECONDS}초 단위로 올림합니다.
+     * @return 서명 URL 로 완료되는 future
+     */
+    public CompletableFuture<String> get(String bucket, String objectPath, int ttlSeconds) {
+        int ttlBucket = Math.max(1, (ttlSeconds + TTL_BUCKET_SECONDS - 1) / TTL_BUCKET_SECONDS) * TTL_BUCKET_SECONDS;
+        Key key = new Key(bucket, objectPath, ttlBucket);
+        long now = System.currentTimeMillis();
+
+        Entry entry = entries.get(key);
+        if (entry == null || entry.isUnusable(now, expirySafetyMillis)) {
+            if (entry == null && entries.size() >= maxEntries) {
+                // 상한 초과 시 캐시하지 않고 바로 발급
+                return fetch(key).thenApply(SignedUrl::url);
+            }
+            entry = entries.compute(key, (k, current) ->
+                    current == null || current.isUnusable(now, expirySafetyMillis) ? new Entry(fetch(k)) : current);
+        } else if (entry.shouldRefresh(now) && entry.startRefresh()) {
+            refresh(key, entry);
+        }
+        return entry.current.thenApply(SignedUrl::url);
+    }
+
+    /**
+     * 여러 오브젝트의 서명 URL 을 한 번에 조회합니다. 캐시에 없는 항목만 동시에 발급받습니다.
+     *
+     * @return 입력 순서와 같은 순서의 서명 URL 목록으로 완료되는 future
+     */
+    public CompletableFuture<List<String>> getAll(String bucket, List<String> objectPaths, int ttlSeconds) {
+        List<CompletableFuture<String>> futures = objectPaths.stream()
+                .map(path -> get(bucket, path, ttlSeconds))
+                .toList();
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    /**
+     * 만료된 항목과 실패한 항목을 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${storage.signed-url.sweep-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.entrySet().removeIf(e -> e.getValue().isUnusable(now, expirySafetyMillis) && e.getValue().current.isDone());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void refresh(Key key, Entry entry) {
+        fetch(key).whenComplete((signed, error) -> {
+            if (error != null) {
+                // 기존 URL 은 만료 전까지 계속 사용, 다음 요청에서 다시 시도
+                log.warn("서명 URL 갱신 실패: {}/{}", key.bucket(), key.objectPath(), error);
+                entry.refreshing = false;
+                return;
+            }
+            entries.replace(key, entry, new Entry(CompletableFuture.completedFuture(signed)));
+        });
+    }
+
+    private CompletableFuture<SignedUrl> fetch(Key key) {
+        long issuedAt = System.currentTimeMillis();
+        return objectStorage.createSignedUrl(key.bucket(), key.objectPath(), key.ttlSeconds())
+                .thenApply(url -> new SignedUrl(url, issuedAt, issuedAt + key.ttlSeconds() * 1000L));
+    }
+
+    private record Key(String bucket, String objectPath, int ttlSeconds) {
+    }
+
+    private record SignedUrl(String url, long issuedAt, long expiresAt) {
+    }
+
+    private static final class Entry {
+
+        private final CompletableFuture<SignedUrl> current;
+        private volatile boolean refreshing;
+
+        private Entry(CompletableFuture<SignedUrl> current) {
+            this.current = current;
+        }
+
+        // 발급 실패했거나 만료가 임박한 항목 (발급 중인 항목은 사용 가능)
+        private boolean isUnusable(long now, long safetyMillis) {
+            if (!current.isDone()) {
+                return false;
+            }
+            if (current.isCompletedExceptionally()) {
+                return true;
+            }
+            return now >= current.join().expiresAt() - safetyMillis;
+        }
+
+        private boolean shouldRefresh(long now) {
+            if (!current.isDone() || current.isCompletedExceptionally()) {
+                return false;
+            }
+            SignedUrl signed = current.join();
+            long refreshAt = signed.issuedAt() + (long) ((signed.expiresAt() - signed.issuedAt()) * REFRESH_AHEAD_RATIO);
+            return now >= refreshAt;
+        }
+
+        private synchronized boolean startRefresh() {
+            if (refreshing) {
+                return false;
+            }
+            refreshing = true;
+            return true;
+        }
+    }
+}
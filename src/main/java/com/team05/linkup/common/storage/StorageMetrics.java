@@ -0,0 +1,33 @@
+package com.team05.linkup.common.storage;
+
+/**
+ * 스토리지 게이트웨이 요청/커넥션 지표 스냅샷.
+ *
+ * @param requests             완료된 요청 수
+ * @param failures             실패한 요청 수 (오류 응답, 네트워크 오류, 대기열 초과 포함)
+ * @param rejected             동시 실행 한도와 대기열이 모두 차서 거절된 요청 수
+ * @param inFlight             현재 실행 중인 요청 수
+ * @param queued               실행 대기 중인 요청 수
+ * @param maxConcurrency       동시 실행 한도
+ * @param connectionsOpened    새 커넥션에서 처리된 요청 수 (= 새로 연결한 커넥션 수)
+ * @param connectionsReused    기존 커넥션을 재사용한 요청 수
+ * @param connectionReuseRatio 커넥션 재사용 비율 (0~1)
+ * @param poolLeased           커넥션 풀에서 사용 중인 커넥션 수
+ * @param poolAvailable        커넥션 풀에 유휴 상태로 남아 있는 커넥션 수
+ * @param avgLatencyMillis     완료된 요청의 평균 처리 시간(ms, 대기 시간 제외)
+ */
+public record StorageMetrics(
+        long requests,
+        long failures,
+        long rejected,
+        int inFlight,
+        int queued,
+        int maxConcurrency,
+        long connectionsOpened,
+        long connectionsReused,
+        double connectionReuseRatio,
+        int poolLeased,
+        int poolAvailable,
+        double avgLatencyMillis
+) {
+}
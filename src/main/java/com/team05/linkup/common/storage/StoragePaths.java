@@ -0,0 +1,57 @@
+package com.team05.linkup.common.storage;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * 오브젝트 경로 관련 유틸리티.
+ */
+public final class StoragePaths {
+
+    private StoragePaths() {
+    }
+
+    /**
+     * 오브젝트 경로를 URL 경로로 인코딩합니다. 구분자(/)는 유지하고 각 세그먼트만 인코딩합니다.
+     * (파일 이름에 공백이나 한글이 포함될 수 있음)
+     *
+     * @param objectPath 오브젝트 경로
+     * @return URL 인코딩된 경로
+     */
+    public static String encode(String objectPath) {
+        return Arrays.stream(objectPath.split("/", -1))
+                .map(segment -> URLEncoder.encode(segment, StandardCharsets.UTF_8).replace("+", "%20"))
+                .collect(Collectors.joining("/"));
+    }
+
+    /**
+     * 값이 해당 버킷 오브젝트의 public URL 인지 확인합니다. (외부 URL 인 소셜 로그인 프로필 이미지 등과 구분)
+     *
+     * @param stored 저장된 URL (null 가능)
+     * @param bucket 버킷 이름
+     */
+    public static boolean isPublicUrl(String stored, String bucket) {
+        return stored != null && stored.contains("/object/public/" + bucket + "/");
+    }
+
+    /**
+     * 저장된 이미지 값에서 버킷 내 오브젝트 경로를 추출합니다.
+     * public URL(.../object/public/{bucket}/{path}) 이면 경로 부분을 디코딩하여 반환하고, 그 외에는 값을 그대로 경로로 간주합니다.
+     *
+     * @param stored public URL 또는 오브젝트 경로
+     * @param bucket 버킷 이름
+     * @return 오브젝트 경로
+     */
+    public static String toObjectPath(String stored, String bucket) {
+        String marker = "/object/public/" + bucket + "/";
+        int index = stored.indexOf(marker);
+        if (index < 0) {
+            return stored;
+        }
+        String encoded = stored.substring(index + marker.length());
+        return URLDecoder.decode(encoded.replace("+", "%2B"), StandardCharsets.UTF_8);
+    }
+}
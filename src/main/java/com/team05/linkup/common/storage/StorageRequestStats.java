@@ -0,0 +1,68 @@
+package com.team05.linkup.common.storage;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ObjectStorage} 구현체가 공통으로 사용하는 요청 통계 누적기.
+ */
+public class StorageRequestStats {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder latencyNanos = new LongAdder();
+    private final LongAdder connectionsOpened = new LongAdder();
+    private final LongAdder connectionsReused = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * 요청 실행을 시작합니다.
+     *
+     * @return 시작 시각(ns), {@link #finish(long, boolean)} 에 전달
+     */
+    public long start() {
+        inFlight.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    public void finish(long startedNanos, boolean success) {
+        inFlight.decrementAndGet();
+        requests.increment();
+        latencyNanos.add(System.nanoTime() - startedNanos);
+        if (!success) {
+            failures.increment();
+        }
+    }
+
+    public void reject() {
+        rejected.increment();
+        failures.increment();
+    }
+
+    /**
+     * 요청이 사용한 커넥션이 재사용된 커넥션인지 기록합니다.
+     */
+    public void connection(boolean reused) {
+        (reused ? connectionsReused : connectionsOpened).increment();
+    }
+
+    public StorageMetrics snapshot(int queued, int maxConcurrency, int poolLeased, int poolAvailable) {
+        long completed = requests.sum();
+        long opened = connectionsOpened.sum();
+        long reused = connectionsReused.sum();
+        return new StorageMetrics(
+                completed,
+                failures.sum(),
+                rejected.sum(),
+                inFlight.get(),
+                queued,
+                maxConcurrency,
+                opened,
+                reused,
+                opened + reused == 0 ? 0 : (double) reused / (opened + reused),
+                poolLeased,
+                poolAvailable,
+                completed == 0 ? 0 : latencyNanos.sum() / 1_000_000.0 / completed);
+    }
+}
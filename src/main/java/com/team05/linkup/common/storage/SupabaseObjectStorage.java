@@ -0,0 +1,231 @@
+package com.team05.linkup.common.storage;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.classic.methods.HttpDelete;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EndpointDetails;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.InputStreamEntity;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Supabase Storage REST API 기반 {@link ObjectStorage} 구현.
+ * <p>
+ * 애플리케이션 전체가 하나의 커넥션 풀(Apache HttpClient)을 공유하여 커넥션과 TLS 세션을 재사용합니다.
+ * 요청은 storage.max-concurrency 크기의 전용 스레드 풀에서 실행되며, 커넥션 풀 크기도 같은 값으로 맞추므로
+ * 스토리지로 향하는 동시 요청 수가 이 값을 넘지 않습니다. 대기열(storage.queue-capacity)까지 가득 차면 즉시 실패합니다.
+ * 업로드 본문은 InputStream 에서 바로 스트리밍합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.provider", havingValue = "supabase", matchIfMissing = true)
+public class SupabaseObjectStorage implements ObjectStorage {
+
+    private final CloseableHttpClient httpClient;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final ThreadPoolExecutor executor;
+    private final int maxConcurrency;
+    private final String baseUrl;
+    private final String serviceKey;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final StorageRequestStats stats = new StorageRequestStats();
+
+    public SupabaseObjectStorage(@Value("${supabase.storage-url}") String storageUrl,
+                                 @Value("${supabase.service-key}") String serviceKey,
+                                 @Value("${storage.connect-timeout-ms:3000}") long connectTimeoutMillis,
+                                 @Value("${storage.request-timeout-ms:10000}") long requestTimeoutMillis,
+                                 @Value("${storage.max-concurrency:16}") int maxConcurrency,
+                                 @Value("${storage.queue-capacity:256}") int queueCapacity,
+                                 @Value("${storage.idle-timeout-ms:30000}") long idleTimeoutMillis) {
+        this.baseUrl = storageUrl.replaceAll("/+$", "");
+        this.serviceKey = serviceKey;
+        this.maxConcurrency = maxConcurrency;
+
+        // 요청 스레드 수와 풀 크기가 같으므로 커넥션 대기는 발생하지 않음
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConcurrency)
+                .setMaxConnPerRoute(maxConcurrency)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setSocketTimeout(Timeout.ofMilliseconds(requestTimeoutMillis))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setResponseTimeout(Timeout.ofMilliseconds(requestTimeoutMillis))
+                        .build())
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleTimeoutMillis))
+                .build();
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread thread = new Thread(r, "storage-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Override
+    public CompletableFuture<String> upload(String bucket, String objectPath, InputStreamSource source,
+                                            long contentLength, String contentType) {
+        return submit(() -> {
+            HttpPost request = authorized(new HttpPost(objectUri(bucket, objectPath)));
+            request.setHeader("x-upsert", "false");
+            try (InputStream in = source.getInputStream()) {
+                request.setEntity(new InputStreamEntity(in, contentLength,
+                        contentType != null ? ContentType.parse(contentType) : ContentType.APPLICATION_OCTET_STREAM));
+                execute(request, "upload");
+            }
+            return objectPath;
+        });
+    }
+
+    @Override
+    public String publicUrl(String bucket, String objectPath) {
+        return "%s/object/public/%s/%s".formatted(baseUrl, bucket, StoragePaths.encode(objectPath));
+    }
+
+    /**
+     * POST /object/sign/{bucket}/{path} {"expiresIn": n} → {"signedURL": "/object/sign/...?token=..."}
+     */
+    @Override
+    public CompletableFuture<String> createSignedUrl(String bucket, String objectPath, int expiresInSeconds) {
+        return submit(() -> {
+            HttpPost request = authorized(new HttpPost(
+                    "%s/object/sign/%s/%s".formatted(baseUrl, bucket, StoragePaths.encode(objectPath))));
+            request.setEntity(new StringEntity("{\"expiresIn\":" + expiresInSeconds + "}", ContentType.APPLICATION_JSON));
+            String body = execute(request, "signed-url");
+            try {
+                String signedPath = objectMapper.readTree(body).path("signedURL").asText();
+                return baseUrl + (signedPath.startsWith("/") ? signedPath : "/" + signedPath);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Supabase signed-url 응답을 해석할 수 없습니다.", e);
+            }
+        });
+    }
+
+    /**
+     * DELETE /object/{bucket} {"prefixes": [path, ...]}
+     */
+    @Override
+    public CompletableFuture<Void> delete(String bucket, Collection<String> objectPaths) {
+        if (objectPaths.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return submit(() -> {
+            HttpDelete request = authorized(new HttpDelete("%s/object/%s".formatted(baseUrl, bucket)));
+            request.setEntity(new StringEntity(objectMapper.writeValueAsString(Map.of("prefixes", objectPaths)),
+                    ContentType.APPLICATION_JSON));
+            execute(request, "delete");
+            return null;
+        });
+    }
+
+    @Override
+    public StorageMetrics metrics() {
+        PoolStats pool = connectionManager.getTotalStats();
+        return stats.snapshot(executor.getQueue().size(), maxConcurrency, pool.getLeased(), pool.getAvailable());
+    }
+
+    /**
+     * 요청 스레드 풀에서 실행합니다. 대기열이 가득 차면 {@link RejectedExecutionException} 으로 실패한 future 를 반환합니다.
+     */
+    private <T> CompletableFuture<T> submit(Callable<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                if (future.isDone()) {
+                    return; // 대기 중 취소됨
+                }
+                // 호출 측이 완료 직후 지표를 조회해도 반영되어 있도록 기록 후 완료
+                long started = stats.start();
+                T result;
+                try {
+                    result = task.call();
+                } catch (Exception e) {
+                    stats.finish(started, false);
+                    future.completeExceptionally(e);
+                    return;
+                }
+                stats.finish(started, true);
+                future.complete(result);
+            });
+        } catch (RejectedExecutionException e) {
+            stats.reject();
+            log.warn("스토리지 요청 대기열이 가득 찼습니다: maxConcurrency={}, queued={}", maxConcurrency, executor.getQueue().size());
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * 요청을 실행하고 2xx 응답 본문을 반환합니다. 응답 본문을 끝까지 읽어야 커넥션이 풀로 반환되어 재사용됩니다.
+     */
+    private String execute(HttpUriRequestBase request, String operation) throws IOException {
+        HttpClientContext context = HttpClientContext.create();
+        String body = httpClient.execute(request, context, response -> {
+            String content = response.getEntity() != null ? EntityUtils.toString(response.getEntity()) : "";
+            if (response.getCode() / 100 != 2) {
+                throw new IllegalStateException("Supabase %s failed: status=%d, body=%s"
+                        .formatted(operation, response.getCode(), content));
+            }
+            return content;
+        });
+        // 이 커넥션에서 보낸 요청이 2건 이상이면 기존 커넥션을 재사용한 것
+        EndpointDetails endpoint = context.getEndpointDetails();
+        if (endpoint != null) {
+            stats.connection(endpoint.getRequestCount() > 1);
+        }
+        return body;
+    }
+
+    private String objectUri(String bucket, String objectPath) {
+        return "%s/object/%s/%s".formatted(baseUrl, bucket, StoragePaths.encode(objectPath));
+    }
+
+    private <R extends HttpUriRequestBase> R authorized(R request) {
+        request.setHeader("Authorization", "Bearer " + serviceKey);
+        request.setHeader("apikey", serviceKey);
+        return request;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            log.warn("스토리지 HTTP 클라이언트 종료 실패", e);
+        }
+    }
+}
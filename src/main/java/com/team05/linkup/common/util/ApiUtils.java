@@ -1,62 +1,270 @@
 package com.team05.linkup.common.util;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team05.linkup.common.dto.ApiEndpointMetrics;
+import com.team05.linkup.common.exception.ExternalApiException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * 외부 HTTP API 호출 게이트웨이.
+ * <p>
+ * 엔드포인트 이름별로 다음 정책을 적용합니다. (설정: http-client.endpoints.{이름}.*, 없으면 http-client.default.*)
+ * <ul>
+ *     <li>연결/응답 타임아웃: 응답 없는 서버에 요청 스레드가 무기한 묶이지 않음</li>
+ *     <li>동시 호출 한도(bulkhead): 한도를 넘는 호출은 기다리지 않고 즉시 거절</li>
+ *     <li>서킷 브레이커: 연속 실패 시 일정 시간 호출하지 않고 즉시 실패</li>
+ *     <li>지연 시간 히스토그램: {@link #metrics()} 로 조회</li>
+ * </ul>
+ * 엔드포인트마다 HttpClient 를 하나씩 두어 커넥션을 재사용하며, JSON 직렬화는 애플리케이션 공용 ObjectMapper 를 사용합니다.
+ */
 @Component
 public class ApiUtils {
     private static final Logger logger = LogManager.getLogger(ApiUtils.class);
 
-    private static final HttpClient client = HttpClient.newBuilder()
-//            .connectTimeout(Duration.ofSeconds(10))
-            .build();
+    public static final String DEFAULT_ENDPOINT = "default";
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper;
+    private final Environment environment;
+    private final ConcurrentHashMap<String, Endpoint> endpoints = new ConcurrentHashMap<>();
 
+    public ApiUtils(ObjectMapper objectMapper, Environment environment) {
+        this.objectMapper = objectMapper;
+        this.environment = environment;
+    }
+
+    /**
+     * 기본 정책으로 API 를 호출합니다.
+     *
+     * @return 응답 본문을 역직렬화한 객체 (오류 응답, 타임아웃, 거절 시 empty)
+     */
     public <T> Optional<T> getApiResponse(String apiUrl, String method, Object requestDto, Class<T> responseType) {
+        return getApiResponse(DEFAULT_ENDPOINT, apiUrl, method, requestDto, responseType);
+    }
+
+    /**
+     * 엔드포인트 정책으로 API 를 호출하고 응답을 기다립니다.
+     * 대기 시간은 엔드포인트의 연결 + 응답 타임아웃을 넘지 않습니다. ({@link #sendAsync} 의 전체 기한)
+     *
+     * @param endpoint 정책을 구분하는 엔드포인트 이름
+     * @return 응답 본문을 역직렬화한 객체 (오류 응답, 타임아웃, 거절 시 empty)
+     */
+    public <T> Optional<T> getApiResponse(String endpoint, String apiUrl, String method, Object requestDto, Class<T> responseType) {
         try {
-            if (apiUrl == null || method == null) {
-                throw new IllegalArgumentException("API URL 또는 HTTP Method가 null입니다.");
+            return Optional.ofNullable(sendAsync(endpoint, apiUrl, method, requestDto, responseType).join());
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof ExternalApiException || cause instanceof RejectedExecutionException
+                    || cause instanceof TimeoutException) {
+                logger.warn("API 호출 실패. endpoint: {}, 사유: {}", endpoint, cause.getMessage());
+            } else {
+                logger.error("API 호출 중 예외 발생. endpoint: {}, 사유: {}", endpoint, cause.getMessage(), cause);
             }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 엔드포인트 정책으로 API 를 비동기 호출합니다. 호출 스레드를 막지 않습니다.
+     * <p>
+     * 반환된 future 는 다음 경우 예외로 완료됩니다.
+     * <ul>
+     *     <li>{@link RejectedExecutionException}: 동시 호출 한도 초과 또는 서킷이 열려 있어 보내지 않음</li>
+     *     <li>{@link HttpTimeoutException}: 연결 또는 응답 타임아웃</li>
+     *     <li>{@link TimeoutException}: 연결 + 응답 타임아웃을 합친 전체 기한 안에 HttpClient 가 완료하지 않음</li>
+     *     <li>{@link ExternalApiException}: 4xx/5xx 응답</li>
+     * </ul>
+     *
+     * @param endpoint 정책을 구분하는 엔드포인트 이름
+     * @return 응답 본문을 역직렬화한 객체로 완료되는 future
+     */
+    public <T> CompletableFuture<T> sendAsync(String endpoint, String apiUrl, String method, Object requestDto, Class<T> responseType) {
+        Endpoint target = endpoint(endpoint);
+        HttpRequest request;
+        try {
+            request = buildRequest(target, apiUrl, method, requestDto);
+        } catch (JsonProcessingException | RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        if (!target.bulkhead.tryAcquire()) {
+            target.rejected.increment();
+            return CompletableFuture.failedFuture(new RejectedExecutionException(
+                    "동시 호출 한도(%d)를 초과했습니다: %s".formatted(target.maxConcurrent, target.name)));
+        }
+        if (!target.circuitBreaker.tryAcquire()) {
+            target.bulkhead.release();
+            target.shortCircuited.increment();
+            return CompletableFuture.failedFuture(new RejectedExecutionException(
+                    "서킷이 열려 있어 호출하지 않습니다: " + target.name));
+        }
 
-            String requestBody = requestDto == null ? "" : objectMapper.writeValueAsString(requestDto); // 여기서 DTO를 JSON으로 직렬화
+        long started = System.nanoTime();
+        CompletableFuture<HttpResponse<String>> sent;
+        try {
+            sent = target.client.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        } catch (RuntimeException e) {
+            // 보내기 전에 동기로 실패해도 획득한 동시 호출 한도와 서킷 시도를 돌려줌
+            target.record(null, e, System.nanoTime() - started);
+            return CompletableFuture.failedFuture(e);
+        }
+        // HttpClient 의 타임아웃이 동작하지 않더라도 한도를 돌려주고 호출자가 무기한 기다리지 않도록 전체 기한을 둠
+        return sent.orTimeout(target.connectTimeoutMillis + target.readTimeoutMillis, TimeUnit.MILLISECONDS)
+                .whenComplete((response, error) -> target.record(response, unwrap(error), System.nanoTime() - started))
+                .thenApply(response -> parse(target, response, responseType));
+    }
 
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-                    .uri(URI.create(apiUrl))
-//                    .timeout(Duration.ofSeconds(10))
-                    .header("Accept", "application/json")
-                    .header("Content-Type", "application/json");
+    /**
+     * 지금까지 사용된 엔드포인트별 호출 지표를 이름순으로 반환합니다.
+     */
+    public List<ApiEndpointMetrics> metrics() {
+        return endpoints.values().stream()
+                .sorted(Comparator.comparing(endpoint -> endpoint.name))
+                .map(Endpoint::snapshot)
+                .toList();
+    }
 
-            switch (method.toUpperCase()) {
-                case "POST" -> requestBuilder.POST(HttpRequest.BodyPublishers.ofString(requestBody));
-                case "PUT" -> requestBuilder.PUT(HttpRequest.BodyPublishers.ofString(requestBody));
-                case "DELETE" -> requestBuilder.DELETE();
-                case "GET" -> requestBuilder.GET();
-                default -> throw new UnsupportedOperationException("지원하지 않는 HTTP 메서드입니다: " + method);
-            }
+    private HttpRequest buildRequest(Endpoint endpoint, String apiUrl, String method, Object requestDto) throws JsonProcessingException {
+        if (apiUrl == null || method == null) {
+            throw new IllegalArgumentException("API URL 또는 HTTP Method가 null입니다.");
+        }
+
+        String requestBody = requestDto == null ? "" : objectMapper.writeValueAsString(requestDto); // 여기서 DTO를 JSON으로 직렬화
+
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+                .uri(URI.create(apiUrl))
+                .timeout(Duration.ofMillis(endpoint.readTimeoutMillis))
+                .header("Accept", "application/json")
+                .header("Content-Type", "application/json");
+
+        switch (method.toUpperCase()) {
+            case "POST" -> requestBuilder.POST(HttpRequest.BodyPublishers.ofString(requestBody));
+            case "PUT" -> requestBuilder.PUT(HttpRequest.BodyPublishers.ofString(requestBody));
+            case "DELETE" -> requestBuilder.DELETE();
+            case "GET" -> requestBuilder.GET();
+            default -> throw new UnsupportedOperationException("지원하지 않는 HTTP 메서드입니다: " + method);
+        }
+        return requestBuilder.build();
+    }
+
+    private <T> T parse(Endpoint endpoint, HttpResponse<String> response, Class<T> responseType) {
+        if (response.statusCode() >= 400) {
+            throw new ExternalApiException("API 오류 응답. endpoint: %s, 상태 코드: %d, 응답: %s"
+                    .formatted(endpoint.name, response.statusCode(), response.body()), response.statusCode());
+        }
+        try {
+            return objectMapper.readValue(response.body(), responseType);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private Endpoint endpoint(String name) {
+        return endpoints.computeIfAbsent(name == null ? DEFAULT_ENDPOINT : name, key -> new Endpoint(key,
+                setting(key, "connect-timeout-ms", 3000L),
+                setting(key, "read-timeout-ms", 10000L),
+                setting(key, "max-concurrent", 20L).intValue(),
+                setting(key, "failure-threshold", 5L).intValue(),
+                setting(key, "open-duration-ms", 30000L)));
+    }
+
+    // http-client.endpoints.{이름}.{key} → http-client.default.{key} → 기본값
+    private Long setting(String endpoint, String key, long defaultValue) {
+        Long fallback = environment.getProperty("http-client.default." + key, Long.class, defaultValue);
+        return environment.getProperty("http-client.endpoints." + endpoint + "." + key, Long.class, fallback);
+    }
 
-            HttpRequest request = requestBuilder.build();
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+    private static Throwable unwrap(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
+    /**
+     * 엔드포인트별 클라이언트, 정책, 지표
+     */
+    private static final class Endpoint {
 
+        private final String name;
+        private final long connectTimeoutMillis;
+        private final long readTimeoutMillis;
+        private final int maxConcurrent;
+        private final HttpClient client;
+        private final Semaphore bulkhead;
+        private final CircuitBreaker circuitBreaker;
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder clientErrors = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder shortCircuited = new LongAdder();
+
+        private Endpoint(String name, long connectTimeoutMillis, long readTimeoutMillis, int maxConcurrent,
+                         int failureThreshold, long openDurationMillis) {
+            this.name = name;
+            this.connectTimeoutMillis = connectTimeoutMillis;
+            this.readTimeoutMillis = readTimeoutMillis;
+            this.maxConcurrent = maxConcurrent;
+            this.client = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                    .build();
+            this.bulkhead = new Semaphore(maxConcurrent);
+            this.circuitBreaker = new CircuitBreaker(failureThreshold, openDurationMillis);
+        }
+
+        // 4xx 는 서버가 정상 응답한 것이므로 서킷 브레이커 실패로 보지 않음
+        private void record(HttpResponse<String> response, Throwable error, long elapsedNanos) {
+            bulkhead.release();
+            calls.increment();
+            latency.record(elapsedNanos);
+            if (error != null || response.statusCode() >= 500) {
+                failures.increment();
+                if (error instanceof HttpTimeoutException || error instanceof TimeoutException) {
+                    timeouts.increment();
+                }
+                circuitBreaker.onFailure();
+                return;
+            }
             if (response.statusCode() >= 400) {
-                logger.warn("API 호출 실패. 상태 코드: {}, 응답: {}", response.statusCode(), response.body());
-                return Optional.empty();
+                clientErrors.increment();
             }
+            circuitBreaker.onSuccess();
+        }
 
-            T parsedObject = objectMapper.readValue(response.body(), responseType);
-            return Optional.of(parsedObject);
-        } catch (Exception e) {
-            logger.error("API 호출 중 예외 발생: {}", e.getMessage(), e);
-            return Optional.empty();
+        private ApiEndpointMetrics snapshot() {
+            return new ApiEndpointMetrics(
+                    name,
+                    circuitBreaker.state(),
+                    calls.sum(),
+                    failures.sum(),
+                    timeouts.sum(),
+                    clientErrors.sum(),
+                    rejected.sum(),
+                    shortCircuited.sum(),
+                    maxConcurrent - bulkhead.availablePermits(),
+                    maxConcurrent,
+                    connectTimeoutMillis,
+                    readTimeoutMillis,
+                    latency.snapshot());
         }
     }
-
 }
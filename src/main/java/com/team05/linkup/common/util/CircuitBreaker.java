@@ -0,0 +1,83 @@
+package com.team05.linkup.common.util;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 연속 실패 횟수 기반 서킷 브레이커.
+ * <ul>
+ *     <li>CLOSED: 모든 호출 허용. 연속 failureThreshold 회 실패하면 OPEN.</li>
+ *     <li>OPEN: openDuration 동안 호출을 즉시 거절하여 응답 없는 외부 서비스에 스레드와 커넥션이 묶이지 않게 함.</li>
+ *     <li>HALF_OPEN: openDuration 이 지나면 시험 호출 1건만 허용. 성공하면 CLOSED, 실패하면 다시 OPEN.</li>
+ * </ul>
+ */
+public class CircuitBreaker {
+
+    public enum State {CLOSED, OPEN, HALF_OPEN}
+
+    private final int failureThreshold;
+    private final long openDurationMillis;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    public CircuitBreaker(int failureThreshold, long openDurationMillis) {
+        this(failureThreshold, openDurationMillis, System::currentTimeMillis);
+    }
+
+    public CircuitBreaker(int failureThreshold, long openDurationMillis, LongSupplier clock) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDurationMillis = openDurationMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * 호출을 시작해도 되는지 확인합니다. true 를 받았으면 결과를 {@link #onSuccess()} 또는 {@link #onFailure()} 로 알려야 합니다.
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED -> {
+                return true;
+            }
+            case OPEN -> {
+                if (clock.getAsLong() - openedAt < openDurationMillis) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probeInFlight = true;
+                return true;
+            }
+            default -> {
+                if (probeInFlight) {
+                    return false;
+                }
+                probeInFlight = true;
+                return true;
+            }
+        }
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        probeInFlight = false;
+        if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.getAsLong();
+            consecutiveFailures = 0;
+        }
+    }
+
+    public synchronized State state() {
+        if (state == State.OPEN && clock.getAsLong() - openedAt >= openDurationMillis) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+}
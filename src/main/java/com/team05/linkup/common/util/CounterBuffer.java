@@ -0,0 +1,126 @@
+package com.team05.linkup.common.util;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 키별 증감량을 메모리에 누적하는 카운터 버퍼.
+ * 주기적으로 {@link #drain()} 하여 DB 에 일괄 반영(write-behind)하는 용도로 사용합니다.
+ * <p>
+ * 누적({@link ConcurrentHashMap#merge})과 꺼내기({@link ConcurrentHashMap#remove(Object)})가 모두 맵의 원자적 연산이므로
+ * 증가분은 이번 drain 에 포함되거나 맵에 남아 다음 drain 에 포함되며, 유실되지 않습니다.
+ * (키마다 LongAdder 를 두고 drain 에서 제거하면, 제거 직전에 LongAdder 를 꺼내 간 스레드의 증가분이 맵 밖에서 유실될 수 있습니다.)
+ */
+public class CounterBuffer {
+
+    private final ConcurrentHashMap<String, Long> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 키의 누적값에 delta 를 더합니다.
+     *
+     * @param key   카운터 키 (예: 게시글 ID)
+     * @param delta 증감량 (음수 가능)
+     */
+    public void add(String key, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        // 합이 0 이 되면 항목을 제거 (merge 의 null 반환)
+        counters.merge(key, delta, (current, added) -> {
+            long sum = current + added;
+            return sum == 0 ? null : sum;
+        });
+    }
+
+    /**
+     * 아직 반영되지 않은 키의 누적값을 반환합니다.
+     *
+     * @param key 카운터 키
+     * @return 반영 대기 중인 누적값 (없으면 0)
+     */
+    public long pending(String key) {
+        return counters.getOrDefault(key, 0L);
+    }
+
+    /**
+     * 누적된 모든 증감량을 꺼내고 맵에서 제거합니다.
+     * 꺼낸 뒤에 들어온 증가분은 새 항목으로 쌓여 다음 drain 에 포함됩니다.
+     *
+     * @return 키별 증감량 (0 인 키는 제외)
+     */
+    public Map<String, Long> drain() {
+        Map<String, Long> drained = new HashMap<>();
+        for (String key : counters.keySet()) {
+            Long value = counters.remove(key);
+            if (value != null && value != 0) {
+                drained.put(key, value);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * 반영에 실패한 증감량을 다시 버퍼에 합칩니다.
+     *
+     * @param deltas 키별 증감량
+     */
+    public void restore(Map<String, Long> deltas) {
+        deltas.forEach(this::add);
+    }
+
+    /**
+     * 누적된 증감량을 chunkSize 개씩 나누어 writer 로 반영합니다.
+     * writer 가 예외를 던진 묶음은 버퍼로 되돌려 다음 flush 때 다시 시도합니다.
+     *
+     * @param chunkSize 한 번에 반영할 최대 키 수
+     * @param writer    키별 증감량 묶음을 저장소에 반영하는 함수
+     * @return 반영에 성공한 키 목록과 실패하여 되돌린 키 수
+     */
+    public FlushResult flush(int chunkSize, Consumer<Map<String, Long>> writer) {
+        Map<String, Long> drained = drain();
+        if (drained.isEmpty()) {
+            return new FlushResult(Set.of(), 0);
+        }
+
+        Set<String> flushed = new HashSet<>();
+        int failed = 0;
+        Map<String, Long> chunk = new HashMap<>();
+        Iterator<Map.Entry<String, Long>> it = drained.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Long> entry = it.next();
+            chunk.put(entry.getKey(), entry.getValue());
+            if (chunk.size() == chunkSize || !it.hasNext()) {
+                try {
+                    writer.accept(chunk);
+                    flushed.addAll(chunk.keySet());
+                } catch (RuntimeException e) {
+                    restore(chunk);
+                    failed += chunk.size();
+                }
+                chunk = new HashMap<>();
+            }
+        }
+        return new FlushResult(flushed, failed);
+    }
+
+    /**
+     * flush 결과.
+     *
+     * @param flushedKeys 반영에 성공한 키 목록
+     * @param failedCount 반영에 실패하여 버퍼로 되돌린 키 수
+     */
+    public record FlushResult(Set<String> flushedKeys, int failedCount) {
+    }
+
+    /**
+     * 현재 버퍼에 유지 중인 키 수를 반환합니다.
+     */
+    public int size() {
+        return counters.size();
+    }
+}
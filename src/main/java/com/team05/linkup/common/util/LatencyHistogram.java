@@ -0,0 +1,94 @@
+package com.team05.linkup.common.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 구간(ms) 누적 지연 시간 히스토그램.
+ * 구간별 카운터만 증가시키므로 기록 비용이 일정하고, 백분위수는 해당 구간의 상한값으로 근사합니다.
+ */
+public class LatencyHistogram {
+
+    /** 구간 상한(ms). 마지막 상한을 넘는 값은 overflow 구간에 기록 */
+    private static final long[] BOUNDS_MILLIS = {5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000};
+
+    private final LongAdder[] buckets = new LongAdder[BOUNDS_MILLIS.length + 1];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long elapsedNanos) {
+        long millis = elapsedNanos / 1_000_000;
+        int index = 0;
+        while (index < BOUNDS_MILLIS.length && millis > BOUNDS_MILLIS[index]) {
+            index++;
+        }
+        buckets[index].increment();
+        count.increment();
+        totalNanos.add(elapsedNanos);
+        maxNanos.accumulate(elapsedNanos);
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[buckets.length];
+        long total = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+
+        Map<String, Long> distribution = new LinkedHashMap<>();
+        for (int i = 0; i < BOUNDS_MILLIS.length; i++) {
+            distribution.put("le_" + BOUNDS_MILLIS[i], counts[i]);
+        }
+        distribution.put("gt_" + BOUNDS_MILLIS[BOUNDS_MILLIS.length - 1], counts[BOUNDS_MILLIS.length]);
+
+        long maxMillis = maxNanos.get() / 1_000_000;
+        long recorded = count.sum();
+        return new Snapshot(
+                recorded,
+                recorded == 0 ? 0 : totalNanos.sum() / 1_000_000.0 / recorded,
+                percentile(counts, total, 0.50, maxMillis),
+                percentile(counts, total, 0.95, maxMillis),
+                percentile(counts, total, 0.99, maxMillis),
+                maxMillis,
+                distribution);
+    }
+
+    // 누적 비율이 처음으로 p 이상이 되는 구간의 상한 (overflow 구간이면 최댓값)
+    private static long percentile(long[] counts, long total, double p, long maxMillis) {
+        if (total == 0) {
+            return 0;
+        }
+        long threshold = (long) Math.ceil(total * p);
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= threshold) {
+                return i < BOUNDS_MILLIS.length ? Math.min(BOUNDS_MILLIS[i], maxMillis) : maxMillis;
+            }
+        }
+        return maxMillis;
+    }
+
+    /**
+     * @param count        기록된 요청 수
+     * @param avgMillis    평균(ms)
+     * @param p50Millis    50번째 백분위수 근사값(ms)
+     * @param p95Millis    95번째 백분위수 근사값(ms)
+     * @param p99Millis    99번째 백분위수 근사값(ms)
+     * @param maxMillis    최댓값(ms)
+     * @param distribution 구간별 요청 수 (le_N: N ms 이하)
+     */
+    public record Snapshot(long count, double avgMillis, long p50Millis, long p95Millis, long p99Millis,
+                           long maxMillis, Map<String, Long> distribution) {
+    }
+}
@@ -0,0 +1,126 @@
+package com.team05.linkup.common.util;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 1시간 단위 버킷으로 키별 카운트를 보관하는 슬라이딩 윈도우 카운터.
+ * 최근 retention 기간의 버킷만 유지하며, "현재 시각 기준 최근 N일간 키별 합계" 를
+ * 전체 데이터를 다시 집계하지 않고 버킷 합산만으로 계산하는 용도로 사용합니다.
+ * <p>
+ * 윈도우는 달력 날짜가 아닌 현재 시각 기준으로 움직이며, 시작 경계가 속한 1시간 버킷을 포함하므로
+ * 최대 1시간 이전의 카운트까지 합산될 수 있습니다.
+ * 보관 기간이 지난 버킷은 합산에서 제외되지만 메모리에는 남으므로, 같은 인스턴스를 계속 쓰는 쪽은 주기적으로
+ * {@link #evictExpired()} 를 호출해야 합니다.
+ *
+ * @param <K> 카운트 대상 키 타입 (예: 사용자 ID, 태그 이름)
+ */
+public class SlidingWindowCounter<K> {
+
+    private static final long BUCKET_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final long retentionMillis;
+    private final LongSupplier millisClock;
+    // 버킷 시작 시각(epoch hour) → 키별 카운트
+    private final ConcurrentSkipListMap<Long, ConcurrentHashMap<K, LongAdder>> buckets = new ConcurrentSkipListMap<>();
+
+    /**
+     * @param retention 유지할 기간 (1시간 이상)
+     */
+    public SlidingWindowCounter(Duration retention) {
+        this(retention, System::currentTimeMillis);
+    }
+
+    public SlidingWindowCounter(Duration retention, LongSupplier millisClock) {
+        if (retention.toMillis() < BUCKET_MILLIS) {
+            throw new IllegalArgumentException("retention 은 1시간 이상이어야 합니다: " + retention);
+        }
+        this.retentionMillis = retention.toMillis();
+        this.millisClock = millisClock;
+    }
+
+    /**
+     * at 시각이 속한 버킷의 key 카운트에 delta 를 더합니다. 보관 기간 밖의 시각은 무시합니다.
+     *
+     * @param key   카운트 대상 키
+     * @param at    발생 시각
+     * @param delta 증감량 (음수 가능)
+     */
+    public void add(K key, ZonedDateTime at, long delta) {
+        long bucket = bucketOf(at.toInstant().toEpochMilli());
+        if (delta == 0 || bucket < oldestRetainedBucket()) {
+            return;
+        }
+        buckets.computeIfAbsent(bucket, b -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key, k -> new LongAdder())
+                .add(delta);
+    }
+
+    /**
+     * 시간 단위 GROUP BY 집계 결과 행을 적재합니다. 시각은 시스템 기본 시간대로 해석합니다.
+     *
+     * @param rows Object[] 리스트 ([0]: 키, [1]: 버킷 시작 시각(java.sql.Timestamp 또는 LocalDateTime), [2]: 카운트(Number))
+     */
+    @SuppressWarnings("unchecked")
+    public void addRows(List<Object[]> rows) {
+        for (Object[] row : rows) {
+            LocalDateTime hour = row[1] instanceof LocalDateTime localDateTime
+                    ? localDateTime : ((Timestamp) row[1]).toLocalDateTime();
+            add((K) row[0], hour.atZone(ZoneId.systemDefault()), ((Number) row[2]).longValue());
+        }
+    }
+
+    /**
+     * 현재 시각 기준 최근 window 동안의 키별 합계를 반환합니다.
+     * 합계가 0 이하인 키는 제외합니다.
+     *
+     * @param window 합산 기간
+     * @return 키별 합계
+     */
+    public Map<K, Long> sumLast(Duration window) {
+        Map<K, Long> totals = new HashMap<>();
+        buckets.tailMap(windowStartBucket(window), true).values()
+                .forEach(bucket -> bucket.forEach((key, adder) -> totals.merge(key, adder.sum(), Long::sum)));
+        totals.values().removeIf(total -> total <= 0);
+        return totals;
+    }
+
+    /**
+     * 보관 기간이 지난 버킷을 제거합니다.
+     */
+    public void evictExpired() {
+        buckets.headMap(oldestRetainedBucket(), false).clear();
+    }
+
+    /**
+     * 최근 window 동안의 합계를 이 카운터만으로 계산할 수 있는지 여부를 반환합니다.
+     *
+     * @param window 합산 기간
+     */
+    public boolean covers(Duration window) {
+        return !window.isNegative() && windowStartBucket(window) >= oldestRetainedBucket();
+    }
+
+    private long windowStartBucket(Duration window) {
+        return bucketOf(millisClock.getAsLong() - window.toMillis());
+    }
+
+    private long oldestRetainedBucket() {
+        return bucketOf(millisClock.getAsLong() - retentionMillis);
+    }
+
+    private static long bucketOf(long epochMillis) {
+        return Math.floorDiv(epochMillis, BUCKET_MILLIS);
+    }
+}
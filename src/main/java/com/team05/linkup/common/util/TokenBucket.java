@@ -0,0 +1,66 @@
+package com.team05.linkup.common.util;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 버킷 방식의 호출 속도 제한기.
+ * 초당 permitsPerSecond 개씩 토큰이 채워지고 최대 burst 개까지 쌓이며, 호출 측은 토큰을 얻은 만큼만 요청을 보냅니다.
+ * 기다리지 않고 즉시 가능한 만큼만 발급하므로 주기적으로 폴링하는 스케줄러에서 사용하기 적합합니다.
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double permitsPerNano;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    public TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond 와 burst 는 0 보다 커야 합니다.");
+        }
+        this.capacity = burst;
+        this.permitsPerNano = permitsPerSecond / 1_000_000_000d;
+        this.nanoClock = nanoClock;
+        this.tokens = burst;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * 최대 requested 개의 토큰을 즉시 발급합니다.
+     *
+     * @param requested 필요한 토큰 수
+     * @return 발급된 토큰 수 (0 ~ requested)
+     */
+    public synchronized int tryAcquire(int requested) {
+        refill();
+        int granted = (int) Math.min(requested, Math.floor(tokens));
+        if (granted <= 0) {
+            return 0;
+        }
+        tokens -= granted;
+        return granted;
+    }
+
+    /**
+     * 발급받았지만 사용하지 않은 토큰을 돌려줍니다.
+     */
+    public synchronized void release(int permits) {
+        if (permits <= 0) {
+            return;
+        }
+        refill();
+        tokens = Math.min(capacity, tokens + permits);
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+    }
+}
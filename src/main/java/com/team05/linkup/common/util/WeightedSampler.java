@@ -0,0 +1,117 @@
+package com.team05.linkup.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 가중치 비복원 추출기 (Efraimidis–Spirakis A-ES).
+ * <p>
+ * 항목마다 key = ln(u) / weight (u ~ U(0,1)) 를 한 번 뽑아 key 가 큰 k 개를 고릅니다. 크기 k 인 최소 힙만 유지하므로
+ * O(n log k) 시간, O(k) 추가 메모리로 동작하며, key 내림차순으로 반환한 순서는 "가중치 비례로 하나씩 뽑아 제거"를 k 번 반복한
+ * 결과와 같은 분포를 가집니다. 입력 목록은 수정하지 않고, 난수는 {@link ThreadLocalRandom} 을 사용하므로 여러 스레드에서 동시에 호출할 수 있습니다.
+ * <p>
+ * 가중치가 0 이하이거나 NaN 인 항목은 양수 가중치 항목이 k 개보다 적을 때만 남은 자리를 채웁니다.
+ */
+public final class WeightedSampler {
+
+    private WeightedSampler() {
+    }
+
+    /**
+     * 가중치에 비례하여 최대 k 개를 중복 없이 추출합니다.
+     *
+     * @param items  후보 목록 (수정하지 않음)
+     * @param weight 항목의 가중치
+     * @param k      추출할 개수
+     * @return 추출된 항목 (min(k, n) 개, 추출 순서)
+     */
+    public static <T> List<T> sample(List<T> items, ToDoubleFunction<? super T> weight, int k) {
+        int size = Math.min(k, items.size());
+        if (size <= 0) {
+            return new ArrayList<>();
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        // keys[0] 이 현재 선택된 항목 중 가장 작은 key 인 최소 힙
+        double[] keys = new double[size];
+        int[] indices = new int[size];
+        int heapSize = 0;
+        int index = 0;
+        for (T item : items) {
+            double key = key(weight.applyAsDouble(item), random);
+            if (heapSize < size) {
+                keys[heapSize] = key;
+                indices[heapSize] = index;
+                siftUp(keys, indices, heapSize++);
+            } else if (key > keys[0]) {
+                keys[0] = key;
+                indices[0] = index;
+                siftDown(keys, indices, heapSize);
+            }
+            index++;
+        }
+
+        // 최소 힙에서 하나씩 꺼내 뒤에서부터 채우면 key 내림차순
+        int[] order = new int[heapSize];
+        for (int last = heapSize - 1; last >= 0; last--) {
+            order[last] = indices[0];
+            keys[0] = keys[last];
+            indices[0] = indices[last];
+            siftDown(keys, indices, last);
+        }
+        List<T> result = new ArrayList<>(heapSize);
+        for (int selected : order) {
+            result.add(items.get(selected));
+        }
+        return result;
+    }
+
+    // ln(u) / w 는 u^(1/w) 와 순서가 같으면서 작은 가중치에서도 0 으로 뭉개지지 않음
+    private static double key(double weight, ThreadLocalRandom random) {
+        double u = 1.0 - random.nextDouble(); // (0, 1]
+        if (!(weight > 0)) {
+            // 0 이하(NaN 포함) 가중치는 양수 가중치보다 항상 뒤, 서로 간에는 무작위 순서
+            return -Double.MAX_VALUE / 2 * (1 + u);
+        }
+        return Math.log(u) / Math.min(weight, Double.MAX_VALUE);
+    }
+
+    private static void siftUp(double[] keys, int[] indices, int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (keys[parent] <= keys[position]) {
+                return;
+            }
+            swap(keys, indices, parent, position);
+            position = parent;
+        }
+    }
+
+    private static void siftDown(double[] keys, int[] indices, int heapSize) {
+        int position = 0;
+        while (true) {
+            int left = 2 * position + 1;
+            if (left >= heapSize) {
+                return;
+            }
+            int right = left + 1;
+            int smallest = right < heapSize && keys[right] < keys[left] ? right : left;
+            if (keys[position] <= keys[smallest]) {
+                return;
+            }
+            swap(keys, indices, position, smallest);
+            position = smallest;
+        }
+    }
+
+    private static void swap(double[] keys, int[] indices, int a, int b) {
+        double key = keys[a];
+        keys[a] = keys[b];
+        keys[b] = key;
+        int index = indices[a];
+        indices[a] = indices[b];
+        indices[b] = index;
+    }
+}
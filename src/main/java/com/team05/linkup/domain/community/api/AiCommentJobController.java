@@ -0,0 +1,42 @@
+package com.team05.linkup.domain.community.api;
+
+import com.team05.linkup.common.dto.ApiResponse;
+import com.team05.linkup.domain.community.application.AiCommentJobWorker;
+import com.team05.linkup.domain.community.application.GeminiResponseCache;
+import com.team05.linkup.domain.community.dto.AiCommentJobMetricsDTO;
+import com.team05.linkup.domain.community.dto.AiResponseCacheMetricsDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * AI 답변 생성 큐 운영 지표 API (관리자 전용)
+ */
+@Tag(name = "운영 지표 API", description = "내부 컴포넌트 상태 조회")
+@RestController
+@RequestMapping("/v1/internal/ai-comment-jobs")
+@RequiredArgsConstructor
+public class AiCommentJobController {
+
+    private final AiCommentJobWorker aiCommentJobWorker;
+    private final GeminiResponseCache geminiResponseCache;
+
+    @Operation(summary = "AI 답변 큐 지표", description = "상태별 작업 수(큐 깊이), 가장 오래된 대기 시간, 생성 지연 시간을 조회합니다.")
+    @GetMapping("/metrics")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<ApiResponse<AiCommentJobMetricsDTO>> metrics() {
+        return ResponseEntity.ok(ApiResponse.success(aiCommentJobWorker.metrics()));
+    }
+
+    @Operation(summary = "AI 답변 캐시 지표", description = "답변 캐시 적중/생성/동시 요청 병합 수, 병합 대기 시간 초과 수, 캐시 크기를 조회합니다.")
+    @GetMapping("/cache/metrics")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<ApiResponse<AiResponseCacheMetricsDTO>> cacheMetrics() {
+        return ResponseEntity.ok(ApiResponse.success(geminiResponseCache.metrics()));
+    }
+}
@@ -88,6 +88,34 @@ public class CommunityController {
         return ResponseEntity.ok(ApiResponse.success(communityPage));
     }
 
+    /**
+     * 커서(keyset) 방식으로 게시글 목록을 조회합니다. (최신순 고정)
+     * 전체 개수를 계산하지 않으며, 응답의 nextCursor 를 다음 요청의 cursor 로 전달하여 이어서 조회합니다.
+     *
+     * @param category 옵션 범주를 필터링 할 수 있습니다.
+     * @param tag 옵션 태그를 필터링 할 수 있습니다.
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략).
+     * @param size 페이지 크기 (기본값: 5, 최대 50).
+     * @return ResponseEntity CommunityCursorResponse DTO가 포함된 ApiResponse를 포함합니다.
+     * 예제 URL : GET /v1/community/list/cursor?category=INFO&size=10&cursor=MjAyNS0wNS0...
+     */
+    @GetMapping("/list/cursor")
+    @Operation(summary = "게시글 목록 커서 조회", description = "COUNT 없이 커서 기반으로 게시글 목록을 최신순으로 조회합니다.")
+    public ResponseEntity<ApiResponse<CommunityCursorResponseDTO>> getCommunityListByCursor(
+            @RequestParam(required = false) CommunityCategory category,
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "5") int size) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(
+                    communityService.findCommunitiesByCursor(category, tag, cursor, size)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(ResponseCode.INVALID_INPUT_VALUE, e.getMessage()));
+        }
+    }
+
     /**
      * 최근 활동을 기준으로 인기 커뮤니티 게시물 목록을 검색
      * 인기도는 일반적으로 특정 기간의 조회수, 좋아요 수, 작성일을 기준으로 결정
@@ -140,8 +168,14 @@ public class CommunityController {
             @RequestParam String keyword, // 검색어는 필수로 받음
             // PageableDefault는 /list 와 동일하게 유지하거나 검색 결과에 맞게 조정
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<CommunitySummaryResponseDTO> searchResultPage = communityService.searchCommunities(keyword, pageable);
-        return ResponseEntity.ok(ApiResponse.success(searchResultPage));
+        try {
+            Page<CommunitySummaryResponseDTO> searchResultPage = communityService.searchCommunities(keyword, pageable);
+            return ResponseEntity.ok(ApiResponse.success(searchResultPage));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(ResponseCode.INVALID_INPUT_VALUE, e.getMessage()));
+        }
     }
 
     /* -------------------------------------------------- 게시글 상세 조회 -------------------------------------------------- */
@@ -288,7 +322,7 @@ public class CommunityController {
      * @param postId 이미지를 첨부할 게시글 ID
      * @param images 업로드할 이미지 파일 목록
      * @param principal 인증된 사용자 정보
-     * @return 업로드된 이미지 경로 목록
+     * @return 업로드된 이미지 경로 목록과 실패한 파일 목록 (일부 실패 시에도 성공한 이미지는 첨부됨)
      */
     @Operation(
             summary = "게시글 이미지 업로드",
@@ -300,7 +334,7 @@ public class CommunityController {
     @PostMapping(
             value = "/{postId}/images",
             consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<ApiResponse<List<String>>> uploadImages(
+    public ResponseEntity<ApiResponse<ImageDto.UploadResult>> uploadImages(
             @PathVariable String postId,
             @Parameter(description = "업로드할 이미지 파일들", required = true)
             @RequestPart("images") List<MultipartFile> images,
@@ -318,19 +352,27 @@ public class CommunityController {
                     postId, principal.providerId());
 
             // 수정: id() → providerId() 로 변경
-            List<String> objectPaths = communityImageService.uploadImages(images, principal.providerId());
+            ImageDto.UploadResult result = communityImageService.uploadImages(images, principal.providerId());
+            List<String> objectPaths = result.getImageUrls();
+
+            // 모두 실패한 경우 첨부할 이미지가 없으므로 오류 응답
+            if (objectPaths.isEmpty() && result.hasFailures()) {
+                return ResponseEntity
+                        .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(ApiResponse.error(ResponseCode.INTERNAL_SERVER_ERROR,
+                                "이미지 업로드 실패: " + result.getFailures().get(0).reason()));
+            }
 
-            // 이미지 경로를 저장
-            log.info("Image upload successful, attaching {} images to post {}",
-                    objectPaths.size(), postId);
+            // 업로드에 성공한 이미지 경로만 저장 (실패 목록은 응답에 포함)
+            log.info("Image upload finished, attaching {} images to post {} ({} failed)",
+                    objectPaths.size(), postId, result.getFailures().size());
 
             // 수정: 매개변수 3개 → 2개로 변경
-            communityService.attachImages(postId, objectPaths);
+            communityService.attachImages(postId, result.getImages());
 
             return ResponseEntity
                     .status(HttpStatus.CREATED)
-                    // 수정: ImageDto.Response.of() 메서드 제거하고 직접 리스트 반환
-                    .body(ApiResponse.created(objectPaths));
+                    .body(ApiResponse.created(result));
         } catch (jakarta.persistence.EntityNotFoundException e) {
             log.error("Entity not found during image upload: {}", e.getMessage());
 
@@ -0,0 +1,184 @@
+package com.team05.linkup.domain.community.application;
+
+import com.team05.linkup.common.util.SlidingWindowCounter;
+import com.team05.linkup.domain.community.dto.ActiveUsersResponseDTO;
+import com.team05.linkup.domain.community.dto.UserActivityEventDTO;
+import com.team05.linkup.domain.community.infrastructure.CommentRepository;
+import com.team05.linkup.domain.community.infrastructure.CommunityRepository;
+import com.team05.linkup.domain.user.infrastructure.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * 활발한 커뮤니티 사용자 랭킹.
+ * 사용자별 게시글/댓글 수를 1시간 단위 버킷({@link SlidingWindowCounter})으로 메모리에 유지하고,
+ * 게시글/댓글 작성·삭제 이벤트로 증분 갱신합니다. 조회 기간은 DB 집계와 같이 현재 시각 기준 최근 N일이며(1시간 단위),
+ * 기간 내 활동이 있는 사용자만 합산하고 상위 후보의 프로필만 DB 에서 조회하므로 사용자 테이블 전체를 읽지 않습니다.
+ * 게시글 삭제에 따른 타인 댓글 일괄 삭제 등 이벤트로 반영되지 않는 변경은 주기적인 재적재로 보정합니다.
+ */
+@Slf4j
+@Component
+public class ActiveUserLeaderboard {
+
+    /** 활동 점수 = 게시글 수 * POST_WEIGHT + 댓글 수 * COMMENT_WEIGHT */
+    private static final long POST_WEIGHT = 3;
+    private static final long COMMENT_WEIGHT = 1;
+
+    private final CommunityRepository communityRepository;
+    private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+    private final int maxDays;
+
+    private volatile Counters counters;
+
+    public ActiveUserLeaderboard(CommunityRepository communityRepository,
+                                 CommentRepository commentRepository,
+                                 UserRepository userRepository,
+                                 @Value("${community.active-users.max-days:30}") int maxDays) {
+        this.communityRepository = communityRepository;
+        this.commentRepository = commentRepository;
+        this.userRepository = userRepository;
+        this.maxDays = maxDays;
+    }
+
+    /**
+     * 최근 days 일 랭킹을 메모리에서 계산할 수 있는지 여부를 반환합니다.
+     * 초기 적재 전이거나 보관 기간을 넘는 기간이면 false 입니다.
+     *
+     * @param days 활동 집계 기간(일)
+     */
+    public boolean covers(int days) {
+        return counters != null && days >= 0 && days <= maxDays;
+    }
+
+    /**
+     * 최근 days 일간 활동 점수 상위 limit 명을 반환합니다.
+     * 점수가 높은 순으로 정렬하며, 점수가 같을 경우 닉네임 오름차순으로 정렬합니다.
+     *
+     * @param limit 조회할 사용자 수
+     * @param days  활동 집계 기간(일), {@link #covers(int)} 가 true 여야 함
+     * @return 활발한 사용자 정보 목록
+     */
+    public List<ActiveUsersResponseDTO> top(int limit, int days) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Counters current = counters;
+        Duration window = Duration.ofDays(days);
+        Map<String, Long> posts = current.posts().sumLast(window);
+        Map<String, Long> comments = current.comments().sumLast(window);
+
+        List<Score> ranked = new ArrayList<>(posts.size() + comments.size());
+        Set<String> userIds = new HashSet<>(posts.keySet());
+        userIds.addAll(comments.keySet());
+        for (String userId : userIds) {
+            long postCount = posts.getOrDefault(userId, 0L);
+            long commentCount = comments.getOrDefault(userId, 0L);
+            long score = postCount * POST_WEIGHT + commentCount * COMMENT_WEIGHT;
+            if (score > 0) {
+                ranked.add(new Score(userId, postCount, commentCount, score));
+            }
+        }
+        ranked.sort(Comparator.comparingLong(Score::score).reversed());
+
+        Map<String, Object[]> profiles = loadProfiles(ranked, limit);
+        return ranked.stream()
+                .filter(s -> profiles.containsKey(s.userId()))
+                .sorted(Comparator.comparingLong(Score::score).reversed()
+                        .thenComparing(s -> (String) profiles.get(s.userId())[1], Comparator.nullsLast(Comparator.naturalOrder())))
+                .limit(limit)
+                .map(s -> {
+                    Object[] profile = profiles.get(s.userId());
+                    return ActiveUsersResponseDTO.of(s.userId(), (String) profile[1], (String) profile[2],
+                            s.postCount(), s.commentCount());
+                })
+                .toList();
+    }
+
+    /**
+     * 점수 순으로 정렬된 후보 중 결과에 포함될 수 있는 사용자의 프로필만 조회합니다.
+     * 닉네임 정렬을 위해 경계 점수와 동점인 사용자를 모두 포함하고,
+     * 비활성화 계정이 제외되어 limit 에 못 미치면 다음 후보로 범위를 넓힙니다.
+     */
+    private Map<String, Object[]> loadProfiles(List<Score> ranked, int limit) {
+        Map<String, Object[]> profiles = new HashMap<>();
+        int loaded = 0;
+        int end = Math.min(limit, ranked.size());
+        while (loaded < end) {
+            while (end < ranked.size() && ranked.get(end).score() == ranked.get(end - 1).score()) {
+                end++;
+            }
+            List<String> ids = ranked.subList(loaded, end).stream().map(Score::userId).toList();
+            for (Object[] row : userRepository.findActiveProfilesByIds(ids)) {
+                profiles.put((String) row[0], row);
+            }
+            loaded = end;
+            if (profiles.size() >= limit) {
+                break;
+            }
+            end = Math.min(end + (limit - profiles.size()), ranked.size());
+        }
+        return profiles;
+    }
+
+    /**
+     * 게시글/댓글 작성·삭제가 커밋되면 해당 시각 버킷에 반영합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserActivity(UserActivityEventDTO event) {
+        Counters current = counters;
+        if (current == null || event.userId() == null) {
+            return;
+        }
+        SlidingWindowCounter<String> counter = event.type() == UserActivityEventDTO.ActivityType.POST
+                ? current.posts() : current.comments();
+        counter.add(event.userId(), event.occurredAt(), event.delta());
+    }
+
+    /**
+     * 기동 시 및 주기적으로 보관 기간 내 게시글/댓글 수를 DB 에서 다시 적재합니다.
+     * 적재 중 커밋된 일부 이벤트가 누락될 수 있으나 다음 재적재 시 보정됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${community.active-users.rebuild-cron:0 0 * * * *}")
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        // 최대 기간의 시작 경계가 속한 버킷까지 보관
+        Duration retention = Duration.ofDays(maxDays).plusHours(1);
+        Counters rebuilt = new Counters(new SlidingWindowCounter<>(retention), new SlidingWindowCounter<>(retention));
+        ZonedDateTime since = ZonedDateTime.now().minus(retention).truncatedTo(ChronoUnit.HOURS);
+
+        try {
+            rebuilt.posts().addRows(communityRepository.countPostsByUserAndHourSince(since));
+            rebuilt.comments().addRows(commentRepository.countCommentsByUserAndHourSince(since));
+        } catch (RuntimeException e) {
+            // 기존 카운터를 유지하고 다음 주기에 재시도 (최초 적재 실패 시에는 DB 집계로 응답)
+            log.error("활동 사용자 랭킹 적재 실패", e);
+            Counters current = counters;
+            if (current != null) {
+                current.posts().evictExpired();
+                current.comments().evictExpired();
+            }
+            return;
+        }
+        counters = rebuilt;
+        log.info("활동 사용자 랭킹 적재 완료: 기간={}일, 소요={}ms", maxDays, System.currentTimeMillis() - started);
+    }
+
+    private record Counters(SlidingWindowCounter<String> posts, SlidingWindowCounter<String> comments) {
+    }
+
+    private record Score(String userId, long postCount, long commentCount, long score) {
+    }
+}
@@ -0,0 +1,160 @@
+package com.team05.linkup.domain.community.application;
+
+import com.team05.linkup.domain.community.domain.AiCommentJobStatus;
+import com.team05.linkup.domain.community.domain.BatchCheckpoint;
+import com.team05.linkup.domain.community.infrastructure.AiCommentJobRepository;
+import com.team05.linkup.domain.community.infrastructure.BatchCheckpointRepository;
+import com.team05.linkup.domain.community.infrastructure.CommunityRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * AI 답변이 없는 질문 게시글을 찾아 답변 작업 큐(ai_comment_job)에 다시 등록하는 백필 배치.
+ * <p>
+ * 질문 게시글을 (created_at, id) 키셋으로 batch-size 개씩 훑으며, 작업이 없는 게시글은 새로 등록하고
+ * DEAD 로 끝난 작업은 revive-cooldown-ms 가 지난 뒤 시도 횟수를 초기화하여 되살립니다. 계속 실패하는 게시글이
+ * 매 실행마다 재시도되지 않도록 작업당 되살리는 횟수는 revive-max 로 제한합니다. 답변 생성 자체는 {@link AiCommentJobWorker} 가
+ * 동시 실행 수·호출 속도 제한·재시도를 적용하여 처리하므로, 배치는 대기 중인 작업이 max-pending 을 넘지 않을 만큼만 등록합니다.
+ * 배치마다 마지막 위치를 batch_checkpoint 에 저장하므로 서버가 재시작되어도 이어서 진행하며, 끝까지 훑으면 커서를 비우고
+ * 다음 실행에서 처음부터 다시 확인합니다.
+ */
+@Slf4j
+@Component
+public class AiCommentBackfillJob {
+
+    static final String JOB_NAME = "ai-comment-backfill";
+
+    /** 커서가 비어 있을 때(처음부터 실행) 사용하는 시작 위치 */
+    private static final ZonedDateTime START = ZonedDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+
+    private final CommunityRepository communityRepository;
+    private final AiCommentJobRepository jobRepository;
+    private final BatchCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxPending;
+    private final int maxBatchesPerRun;
+    private final int reviveMax;
+    private final long reviveCooldownMs;
+
+    public AiCommentBackfillJob(CommunityRepository communityRepository,
+                                AiCommentJobRepository jobRepository,
+                                BatchCheckpointRepository checkpointRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${ai-comment.backfill.enabled:true}") boolean enabled,
+                                @Value("${ai-comment.backfill.batch-size:100}") int batchSize,
+                                @Value("${ai-comment.backfill.max-pending:200}") int maxPending,
+                                @Value("${ai-comment.backfill.max-batches-per-run:50}") int maxBatchesPerRun,
+                                @Value("${ai-comment.backfill.revive-max:3}") int reviveMax,
+                                @Value("${ai-comment.backfill.revive-cooldown-ms:86400000}") long reviveCooldownMs) {
+        this.communityRepository = communityRepository;
+        this.jobRepository = jobRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.reviveMax = reviveMax;
+        this.reviveCooldownMs = reviveCooldownMs;
+    }
+
+    @Scheduled(cron = "${ai-comment.backfill.cron:0 30 * * * *}")
+    public void scheduledRun() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            run();
+        } catch (RuntimeException e) {
+            log.error("AI 답변 백필 실패", e);
+        }
+    }
+
+    /**
+     * 대기 작업이 max-pending 에 이르거나, 끝까지 훑었거나, max-batches-per-run 만큼 실행할 때까지 배치를 반복합니다.
+     *
+     * @return 이번 실행에서 큐에 등록(되살린 작업 포함)한 게시글 수
+     */
+    public int run() {
+        long started = System.currentTimeMillis();
+        int enqueued = 0;
+        int batches = 0;
+        boolean finished = false;
+        while (batches < maxBatchesPerRun) {
+            long room = maxPending - jobRepository.countInStatus(AiCommentJobStatus.PENDING);
+            if (room <= 0) {
+                log.info("AI 답변 대기 작업이 많아 백필을 다음 실행으로 미룹니다: maxPending={}", maxPending);
+                break;
+            }
+            int limit = (int) Math.min(batchSize, room);
+            BatchResult result = transactionTemplate.execute(status -> runBatch(limit));
+            batches++;
+            if (result == null) {
+                break;
+            }
+            enqueued += result.enqueued();
+            if (result.finished()) {
+                finished = true;
+                break;
+            }
+        }
+        if (enqueued > 0 || finished) {
+            log.info("AI 답변 백필: 등록={}건, 배치={}회, 끝까지 확인={}, 소요={}ms",
+                    enqueued, batches, finished, System.currentTimeMillis() - started);
+        }
+        return enqueued;
+    }
+
+    /**
+     * 체크포인트를 잠근 상태에서 다음 배치를 조회·등록하고 커서를 전진시킵니다. (한 트랜잭션)
+     */
+    private BatchResult runBatch(int limit) {
+        ZonedDateTime now = ZonedDateTime.now();
+        checkpointRepository.insertIgnore(JOB_NAME, now);
+        BatchCheckpoint checkpoint = checkpointRepository.lockByJobName(JOB_NAME)
+                .orElseThrow(() -> new IllegalStateException("배치 체크포인트를 찾을 수 없습니다: " + JOB_NAME));
+
+        ZonedDateTime afterCreatedAt = checkpoint.getLastCreatedAt() != null ? checkpoint.getLastCreatedAt() : START;
+        String afterId = checkpoint.getLastId() != null ? checkpoint.getLastId() : "";
+        List<Object[]> rows = communityRepository.findQuestionsWithoutAiCommentAfter(
+                afterCreatedAt, afterId, PageRequest.of(0, limit));
+
+        List<String> communityIds = new ArrayList<>(rows.size());
+        int enqueued = 0;
+        for (Object[] row : rows) {
+            String communityId = (String) row[0];
+            communityIds.add(communityId);
+            enqueued += jobRepository.insertIgnore(UUID.randomUUID().toString(), communityId, now);
+        }
+        if (!communityIds.isEmpty()) {
+            ZonedDateTime deadBefore = now.minus(Duration.ofMillis(reviveCooldownMs));
+            enqueued += jobRepository.requeueDead(communityIds, now, deadBefore, reviveMax);
+            Object[] last = rows.get(rows.size() - 1);
+            checkpoint.advance((ZonedDateTime) last[1], (String) last[0], communityIds.size());
+        }
+
+        boolean finished = rows.size() < limit;
+        if (finished) {
+            checkpoint.complete();
+        }
+        return new BatchResult(enqueued, finished);
+    }
+
+    private record BatchResult(int enqueued, boolean finished) {
+    }
+}
@@ -0,0 +1,299 @@
+package com.team05.linkup.domain.community.application;
+
+import com.team05.linkup.common.util.TokenBucket;
+import com.team05.linkup.domain.community.domain.AiComment;
+import com.team05.linkup.domain.community.domain.AiCommentJob;
+import com.team05.linkup.domain.community.domain.AiCommentJobStatus;
+import com.team05.linkup.domain.community.domain.Community;
+import com.team05.linkup.domain.community.domain.CommunityCategory;
+import com.team05.linkup.domain.community.dto.AiCommentJobMetricsDTO;
+import com.team05.linkup.domain.community.infrastructure.AiCommentJobRepository;
+import com.team05.linkup.domain.community.infrastructure.AiCommentRepository;
+import com.team05.linkup.domain.community.infrastructure.CommunityRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AI 답변 생성 작업(ai_comment_job)을 처리하는 워커.
+ * <p>
+ * 주기적으로 빈 실행 슬롯 수만큼 작업을 점유(SELECT ... FOR UPDATE SKIP LOCKED)하여 전용 스레드 풀에서 실행합니다.
+ * 동시에 실행되는 모델 호출은 ai-comment.worker.concurrency 를 넘지 않고, 분당 시작하는 작업 수는 ai-comment.worker.rate-per-minute 로
+ * 제한합니다(백필로 작업이 한꺼번에 쌓여도 모델 API 호출량이 일정하게 유지됨). 실패한 작업은 지수 백오프 후 재시도하고
+ * 최대 시도 횟수를 넘으면 DEAD 로 전환합니다. 처리 중 서버가 종료되면 점유 기한(lease)이 지난 뒤 다른 워커가 다시 가져갑니다.
+ * 점유할 때마다 새 점유 토큰을 발급하고, 완료/실패는 토큰이 일치할 때만 반영하므로 점유 기한을 넘겨 끝난 이전 워커의 결과는 버려집니다.
+ */
+@Slf4j
+@Component
+public class AiCommentJobWorker {
+
+    private final AiCommentJobRepository jobRepository;
+    private final AiCommentRepository aiCommentRepository;
+    private final CommunityRepository communityRepository;
+    private final GeminiService geminiService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int concurrency;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final long backoffBaseMillis;
+    private final long backoffMaxMillis;
+    private final Semaphore slots;
+    private final TokenBucket rateLimiter;
+    private final ExecutorService executor;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+    private final LongAdder generationNanos = new LongAdder();
+    private final LongAdder generationCount = new LongAdder();
+    private final LongAccumulator maxGenerationNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder endToEndMillis = new LongAdder();
+
+    public AiCommentJobWorker(AiCommentJobRepository jobRepository,
+                              AiCommentRepository aiCommentRepository,
+                              CommunityRepository communityRepository,
+                              GeminiService geminiService,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${ai-comment.worker.concurrency:2}") int concurrency,
+                              @Value("${ai-comment.worker.max-attempts:5}") int maxAttempts,
+                              @Value("${ai-comment.worker.lease-ms:300000}") long leaseMillis,
+                              @Value("${ai-comment.worker.backoff-base-ms:10000}") long backoffBaseMillis,
+                              @Value("${ai-comment.worker.backoff-max-ms:1800000}") long backoffMaxMillis,
+                              @Value("${ai-comment.worker.rate-per-minute:30}") int ratePerMinute) {
+        this.jobRepository = jobRepository;
+        this.aiCommentRepository = aiCommentRepository;
+        this.communityRepository = communityRepository;
+        this.geminiService = geminiService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.concurrency = concurrency;
+        this.maxAttempts = maxAttempts;
+        this.lease = Duration.ofMillis(leaseMillis);
+        this.backoffBaseMillis = backoffBaseMillis;
+        this.backoffMaxMillis = backoffMaxMillis;
+        this.slots = new Semaphore(concurrency);
+        // 0 이하면 속도 제한 없음 (동시 실행 수 제한만 적용)
+        this.rateLimiter = ratePerMinute > 0 ? new TokenBucket(ratePerMinute / 60d, Math.max(1, concurrency)) : null;
+        AtomicInteger sequence = new AtomicInteger();
+        // 슬롯(세마포어)만큼만 제출하므로 대기열은 사실상 비어 있음
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+                    Thread thread = new Thread(r, "ai-comment-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 빈 슬롯 수와 발급받은 호출 토큰 수 중 작은 값만큼 작업을 점유하여 실행합니다.
+     */
+    @Scheduled(fixedDelayString = "${ai-comment.worker.poll-interval-ms:1000}")
+    public void poll() {
+        int free = slots.availablePermits();
+        if (free == 0) {
+            return;
+        }
+        int allowed = rateLimiter != null ? rateLimiter.tryAcquire(free) : free;
+        if (allowed == 0) {
+            return;
+        }
+        List<ClaimedJob> claimed;
+        try {
+            claimed = transactionTemplate.execute(status -> claim(allowed));
+        } catch (RuntimeException e) {
+            releaseTokens(allowed);
+            log.error("AI 답변 작업 점유 실패", e);
+            return;
+        }
+        if (claimed == null) {
+            releaseTokens(allowed);
+            return;
+        }
+        // 점유한 작업이 없거나 적으면 남은 토큰은 다음 폴링에서 사용
+        releaseTokens(allowed - claimed.size());
+        for (ClaimedJob job : claimed) {
+            // 슬롯을 얻지 못한 작업은 점유 기한이 지나면 다시 실행됨
+            if (!slots.tryAcquire()) {
+                log.warn("AI 답변 작업 슬롯 부족, 점유 만료 후 재시도: jobId={}", job.id());
+                continue;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        process(job);
+                    } finally {
+                        slots.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                slots.release();
+            }
+        }
+    }
+
+    private void releaseTokens(int unused) {
+        if (rateLimiter != null) {
+            rateLimiter.release(unused);
+        }
+    }
+
+    private List<ClaimedJob> claim(int limit) {
+        ZonedDateTime now = ZonedDateTime.now();
+        List<AiCommentJob> jobs = jobRepository.lockClaimable(now, limit);
+        for (AiCommentJob job : jobs) {
+            if (job.getStatus() == AiCommentJobStatus.RUNNING) {
+                log.warn("점유 기한이 지난 AI 답변 작업을 다시 실행합니다: jobId={}, attempts={}", job.getId(), job.getAttempts());
+            }
+            job.claim(UUID.randomUUID().toString(), now.plus(lease));
+        }
+        return jobs.stream()
+                .map(job -> new ClaimedJob(job.getId(), job.getLeaseOwner(), job.getCommunityId(), job.getAttempts(),
+                        job.getCreatedAt()))
+                .toList();
+    }
+
+    /**
+     * 작업 하나를 실행합니다. 게시글이 삭제되었거나 이미 답변이 있으면 모델을 호출하지 않고 완료 처리합니다.
+     * 그 사이 점유를 잃었으면(완료 UPDATE 가 0건) 생성한 답변을 저장하지 않습니다.
+     */
+    void process(ClaimedJob job) {
+        try {
+            Optional<String> question = communityRepository.findById(job.communityId())
+                    .filter(community -> community.getCategory() == CommunityCategory.QUESTION)
+                    .map(Community::getContent);
+            if (question.isEmpty() || aiCommentRepository.existsByCommunityId(job.communityId())) {
+                transactionTemplate.executeWithoutResult(status ->
+                        jobRepository.completeLeased(job.id(), job.leaseOwner(), ZonedDateTime.now()));
+                return;
+            }
+
+            long started = System.nanoTime();
+            String response = geminiService.getGeminiResponse(question.get());
+            long elapsed = System.nanoTime() - started;
+            generationNanos.add(elapsed);
+            generationCount.increment();
+            maxGenerationNanos.accumulate(elapsed);
+
+            // 완료 UPDATE 가 작업 행을 잠그므로, 이 트랜잭션이 끝날 때까지 다른 워커가 다시 점유할 수 없음
+            Boolean owned = transactionTemplate.execute(status -> {
+                if (jobRepository.completeLeased(job.id(), job.leaseOwner(), ZonedDateTime.now()) == 0) {
+                    return false;
+                }
+                if (!aiCommentRepository.existsByCommunityId(job.communityId())) {
+                    aiCommentRepository.save(AiComment.builder()
+                            .community(communityRepository.getReferenceById(job.communityId()))
+                            .content(response)
+                            .build());
+                }
+                return true;
+            });
+            if (!Boolean.TRUE.equals(owned)) {
+                log.warn("AI 답변 작업 점유를 잃어 생성 결과를 버립니다: jobId={}, communityId={}", job.id(), job.communityId());
+                return;
+            }
+            completed.increment();
+            if (job.createdAt() != null) {
+                endToEndMillis.add(Duration.between(job.createdAt(), ZonedDateTime.now()).toMillis());
+            }
+        } catch (Exception e) {
+            fail(job, e);
+        }
+    }
+
+    private void fail(ClaimedJob job, Exception error) {
+        String message = AiCommentJob.truncateError(error.getClass().getSimpleName() + ": " + error.getMessage());
+        try {
+            ZonedDateTime now = ZonedDateTime.now();
+            if (job.attempts() >= maxAttempts) {
+                Integer updated = transactionTemplate.execute(status ->
+                        jobRepository.markDeadLeased(job.id(), job.leaseOwner(), message, now));
+                if (!lostLease(job, updated)) {
+                    deadLettered.increment();
+                    log.error("AI 답변 생성 최종 실패(DEAD): jobId={}, communityId={}, attempts={}",
+                            job.id(), job.communityId(), job.attempts(), error);
+                }
+            } else {
+                long delay = backoffMillis(job.attempts());
+                Integer updated = transactionTemplate.execute(status -> jobRepository.retryLeased(
+                        job.id(), job.leaseOwner(), now.plus(Duration.ofMillis(delay)), message, now));
+                if (!lostLease(job, updated)) {
+                    retried.increment();
+                    log.warn("AI 답변 생성 실패, {}ms 후 재시도: jobId={}, attempts={}, error={}",
+                            delay, job.id(), job.attempts(), message);
+                }
+            }
+        } catch (RuntimeException e) {
+            // 상태 저장에 실패해도 점유 기한이 지나면 다시 실행됨
+            log.error("AI 답변 작업 실패 상태 저장 실패: jobId={}", job.id(), e);
+        }
+    }
+
+    // 실패 상태 UPDATE 가 0건이면 다른 워커가 다시 점유했으므로 이 시도의 실패는 반영하지 않음
+    private boolean lostLease(ClaimedJob job, Integer updated) {
+        if (updated != null && updated > 0) {
+            return false;
+        }
+        log.warn("AI 답변 작업 점유를 잃어 실패 결과를 버립니다: jobId={}, communityId={}", job.id(), job.communityId());
+        return true;
+    }
+
+    /**
+     * 시도 횟수에 따른 재시도 대기 시간 (base * 2^(attempts-1), 최대 max, ±20% 지터)
+     */
+    long backoffMillis(int attempts) {
+        long exponential = backoffBaseMillis << Math.min(Math.max(attempts - 1, 0), 20);
+        long capped = Math.min(exponential, backoffMaxMillis);
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return (long) (capped * jitter);
+    }
+
+    public AiCommentJobMetricsDTO metrics() {
+        Map<AiCommentJobStatus, Long> counts = new EnumMap<>(AiCommentJobStatus.class);
+        for (Object[] row : jobRepository.countByStatus()) {
+            counts.put((AiCommentJobStatus) row[0], ((Number) row[1]).longValue());
+        }
+        ZonedDateTime oldest = jobRepository.findOldestCreatedAt(AiCommentJobStatus.PENDING);
+        long generations = generationCount.sum();
+        long completedCount = completed.sum();
+        return new AiCommentJobMetricsDTO(
+                counts.getOrDefault(AiCommentJobStatus.PENDING, 0L),
+                counts.getOrDefault(AiCommentJobStatus.RUNNING, 0L),
+                counts.getOrDefault(AiCommentJobStatus.DEAD, 0L),
+                oldest == null ? 0 : Math.max(0, Duration.between(oldest, ZonedDateTime.now()).toMillis()),
+                concurrency - slots.availablePermits(),
+                concurrency,
+                completedCount,
+                retried.sum(),
+                deadLettered.sum(),
+                generations == 0 ? 0 : generationNanos.sum() / 1_000_000.0 / generations,
+                maxGenerationNanos.get() / 1_000_000,
+                completedCount == 0 ? 0 : (double) endToEndMillis.sum() / completedCount);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 점유한 작업 정보 (트랜잭션 밖에서 사용하므로 엔티티 대신 값만 보관, attempts 는 이번 점유를 포함한 시도 횟수)
+     */
+    record ClaimedJob(String id, String leaseOwner, String communityId, int attempts, ZonedDateTime createdAt) {
+    }
+}
@@ -3,5 +3,5 @@ package com.team05.linkup.domain.community.application;
 import com.team05.linkup.domain.community.dto.CommunityCreatedEventDTO;
 
 public interface AiCommentService {
-    void handleCommunityCreated(CommunityCreatedEventDTO event) throws Exception;
+    void handleCommunityCreated(CommunityCreatedEventDTO event);
 }
@@ -1,35 +1,41 @@
 package com.team05.linkup.domain.community.application;
 
-import com.team05.linkup.domain.community.domain.AiComment;
 import com.team05.linkup.domain.community.domain.CommunityCategory;
 import com.team05.linkup.domain.community.dto.CommunityCreatedEventDTO;
-import com.team05.linkup.domain.community.infrastructure.AiCommentRepository;
+import com.team05.linkup.domain.community.infrastructure.AiCommentJobRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * 질문 게시글이 저장되면 AI 답변 생성 작업을 큐(ai_comment_job)에 등록합니다.
+ * 실제 생성은 {@link AiCommentJobWorker} 가 제한된 동시성으로 처리하며, 실패 시 백오프 후 재시도합니다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class AiCommentServiceImpl implements AiCommentService{
-    private final AiCommentRepository aiCommentRepository;
-    private final GeminiServiceImpl geminiService;
+public class AiCommentServiceImpl implements AiCommentService {
+    private final AiCommentJobRepository aiCommentJobRepository;
 
+    /**
+     * 게시글 트랜잭션이 커밋된 뒤에 등록하므로 롤백된 게시글의 작업은 만들어지지 않습니다.
+     * 커밋 이후 단계에서는 기존 트랜잭션에 참여할 수 없으므로 새 트랜잭션으로 저장합니다.
+     */
     @Override
-    @EventListener
-    @Async
-    public void handleCommunityCreated(CommunityCreatedEventDTO event) throws Exception {
-        try {
-            if (CommunityCategory.QUESTION.equals(event.community().getCategory())) {
-                String content = event.community().getContent();
-                String response = geminiService.getGeminiResponse(content);
-                AiComment aiComment = AiComment.builder()
-                                    .community(event.community())
-                                    .content(response).build();
-                aiCommentRepository.save(aiComment);
-            }
-        }catch (Exception e) {
-            throw new Exception("Error in generateComment: " + e.getMessage(), e);
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handleCommunityCreated(CommunityCreatedEventDTO event) {
+        if (!CommunityCategory.QUESTION.equals(event.category())) {
+            return;
         }
+        int inserted = aiCommentJobRepository.insertIgnore(UUID.randomUUID().toString(), event.communityId(), ZonedDateTime.now());
+        log.debug("AI 답변 작업 등록: communityId={}, inserted={}", event.communityId(), inserted);
     }
 }
@@ -4,6 +4,7 @@ import com.team05.linkup.common.dto.UserPrincipal;
 import com.team05.linkup.domain.community.domain.Comment;
 import com.team05.linkup.domain.community.domain.Community;
 import com.team05.linkup.domain.community.dto.CommentDto;
+import com.team05.linkup.domain.community.dto.UserActivityEventDTO;
 import com.team05.linkup.domain.community.infrastructure.CommentRepository;
 import com.team05.linkup.domain.community.infrastructure.CommunityRepository;
 import com.team05.linkup.domain.user.domain.User;
@@ -11,6 +12,7 @@ import com.team05.linkup.domain.user.infrastructure.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -20,9 +22,9 @@ import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * 댓글 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
@@ -37,10 +39,13 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final CommunityRepository communityRepository;
     private final UserRepository userRepository;
+    private final CommentTreeLoader commentTreeLoader;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 게시글의 댓글 목록을 페이징하여 조회합니다.
      * 부모 댓글과 그 자식 댓글(답글)을 함께 조회합니다.
+     * 부모 댓글 페이지, 자식 댓글, 작성자 프로필 이미지를 각각 한 번씩 조회합니다. (페이지당 3쿼리)
      *
      * @param communityId 게시글 ID
      * @param pageable 페이징 정보
@@ -50,36 +55,8 @@ public class CommentService {
         // 부모 댓글만 페이징하여 조회
         Slice<Comment> parentComments = commentRepository.findParentCommentsByCommunityIdWithPaging(communityId, pageable);
 
-        // 각 부모 댓글에 대한 자식 댓글(답글) 조회 및 DTO 변환
-        List<CommentDto.Response> commentDtos = parentComments.getContent().stream()
-                .map(parent -> {
-                    List<Comment> children = commentRepository.findChildCommentsByParentId(parent.getId());
-
-                    // 사용자 정보 가져오기 (프로필 이미지 URL)
-                    User user = userRepository.findById(parent.getUserId())
-                            .orElse(null);
-
-                    CommentDto.Response dto = CommentDto.Response.from(parent, children);
-
-                    // 프로필 이미지 URL 설정
-                    if (user != null) {
-                        dto = CommentDto.Response.builder()
-                                .id(dto.getId())
-                                .userId(dto.getUserId())
-                                .nickname(dto.getNickname())
-                                .profileImageUrl(user.getProfileImageUrl())
-                                .commentContent(dto.getCommentContent())
-                                .isParent(dto.isParent())
-                                .totalLikeCount(dto.getTotalLikeCount())
-                                .createdAt(dto.getCreatedAt())
-                                .updatedAt(dto.getUpdatedAt())
-                                .childComments(dto.getChildComments())
-                                .build();
-                    }
-
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        // 자식 댓글과 작성자 프로필 이미지를 일괄 조회하여 트리 조립
+        List<CommentDto.Response> commentDtos = commentTreeLoader.loadTrees(parentComments.getContent());
 
         return new SliceImpl<>(commentDtos, pageable, parentComments.hasNext());
     }
@@ -94,33 +71,8 @@ public class CommentService {
     public Slice<CommentDto.Response> getChildCommentsSlice(String parentId, Pageable pageable) {
         Slice<Comment> childComments = commentRepository.findChildCommentsByParentIdWithPaging(parentId, pageable);
 
-        List<CommentDto.Response> childDtos = childComments.getContent().stream()
-                .map(child -> {
-                    // 사용자 정보 가져오기 (프로필 이미지 URL)
-                    User user = userRepository.findById(child.getUserId())
-                            .orElse(null);
-
-                    CommentDto.Response dto = CommentDto.Response.from(child, List.of());
-
-                    // 프로필 이미지 URL 설정
-                    if (user != null) {
-                        dto = CommentDto.Response.builder()
-                                .id(dto.getId())
-                                .userId(dto.getUserId())
-                                .nickname(dto.getNickname())
-                                .profileImageUrl(user.getProfileImageUrl())
-                                .commentContent(dto.getCommentContent())
-                                .isParent(dto.isParent())
-                                .totalLikeCount(dto.getTotalLikeCount())
-                                .createdAt(dto.getCreatedAt())
-                                .updatedAt(dto.getUpdatedAt())
-                                .childComments(dto.getChildComments())
-                                .build();
-                    }
-
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        // 작성자 프로필 이미지 일괄 조회
+        List<CommentDto.Response> childDtos = commentTreeLoader.loadFlat(childComments.getContent());
 
         return new SliceImpl<>(childDtos, pageable, childComments.hasNext());
     }
@@ -182,6 +134,8 @@ public class CommentService {
                     .build();
 
             Comment savedComment = commentRepository.save(comment);
+            communityRepository.incrementCommentCount(communityId, 1);
+            eventPublisher.publishEvent(new UserActivityEventDTO(user.getId(), UserActivityEventDTO.ActivityType.COMMENT, ZonedDateTime.now(), 1));
             log.info("댓글 저장 성공: commentId={}, isParent={}", savedComment.getId(), isParent);
 
             // 자식 댓글 목록 (부모 댓글인 경우에만)
@@ -197,6 +151,7 @@ public class CommentService {
                     .userId(response.getUserId())
                     .nickname(response.getNickname())
                     .profileImageUrl(user.getProfileImageUrl())
+                    .profileThumbnailUrl(user.getAvatarUrl())
                     .commentContent(response.getCommentContent())
                     .isParent(response.isParent())
                     .totalLikeCount(response.getTotalLikeCount())
@@ -272,6 +227,7 @@ public class CommentService {
                     .userId(response.getUserId())
                     .nickname(response.getNickname())
                     .profileImageUrl(user.getProfileImageUrl())
+                    .profileThumbnailUrl(user.getAvatarUrl())
                     .commentContent(response.getCommentContent())
                     .isParent(response.isParent())
                     .totalLikeCount(response.getTotalLikeCount())
@@ -317,20 +273,35 @@ public class CommentService {
             }
 
             // 자식 댓글이 있는 경우 (부모 댓글 삭제 시) 모두 함께 삭제
+            long deletedCount = 1;
             if (comment.isParent()) {
                 List<Comment> childComments = commentRepository.findChildCommentsByParentId(commentId);
                 if (!childComments.isEmpty()) {
                     commentRepository.deleteAll(childComments);
+                    deletedCount += childComments.size();
+                    childComments.forEach(this::publishCommentRemoved);
                     log.info("자식 댓글 삭제 완료: 부모 댓글={}, 자식 댓글 수={}", commentId, childComments.size());
                 }
             }
 
-            // 댓글 삭제
+            // 댓글 삭제 및 게시글 댓글 수 차감
             commentRepository.delete(comment);
+            communityRepository.decrementCommentCount(comment.getCommunityId(), deletedCount);
+            publishCommentRemoved(comment);
             log.info("댓글 삭제 완료: commentId={}", commentId);
         } catch (Exception e) {
             log.error("댓글 삭제 중 예외 발생", e);
             throw e;
         }
     }
+
+    /**
+     * 삭제된 댓글을 활동 사용자 랭킹에서 차감하도록 이벤트를 발행합니다.
+     */
+    private void publishCommentRemoved(Comment comment) {
+        if (comment.getCreatedAt() != null) {
+            eventPublisher.publishEvent(new UserActivityEventDTO(
+                    comment.getUserId(), UserActivityEventDTO.ActivityType.COMMENT, comment.getCreatedAt(), -1));
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.team05.linkup.domain.community.application;
+
+import com.team05.linkup.domain.community.domain.Comment;
+import com.team05.linkup.domain.community.dto.CommentDto;
+import com.team05.linkup.domain.community.infrastructure.CommentRepository;
+import com.team05.linkup.domain.user.infrastructure.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 페이지를 응답 트리로 조립하는 로더입니다.
+ * 부모 댓글 목록이 주어지면 자식 댓글을 IN 쿼리 한 번으로, 작성자 프로필 이미지를 IN 쿼리 한 번으로 조회한 뒤
+ * 메모리에서 {@link CommentDto.Response} 트리를 구성합니다. (부모 페이지 조회 포함 페이지당 3쿼리)
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentTreeLoader {
+
+    private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 부모 댓글 목록과 각 부모의 자식 댓글을 트리 형태로 조립합니다.
+     *
+     * @param parents 현재 페이지의 부모 댓글 목록 (정렬 순서 유지)
+     * @return 자식 댓글이 포함된 댓글 응답 목록
+     */
+    public List<CommentDto.Response> loadTrees(List<Comment> parents) {
+        if (parents.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> parentIds = parents.stream().map(Comment::getId).toList();
+        Map<String, List<Comment>> childrenByParentId = commentRepository.findChildCommentsByParentIds(parentIds).stream()
+                .collect(Collectors.groupingBy(Comment::getParentCommentId, LinkedHashMap::new, Collectors.toList()));
+
+        Set<String> authorIds = new HashSet<>();
+        parents.forEach(parent -> authorIds.add(parent.getUserId()));
+        childrenByParentId.values().forEach(children -> children.forEach(child -> authorIds.add(child.getUserId())));
+        Map<String, ProfileImage> profileImages = findProfileImages(authorIds);
+
+        return parents.stream()
+                .map(parent -> {
+                    List<CommentDto.Response> children = childrenByParentId.getOrDefault(parent.getId(), List.of()).stream()
+                            .map(child -> toResponse(child, profileImages, List.of()))
+                            .toList();
+                    return toResponse(parent, profileImages, children);
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 하위 댓글 없이 댓글 목록을 응답으로 변환합니다. 작성자 프로필 이미지는 한 번에 조회합니다.
+     *
+     * @param comments 댓글 목록
+     * @return 댓글 응답 목록
+     */
+    public List<CommentDto.Response> loadFlat(List<Comment> comments) {
+        if (comments.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> authorIds = comments.stream().map(Comment::getUserId).collect(Collectors.toSet());
+        Map<String, ProfileImage> profileImages = findProfileImages(authorIds);
+
+        return comments.stream()
+                .map(comment -> toResponse(comment, profileImages, List.of()))
+                .collect(Collectors.toList());
+    }
+
+    private CommentDto.Response toResponse(Comment comment, Map<String, ProfileImage> profileImages,
+                                           List<CommentDto.Response> children) {
+        ProfileImage image = profileImages.get(comment.getUserId());
+        return image == null
+                ? CommentDto.Response.of(comment, null, null, children)
+                : CommentDto.Response.of(comment, image.url(), image.thumbnailUrl(), children);
+    }
+
+    // 사용자 ID -> 프로필 이미지/썸네일 URL (프로필 이미지가 없는 사용자는 맵에 포함되지 않음)
+    private Map<String, ProfileImage> findProfileImages(Set<String> userIds) {
+        Map<String, ProfileImage> profileImages = new HashMap<>();
+        for (Object[] row : userRepository.findProfileImageUrlsByIds(userIds)) {
+            if (row[1] != null) {
+                profileImages.put((String) row[0], new ProfileImage((String) row[1], (String) row[2]));
+            }
+        }
+        return profileImages;
+    }
+
+    private record ProfileImage(String url, String thumbnailUrl) {
+    }
+}
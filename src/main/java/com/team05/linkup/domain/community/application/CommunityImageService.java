@@ -1,93 +1,280 @@
 package com.team05.linkup.domain.community.application;
 
-import io.supabase.StorageClient;
-import lombok.RequiredArgsConstructor;
+import com.team05.linkup.common.image.ImageVariant;
+import com.team05.linkup.common.image.ImageVariantProcessor;
+import com.team05.linkup.common.image.ProcessedImage;
+import com.team05.linkup.common.storage.ObjectStorage;
+import com.team05.linkup.common.storage.SignedUrlCache;
+import com.team05.linkup.common.storage.StoragePaths;
+import com.team05.linkup.domain.community.dto.ImageDto;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 게시글 이미지 업로드 서비스.
+ * 여러 이미지를 제한된 크기의 스레드 풀에서 동시에 업로드하고, 배치 전체에 마감 시간을 적용합니다.
+ * 일부 파일이 실패하거나 마감 시간을 넘겨도 나머지 결과는 그대로 반환합니다.
+ * <p>
+ * 원본과 함께 {@link ImageVariant} 크기별 축소본을 만들어 저장하므로 목록/피드 화면은 원본 대신 작은 변형을 내려받을 수 있습니다.
+ * 변형 생성이나 변형 업로드가 실패해도 원본 업로드가 성공했다면 해당 이미지는 성공으로 처리합니다.
+ */
 @Service
-@RequiredArgsConstructor
-@Transactional
 @Slf4j
 public class CommunityImageService {
 
-    private final StorageClient storageClient;
+    private final ObjectStorage objectStorage;
+    private final SignedUrlCache signedUrlCache;
+    private final ImageVariantProcessor variantProcessor;
+    private final ExecutorService uploadExecutor;
+    private final long batchTimeoutMillis;
+    private final long signedUrlTimeoutMillis;
 
     @Value("${supabase.bucket}")
     private String bucket;
 
-    public List<String> uploadImages(List<MultipartFile> images, String userId) {
+    public CommunityImageService(ObjectStorage objectStorage,
+                                 SignedUrlCache signedUrlCache,
+                                 ImageVariantProcessor variantProcessor,
+                                 @Value("${community.image-upload.max-concurrency:4}") int maxConcurrency,
+                                 @Value("${community.image-upload.batch-timeout-ms:20000}") long batchTimeoutMillis,
+                                 @Value("${storage.signed-url.timeout-ms:5000}") long signedUrlTimeoutMillis) {
+        this.objectStorage = objectStorage;
+        this.signedUrlCache = signedUrlCache;
+        this.variantProcessor = variantProcessor;
+        this.batchTimeoutMillis = batchTimeoutMillis;
+        this.signedUrlTimeoutMillis = signedUrlTimeoutMillis;
+        AtomicInteger sequence = new AtomicInteger();
+        this.uploadExecutor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+                    Thread thread = new Thread(r, "image-upload-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 이미지를 동시에 업로드합니다.
+     * 마감 시간을 넘긴 파일은 실패로 보고하며, 그 뒤에 늦게 저장이 끝난 원본/변형은 삭제하여 고아 오브젝트를 남기지 않습니다.
+     *
+     * @param images 업로드할 이미지 파일 목록
+     * @param userId 업로드한 사용자 ID (오브젝트 경로 prefix)
+     * @return 업로드 성공한 이미지 URL 과 변형 URL(요청 순서 유지), 실패한 파일 목록
+     */
+    public ImageDto.UploadResult uploadImages(List<MultipartFile> images, String userId) {
         log.info("Uploading {} file(s) → {}", images.size(), bucket);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchTimeoutMillis);
 
-        return images.stream()
-                .map(img -> uploadOne(img, userId))
+        // 작업 스레드는 같은 마감 시간으로 스스로 중단하므로 인터럽트하지 않음 (진행 중 업로드를 추적해 정리하기 위함)
+        List<CompletableFuture<StoredImage>> futures = images.stream()
+                .map(image -> CompletableFuture.supplyAsync(() -> uploadOne(image, userId, deadline), uploadExecutor))
                 .toList();
-    }
 
-    private String uploadOne(MultipartFile image, String userId) {
+        List<String> urls = new ArrayList<>();
+        List<ImageDto.UploadedImage> uploaded = new ArrayList<>();
+        List<ImageDto.UploadFailure> failures = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            CompletableFuture<StoredImage> future = futures.get(i);
+            String fileName = images.get(i).getOriginalFilename();
+            try {
+                StoredImage stored = future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                urls.add(stored.image().originalUrl());
+                uploaded.add(stored.image());
+            } catch (TimeoutException e) {
+                discardWhenStored(future);
+                failures.add(new ImageDto.UploadFailure(fileName, "업로드 시간 초과"));
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause() instanceof CompletionException ce && ce.getCause() != null
+                        ? ce.getCause() : e.getCause();
+                if (cause instanceof TimeoutException) {
+                    failures.add(new ImageDto.UploadFailure(fileName, "업로드 시간 초과"));
+                    continue;
+                }
+                log.warn("이미지 업로드 실패: {}", fileName, cause);
+                failures.add(new ImageDto.UploadFailure(fileName, String.valueOf(cause.getMessage())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(this::discardWhenStored);
+                throw new IllegalStateException("이미지 업로드가 중단되었습니다.", e);
+            }
+        }
 
+        log.info("이미지 업로드 완료: 성공={}, 실패={}", urls.size(), failures.size());
+        return ImageDto.UploadResult.builder()
+                .imageUrls(urls)
+                .images(uploaded)
+                .failures(failures)
+                .build();
+    }
+
+    private StoredImage uploadOne(MultipartFile image, String userId, long deadline) {
+        // 마감 시간까지 대기열에 있던 파일은 업로드를 시작하지 않음
+        if (deadline - System.nanoTime() <= 0) {
+            throw new CompletionException(new TimeoutException("업로드 시간 초과"));
+        }
         String original = image.getOriginalFilename();
-        String objectPath = "%s/%s-%s".formatted(userId, UUID.randomUUID(), original);
+        String baseName = "%s/%s".formatted(userId, UUID.randomUUID());
+        String objectPath = baseName + "-" + original;
 
-        File tmp = null;
+        // 변형 생성(CPU)과 원본 업로드(I/O)를 동시에 진행
+        CompletableFuture<ProcessedImage> processing = variantProcessor.processAsync(image);
+        CompletableFuture<String> upload = objectStorage.upload(
+                bucket, objectPath, image, image.getSize(), image.getContentType());
         try {
-            tmp = File.createTempFile("upload-", "-" + original);
-            image.transferTo(tmp);
+            await(upload, deadline);
+        } catch (Exception e) {
+            processing.cancel(true);
+            deleteWhenStored(upload, objectPath);
+            throw new CompletionException(e);
+        }
+        String url = objectStorage.publicUrl(bucket, objectPath);
+        log.info("✔ {} → {}", original, url);
 
-            storageClient.from(bucket)
-                    .upload(objectPath, tmp)      // async
-                    .get(10, TimeUnit.SECONDS);   // 타임아웃
+        List<String> objectPaths = new ArrayList<>();
+        objectPaths.add(objectPath);
+        Map<ImageVariant, String> variantUrls = uploadVariants(original, baseName, processing, deadline, objectPaths);
+        return new StoredImage(new ImageDto.UploadedImage(url,
+                variantUrls.get(ImageVariant.THUMBNAIL),
+                variantUrls.get(ImageVariant.FEED),
+                variantUrls.get(ImageVariant.FULL)), objectPaths);
+    }
 
-            String url = storageClient.from(bucket)
-                    .getPublicUrl(objectPath, null, null)
-                    .getPublicUrl();
+    /**
+     * 생성된 변형을 동시에 업로드합니다. 실패한 변형은 결과에서 빠지며 원본 업로드 결과에는 영향을 주지 않습니다.
+     * 저장된 변형의 오브젝트 경로는 storedPaths 에 추가합니다.
+     */
+    private Map<ImageVariant, String> uploadVariants(String original, String baseName,
+                                                     CompletableFuture<ProcessedImage> processing, long deadline,
+                                                     List<String> storedPaths) {
+        Map<ImageVariant, String> urls = new EnumMap<>(ImageVariant.class);
+        ProcessedImage processed;
+        try {
+            processed = await(processing, deadline);
+        } catch (Exception e) {
+            processing.cancel(true);
+            restoreInterrupt(e);
+            log.warn("이미지 변형 생성 실패, 원본만 저장합니다: {} ({})", original, e.toString());
+            return urls;
+        }
 
-            log.info("✔ {} → {}", original, url);
-            return url;
+        Map<ImageVariant, String> paths = new EnumMap<>(ImageVariant.class);
+        Map<ImageVariant, CompletableFuture<String>> uploads = new EnumMap<>(ImageVariant.class);
+        processed.variants().forEach((variant, encoded) -> {
+            String path = "%s-%s.%s".formatted(baseName, variant.suffix(), encoded.extension());
+            paths.put(variant, path);
+            uploads.put(variant, objectStorage.upload(bucket, path, new ByteArrayResource(encoded.data()),
+                    encoded.data().length, encoded.contentType()));
+        });
+        uploads.forEach((variant, upload) -> {
+            String path = paths.get(variant);
+            try {
+                await(upload, deadline);
+                urls.put(variant, objectStorage.publicUrl(bucket, path));
+                storedPaths.add(path);
+            } catch (Exception e) {
+                deleteWhenStored(upload, path);
+                restoreInterrupt(e);
+                log.warn("이미지 변형 업로드 실패: {} [{}] ({})", original, variant, e.toString());
+            }
+        });
+        return urls;
+    }
 
-        } catch (ExecutionException | InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new IllegalStateException("Supabase upload failed", e.getCause());
+    /**
+     * 마감 시간이 지나 실패로 보고한 이미지가 뒤늦게 저장되면 원본과 변형을 모두 삭제합니다.
+     */
+    private void discardWhenStored(CompletableFuture<StoredImage> future) {
+        future.thenAccept(stored -> {
+            log.info("시간 초과 후 저장된 이미지를 삭제합니다: {}", stored.objectPaths());
+            delete(stored.objectPaths());
+        });
+    }
 
-        } catch (TimeoutException te) {
-            throw new IllegalStateException("Supabase upload timed-out", te);
+    /**
+     * 응답을 기다리지 않기로 한 업로드가 뒤늦게 성공하면 해당 오브젝트를 삭제합니다.
+     * CompletableFuture 취소로는 진행 중인 HTTP 요청이 중단되지 않으므로 완료 시점에 정리합니다.
+     */
+    private void deleteWhenStored(CompletableFuture<String> upload, String objectPath) {
+        upload.thenAccept(ignored -> {
+            log.info("시간 초과 후 저장된 오브젝트를 삭제합니다: {}", objectPath);
+            delete(List.of(objectPath));
+        });
+    }
 
-        } catch (IOException ioe) {
-            throw new IllegalStateException("Temp-file I/O error", ioe);
+    private void delete(List<String> objectPaths) {
+        objectStorage.delete(bucket, objectPaths).exceptionally(e -> {
+            log.warn("고아 오브젝트 삭제 실패: {} ({})", objectPaths, e.toString());
+            return null;
+        });
+    }
 
-        } finally {
-            if (tmp != null && tmp.delete()) {
-                log.debug("tmp deleted");
-            }
+    private static void restoreInterrupt(Exception e) {
+        if (e instanceof InterruptedException) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 마감 시간까지 기다림. 시간 초과 시 future 를 취소하지 않으므로 업로드 정리는 호출 측에서 처리
+    private static <T> T await(CompletableFuture<T> future, long deadline) throws Exception {
+        try {
+            return future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
         }
     }
 
     /* 비공개 버킷 */
     public String getSignedUrl(String objectPath, int expireSec) {
+        return getSignedUrls(List.of(objectPath), expireSec).get(0);
+    }
+
+    /**
+     * 저장된 이미지 값(public URL 또는 오브젝트 경로) 목록을 서명 URL 로 변환합니다.
+     * 캐시된 URL 은 그대로 사용하고, 나머지는 동시에 발급받습니다.
+     *
+     * @param storedPaths 이미지 테이블에 저장된 값 목록
+     * @param expireSec   필요한 유효 시간(초)
+     * @return 입력 순서와 같은 순서의 서명 URL 목록
+     */
+    public List<String> getSignedUrls(List<String> storedPaths, int expireSec) {
+        if (storedPaths.isEmpty()) {
+            return List.of();
+        }
+        List<String> objectPaths = storedPaths.stream()
+                .map(stored -> StoragePaths.toObjectPath(stored, bucket))
+                .toList();
         try {
-            return storageClient.from(bucket)
-                    .getSignedUrl(objectPath, expireSec, null, null)
-                    .get()
-                    .getSignedUrl();
+            return signedUrlCache.getAll(bucket, objectPaths, expireSec)
+                    .get(signedUrlTimeoutMillis, TimeUnit.MILLISECONDS);
         } catch (InterruptedException ie) {
             Thread.currentThread().interrupt();
             throw new RuntimeException("Interrupted", ie);
         } catch (ExecutionException ee) {
             throw new RuntimeException("Signed-url fail", ee.getCause());
+        } catch (TimeoutException te) {
+            throw new IllegalStateException("Signed-url timed-out", te);
         }
     }
-}
 
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdownNow();
+    }
+
+    /**
+     * 저장된 이미지와 정리 대상 오브젝트 경로 (원본 + 저장된 변형)
+     */
+    private record StoredImage(ImageDto.UploadedImage image, List<String> objectPaths) {
+    }
+}
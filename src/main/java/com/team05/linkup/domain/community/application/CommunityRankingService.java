@@ -0,0 +1,351 @@
+package com.team05.linkup.domain.community.application;
+
+import com.team05.linkup.domain.community.dto.CommunityChangedEventDTO;
+import com.team05.linkup.domain.community.dto.CommunityCountersFlushedEventDTO;
+import com.team05.linkup.domain.community.dto.CommunitySummaryResponseDTO;
+import com.team05.linkup.domain.community.dto.CommunityWeeklyPopularDTO;
+import com.team05.linkup.domain.community.infrastructure.CommunityRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 게시글 / 주간 인기 게시글 랭킹을 메모리에 미리 계산해 두는 서비스.
+ * 기간(day)별로 상위 {@value #MAX_LIMIT}개를 한 번만 정렬해 보관하고, 요청된 limit 만큼 잘라서 반환합니다.
+ * 두 랭킹은 조건과 정렬(조회수, 좋아요 수, 작성일시 내림차순)이 같으므로 하나의 스냅샷에서 함께 만듭니다.
+ * <p>
+ * 조회수/좋아요 수 반영이나 게시글 생성/수정/삭제로 바뀐 게시글은 다음 갱신 주기에 모아서 판단하며,
+ * 순위에 영향을 줄 수 있는 기간만 다시 계산합니다.
+ * <ul>
+ *     <li>이미 스냅샷에 있는 게시글 (순위나 표시 값이 바뀜)</li>
+ *     <li>기간 안의 게시글이면서, 스냅샷이 다 차지 않았거나 마지막 순위 이상으로 올라온 게시글</li>
+ * </ul>
+ * 변동이 없더라도 기간 경계가 밀려나도록 max-age 가 지나면 다시 계산합니다.
+ * 스냅샷이 없는 기간에 동시에 요청이 몰리면 한 요청만 계산하고 나머지는 그 결과를 기다립니다.
+ * 유지하는 기간 수는 {@value #MAX_WINDOWS}개로 제한하며, 가득 차면 가장 오래 조회되지 않은 기간을 내보내고,
+ * idle-ms 동안 조회되지 않은 기간은 다시 계산하지 않고 버립니다. 한 번만 요청된 day 값이 자리를 계속 차지하지 않습니다.
+ */
+@Slf4j
+@Service
+public class CommunityRankingService {
+
+    /** 기간별로 미리 계산해 두는 최대 게시글 수 (이보다 큰 limit 은 DB 에서 직접 조회) */
+    static final int MAX_LIMIT = 50;
+    /** 캐시 대상 기간의 최대 일수 */
+    static final int MAX_DAYS = 30;
+    /** 유지하는 최대 기간 수 (임의의 day 파라미터로 메모리가 늘어나는 것을 방지, 초과 시 가장 오래 조회되지 않은 기간을 제거) */
+    static final int MAX_WINDOWS = 8;
+
+    /** 랭킹 정렬 순서: 조회수, 좋아요 수, 작성일시 내림차순 */
+    private static final Comparator<RankKey> RANK_ORDER = Comparator.comparingLong(RankKey::viewCount).reversed()
+            .thenComparing(Comparator.comparingLong(RankKey::likeCount).reversed())
+            .thenComparing(Comparator.comparing(RankKey::createdAt).reversed());
+
+    private final CommunityRepository communityRepository;
+    private final long maxAgeMillis;
+    private final long idleMillis;
+
+    // 기간(day) → 스냅샷. 계산 중인 기간은 완료되지 않은 future 로 두어 동시 요청이 한 번의 계산을 기다리게 함
+    private final ConcurrentHashMap<Integer, CompletableFuture<Snapshot>> snapshots = new ConcurrentHashMap<>();
+    // 다음 갱신 주기에 순위 영향을 판단할 게시글 ID
+    private final Set<String> changedIds = ConcurrentHashMap.newKeySet();
+    // 다시 계산해야 하는 기간 (이전 갱신 실패 포함)
+    private final Set<Integer> dirtyDays = ConcurrentHashMap.newKeySet();
+    // 기간(day) → 마지막 조회 시각 (System.nanoTime, 조회 순서 비교용)
+    private final ConcurrentHashMap<Integer, Long> lastReadAt = new ConcurrentHashMap<>();
+
+    public CommunityRankingService(CommunityRepository communityRepository,
+                                   @Value("${community.ranking.max-age-ms:60000}") long maxAgeMillis,
+                                   @Value("${community.ranking.idle-ms:600000}") long idleMillis) {
+        this.communityRepository = communityRepository;
+        this.maxAgeMillis = maxAgeMillis;
+        this.idleMillis = idleMillis;
+    }
+
+    /**
+     * 최근 day 일 동안의 인기 게시글 상위 limit 개를 반환합니다.
+     *
+     * @param limit 조회할 최대 게시글 수
+     * @param day   인기 게시글을 선정할 최근 기간(일 단위)
+     * @return 인기 게시글 요약 목록 (읽기 전용)
+     */
+    public List<CommunitySummaryResponseDTO> getPopular(int limit, int day) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Snapshot snapshot = cacheable(limit, day) ? snapshot(day) : null;
+        if (snapshot == null) {
+            return loadPopular(day, limit);
+        }
+        return head(snapshot.items(), limit);
+    }
+
+    /**
+     * 최근 day 일 동안의 주간 인기 게시글 상위 limit 개를 반환합니다.
+     *
+     * @param limit 조회할 최대 게시글 수
+     * @param day   인기 게시글을 선정할 최근 기간(일 단위)
+     * @return 주간 인기 게시글 목록 (읽기 전용)
+     */
+    public List<CommunityWeeklyPopularDTO> getWeeklyPopular(int limit, int day) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Snapshot snapshot = cacheable(limit, day) ? snapshot(day) : null;
+        if (snapshot == null) {
+            return communityRepository.findWeeklyPopular(ZonedDateTime.now().minusDays(day), PageRequest.of(0, limit));
+        }
+        return head(snapshot.weeklyItems(), limit);
+    }
+
+    /**
+     * 조회수/좋아요 수가 DB 에 반영된 게시글을 다음 갱신 주기의 순위 영향 판단 대상으로 등록합니다.
+     */
+    @EventListener
+    public void onCountersFlushed(CommunityCountersFlushedEventDTO event) {
+        changedIds.addAll(event.communityIds());
+    }
+
+    /**
+     * 게시글 생성/수정/삭제가 커밋되면 다음 갱신 주기의 순위 영향 판단 대상으로 등록합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommunityChanged(CommunityChangedEventDTO event) {
+        changedIds.add(event.communityId());
+    }
+
+    /**
+     * idle-ms 동안 조회되지 않은 기간은 버리고, 남은 기간 중 바뀐 게시글이 순위에 영향을 줄 수 있는 기간과
+     * max-age 가 지난 기간만 다시 계산합니다.
+     */
+    @Scheduled(fixedDelayString = "${community.ranking.refresh-interval-ms:10000}")
+    public void refresh() {
+        long idleNanos = TimeUnit.MILLISECONDS.toNanos(idleMillis);
+        long nowNanos = System.nanoTime();
+        snapshots.forEach((day, future) -> {
+            Long readAt = lastReadAt.get(day);
+            if (future.isDone() && (readAt == null || nowNanos - readAt > idleNanos)) {
+                evict(day, future);
+            }
+        });
+
+        markAffectedDays();
+
+        long staleBefore = System.currentTimeMillis() - maxAgeMillis;
+        snapshots.forEach((day, future) -> {
+            // 아직 첫 계산 중인 기간은 그 결과를 그대로 사용
+            Snapshot current = future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+            if (current == null) {
+                return;
+            }
+            boolean dirty = dirtyDays.remove(day);
+            if (!dirty && current.builtAt() >= staleBefore) {
+                return;
+            }
+            try {
+                snapshots.replace(day, future, CompletableFuture.completedFuture(load(day)));
+            } catch (RuntimeException e) {
+                // 기존 스냅샷을 그대로 제공하고 다음 주기에 재시도
+                dirtyDays.add(day);
+                log.error("인기 게시글 랭킹 갱신 실패: day={}", day, e);
+            }
+        });
+    }
+
+    // 바뀐 게시글의 현재 정렬 키를 한 번에 조회하여, 순위에 영향을 줄 수 있는 기간을 다시 계산 대상으로 표시
+    private void markAffectedDays() {
+        if (changedIds.isEmpty()) {
+            return;
+        }
+        Set<String> ids = new HashSet<>(changedIds);
+        changedIds.removeAll(ids);
+
+        Map<String, RankKey> keys;
+        try {
+            keys = communityRepository.findRankingKeysByIds(ids).stream()
+                    .collect(Collectors.toMap(row -> (String) row[0], CommunityRankingService::rankKey));
+        } catch (RuntimeException e) {
+            changedIds.addAll(ids);
+            log.error("인기 게시글 랭킹 영향 판단 실패, 다음 주기에 재시도합니다.", e);
+            return;
+        }
+
+        Instant now = Instant.now();
+        snapshots.forEach((day, future) -> {
+            Snapshot snapshot = future.getNow(null);
+            if (snapshot == null) {
+                return;
+            }
+            Instant windowStart = now.minusSeconds(day * 86_400L);
+            for (String id : ids) {
+                if (snapshot.affectedBy(id, keys.get(id), windowStart)) {
+                    dirtyDays.add(day);
+                    return;
+                }
+            }
+        });
+    }
+
+    private static boolean cacheable(int limit, int day) {
+        return limit <= MAX_LIMIT && day >= 1 && day <= MAX_DAYS;
+    }
+
+    // 기간의 스냅샷 반환. 없으면 한 요청만 계산하고 동시에 들어온 요청은 그 결과를 기다림
+    // (유지 기간 수가 가득 차면 가장 오래 조회되지 않은 기간을 내보내고, 모두 계산 중이면 null)
+    private Snapshot snapshot(int day) {
+        lastReadAt.put(day, System.nanoTime());
+        CompletableFuture<Snapshot> future = snapshots.get(day);
+        if (future == null) {
+            if (snapshots.size() >= MAX_WINDOWS && !evictLeastRecentlyRead()) {
+                return null;
+            }
+            CompletableFuture<Snapshot> created = new CompletableFuture<>();
+            future = snapshots.putIfAbsent(day, created);
+            if (future == null) {
+                try {
+                    created.complete(load(day));
+                } catch (RuntimeException e) {
+                    snapshots.remove(day, created);
+                    created.completeExceptionally(e);
+                    throw e;
+                }
+                future = created;
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    // 계산이 끝난 기간 중 가장 오래 조회되지 않은 기간을 제거 (제거할 기간이 없으면 false)
+    private boolean evictLeastRecentlyRead() {
+        Integer oldest = null;
+        long oldestReadAt = 0L;
+        for (Map.Entry<Integer, CompletableFuture<Snapshot>> entry : snapshots.entrySet()) {
+            if (!entry.getValue().isDone()) {
+                continue;
+            }
+            Long readAt = lastReadAt.get(entry.getKey());
+            if (readAt == null) {
+                oldest = entry.getKey();
+                break;
+            }
+            if (oldest == null || readAt - oldestReadAt < 0) {
+                oldest = entry.getKey();
+                oldestReadAt = readAt;
+            }
+        }
+        if (oldest == null) {
+            return false;
+        }
+        CompletableFuture<Snapshot> future = snapshots.get(oldest);
+        if (future != null) {
+            evict(oldest, future);
+        }
+        return true;
+    }
+
+    private void evict(int day, CompletableFuture<Snapshot> future) {
+        if (snapshots.remove(day, future)) {
+            dirtyDays.remove(day);
+            log.debug("인기 게시글 랭킹 기간 제거: day={}", day);
+        }
+    }
+
+    private Snapshot load(int day) {
+        long started = System.currentTimeMillis();
+        List<CommunitySummaryResponseDTO> items = loadPopular(day, MAX_LIMIT);
+        log.debug("인기 게시글 랭킹 계산: day={}, 건수={}, 소요={}ms", day, items.size(), System.currentTimeMillis() - started);
+        return Snapshot.of(items, System.currentTimeMillis());
+    }
+
+    private List<CommunitySummaryResponseDTO> loadPopular(int day, int limit) {
+        return communityRepository.findPopularSince(ZonedDateTime.now().minusDays(day), PageRequest.of(0, limit)).stream()
+                .map(CommunitySummaryResponseDTO::fromObjectArray)
+                .toList();
+    }
+
+    private static <T> List<T> head(List<T> items, int limit) {
+        return items.size() <= limit ? items : items.subList(0, limit);
+    }
+
+    private static RankKey rankKey(Object[] row) {
+        return new RankKey(toLong(row[1]), toLong(row[2]), ((ZonedDateTime) row[3]).toInstant());
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+
+    /**
+     * 랭킹 정렬 키.
+     */
+    private record RankKey(long viewCount, long likeCount, Instant createdAt) {
+    }
+
+    /**
+     * 기간별 랭킹 스냅샷.
+     *
+     * @param items       인기 게시글 (순위 순)
+     * @param weeklyItems 같은 순위의 주간 인기 게시글 표현
+     * @param ids         스냅샷에 포함된 게시글 ID
+     * @param cutoff      마지막 순위의 정렬 키 (스냅샷이 다 차지 않았으면 null)
+     * @param builtAt     계산 시각 (epoch millis)
+     */
+    private record Snapshot(List<CommunitySummaryResponseDTO> items,
+                            List<CommunityWeeklyPopularDTO> weeklyItems,
+                            Set<String> ids,
+                            RankKey cutoff,
+                            long builtAt) {
+
+        static Snapshot of(List<CommunitySummaryResponseDTO> items, long builtAt) {
+            List<CommunityWeeklyPopularDTO> weeklyItems = items.stream()
+                    .map(item -> new CommunityWeeklyPopularDTO(item.id(), item.title(), item.category()))
+                    .toList();
+            Set<String> ids = items.stream().map(CommunitySummaryResponseDTO::id).collect(Collectors.toUnmodifiableSet());
+            RankKey cutoff = null;
+            if (items.size() >= MAX_LIMIT) {
+                CommunitySummaryResponseDTO last = items.get(items.size() - 1);
+                cutoff = new RankKey(toLong(last.viewCount()), toLong(last.likeCount()), last.createdAt().toInstant());
+            }
+            return new Snapshot(List.copyOf(items), weeklyItems, ids, cutoff, builtAt);
+        }
+
+        /**
+         * 바뀐 게시글이 이 스냅샷의 순위에 영향을 줄 수 있는지 판단합니다.
+         *
+         * @param id          바뀐 게시글 ID
+         * @param key         게시글의 현재 정렬 키 (삭제되어 없으면 null)
+         * @param windowStart 기간 시작 시각
+         */
+        boolean affectedBy(String id, RankKey key, Instant windowStart) {
+            if (ids.contains(id)) {
+                return true;
+            }
+            if (key == null || !key.createdAt().isAfter(windowStart)) {
+                return false;
+            }
+            return cutoff == null || RANK_ORDER.compare(key, cutoff) <= 0;
+        }
+    }
+}
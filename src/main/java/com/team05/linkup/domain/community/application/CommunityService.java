@@ -4,24 +4,28 @@ import com.team05.linkup.common.dto.UserPrincipal;
 import com.team05.linkup.domain.community.domain.*;
 import com.team05.linkup.domain.community.dto.*;
 import com.team05.linkup.domain.community.infrastructure.*;
+import com.team05.linkup.domain.community.infrastructure.search.CommunitySearchBackend;
 import com.team05.linkup.domain.user.domain.User;
 import com.team05.linkup.domain.user.infrastructure.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -36,6 +40,9 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class CommunityService {
 
+    /** 커서 모드 목록 조회 시 허용하는 최대 페이지 크기 */
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
+
     private final CommunityRepository communityRepository;
     private final ImageRepository imageRepository;
     private final UserRepository userRepository;
@@ -44,6 +51,17 @@ public class CommunityService {
      private final BookmarkRepository bookmarkRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final TagRepository tagRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final CommunitySearchBackend searchBackend;
+    private final CommunityRankingService rankingService;
+    private final ActiveUserLeaderboard activeUserLeaderboard;
+    private final PopularTagService popularTagService;
+    private final TagResolver tagResolver;
+    private final CommunityImageService communityImageService;
+
+    /** 이미지 버킷이 비공개인 경우 상세 조회 시 서명 URL 로 변환 */
+    @Value("${community.image.signed-urls:false}")
+    private boolean signedImageUrls;
 
     private CommunityCategory parseCategory(String raw) {
         try {
@@ -55,43 +73,32 @@ public class CommunityService {
     }
 
     /**
-     * 태그 이름 목록을 받아 기존 Tag 엔티티를 조회하거나 새로 생성하여 Set<Tag> 형태로 반환합니다.
+     * 태그 이름 목록을 받아 기존 Tag 엔티티를 조회하거나 새로 생성하여 이름 → Tag 맵으로 반환합니다.
+     * 조회/생성은 {@link TagResolver} 가 일괄 처리합니다. (캐시 적중 시 DB 조회 없음)
      * 이 메서드는 쓰기 트랜잭션이 필요할 수 있으므로, 호출하는 메서드에 @Transactional을 명시해야 합니다.
      * (현재 클래스 레벨에 @Transactional(readOnly=true) 이므로, 쓰기 작업이 있는 메서드는 개별적으로 @Transactional 명시 필요)
      *
      * @param tagNames 태그 이름 목록 (String List).
-     * @return 처리된 Tag 엔티티 Set.
+     * @return 태그 이름 → Tag 엔티티 (입력 순서 유지). 응답에는 Tag::getName 대신 키를 사용해야 프록시 초기화 쿼리가 발생하지 않습니다.
      */
     @Transactional // Tag 생성/저장 로직이 포함될 수 있으므로 쓰기 트랜잭션 명시
-    protected Set<Tag> processTags(List<String> tagNames) {
-        if (tagNames == null || tagNames.isEmpty()) {
-            return new HashSet<>();
-        }
-        Set<Tag> tags = new HashSet<>();
-        for (String tagName : tagNames) {
-            if (tagName == null || tagName.trim().isEmpty()) continue;
-            String trimmedTagName = tagName.trim();
-            // 기존 태그 조회 또는 새로 생성
-            Tag tag = tagRepository.findByName(trimmedTagName)
-                    .orElseGet(() -> {
-                        log.info("새로운 태그 '{}'를 생성합니다.", trimmedTagName);
-                        return tagRepository.save(Tag.builder().name(trimmedTagName).build());
-                    });
-            tags.add(tag);
-        }
-        return tags;
+    protected Map<String, Tag> processTags(List<String> tagNames) {
+        return tagResolver.resolve(tagNames);
+    }
+
+    private static Set<String> tagNames(Set<Tag> tags) {
+        return tags.stream().map(Tag::getName).collect(Collectors.toSet());
     }
 
     public List<TagDTO> findPopularTags(int limit, int days) {
-        ZonedDateTime sinceDate = ZonedDateTime.now().minusDays(days);
-        Pageable pageable = PageRequest.of(0, limit);
-        return tagRepository.findPopularTagsSince(sinceDate, pageable);
+        return popularTagService.findPopularTags(limit, days);
     }
 
     /**
      * 활발한 커뮤니티 사용자 목록을 조회합니다.
      * 활동 점수 = (게시글 수 * 게시글 가중치) + (댓글 수 * 댓글 가중치)
      * 점수가 높은 순으로 정렬하며, 점수가 같을 경우 닉네임 오름차순으로 정렬합니다.
+     * 보관 기간 이내의 기간은 {@link ActiveUserLeaderboard} 의 메모리 집계로 응답합니다.
      *
      * @param limit 조회할 사용자 수
      * @param days  활동 집계 기간(일)
@@ -99,6 +106,10 @@ public class CommunityService {
      */
     public List<ActiveUsersResponseDTO> getActiveUsers(int limit, int days) {
         log.info("활발한 사용자 목록 조회 시작 - 기간: {}일, 최대 인원: {}", days, limit);
+        if (activeUserLeaderboard.covers(days)) {
+            return activeUserLeaderboard.top(limit, days);
+        }
+        // 메모리 랭킹의 보관 기간을 넘는 기간이거나 초기 적재 전이면 DB 에서 직접 집계
         ZonedDateTime startDate = ZonedDateTime.now().minusDays(days);
         List<ActiveUsersTempDTO> usersActivityData = userRepository.findUserActivities(startDate);
         log.debug("DB 조회 결과 사용자 수: {}", usersActivityData.size());
@@ -156,30 +167,56 @@ public class CommunityService {
         return new PageImpl<>(dtoList, pageable, objectPage.getTotalElements());
     }
 
+    /**
+     * 커서(keyset) 방식으로 게시글 요약 목록을 조회합니다. (created_at DESC, id DESC 고정 정렬)
+     * OFFSET 과 COUNT 쿼리를 사용하지 않으므로 스크롤 깊이와 관계없이 일정한 응답 속도를 유지합니다.
+     * 기존 {@link #findCommunities(CommunityCategory, String, Pageable)} 는 호환 모드로 유지됩니다.
+     *
+     * @param category 조회할 게시글 카테고리 (선택 사항).
+     * @param tagName  조회할 태그 이름 (선택 사항).
+     * @param cursor   이전 응답의 nextCursor (첫 페이지이면 null).
+     * @param size     페이지 크기 (1 ~ {@value #MAX_CURSOR_PAGE_SIZE}).
+     * @return 게시글 요약 목록과 다음 커서를 담은 {@link CommunityCursorResponseDTO}.
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우.
+     */
+    public CommunityCursorResponseDTO findCommunitiesByCursor(CommunityCategory category, String tagName, String cursor, int size) {
+        String trimmedTagName = StringUtils.hasText(tagName) ? tagName.trim() : null;
+        String categoryName = (category != null) ? category.name() : null;
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        CommunityCursor decoded = CommunityCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 판단을 위해 한 건을 더 조회
+        List<Object[]> rows = (decoded == null)
+                ? communityRepository.findCommunitySummariesFirst(categoryName, trimmedTagName, pageSize + 1)
+                : communityRepository.findCommunitySummariesAfter(
+                        categoryName, trimmedTagName, decoded.createdAt(), decoded.id(), pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<CommunitySummaryResponseDTO> content = rows.stream()
+                .limit(pageSize)
+                .map(CommunitySummaryResponseDTO::fromObjectArray)
+                .toList();
+
+        String nextCursor = hasNext ? CommunityCursor.from(content.get(content.size() - 1)).encode() : null;
+        return new CommunityCursorResponseDTO(content, nextCursor, hasNext);
+    }
+
     /**
      * 최근 일정 기간 동안 작성된 게시글 중 인기 게시글 목록을 조회.
-     * 이 메소드는 읽기 전용 트랜잭션으로 실행.
-     * 리포지토리에서 Object[] 리스트를 받아 CommunitySummaryResponseDTO 리스트로 변환합니다.
+     * 매 요청마다 정렬하지 않도록 {@link CommunityRankingService} 가 미리 계산해 둔 랭킹을 반환합니다.
      *
      * @param limit 조회할 최대 인기 게시글 수.
      * @param day   인기 게시글을 선정할 최근 기간(일 단위).
      * @return 인기 게시글 요약 정보({@link CommunitySummaryResponseDTO})의 {@link List}.
      */
     public List<CommunitySummaryResponseDTO> findPopularCommunities(int limit, int day) {
-        ZonedDateTime daysAgo = ZonedDateTime.now().minusDays(day);
-        Pageable topLimit = PageRequest.of(0, limit);
-
-        List<Object[]> objectList = communityRepository.findPopularSince(daysAgo, topLimit);
-
-        return objectList.stream()
-                .map(CommunitySummaryResponseDTO::fromObjectArray) // 정적 팩토리 메서드 사용
-                .collect(Collectors.toList());
+        return rankingService.getPopular(limit, day);
     }
 
     /**
      * 최근 일정 기간 동안 작성된 게시글 중 인기 게시글 목록을 조회
      * 인기도는 Repository 쿼리 내의 정렬 기준(조회수, 좋아요 수, 최신순)에 따라 결정
-     * 이 메소드는 읽기 전용 트랜잭션으로 실행
+     * {@link CommunityRankingService} 가 미리 계산해 둔 랭킹을 반환
      *
      * @param limit 조회할 최대 인기 게시글 수.
      * @param day   인기 게시글을 선정할 최근 기간(일 단위). 예를 들어 7이면 최근 7일간의 게시글을 대상으로 함
@@ -187,38 +224,33 @@ public class CommunityService {
      * @see CommunityRepository#findPopularSince(ZonedDateTime, Pageable)
      */
     public List<CommunityWeeklyPopularDTO> findWeeklyPopularCommunities(int limit, int day) {
-        // 1. 조회 시작 시점 계산
-        ZonedDateTime daysAgo = ZonedDateTime.now().minusDays(day);
-        // 2. 결과 개수 제한 설정
-        Pageable topLimit = PageRequest.of(0, limit);
-        // 3. Repository 메소드 호출
-        return communityRepository.findWeeklyPopular(daysAgo, topLimit);
+        return rankingService.getWeeklyPopular(limit, day);
     }
 
     /**
      * 키워드를 사용하여 커뮤니티 게시글을 검색
-     * Repository 계층에 검색 로직을 위임
+     * 설정된 검색 백엔드({@link CommunitySearchBackend})에 검색 로직을 위임
      *
      * @param keyword 검색 키워드.
-     * @param pageable 페이징 및 정렬 정보.
+     * @param pageable 페이징 및 정렬 정보. (fulltext, lucene 백엔드는 관련도 순으로 정렬)
      * @return 검색된 게시글 요약 정보 Page 객체.
      */
     public Page<CommunitySummaryResponseDTO> searchCommunities(String keyword, Pageable pageable) {
         if (keyword == null || keyword.isBlank()) {
             return Page.empty(pageable);
         }
-        return communityRepository.searchSummariesByKeyword(keyword, pageable);
+        return searchBackend.search(keyword.trim(), pageable);
     }
 
     /**
      * 게시글 ID로 특정 게시글의 상세 정보를 조회합니다. 조회 시 조회수가 증가합니다.
+     * 조회수 증가는 {@link ViewCountBuffer} 에 누적되었다가 주기적으로 반영되므로 읽기 전용 트랜잭션으로 실행됩니다.
      *
      * @param userPrincipal 현재 인증된 사용자의 정보.
      * @param communityId 조회할 게시글 ID.
      * @return 게시글 상세 정보 DTO ({@link CommunityDto.DetailResponse}).
      * @throws EntityNotFoundException 해당 ID의 게시글이 없을 경우 발생.
      */
-    @Transactional
     public CommunityDto.DetailResponse getCommunityDetail(UserPrincipal userPrincipal, String communityId) {
 
         User user = userRepository.findByProviderAndProviderId(userPrincipal.provider(), userPrincipal.providerId())
@@ -227,12 +259,12 @@ public class CommunityService {
         Community community = communityRepository.findById(communityId)
                 .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다."));
 
-        // 조회수 증가
-        community.incrementViewCount();
+        // 조회수 증가 (write-behind)
+        viewCountBuffer.increment(communityId);
+        long viewCount = community.getViewCount() + viewCountBuffer.pending(communityId);
 
-        // 좋아요 수와 댓글 수 조회
+        // 좋아요 수 조회 (댓글 수는 comment_count 컬럼 사용)
         long likeCount = likeRepository.countByCommunityId(communityId);
-        int commentCount = commentRepository.countByCommunityId(communityId);
 
 
 
@@ -240,11 +272,25 @@ public class CommunityService {
          boolean isLiked = likeRepository.existsByUserAndCommunityId(user, communityId);
          boolean isBookmarked = bookmarkRepository.existsByUserAndCommunityId(user, communityId);
 
-        /* 이미지 objectPath 가져온 뒤 → 60초짜리 서명 URL 변환 */
-        List<String> imageUrls = imageRepository.findByCommunityId(communityId).stream()
-                .map(Image::getObjectPath)
-//                .map(p -> communityImageService.getSignedUrl(p, 60))
-                .toList();
+        /* 이미지 objectPath 와 변형 URL 가져온 뒤 → (비공개 버킷이면) 60초짜리 서명 URL 변환 */
+        // 이미지마다 [원본, 썸네일, 피드, 상세] 순서로 펼치고, 변형이 없으면 원본으로 대체
+        List<String> paths = new ArrayList<>();
+        for (Image image : imageRepository.findByCommunityId(communityId)) {
+            String original = image.getObjectPath();
+            paths.add(original);
+            paths.add(Objects.requireNonNullElse(image.getThumbnailUrl(), original));
+            paths.add(Objects.requireNonNullElse(image.getFeedUrl(), original));
+            paths.add(Objects.requireNonNullElse(image.getFullUrl(), original));
+        }
+        if (signedImageUrls) {
+            paths = communityImageService.getSignedUrls(paths, 60);
+        }
+        List<String> imageUrls = new ArrayList<>();
+        List<ImageDto.UploadedImage> imageVariants = new ArrayList<>();
+        for (int i = 0; i < paths.size(); i += 4) {
+            imageUrls.add(paths.get(i));
+            imageVariants.add(new ImageDto.UploadedImage(paths.get(i), paths.get(i + 1), paths.get(i + 2), paths.get(i + 3)));
+        }
 
         // 태그 이름 목록 추출
         List<String> tagNames = community.getTags().stream()
@@ -260,12 +306,13 @@ public class CommunityService {
                 .category(community.getCategory().name())
                 .tags(tagNames)
                 .content(community.getContent())
-                .viewCount(community.getViewCount().intValue())
+                .viewCount((int) viewCount)
                  .likeCount((int) likeCount)
-                .commentCount(commentCount)
+                .commentCount(community.getCommentCount().intValue())
                  .isLiked(isLiked)
                  .isBookmarked(isBookmarked)
                 .imageUrls(imageUrls)
+                .imageVariants(imageVariants)
                 .createdAt(community.getCreatedAt())
                 .updatedAt(community.getUpdatedAt())
                 .build();
@@ -284,25 +331,27 @@ public class CommunityService {
         User user = userRepository.findByProviderAndProviderId(userPrincipal.provider(), userPrincipal.providerId())
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
 
-        Set<Tag> processedTags = processTags(request.getTags());
-
+        Map<String, Tag> processedTags = processTags(request.getTags());
 
         Community community = Community.builder()
                 .user(user)
                 .title(request.getTitle())
                 .category(parseCategory(request.getCategory()))
                 .content(request.getContent())
-                .tags(processedTags)
+                .tags(new HashSet<>(processedTags.values()))
                 .build();
 
         Community savedCommunity = communityRepository.save(community);
 
         // AI 답변 생성 등 추가 로직을 위한 이벤트 발행
         if (savedCommunity.getCategory() == CommunityCategory.QUESTION) {
-            eventPublisher.publishEvent(new CommunityCreatedEventDTO(savedCommunity));
+            eventPublisher.publishEvent(new CommunityCreatedEventDTO(savedCommunity.getId(), savedCommunity.getCategory()));
         }
+        eventPublisher.publishEvent(new CommunityChangedEventDTO(savedCommunity.getId(), CommunityChangedEventDTO.ChangeType.CREATED));
+        eventPublisher.publishEvent(new UserActivityEventDTO(user.getId(), UserActivityEventDTO.ActivityType.POST, ZonedDateTime.now(), 1));
+        eventPublisher.publishEvent(new TagUsageChangedEventDTO(ZonedDateTime.now(), new HashSet<>(processedTags.keySet()), Set.of()));
 
-        return CommunityDto.Response.from(savedCommunity);
+        return CommunityDto.Response.from(savedCommunity, List.copyOf(processedTags.keySet()));
     }
 
     /**
@@ -328,17 +377,28 @@ public class CommunityService {
         }
 
         // DTO의 tagNames를 기반으로 Set<Tag>를 준비
-        Set<Tag> processedTags = processTags(request.getTags()); // DTO 필드명이 tags로 변경되었다고 가정
-
+        Set<String> previousTagNames = tagNames(community.getTags());
+        Map<String, Tag> processedTags = processTags(request.getTags()); // DTO 필드명이 tags로 변경되었다고 가정
 
         community.update(
                 request.getTitle(),
                 request.getContent(),
                 parseCategory(request.getCategory()),
-                processedTags
+                new HashSet<>(processedTags.values())
         );
 
-        return CommunityDto.Response.from(community);
+        eventPublisher.publishEvent(new CommunityChangedEventDTO(communityId, CommunityChangedEventDTO.ChangeType.UPDATED));
+
+        // 인기 태그 집계에는 추가/제거된 태그만 반영
+        Set<String> currentTagNames = processedTags.keySet();
+        Set<String> addedTagNames = new HashSet<>(currentTagNames);
+        addedTagNames.removeAll(previousTagNames);
+        Set<String> removedTagNames = new HashSet<>(previousTagNames);
+        removedTagNames.removeAll(currentTagNames);
+        if (!addedTagNames.isEmpty() || !removedTagNames.isEmpty()) {
+            eventPublisher.publishEvent(new TagUsageChangedEventDTO(community.getCreatedAt(), addedTagNames, removedTagNames));
+        }
+        return CommunityDto.Response.from(community, List.copyOf(processedTags.keySet()));
     }
 
     /**
@@ -375,6 +435,8 @@ public class CommunityService {
             throw new IllegalArgumentException("게시글 삭제 권한이 없습니다. 게시글 ID: " + communityId);
         }
 
+        Set<String> deletedTagNames = tagNames(community.getTags());
+
         // --- 연관 데이터 삭제 시작 ---
         // 데이터베이스 외래 키 제약조건 위반을 방지하기 위해,
         // Community 엔티티를 삭제하기 전에 이를 참조하는 다른 엔티티들을 먼저 삭제해야 합니다.
@@ -395,6 +457,11 @@ public class CommunityService {
         // 8. 게시글(Community) 최종 삭제
         // 모든 연관 데이터가 정리된 후, 게시글 자체를 삭제합니다.
         communityRepository.delete(community);
+        eventPublisher.publishEvent(new CommunityChangedEventDTO(communityId, CommunityChangedEventDTO.ChangeType.DELETED));
+        if (community.getCreatedAt() != null) {
+            eventPublisher.publishEvent(new UserActivityEventDTO(author.getId(), UserActivityEventDTO.ActivityType.POST, community.getCreatedAt(), -1));
+            eventPublisher.publishEvent(new TagUsageChangedEventDTO(community.getCreatedAt(), Set.of(), deletedTagNames));
+        }
 
     }
 
@@ -414,8 +481,6 @@ public class CommunityService {
             Community community = communityRepository.findById(request.getId())
                     .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다."));
 
-            int commentCount = commentRepository.countByCommunityId(request.getId());
-
             List<String> tagNames = community.getTags().stream().map(Tag::getName).toList();
 
 
@@ -430,7 +495,7 @@ public class CommunityService {
                     .content(community.getContent())
                     .viewCount(community.getViewCount().intValue())
                     .likeCount(community.getLikeCount() != null ? community.getLikeCount().intValue() : 0)
-                    .commentCount(commentCount)
+                    .commentCount(community.getCommentCount().intValue())
                     .createdAt(community.getCreatedAt())
                     .updatedAt(community.getUpdatedAt())
                     .build();
@@ -468,41 +533,39 @@ public class CommunityService {
 
             // 응답 DTO 변환
             List<CommunitySummaryResponseDTO> responseList = communities.getContent().stream()
-                    .map(community -> {
-                        // 댓글 수 조회
-                        int commentCount = commentRepository.countByCommunityId(community.getId());
-
-                        return new CommunitySummaryResponseDTO(
-                                community.getId(),
-                                community.getUser().getNickname(),
-                                community.getTitle(),
-                                community.getCategory(),
-                                community.getCreatedAt(),
-                                community.getViewCount(),
-                                community.getLikeCount(),
-                                community.getContent(),
-                                community.getUser().getProfileImageUrl(),
-                                Long.valueOf(commentCount)
-                        );
-                    })
+                    .map(community -> new CommunitySummaryResponseDTO(
+                            community.getId(),
+                            community.getUser().getNickname(),
+                            community.getTitle(),
+                            community.getCategory(),
+                            community.getCreatedAt(),
+                            community.getViewCount(),
+                            community.getLikeCount(),
+                            community.getContent(),
+                            community.getUser().getProfileImageUrl(),
+                            community.getCommentCount()
+                    ))
                     .collect(Collectors.toList());
 
             return new PageImpl<>(responseList, pageable, communities.getTotalElements());
         }
     }
 
-    /* 이미지 첨부 – objectPath 리스트를 저장                            */
+    /* 이미지 첨부 – 원본 objectPath 와 축소 변형 URL 을 저장            */
     @Transactional
-    public void attachImages(String postId, List<String> objectPaths) {
+    public void attachImages(String postId, List<ImageDto.UploadedImage> uploadedImages) {
 
         Community community = communityRepository.findById(postId)
                 .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다."));
 
         /* 🟢 Image 엔티티로 변환 → 일괄 저장 */
-        List<Image> images = objectPaths.stream()
-                .map(path -> Image.builder()
+        List<Image> images = uploadedImages.stream()
+                .map(uploaded -> Image.builder()
                         .community(community)
-                        .objectPath(path)      // Supabase object path 그대로
+                        .objectPath(uploaded.originalUrl())      // Supabase object path 그대로
+                        .thumbnailUrl(uploaded.thumbnailUrl())
+                        .feedUrl(uploaded.feedUrl())
+                        .fullUrl(uploaded.fullUrl())
                         .build())
                 .toList();
 
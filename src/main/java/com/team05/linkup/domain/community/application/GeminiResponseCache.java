@@ -0,0 +1,161 @@
+package com.team05.linkup.domain.community.application;
+
+import com.team05.linkup.domain.community.dto.AiResponseCacheMetricsDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Gemini 응답 캐시.
+ * 질문 본문을 정규화(NFKC, 소문자, 공백 압축)한 값의 SHA-256 을 키로 생성된 답변을 보관하여,
+ * 같은 질문이나 공백/대소문자만 다른 질문에는 모델을 다시 호출하지 않습니다.
+ * 항목은 TTL 이 지나면 만료되고, 최대 개수를 넘으면 가장 오래 사용되지 않은 항목부터 제거합니다(LRU).
+ * 같은 키에 대한 동시 요청은 하나의 모델 호출로 합쳐지며, 실패한 호출은 캐시하지 않습니다.
+ * 합쳐진 요청은 ai-comment.cache.await-timeout-ms 까지만 기다리고, 넘으면 TimeoutException 으로 실패합니다.
+ */
+@Slf4j
+@Component
+public class GeminiResponseCache {
+
+    private final long ttlMillis;
+    private final long awaitTimeoutMillis;
+    private final Map<String, Entry> entries;
+    private final ConcurrentHashMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder awaitTimeouts = new LongAdder();
+
+    public GeminiResponseCache(@Value("${ai-comment.cache.ttl-ms:86400000}") long ttlMillis,
+                               @Value("${ai-comment.cache.max-size:1000}") int maxSize,
+                               @Value("${ai-comment.cache.await-timeout-ms:120000}") long awaitTimeoutMillis) {
+        this.ttlMillis = ttlMillis;
+        this.awaitTimeoutMillis = awaitTimeoutMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 답변을 반환하거나, 없으면 loader 로 생성하여 캐시합니다.
+     * 같은 질문을 다른 스레드가 생성 중이면 그 결과를 기다려 함께 사용합니다.
+     *
+     * @param text   질문 본문
+     * @param loader 모델 호출
+     * @return 생성된(또는 캐시된) 답변
+     * @throws Exception loader 가 던진 예외 (대기 중이던 요청에도 같은 예외 전달),
+     *                   다른 스레드의 생성을 기다리다 제한 시간을 넘기면 TimeoutException
+     */
+    public String get(String text, Callable<String> loader) throws Exception {
+        String key = key(text);
+        String cached = lookup(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+        try {
+            // 조회와 등록 사이에 다른 스레드가 생성을 끝냈을 수 있음
+            cached = lookup(key);
+            if (cached == null) {
+                misses.increment();
+                cached = loader.call();
+                store(key, cached);
+            } else {
+                hits.increment();
+            }
+            mine.complete(cached);
+            return cached;
+        } catch (Exception e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    public AiResponseCacheMetricsDTO metrics() {
+        return new AiResponseCacheMetricsDTO(hits.sum(), misses.sum(), coalesced.sum(), awaitTimeouts.sum(), size());
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * 정규화한 질문 본문의 SHA-256 (hex)
+     */
+    static String key(String text) {
+        String normalized = Normalizer.normalize(text == null ? "" : text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", " ")
+                .strip();
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(normalized.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private String lookup(String key) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() <= System.currentTimeMillis()) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+    }
+
+    private void store(String key, String value) {
+        if (value == null || value.isBlank()) {
+            return; // 빈 응답은 캐시하지 않음 (다음 요청에서 다시 생성)
+        }
+        synchronized (entries) {
+            entries.put(key, new Entry(value, System.currentTimeMillis() + ttlMillis));
+        }
+    }
+
+    // 먼저 시작한 요청의 모델 호출이 멈춰도 기다리는 요청이 함께 묶이지 않도록 대기 시간을 제한
+    private String await(CompletableFuture<String> running) throws Exception {
+        try {
+            return running.get(awaitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } catch (TimeoutException e) {
+            awaitTimeouts.increment();
+            throw new TimeoutException("같은 질문의 답변 생성 대기 시간 초과 (" + awaitTimeoutMillis + "ms)");
+        }
+    }
+
+    private record Entry(String value, long expiresAt) {
+    }
+}
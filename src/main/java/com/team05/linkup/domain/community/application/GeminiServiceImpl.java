@@ -13,15 +13,21 @@ import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 @Service
+@ConditionalOnProperty(name = "ai-comment.provider", havingValue = "gemini", matchIfMissing = true)
 @RequiredArgsConstructor
 public class GeminiServiceImpl implements GeminiService {
     private static final Logger logger = LogManager.getLogger(GeminiServiceImpl.class);
+    private static final String MODEL = "gemini-2.0-flash-001";
     private final GeminiConfig geminiConfig;
     private final ApikeyConfig apikeyConfig;
+    private final GeminiResponseCache responseCache;
     private Client client;
+    // 요청마다 같은 값이므로 한 번만 생성 (불변 객체)
+    private GenerateContentConfig config;
 
     @PostConstruct
     public void init() {
@@ -29,33 +35,29 @@ public class GeminiServiceImpl implements GeminiService {
         this.client = Client.builder()
                 .apiKey(apikeyConfig.getGemini())
                 .build();
+
+        // Sets the safety settings in the config.
+        final ImmutableList<SafetySetting> safetySettings = geminiConfig.safetySettings();
+
+        // Sets the system instruction in the config.
+        final Content systemInstruction = geminiConfig.systemInstruction();
+
+        this.config = GenerateContentConfig.builder()
+                .candidateCount(1)
+                .maxOutputTokens(2048)
+                .safetySettings(safetySettings)
+                .systemInstruction(systemInstruction)
+                .build();
     }
 
+    /**
+     * 질문에 대한 답변을 생성합니다.
+     * 같은(정규화 기준) 질문은 캐시된 답변을 반환하고, 동시에 들어온 같은 질문은 한 번만 모델을 호출합니다.
+     */
     @Override
     public String getGeminiResponse(String text) throws Exception {
         try {
-            // Sets the safety settings in the config.
-            final ImmutableList<SafetySetting> safetySettings = geminiConfig.safetySettings();
-
-            // Sets the system instruction in the config.
-            final Content systemInstruction = geminiConfig.systemInstruction();
-
-            GenerateContentConfig config =
-                    GenerateContentConfig.builder()
-                            .candidateCount(1)
-                            .maxOutputTokens(2048)
-                            .safetySettings(safetySettings)
-                            .systemInstruction(systemInstruction)
-                            .build();
-
-            String model = "gemini-2.0-flash-001";
-
-            GenerateContentResponse response = client.models.generateContent(model, text, config);
-
-
-            logger.debug("{}", response.text());
-
-            return response.text();
+            return responseCache.get(text, () -> generate(text));
         } catch (AiCommentGenerationException e) {
             logger.error("AiCommentGenerationException in getGeminiResponse: {}", e.getMessage());
             throw new AiCommentGenerationException("Error in getGeminiResponse: " + e.getMessage());
@@ -64,4 +66,12 @@ public class GeminiServiceImpl implements GeminiService {
             throw new Exception("Error in getGeminiResponse: " + e.getMessage(), e);
         }
     }
+
+    private String generate(String text) throws Exception {
+        GenerateContentResponse response = client.models.generateContent(MODEL, text, config);
+
+        logger.debug("{}", response.text());
+
+        return response.text();
+    }
 }
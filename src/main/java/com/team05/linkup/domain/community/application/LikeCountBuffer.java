@@ -0,0 +1,71 @@
+package com.team05.linkup.domain.community.application;
+
+import com.team05.linkup.common.util.CounterBuffer;
+import com.team05.linkup.domain.community.dto.CommunityCountersFlushedEventDTO;
+import com.team05.linkup.domain.community.infrastructure.CommunityRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 좋아요 수 write-behind 버퍼.
+ * 좋아요 토글은 likes 테이블만 원자적으로 변경하고, community.like_count 증감분은 여기에 누적했다가
+ * 주기적으로 UPDATE ... CASE 문으로 일괄 반영합니다. (토글마다 community 행을 잠그지 않기 위함)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountBuffer {
+
+    /** UPDATE 한 번에 반영할 최대 게시글 수 */
+    private static final int FLUSH_CHUNK_SIZE = 200;
+
+    private final CommunityRepository communityRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CounterBuffer buffer = new CounterBuffer();
+
+    /**
+     * 게시글 좋아요 수 증감분을 누적합니다.
+     *
+     * @param communityId 게시글 ID
+     * @param delta       증감분 (+1 또는 -1)
+     */
+    public void add(String communityId, long delta) {
+        buffer.add(communityId, delta);
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 좋아요 수 증감분을 반환합니다.
+     *
+     * @param communityId 게시글 ID
+     * @return 반영 대기 중인 증감분
+     */
+    public long pending(String communityId) {
+        return buffer.pending(communityId);
+    }
+
+    /**
+     * 누적된 좋아요 수를 DB 에 반영합니다. 실패한 묶음은 버퍼에 되돌려 다음 주기에 재시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${community.like-count.flush-interval-ms:3000}")
+    public void flush() {
+        CounterBuffer.FlushResult result = buffer.flush(FLUSH_CHUNK_SIZE, communityRepository::addLikeCounts);
+        if (result.failedCount() > 0) {
+            log.error("좋아요 수 반영 실패, 다음 주기에 재시도합니다. 게시글 수={}", result.failedCount());
+        }
+        if (!result.flushedKeys().isEmpty()) {
+            eventPublisher.publishEvent(new CommunityCountersFlushedEventDTO(result.flushedKeys()));
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 좋아요 수를 반영합니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -1,8 +1,6 @@
 package com.team05.linkup.domain.community.application;
 
 import com.team05.linkup.common.dto.UserPrincipal;
-import com.team05.linkup.domain.community.domain.Community;
-import com.team05.linkup.domain.community.domain.Like;
 import com.team05.linkup.domain.community.dto.LikeResponseDTO;
 import com.team05.linkup.domain.community.infrastructure.CommunityRepository;
 import com.team05.linkup.domain.community.infrastructure.LikeRepository;
@@ -11,10 +9,12 @@ import com.team05.linkup.domain.user.infrastructure.UserRepository;
 import jakarta.persistence.EntityNotFoundException; // Or your custom exception
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.sql.SQLException;
+import java.util.UUID;
 
 /**
  * 커뮤니티 게시글의 '좋아요' 기능과 관련된 비즈니스 로직을 처리하는 서비스 클래스.
@@ -24,51 +24,77 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class LikeService {
 
+    /** MySQL 중복 키 오류 코드 (ER_DUP_ENTRY) */
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+
     private final LikeRepository likeRepository;
     private final CommunityRepository communityRepository;
     private final UserRepository userRepository;
+    private final LikeCountBuffer likeCountBuffer;
 
     /**
      * 사용자가 특정 커뮤니티 게시글에 대한 '좋아요' 상태를 토글합니다.
      * 이미 '좋아요' 상태이면 취소하고, 아니면 '좋아요'를 추가합니다.
-     * 게시글의 총 '좋아요' 수도 함께 업데이트됩니다.
+     * (user_id, community_id) 유니크 제약 위에서 DELETE → INSERT 순으로 실행하므로 동시 요청에도 중복 행이 생기지 않으며,
+     * 실제로 행이 변경된 경우에만 게시글 '좋아요' 수 증감분을 {@link LikeCountBuffer} 에 누적합니다.
+     * 반환하는 '좋아요' 상태는 실제 행 상태를 따릅니다.
      *
      * @param principal   현재 인증된 사용자 정보 객체. {@code null}이 아니어야 합니다.
      * @param communityId 대상 게시글 ID.
      * @return {@link LikeResponseDTO} - 토글 후의 최종 '좋아요' 상태와 게시글의 총 '좋아요' 수를 포함하는 DTO.
-     * @throws EntityNotFoundException 사용자 또는 게시글을 찾을 수 없는 경우.
+     * @throws EntityNotFoundException 사용자 또는 게시글을 찾을 수 없는 경우. (확인 직후 게시글이 삭제된 경우 포함)
      */
-    @Transactional //
     public LikeResponseDTO toggleLike(UserPrincipal principal, String communityId) {
         String provider = principal.provider();
         String providerId = principal.providerId();
 
-        // 1. 사용자 및 커뮤니티 엔티티 조회
+        // 1. 사용자 및 커뮤니티 존재 확인
         User user = userRepository.findByProviderAndProviderId(provider, providerId)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with PID: " + provider + "-" + providerId));
-        Community community = communityRepository.findById(communityId)
-                .orElseThrow(() -> new EntityNotFoundException("Community not found with CID: " + communityId));
-
-        // 2. 기존 '좋아요' 상태 확인
-        Optional<Like> existingLike = likeRepository.findByUserAndCommunity(user, community);
+        if (!communityRepository.existsById(communityId)) {
+            throw new EntityNotFoundException("Community not found with CID: " + communityId);
+        }
 
+        // 2. 취소 시도 → 삭제된 행이 없으면 추가 시도
         boolean newLikedStatus;
-
-        if (existingLike.isPresent()) {
-            likeRepository.delete(existingLike.get());
-            community.decrementLikeCount();
+        if (likeRepository.deleteLike(user.getId(), communityId) == 1) {
+            likeCountBuffer.add(communityId, -1L);
             newLikedStatus = false;
         } else {
-            Like newLike = Like.builder()
-                    .user(user)
-                    .community(community)
-                    .build();
-            likeRepository.save(newLike);
-            community.incrementLikeCount();
-            newLikedStatus = true;
+            newLikedStatus = insertLike(user, communityId);
         }
 
-        // 3. 최종 '좋아요' 상태와 업데이트된 게시글의 총 '좋아요' 수를 DTO에 담아 반환
-        return new LikeResponseDTO(newLikedStatus, community.getLikeCount());
+        // 3. 최종 '좋아요' 상태와 (DB 값 + 반영 대기 증감분) 좋아요 수를 DTO에 담아 반환
+        long likeCount = communityRepository.findLikeCountById(communityId).orElse(0L)
+                + likeCountBuffer.pending(communityId);
+        return new LikeResponseDTO(newLikedStatus, Math.max(likeCount, 0L));
+    }
+
+    // '좋아요' 추가 후 실제 '좋아요' 상태 반환
+    private boolean insertLike(User user, String communityId) {
+        try {
+            likeRepository.insertLike(UUID.randomUUID().toString(), user.getId(), communityId);
+        } catch (DataIntegrityViolationException e) {
+            if (!isDuplicateKey(e)) {
+                // 존재 확인 직후 게시글이 삭제되어 외래 키 제약에 걸림
+                throw new EntityNotFoundException("Community not found with CID: " + communityId);
+            }
+            // 같은 사용자의 동시 요청이 먼저 추가함. 그 사이 다시 취소되었을 수 있으므로 현재 행 상태를 확인
+            return likeRepository.existsByUserAndCommunityId(user, communityId);
+        }
+        likeCountBuffer.add(communityId, 1L);
+        return true;
+    }
+
+    private static boolean isDuplicateKey(DataIntegrityViolationException e) {
+        if (e instanceof DuplicateKeyException) {
+            return true;
+        }
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && sqlException.getErrorCode() == MYSQL_DUPLICATE_ENTRY) {
+                return true;
+            }
+        }
+        return false;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,27 @@
+package com.team05.linkup.domain.community.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로컬 개발/부하 테스트용 {@link GeminiService} 대체 구현.
+ * ai-comment.provider=stub 으로 설정하면 Gemini API 를 호출하지 않고 설정한 지연 후 고정 형식의 답변을 반환합니다.
+ */
+@Service
+@ConditionalOnProperty(name = "ai-comment.provider", havingValue = "stub")
+public class LocalGeminiService implements GeminiService {
+
+    @Value("${ai-comment.stub.latency-ms:200}")
+    private long latencyMillis;
+
+    @Override
+    public String getGeminiResponse(String text) throws Exception {
+        Thread.sleep(latencyMillis);
+        String preview = text == null ? "" : text.strip();
+        if (preview.length() > 50) {
+            preview = preview.substring(0, 50) + "...";
+        }
+        return "[로컬 AI 답변] 질문 \"" + preview + "\" 에 대한 테스트 답변입니다.";
+    }
+}
@@ -0,0 +1,116 @@
+package com.team05.linkup.domain.community.application;
+
+import com.team05.linkup.common.util.SlidingWindowCounter;
+import com.team05.linkup.domain.community.dto.TagDTO;
+import com.team05.linkup.domain.community.dto.TagUsageChangedEventDTO;
+import com.team05.linkup.domain.community.infrastructure.TagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * 인기 태그 집계 서비스.
+ * 태그별 사용 횟수를 게시글 작성 시각 기준 1시간 단위 버킷({@link SlidingWindowCounter})으로 메모리에 유지하고,
+ * 게시글 생성/수정/삭제 이벤트로 증분 갱신합니다. 조회 시에는 현재 시각 기준 최근 N일(1시간 단위)의 버킷을 합산한 뒤
+ * 상위 limit 개만 힙으로 골라내므로 요청 경로에서 SQL 을 실행하지 않습니다.
+ */
+@Slf4j
+@Service
+public class PopularTagService {
+
+    /** 사용 횟수 내림차순, 같으면 태그 이름 오름차순 (기존 쿼리의 ORDER BY 와 동일) */
+    private static final Comparator<Map.Entry<String, Long>> RANKING =
+            Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey());
+
+    private final TagRepository tagRepository;
+    private final int maxDays;
+
+    private volatile SlidingWindowCounter<String> counter;
+
+    public PopularTagService(TagRepository tagRepository,
+                             @Value("${community.popular-tags.max-days:30}") int maxDays) {
+        this.tagRepository = tagRepository;
+        this.maxDays = maxDays;
+    }
+
+    /**
+     * 최근 days 일 동안 가장 많이 사용된 태그 limit 개를 반환합니다.
+     * 메모리 집계 보관 기간을 넘거나 초기 적재 전이면 DB 에서 직접 집계합니다.
+     *
+     * @param limit 조회할 태그 수
+     * @param days  집계 기간(일)
+     * @return 인기 태그 목록
+     */
+    public List<TagDTO> findPopularTags(int limit, int days) {
+        SlidingWindowCounter<String> current = counter;
+        if (current == null || days < 0 || days > maxDays) {
+            return tagRepository.findPopularTagsSince(ZonedDateTime.now().minusDays(days), PageRequest.of(0, limit));
+        }
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        // 상위 limit 개만 유지하는 최소 힙 (루트가 현재 후보 중 가장 순위가 낮은 태그)
+        PriorityQueue<Map.Entry<String, Long>> heap = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        for (Map.Entry<String, Long> entry : current.sumLast(Duration.ofDays(days)).entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<Map.Entry<String, Long>> top = new ArrayList<>(heap);
+        top.sort(RANKING);
+        return top.stream().map(entry -> new TagDTO(entry.getKey())).toList();
+    }
+
+    /**
+     * 게시글 태그 변경이 커밋되면 게시글 작성 시각 버킷에 반영합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTagUsageChanged(TagUsageChangedEventDTO event) {
+        SlidingWindowCounter<String> current = counter;
+        if (current == null || event.postedAt() == null) {
+            return;
+        }
+        event.addedTags().forEach(name -> current.add(name, event.postedAt(), 1));
+        event.removedTags().forEach(name -> current.add(name, event.postedAt(), -1));
+    }
+
+    /**
+     * 기동 시 및 주기적으로 보관 기간 내 태그 사용 횟수를 DB 에서 다시 적재합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${community.popular-tags.rebuild-cron:0 10 * * * *}")
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        // 최대 기간의 시작 경계가 속한 버킷까지 보관
+        Duration retention = Duration.ofDays(maxDays).plusHours(1);
+        SlidingWindowCounter<String> rebuilt = new SlidingWindowCounter<>(retention);
+        ZonedDateTime since = ZonedDateTime.now().minus(retention).truncatedTo(ChronoUnit.HOURS);
+        try {
+            rebuilt.addRows(tagRepository.countTagUsageByHourSince(since));
+        } catch (RuntimeException e) {
+            log.error("인기 태그 집계 적재 실패", e);
+            // 기존 카운터를 계속 쓰므로 보관 기간이 지난 버킷만 정리
+            SlidingWindowCounter<String> current = counter;
+            if (current != null) {
+                current.evictExpired();
+            }
+            return;
+        }
+        counter = rebuilt;
+        log.info("인기 태그 집계 적재 완료: 기간={}일, 소요={}ms", maxDays, System.currentTimeMillis() - started);
+    }
+}
@@ -0,0 +1,153 @@
+package com.team05.linkup.domain.community.application;
+
+import com.team05.linkup.domain.community.domain.Tag;
+import com.team05.linkup.domain.community.infrastructure.TagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+/**
+ * 태그 이름 목록을 Tag 엔티티로 일괄 변환하는 컴포넌트.
+ * 자주 쓰이는 태그는 이름→ID 캐시(LRU)에서 찾아 DB 조회 없이 참조 프록시로 반환하고,
+ * 캐시에 없는 이름은 IN 조회 1회, 누락분 INSERT IGNORE 1회, 재조회 1회로 처리합니다.
+ * 같은 새 태그를 동시에 저장하는 게시글이 있어도 유니크 제약 위반 없이 같은 태그를 공유합니다.
+ * <p>
+ * tags.name 컬럼은 대소문자를 구분하지 않는 collation 이므로, 이름은 앞뒤 공백 제거 + 소문자 변환한 키로 비교합니다.
+ * ("Spring" 으로 요청해도 이미 저장된 "spring" 태그를 찾아 그 이름으로 반환)
+ */
+@Slf4j
+@Component
+public class TagResolver {
+
+    private final TagRepository tagRepository;
+    // 정규화된 이름 → 저장된 태그 (ID, 이름)
+    private final Map<String, CachedTag> idCache;
+
+    public TagResolver(TagRepository tagRepository,
+                       @Value("${community.tag-cache.max-size:1000}") int maxSize) {
+        this.tagRepository = tagRepository;
+        this.idCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedTag> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * 태그 이름 목록을 Tag 엔티티로 변환합니다. 없는 태그는 새로 생성합니다.
+     * 앞뒤 공백을 제거하고, 비어 있거나 대소문자만 다른 중복 이름은 무시합니다.
+     * 쓰기 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param tagNames 태그 이름 목록 (null 가능)
+     * @return 저장된 태그 이름 → Tag (입력 순서 유지). 캐시에서 찾은 태그는 초기화되지 않은 참조 프록시입니다.
+     * @throws IllegalArgumentException 태그 이름이 {@value Tag#NAME_MAX_LENGTH}자를 넘는 경우
+     */
+    public Map<String, Tag> resolve(List<String> tagNames) {
+        // 정규화된 이름 → 요청에서 처음 사용된 이름 (입력 순서 유지)
+        Map<String, String> requested = normalize(tagNames);
+        if (requested.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+
+        // 정규화된 이름 → (저장된 이름, Tag)
+        Map<String, Map.Entry<String, Tag>> resolved = new HashMap<>();
+        Map<String, String> missing = new LinkedHashMap<>();
+        requested.forEach((key, name) -> {
+            CachedTag cached = idCache.get(key);
+            if (cached != null) {
+                resolved.put(key, Map.entry(cached.name(), tagRepository.getReferenceById(cached.id())));
+            } else {
+                missing.put(key, name);
+            }
+        });
+        if (missing.isEmpty()) {
+            return reorder(requested, resolved);
+        }
+
+        // 1. 이미 존재하는 태그 일괄 조회 (커밋된 행이므로 바로 캐시)
+        for (Tag tag : tagRepository.findByNameIn(missing.values())) {
+            String key = normalizeKey(tag.getName());
+            if (missing.remove(key) != null) {
+                resolved.put(key, Map.entry(tag.getName(), tag));
+                idCache.put(key, new CachedTag(tag.getId(), tag.getName()));
+            }
+        }
+
+        // 2. 없는 태그 일괄 저장 후 최신 데이터로 재조회
+        if (!missing.isEmpty()) {
+            int inserted = tagRepository.insertIgnoreNames(missing.values());
+            log.info("새로운 태그 {}개를 생성합니다: {}", inserted, missing.values());
+
+            Map<String, CachedTag> created = new HashMap<>();
+            for (Tag tag : tagRepository.findLatestByNameIn(missing.values())) {
+                String key = normalizeKey(tag.getName());
+                if (missing.containsKey(key) && !resolved.containsKey(key)) {
+                    resolved.put(key, Map.entry(tag.getName(), tag));
+                    created.put(key, new CachedTag(tag.getId(), tag.getName()));
+                }
+            }
+            cacheAfterCommit(created);
+        }
+        return reorder(requested, resolved);
+    }
+
+    /**
+     * 이번 트랜잭션에서 저장한 태그는 롤백될 수 있으므로 커밋 이후에 캐시합니다.
+     */
+    private void cacheAfterCommit(Map<String, CachedTag> created) {
+        if (created.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            idCache.putAll(created);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                idCache.putAll(created);
+            }
+        });
+    }
+
+    // 공백/중복을 걸러내고 길이를 검증 (INSERT 전에 거절해야 잘린 이름이나 SQL 오류로 저장되지 않음)
+    private static Map<String, String> normalize(List<String> tagNames) {
+        Map<String, String> requested = new LinkedHashMap<>();
+        if (tagNames == null) {
+            return requested;
+        }
+        for (String tagName : tagNames) {
+            if (tagName == null || tagName.trim().isEmpty()) continue;
+            String name = tagName.trim();
+            if (name.codePointCount(0, name.length()) > Tag.NAME_MAX_LENGTH) {
+                throw new IllegalArgumentException("태그는 " + Tag.NAME_MAX_LENGTH + "자 이하여야 합니다: " + name);
+            }
+            requested.putIfAbsent(normalizeKey(name), name);
+        }
+        return requested;
+    }
+
+    private static String normalizeKey(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // 캐시/DB 조회 순서와 무관하게 요청한 태그 순서를 유지
+    private static Map<String, Tag> reorder(Map<String, String> requested, Map<String, Map.Entry<String, Tag>> resolved) {
+        Map<String, Tag> ordered = new LinkedHashMap<>();
+        for (String key : requested.keySet()) {
+            Map.Entry<String, Tag> tag = resolved.get(key);
+            if (tag != null) {
+                ordered.putIfAbsent(tag.getKey(), tag.getValue());
+            }
+        }
+        return ordered;
+    }
+
+    private record CachedTag(Long id, String name) {
+    }
+}
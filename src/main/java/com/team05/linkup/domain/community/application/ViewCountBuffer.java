@@ -0,0 +1,70 @@
+package com.team05.linkup.domain.community.application;
+
+import com.team05.linkup.common.util.CounterBuffer;
+import com.team05.linkup.domain.community.dto.CommunityCountersFlushedEventDTO;
+import com.team05.linkup.domain.community.infrastructure.CommunityRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 조회수 write-behind 버퍼.
+ * 상세 조회 시에는 메모리 카운터만 증가시키고, 주기적으로 누적분을 UPDATE ... CASE 문으로 일괄 반영합니다.
+ * 인기 게시글에 대한 조회가 community 행 락에서 직렬화되지 않도록 하기 위함입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    /** UPDATE 한 번에 반영할 최대 게시글 수 */
+    private static final int FLUSH_CHUNK_SIZE = 200;
+
+    private final CommunityRepository communityRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CounterBuffer buffer = new CounterBuffer();
+
+    /**
+     * 게시글 조회수를 1 증가시킵니다. (DB 반영은 다음 flush 시점)
+     *
+     * @param communityId 게시글 ID
+     */
+    public void increment(String communityId) {
+        buffer.add(communityId, 1L);
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회수 증가분을 반환합니다.
+     *
+     * @param communityId 게시글 ID
+     * @return 반영 대기 중인 증가분
+     */
+    public long pending(String communityId) {
+        return buffer.pending(communityId);
+    }
+
+    /**
+     * 누적된 조회수를 DB 에 반영합니다. 실패한 묶음은 버퍼에 되돌려 다음 주기에 재시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${community.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        CounterBuffer.FlushResult result = buffer.flush(FLUSH_CHUNK_SIZE, communityRepository::addViewCounts);
+        if (result.failedCount() > 0) {
+            log.error("조회수 반영 실패, 다음 주기에 재시도합니다. 게시글 수={}", result.failedCount());
+        }
+        if (!result.flushedKeys().isEmpty()) {
+            eventPublisher.publishEvent(new CommunityCountersFlushedEventDTO(result.flushedKeys()));
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 조회수를 반영합니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,67 @@
+package com.team05.linkup.domain.community.domain;
+
+import com.team05.linkup.domain.baseEntity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+
+/**
+ * AI 답변 생성 작업 엔티티
+ * 질문 게시글 하나당 하나의 작업을 DB 에 저장하여, 서버가 재시작되거나 생성이 실패해도 작업이 유실되지 않습니다.
+ * next_attempt_at 은 PENDING 상태에서는 다음 실행 시각, RUNNING 상태에서는 점유 만료 시각입니다.
+ * 완료/실패 처리는 점유 토큰(lease_owner)이 일치할 때만 반영하는 조건부 UPDATE 로 합니다. (AiCommentJobRepository)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "ai_comment_job", indexes = {
+        @Index(name = "idx_ai_comment_job_status_next", columnList = "status, next_attempt_at")
+})
+public class AiCommentJob extends BaseEntity {
+    @Id
+    @Column(length = 36, updatable = false, nullable = false)
+    private String id;
+
+    @Column(name = "community_id", length = 36, nullable = false, unique = true)
+    private String communityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16, nullable = false)
+    private AiCommentJobStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // 백필 배치가 DEAD 작업을 되살린 횟수 (attempts 와 달리 초기화되지 않음)
+    @Column(nullable = false)
+    private int revivals;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private ZonedDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "completed_at")
+    private ZonedDateTime completedAt;
+
+    // 마지막 점유 토큰. 점유할 때마다 새로 발급하므로 점유가 만료되어 다른 워커가 가져간 뒤에는 이전 워커의 결과가 반영되지 않음
+    @Column(name = "lease_owner", length = 36)
+    private String leaseOwner;
+
+    // 워커가 작업을 점유 (시도 횟수는 점유 시점에 증가하므로 처리 중 서버가 죽어도 재시도 한도에 포함됨)
+    public void claim(String leaseOwner, ZonedDateTime leaseUntil) {
+        this.status = AiCommentJobStatus.RUNNING;
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+        this.leaseOwner = leaseOwner;
+    }
+
+    // last_error 칼럼 길이에 맞게 자름
+    public static String truncateError(String error) {
+        return error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+}
@@ -0,0 +1,11 @@
+package com.team05.linkup.domain.community.domain;
+
+/**
+ * AI 답변 생성 작업 상태
+ */
+public enum AiCommentJobStatus {
+    PENDING,   // 실행 대기 (재시도 대기 포함)
+    RUNNING,   // 워커가 점유 중 (점유 기한이 지나면 다시 가져감)
+    DONE,      // 완료
+    DEAD       // 최대 재시도 횟수 초과
+}
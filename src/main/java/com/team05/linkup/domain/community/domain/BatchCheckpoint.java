@@ -0,0 +1,49 @@
+package com.team05.linkup.domain.community.domain;
+
+import com.team05.linkup.domain.baseEntity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 배치 작업 진행 위치(체크포인트) 엔티티
+ * 키셋 페이지네이션 커서(created_at, id)를 작업 이름별로 저장하여, 서버가 재시작되어도 마지막으로 처리한 위치부터 이어서 실행합니다.
+ * 커서가 비어 있으면 처음부터 실행합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "batch_checkpoint")
+public class BatchCheckpoint extends BaseEntity {
+    @Id
+    @Column(name = "job_name", length = 64, updatable = false, nullable = false)
+    private String jobName;
+
+    @Column(name = "last_created_at")
+    private ZonedDateTime lastCreatedAt;
+
+    @Column(name = "last_id", length = 36)
+    private String lastId;
+
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount;
+
+    @Column(name = "last_completed_at")
+    private ZonedDateTime lastCompletedAt;
+
+    public void advance(ZonedDateTime lastCreatedAt, String lastId, int processed) {
+        this.lastCreatedAt = lastCreatedAt;
+        this.lastId = lastId;
+        this.processedCount += processed;
+    }
+
+    // 끝까지 처리했으면 커서를 비워 다음 실행에서 처음부터 다시 훑음
+    public void complete() {
+        this.lastCreatedAt = null;
+        this.lastId = null;
+        this.lastCompletedAt = ZonedDateTime.now();
+    }
+}
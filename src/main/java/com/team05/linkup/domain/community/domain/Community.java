@@ -14,7 +14,10 @@ import java.util.*;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "community")
+@Table(name = "community", indexes = {
+        @Index(name = "idx_community_created_at_id", columnList = "created_at, id"), // 커서 페이지네이션용
+        @Index(name = "idx_community_category_created_at_id", columnList = "category, created_at, id") // AI 답변 백필용
+})
 public class Community extends BaseEntity {
 
     /**
@@ -52,18 +55,31 @@ public class Community extends BaseEntity {
     @Column(length = 65535, nullable = false)
     private String content;
 
+    /*
+     * 조회수/좋아요 수/댓글 수는 원자적 UPDATE 로만 갱신합니다. (updatable = false)
+     * 엔티티 변경 감지로 UPDATE 가 나가면 로딩 시점의 값으로 동시 증가분을 덮어쓰므로 UPDATE 대상에서 제외합니다.
+     */
+
     /**
      * 조회수 (기본값 0)
+     * ViewCountBuffer 가 모아 둔 증가분을 CommunityRepositoryCustom.addViewCounts 로 반영합니다.
      */
-    @Column(name = "view_count", nullable = false, columnDefinition = "BIGINT default 0")
+    @Column(name = "view_count", nullable = false, updatable = false, columnDefinition = "BIGINT default 0")
     private Long viewCount = 0L;
 
     /**
      * 좋아요 수 (기본값 0)
      */
-    @Column(name = "like_count", columnDefinition = "BIGINT default 0")
+    @Column(name = "like_count", updatable = false, columnDefinition = "BIGINT default 0")
     private Long likeCount = 0L;
 
+    /**
+     * 댓글 수 (기본값 0)
+     * 댓글 작성/삭제 시 CommentService 에서 원자적 UPDATE 로 갱신하며, 주기적인 보정 작업으로 실제 댓글 수와 맞춥니다.
+     */
+    @Column(name = "comment_count", nullable = false, updatable = false, columnDefinition = "BIGINT default 0")
+    private Long commentCount = 0L;
+
     /**
      * AI 자동 생성 댓글 (Community와 일대일 관계)
      * Community가 삭제될 때 연관된 AiComment도 함께 삭제되도록 CascadeType.ALL 설정.
@@ -108,6 +124,7 @@ public class Community extends BaseEntity {
         this.content = content;
         this.viewCount = (viewCount == null) ? 0L : viewCount;
         this.likeCount = (likeCount == null) ? 0L : likeCount;
+        this.commentCount = 0L;
         this.aiComment = aiComment;
         this.images = Objects.requireNonNullElseGet(images, ArrayList::new);
         this.tags = Objects.requireNonNullElseGet(tags, HashSet::new);
@@ -134,29 +151,6 @@ public class Community extends BaseEntity {
         }
     }
 
-    /**
-     * 조회수 증가
-     */
-    public void incrementViewCount() {
-        this.viewCount += 1;
-    }
-
-    /**
-     * 좋아요 수 증가
-     */
-    public void incrementLikeCount() {
-        this.likeCount += 1;
-    }
-
-    /**
-     * 좋아요 수 감소
-     */
-    public void decrementLikeCount() {
-        if (this.likeCount > 0) {
-            this.likeCount -= 1;
-        }
-    }
-
     // AiComment를 설정하는 setter (양방향 관계 편의 메소드 - 필요시)
     // cascade 설정을 사용하면 이 setter가 직접적으로 삭제 로직에 관여하지 않을 수 있습니다.
     public void setAiComment(AiComment aiComment) {
@@ -32,6 +32,16 @@ public class Image extends BaseEntity {
     @Column(name = "object_path", length = 512, nullable = false)
     private String objectPath;     // imageUrl → objectPath 로 변경
 
+    // 축소 변형 URL (원본 형식을 처리할 수 없으면 null → objectPath 사용)
+    @Column(name = "thumbnail_url", length = 512)
+    private String thumbnailUrl;
+
+    @Column(name = "feed_url", length = 512)
+    private String feedUrl;
+
+    @Column(name = "full_url", length = 512)
+    private String fullUrl;
+
 //    @Column(name = "image_url", nullable = false)
 //    private String imageUrl;
 }
\ No newline at end of file
@@ -14,7 +14,7 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 @Table(name = "likes", uniqueConstraints = {
-                @UniqueConstraint(columnNames = {"user_id", "community_id"})})
+                @UniqueConstraint(name = "uk_likes_user_community", columnNames = {"user_id", "community_id"})})
 public class Like extends BaseEntity {
 
     /**
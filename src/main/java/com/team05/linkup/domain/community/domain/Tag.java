@@ -21,6 +21,9 @@ import java.util.Set;
 })
 public class Tag {
 
+    /** 태그 이름 최대 길이 (name 컬럼 길이) */
+    public static final int NAME_MAX_LENGTH = 36;
+
     /**
      * 태그의 고유 식별자 (PK)
      */
@@ -31,9 +34,9 @@ public class Tag {
     /**
      * 태그의 이름
      * - null이거나 비어있을 수 없음
-     * - 최대 15자 (조정 가능)
+     * - 최대 {@value #NAME_MAX_LENGTH}자
      */
-    @Column(name = "name", length = 36, nullable = false)
+    @Column(name = "name", length = NAME_MAX_LENGTH, nullable = false)
     private String name;
 
     /**
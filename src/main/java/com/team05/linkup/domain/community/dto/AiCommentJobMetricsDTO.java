@@ -0,0 +1,33 @@
+package com.team05.linkup.domain.community.dto;
+
+/**
+ * AI 답변 생성 큐 지표
+ *
+ * @param pending                실행 대기 중인 작업 수 (재시도 대기 포함, 큐 깊이)
+ * @param running                워커가 점유 중인 작업 수
+ * @param dead                   재시도 한도를 넘어 중단된 작업 수
+ * @param oldestPendingAgeMillis 가장 오래 대기 중인 작업의 대기 시간(ms), 대기 작업이 없으면 0
+ * @param activeWorkers          이 서버에서 실행 중인 작업 수
+ * @param concurrency            이 서버의 최대 동시 실행 수
+ * @param completed              이 서버에서 완료한 작업 수 (기동 이후)
+ * @param retried                이 서버에서 재시도로 돌린 실패 수 (기동 이후)
+ * @param deadLettered           이 서버에서 DEAD 로 전환한 작업 수 (기동 이후)
+ * @param avgGenerationMillis    모델 호출 평균 소요 시간(ms)
+ * @param maxGenerationMillis    모델 호출 최대 소요 시간(ms)
+ * @param avgEndToEndMillis      작업 등록부터 답변 저장까지 평균 소요 시간(ms)
+ */
+public record AiCommentJobMetricsDTO(
+        long pending,
+        long running,
+        long dead,
+        long oldestPendingAgeMillis,
+        int activeWorkers,
+        int concurrency,
+        long completed,
+        long retried,
+        long deadLettered,
+        double avgGenerationMillis,
+        long maxGenerationMillis,
+        double avgEndToEndMillis
+) {
+}
@@ -0,0 +1,19 @@
+package com.team05.linkup.domain.community.dto;
+
+/**
+ * AI 답변 캐시 지표 (이 서버 기동 이후 누적)
+ *
+ * @param hits          캐시된 답변을 바로 돌려준 수
+ * @param misses        모델을 호출하여 답변을 생성한 수
+ * @param coalesced     같은 질문을 생성 중인 다른 요청의 결과를 기다려 함께 사용한 수
+ * @param awaitTimeouts 기다리던 생성이 제한 시간 안에 끝나지 않아 실패로 처리한 수
+ * @param size          현재 캐시된 답변 수
+ */
+public record AiResponseCacheMetricsDTO(
+        long hits,
+        long misses,
+        long coalesced,
+        long awaitTimeouts,
+        int size
+) {
+}
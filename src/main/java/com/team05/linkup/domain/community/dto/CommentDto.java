@@ -38,6 +38,7 @@ public class CommentDto {
         private String userId;              // 작성자 ID
         private String nickname;            // 작성자 닉네임
         private String profileImageUrl;     // 작성자 프로필 이미지 URL
+        private String profileThumbnailUrl; // 작성자 아바타용 축소 이미지 URL (없으면 원본)
         private String commentContent;      // 댓글 내용
         private boolean isParent;           // 부모 댓글 여부
         private int totalLikeCount;         // 좋아요 수
@@ -68,6 +69,32 @@ public class CommentDto {
                             .collect(Collectors.toList()))
                     .build();
         }
+
+        /**
+         * 이미 조회된 작성자 프로필 이미지 URL과 조립된 하위 댓글 목록으로 Response DTO를 생성합니다.
+         *
+         * @param comment 댓글 엔티티
+         * @param profileImageUrl 작성자 프로필 이미지 URL (없으면 null)
+         * @param profileThumbnailUrl 작성자 썸네일 URL (없으면 원본 URL 사용)
+         * @param childComments 하위 댓글 응답 목록
+         * @return 댓글 응답 DTO
+         */
+        public static Response of(Comment comment, String profileImageUrl, String profileThumbnailUrl,
+                                  List<Response> childComments) {
+            return Response.builder()
+                    .id(comment.getId())
+                    .userId(comment.getUserId())
+                    .nickname(comment.getName())
+                    .profileImageUrl(profileImageUrl)
+                    .profileThumbnailUrl(profileThumbnailUrl != null ? profileThumbnailUrl : profileImageUrl)
+                    .commentContent(comment.getCommentContent())
+                    .isParent(comment.getParentCommentId() == null)
+                    .totalLikeCount(comment.getTotalLikeCount())
+                    .createdAt(comment.getCreatedAt())
+                    .updatedAt(comment.getUpdatedAt())
+                    .childComments(childComments)
+                    .build();
+        }
     }
 
     /**
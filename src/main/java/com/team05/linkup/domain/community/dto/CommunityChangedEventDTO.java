@@ -0,0 +1,15 @@
+package com.team05.linkup.domain.community.dto;
+
+/**
+ * 게시글이 생성/수정/삭제되었음을 알리는 이벤트.
+ * 검색 색인 등 게시글 내용에 의존하는 파생 데이터를 트랜잭션 커밋 이후 갱신하는 데 사용합니다.
+ *
+ * @param communityId 변경된 게시글 ID
+ * @param type        변경 유형
+ */
+public record CommunityChangedEventDTO(String communityId, ChangeType type) {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+}
@@ -0,0 +1,11 @@
+package com.team05.linkup.domain.community.dto;
+
+import java.util.Set;
+
+/**
+ * 조회수/좋아요 수 write-behind 버퍼가 DB 에 반영되었음을 알리는 이벤트.
+ *
+ * @param communityIds 카운터가 갱신된 게시글 ID 목록
+ */
+public record CommunityCountersFlushedEventDTO(Set<String> communityIds) {
+}
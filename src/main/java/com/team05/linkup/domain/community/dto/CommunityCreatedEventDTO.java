@@ -1,6 +1,10 @@
 package com.team05.linkup.domain.community.dto;
 
-import com.team05.linkup.domain.community.domain.Community;
+import com.team05.linkup.domain.community.domain.CommunityCategory;
 
-public record CommunityCreatedEventDTO(Community community) {
+/**
+ * 게시글 생성 이벤트
+ * 리스너가 트랜잭션 종료 후 분리(detached)된 엔티티에 접근하지 않도록 식별자와 카테고리만 전달합니다.
+ */
+public record CommunityCreatedEventDTO(String communityId, CommunityCategory category) {
 }
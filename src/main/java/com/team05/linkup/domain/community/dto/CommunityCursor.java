@@ -0,0 +1,65 @@
+package com.team05.linkup.domain.community.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 커서(keyset) 페이지네이션에 사용되는 커서 값 객체.
+ * 마지막으로 전달된 게시글의 (created_at, id) 쌍을 담으며, 클라이언트에는 Base64URL로 인코딩된 불투명 문자열로 전달됩니다.
+ * 작성 시각은 UTC 시점(Instant)으로 인코딩하고 UTC 로 해석하므로, 서버의 기본 시간대와 관계없이 같은 커서는 같은 위치를 가리킵니다.
+ *
+ * @param createdAt 마지막 게시글의 작성 시각.
+ * @param id        마지막 게시글의 ID (작성 시각이 같은 게시글 간의 순서를 결정).
+ */
+public record CommunityCursor(ZonedDateTime createdAt, String id) {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 목록의 마지막 게시글로부터 다음 페이지 조회용 커서를 생성합니다.
+     *
+     * @param last 현재 페이지의 마지막 게시글 요약.
+     * @return 다음 페이지 커서.
+     */
+    public static CommunityCursor from(CommunitySummaryResponseDTO last) {
+        return new CommunityCursor(last.createdAt(), last.id());
+    }
+
+    /**
+     * 커서를 클라이언트에 전달할 불투명 문자열로 인코딩합니다.
+     *
+     * @return Base64URL 인코딩된 커서 문자열.
+     */
+    public String encode() {
+        String raw = createdAt.toInstant().toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 문자열을 해석합니다.
+     *
+     * @param encoded 인코딩된 커서 문자열 (null 또는 빈 문자열이면 첫 페이지로 간주).
+     * @return 해석된 커서, 첫 페이지 요청이면 null.
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우.
+     */
+    public static CommunityCursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded.trim()), StandardCharsets.UTF_8);
+            int idx = raw.indexOf(DELIMITER);
+            if (idx <= 0 || idx == raw.length() - 1) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            Instant createdAt = Instant.parse(raw.substring(0, idx));
+            return new CommunityCursor(createdAt.atZone(ZoneOffset.UTC), raw.substring(idx + 1));
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.team05.linkup.domain.community.dto;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 게시글 목록 응답 DTO.
+ * 전체 개수(COUNT)를 계산하지 않으며, 다음 페이지 존재 여부와 다음 커서만 제공합니다.
+ *
+ * @param content    현재 페이지의 게시글 요약 목록.
+ * @param nextCursor 다음 페이지 조회에 사용할 불투명 커서 (마지막 페이지이면 null).
+ * @param hasNext    다음 페이지 존재 여부.
+ */
+public record CommunityCursorResponseDTO(
+        List<CommunitySummaryResponseDTO> content,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -3,6 +3,7 @@ package com.team05.linkup.domain.community.dto;
 import com.team05.linkup.domain.community.domain.Community;
 import com.team05.linkup.domain.community.domain.Tag;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -33,7 +34,7 @@ public class CommunityDto {
          * 게시글에 첨부할 태그 이름 목록입니다.
          * 프론트엔드에서 "tags": ["tag1", "tag2"] 형태로 전송하는 것을 가정합니다.
          */
-        private List<String> tags;
+        private List<@Size(max = Tag.NAME_MAX_LENGTH, message = "태그는 {max}자 이하여야 합니다.") String> tags;
 
         @NotBlank(message = "내용은 필수 입력값입니다.")
         private String content;
@@ -92,6 +93,27 @@ public class CommunityDto {
                     .updatedAt(community.getUpdatedAt())
                     .build();
         }
+
+        /**
+         * 이미 알고 있는 태그 이름 목록으로 Response DTO를 생성합니다.
+         * 태그 연관관계(프록시 포함)를 초기화하지 않으므로 게시글 생성/수정 직후 추가 조회가 발생하지 않습니다.
+         *
+         * @param community 게시글 엔티티
+         * @param tagNames  게시글에 연결된 태그 이름 목록
+         * @return 게시글 응답 DTO
+         */
+        public static Response from(Community community, List<String> tagNames) {
+            return Response.builder()
+                    .id(community.getId())
+                    .userId(community.getUser().getId())
+                    .title(community.getTitle())
+                    .category(community.getCategory().name())
+                    .tags(tagNames)
+                    .content(community.getContent())
+                    .createdAt(community.getCreatedAt())
+                    .updatedAt(community.getUpdatedAt())
+                    .build();
+        }
     }
 
     /**
@@ -115,6 +137,7 @@ public class CommunityDto {
         private boolean isLiked;
         private boolean isBookmarked;
         private List<String> imageUrls;
+        private List<ImageDto.UploadedImage> imageVariants;  // 화면 크기별 이미지 URL (imageUrls 와 같은 순서)
         private ZonedDateTime createdAt;
         private ZonedDateTime updatedAt;
     }
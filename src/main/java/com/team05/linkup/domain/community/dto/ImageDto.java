@@ -32,4 +32,43 @@ public class ImageDto {
                     .build();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 이미지 일괄 업로드 결과 DTO
+     * 일부 파일만 실패한 경우에도 성공한 이미지 URL 과 실패 사유를 함께 반환합니다.
+     */
+    @Getter
+    @Builder
+    public static class UploadResult {
+        /** 원본 이미지 URL 목록 (요청 순서) */
+        private final List<String> imageUrls;
+        /** 원본과 축소 변형 URL 목록 (imageUrls 와 같은 순서) */
+        private final List<UploadedImage> images;
+        private final List<UploadFailure> failures;
+
+        public boolean hasFailures() {
+            return !failures.isEmpty();
+        }
+    }
+
+    /**
+     * 업로드된 이미지의 원본 및 축소 변형 URL
+     * 변형을 만들 수 없는 형식(webp, svg 등)이거나 변형 업로드에 실패하면 변형 URL 은 null 입니다.
+     *
+     * @param originalUrl  원본 URL
+     * @param thumbnailUrl 썸네일(긴 변 160px) URL
+     * @param feedUrl      피드용(긴 변 720px) URL
+     * @param fullUrl      상세용(긴 변 2048px) URL
+     */
+    public record UploadedImage(String originalUrl, String thumbnailUrl, String feedUrl, String fullUrl) {
+    }
+
+    /**
+     * 업로드에 실패한 파일 정보
+     *
+     * @param fileName 원본 파일 이름
+     * @param reason   실패 사유
+     */
+    public record UploadFailure(String fileName, String reason) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.team05.linkup.domain.community.dto;
+
+import java.time.ZonedDateTime;
+import java.util.Set;
+
+/**
+ * 게시글 생성/수정/삭제로 태그 사용 횟수가 바뀌었음을 알리는 이벤트.
+ * 인기 태그 집계를 트랜잭션 커밋 이후 증분 갱신하는 데 사용합니다.
+ *
+ * @param postedAt    게시글 작성 시점 (태그 사용이 집계되는 일자)
+ * @param addedTags   새로 연결된 태그 이름 목록
+ * @param removedTags 연결이 해제된 태그 이름 목록
+ */
+public record TagUsageChangedEventDTO(ZonedDateTime postedAt, Set<String> addedTags, Set<String> removedTags) {
+}
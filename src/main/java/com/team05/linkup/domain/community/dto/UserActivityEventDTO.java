@@ -0,0 +1,19 @@
+package com.team05.linkup.domain.community.dto;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 사용자의 커뮤니티 활동(게시글/댓글 작성 또는 삭제)을 알리는 이벤트.
+ * 활동 사용자 랭킹을 트랜잭션 커밋 이후 증분 갱신하는 데 사용합니다.
+ *
+ * @param userId     활동한 사용자 ID
+ * @param type       활동 유형
+ * @param occurredAt 활동이 집계될 시점 (삭제의 경우 원본 작성 시점)
+ * @param delta      증감량 (작성 +1, 삭제 -1)
+ */
+public record UserActivityEventDTO(String userId, ActivityType type, ZonedDateTime occurredAt, long delta) {
+
+    public enum ActivityType {
+        POST, COMMENT
+    }
+}
@@ -0,0 +1,106 @@
+package com.team05.linkup.domain.community.infrastructure;
+
+import com.team05.linkup.domain.community.domain.AiCommentJob;
+import com.team05.linkup.domain.community.domain.AiCommentJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface AiCommentJobRepository extends JpaRepository<AiCommentJob, String> {
+
+    /**
+     * 작업을 등록합니다. 같은 게시글의 작업이 이미 있으면 무시합니다. (community_id 유니크)
+     *
+     * @return 등록된 행 수 (이미 있으면 0)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT IGNORE INTO ai_comment_job (id, community_id, status, attempts, next_attempt_at, created_at, updated_at) " +
+            "VALUES (:id, :communityId, 'PENDING', 0, :now, :now, :now)", nativeQuery = true)
+    int insertIgnore(@Param("id") String id, @Param("communityId") String communityId, @Param("now") ZonedDateTime now);
+
+    /**
+     * 실행할 수 있는 작업(실행 시각이 된 PENDING, 점유 기한이 지난 RUNNING)을 잠그고 조회합니다.
+     * 다른 워커가 잠근 행은 건너뛰므로 여러 서버가 동시에 폴링해도 같은 작업을 가져가지 않습니다.
+     * 트랜잭션 안에서 호출해야 합니다.
+     */
+    @Query(value = "SELECT * FROM ai_comment_job " +
+            "WHERE status IN ('PENDING', 'RUNNING') AND next_attempt_at <= :now " +
+            "ORDER BY next_attempt_at " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<AiCommentJob> lockClaimable(@Param("now") ZonedDateTime now, @Param("limit") int limit);
+
+    /**
+     * 점유 토큰이 일치하는 RUNNING 작업을 완료 처리합니다.
+     * 점유가 만료되어 다른 워커가 다시 가져갔으면 0 을 반환하며, 호출한 워커는 결과를 버려야 합니다.
+     *
+     * @return 갱신된 행 수 (점유를 잃었으면 0)
+     */
+    @Modifying
+    @Query("UPDATE AiCommentJob j SET j.status = com.team05.linkup.domain.community.domain.AiCommentJobStatus.DONE, " +
+            "j.completedAt = :now, j.lastError = NULL, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.leaseOwner = :leaseOwner " +
+            "AND j.status = com.team05.linkup.domain.community.domain.AiCommentJobStatus.RUNNING")
+    int completeLeased(@Param("id") String id, @Param("leaseOwner") String leaseOwner, @Param("now") ZonedDateTime now);
+
+    /**
+     * 점유 토큰이 일치하는 RUNNING 작업을 nextAttemptAt 에 다시 실행하도록 대기 상태로 돌립니다.
+     *
+     * @return 갱신된 행 수 (점유를 잃었으면 0)
+     */
+    @Modifying
+    @Query("UPDATE AiCommentJob j SET j.status = com.team05.linkup.domain.community.domain.AiCommentJobStatus.PENDING, " +
+            "j.nextAttemptAt = :nextAttemptAt, j.lastError = :error, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.leaseOwner = :leaseOwner " +
+            "AND j.status = com.team05.linkup.domain.community.domain.AiCommentJobStatus.RUNNING")
+    int retryLeased(@Param("id") String id, @Param("leaseOwner") String leaseOwner,
+                    @Param("nextAttemptAt") ZonedDateTime nextAttemptAt, @Param("error") String error,
+                    @Param("now") ZonedDateTime now);
+
+    /**
+     * 점유 토큰이 일치하는 RUNNING 작업을 DEAD 로 전환합니다.
+     *
+     * @return 갱신된 행 수 (점유를 잃었으면 0)
+     */
+    @Modifying
+    @Query("UPDATE AiCommentJob j SET j.status = com.team05.linkup.domain.community.domain.AiCommentJobStatus.DEAD, " +
+            "j.lastError = :error, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.leaseOwner = :leaseOwner " +
+            "AND j.status = com.team05.linkup.domain.community.domain.AiCommentJobStatus.RUNNING")
+    int markDeadLeased(@Param("id") String id, @Param("leaseOwner") String leaseOwner,
+                       @Param("error") String error, @Param("now") ZonedDateTime now);
+
+    /**
+     * 지정한 게시글들의 DEAD 작업을 시도 횟수를 초기화하여 다시 대기 상태로 돌립니다.
+     * 되살린 횟수가 maxRevivals 미만이고, DEAD 로 전환된 시각(updated_at)이 deadBefore 이전인 작업만 대상입니다.
+     *
+     * @return 되살린 작업 수
+     */
+    @Modifying
+    @Query("UPDATE AiCommentJob j SET j.status = com.team05.linkup.domain.community.domain.AiCommentJobStatus.PENDING, " +
+            "j.attempts = 0, j.revivals = j.revivals + 1, j.nextAttemptAt = :now, j.updatedAt = :now " +
+            "WHERE j.communityId IN :communityIds " +
+            "AND j.status = com.team05.linkup.domain.community.domain.AiCommentJobStatus.DEAD " +
+            "AND j.revivals < :maxRevivals AND j.updatedAt <= :deadBefore")
+    int requeueDead(@Param("communityIds") Collection<String> communityIds, @Param("now") ZonedDateTime now,
+                    @Param("deadBefore") ZonedDateTime deadBefore, @Param("maxRevivals") int maxRevivals);
+
+    @Query("SELECT COUNT(j) FROM AiCommentJob j WHERE j.status = :status")
+    long countInStatus(@Param("status") AiCommentJobStatus status);
+
+    /**
+     * 상태별 작업 수 [status, count]
+     */
+    @Query("SELECT j.status, COUNT(j) FROM AiCommentJob j GROUP BY j.status")
+    List<Object[]> countByStatus();
+
+    @Query("SELECT MIN(j.createdAt) FROM AiCommentJob j WHERE j.status = :status")
+    ZonedDateTime findOldestCreatedAt(@Param("status") AiCommentJobStatus status);
+}
@@ -0,0 +1,31 @@
+package com.team05.linkup.domain.community.infrastructure;
+
+import com.team05.linkup.domain.community.domain.BatchCheckpoint;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+public interface BatchCheckpointRepository extends JpaRepository<BatchCheckpoint, String> {
+
+    /**
+     * 체크포인트 행이 없으면 빈 커서로 생성합니다.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO batch_checkpoint (job_name, processed_count, created_at, updated_at) " +
+            "VALUES (:jobName, 0, :now, :now)", nativeQuery = true)
+    int insertIgnore(@Param("jobName") String jobName, @Param("now") ZonedDateTime now);
+
+    /**
+     * 체크포인트를 쓰기 잠금으로 조회합니다. 여러 서버가 같은 배치를 동시에 실행해도 한 번에 한 서버만 진행합니다.
+     * 트랜잭션 안에서 호출해야 합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM BatchCheckpoint b WHERE b.jobName = :jobName")
+    Optional<BatchCheckpoint> lockByJobName(@Param("jobName") String jobName);
+}
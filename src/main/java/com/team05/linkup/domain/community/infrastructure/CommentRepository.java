@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -26,6 +28,10 @@ public interface CommentRepository extends JpaRepository<Comment, String> {
     @Query("SELECT c FROM Comment c WHERE c.parentCommentId = :parentId ORDER BY c.createdAt")
     List<Comment> findChildCommentsByParentId(@Param("parentId") String parentId);
 
+    // 여러 부모 댓글의 자식 댓글 일괄 조회 (댓글 트리 조립용)
+    @Query("SELECT c FROM Comment c WHERE c.parentCommentId IN :parentIds ORDER BY c.createdAt")
+    List<Comment> findChildCommentsByParentIds(@Param("parentIds") Collection<String> parentIds);
+
     // 특정 부모 댓글의 자식 댓글 페이징 조회
     @Query("SELECT c FROM Comment c WHERE c.parentCommentId = :parentId ORDER BY c.createdAt")
     Slice<Comment> findChildCommentsByParentIdWithPaging(@Param("parentId") String parentId, Pageable pageable);
@@ -65,4 +71,18 @@ public interface CommentRepository extends JpaRepository<Comment, String> {
      */
     @Query("SELECT c.communityId, COUNT(c) FROM Comment c WHERE c.communityId IN :communityIds GROUP BY c.communityId")
     List<Object[]> countCommentsByCommunityIds(@Param("communityIds") List<String> communityIds);
-}
\ No newline at end of file
+
+    /**
+     * 지정된 시점 이후 작성된 댓글 수를 작성자/작성 시각(1시간) 단위로 집계합니다. (활동 사용자 랭킹 초기 적재용)
+     *
+     * @param since 집계 시작 시점
+     * @return Object[] 리스트 ([0]: 사용자 ID(String), [1]: 작성 시각을 시 단위로 절삭한 값(Timestamp), [2]: 댓글 수(Long))
+     */
+    @Query(value = """
+        SELECT c.user_id, CAST(DATE_FORMAT(c.created_at, '%Y-%m-%d %H:00:00') AS DATETIME), COUNT(*)
+        FROM comments c
+        WHERE c.created_at >= :since
+        GROUP BY c.user_id, CAST(DATE_FORMAT(c.created_at, '%Y-%m-%d %H:00:00') AS DATETIME)
+        """, nativeQuery = true)
+    List<Object[]> countCommentsByUserAndHourSince(@Param("since") ZonedDateTime since);
+}
@@ -13,7 +13,9 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface CommunityRepository extends JpaRepository<Community, String>, CommunityRepositoryCustom {
 
@@ -33,7 +35,7 @@ public interface CommunityRepository extends JpaRepository<Community, String>, C
             c.like_count AS likeCount,
             IF(CHAR_LENGTH(c.content) > 75, CONCAT(LEFT(c.content, 75), '...'), c.content) AS content,
             u.profile_image_url AS profileImageUrl,
-            (SELECT COUNT(cmt.id) FROM comments cmt WHERE cmt.community_id = c.id) AS commentCount
+            c.comment_count AS commentCount
         FROM
             community c
         JOIN
@@ -66,6 +68,72 @@ public interface CommunityRepository extends JpaRepository<Community, String>, C
             @Param("tagName") String tagName,
             Pageable pageable);
 
+    /**
+     * 커서 모드 목록 조회의 공통 SELECT 절 (첫 페이지와 다음 페이지가 같은 칼럼/조인을 사용)
+     */
+    String CURSOR_PAGE_SELECT = """
+        SELECT
+            c.id AS id,
+            u.nickname AS nickname,
+            c.title AS title,
+            c.category AS category,
+            c.created_at AS createdAt,
+            c.view_count AS viewCount,
+            c.like_count AS likeCount,
+            IF(CHAR_LENGTH(c.content) > 75, CONCAT(LEFT(c.content, 75), '...'), c.content) AS content,
+            u.profile_image_url AS profileImageUrl,
+            c.comment_count AS commentCount
+        FROM
+            community c
+        JOIN
+            user u ON c.user_id = u.id
+        WHERE
+        """;
+
+    /**
+     * 커서 모드 목록 조회의 공통 필터와 정렬 (created_at DESC, id DESC)
+     */
+    String CURSOR_PAGE_FILTER_AND_ORDER = """
+            (:category IS NULL OR c.category = :category)
+            AND
+            (:tagName IS NULL OR EXISTS (
+                SELECT 1
+                FROM community_tag_join ctj
+                JOIN tags t ON ctj.tag_id = t.id
+                WHERE ctj.community_id = c.id AND t.name = :tagName
+            ))
+        ORDER BY
+            c.created_at DESC, c.id DESC
+        LIMIT :limit
+        """;
+
+    /**
+     * 커서 모드의 첫 페이지를 조회합니다. (created_at DESC, id DESC)
+     * COUNT 쿼리를 실행하지 않으며, 다음 페이지 존재 여부 판단을 위해 호출 측에서 limit + 1 건을 요청합니다.
+     */
+    @Query(value = CURSOR_PAGE_SELECT + CURSOR_PAGE_FILTER_AND_ORDER, nativeQuery = true)
+    List<Object[]> findCommunitySummariesFirst(
+            @Param("category") String category,
+            @Param("tagName") String tagName,
+            @Param("limit") int limit);
+
+    /**
+     * 커서 모드의 다음 페이지를 조회합니다.
+     * 커서 (cursorCreatedAt, cursorId) 이후의 게시글만 idx_community_created_at_id 인덱스 범위로 읽으므로
+     * 스크롤 깊이와 관계없이 조회 비용이 일정합니다.
+     */
+    @Query(value = CURSOR_PAGE_SELECT + """
+            (c.created_at < :cursorCreatedAt
+                OR (c.created_at = :cursorCreatedAt AND c.id < :cursorId))
+            AND
+        """ + CURSOR_PAGE_FILTER_AND_ORDER, nativeQuery = true)
+    List<Object[]> findCommunitySummariesAfter(
+            @Param("category") String category,
+            @Param("tagName") String tagName,
+            @Param("cursorCreatedAt") ZonedDateTime cursorCreatedAt,
+            @Param("cursorId") String cursorId,
+            @Param("limit") int limit);
+
     /**
      * 인기 게시글 조회
      */
@@ -80,7 +148,7 @@ public interface CommunityRepository extends JpaRepository<Community, String>, C
             c.like_count AS likeCount,
             IF(CHAR_LENGTH(c.content) > 55, CONCAT(LEFT(c.content, 55), '...'), c.content) AS content,
             u.profile_image_url AS profileImageUrl,
-            (SELECT COUNT(cmt.id) FROM comments cmt WHERE cmt.community_id = c.id) AS commentCount
+            c.comment_count AS commentCount
         FROM
             community c
         JOIN
@@ -110,13 +178,94 @@ public interface CommunityRepository extends JpaRepository<Community, String>, C
      */
     @Query("SELECT new com.team05.linkup.domain.community.dto.CommunitySummaryResponseDTO(" +
             "c.id, u.nickname, c.title, c.category, c.createdAt, c.viewCount, c.likeCount, c.content, " +
-            "u.profileImageUrl, " +
-            "CAST((SELECT COUNT(cmt.id) FROM Comment cmt WHERE cmt.communityId = c.id) AS Long) AS commentCount) " +
+            "u.profileImageUrl, c.commentCount) " +
             "FROM Community c JOIN c.user u " +
             "WHERE c.title LIKE CONCAT('%', :keyword, '%') " +
             "   OR c.content LIKE CONCAT('%', :keyword, '%')")
     Page<CommunitySummaryResponseDTO> searchSummariesByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
+    /**
+     * FULLTEXT(ngram) 인덱스 검색 쿼리 - MATCH 점수(관련도) 순 정렬
+     * ft_community_title_content 인덱스가 필요합니다. (sql/community_fulltext_search.sql)
+     */
+    @Query(value = """
+        SELECT
+            c.id AS id,
+            u.nickname AS nickname,
+            c.title AS title,
+            c.category AS category,
+            c.created_at AS createdAt,
+            c.view_count AS viewCount,
+            c.like_count AS likeCount,
+            c.content AS content,
+            u.profile_image_url AS profileImageUrl,
+            c.comment_count AS commentCount,
+            MATCH(c.title, c.content) AGAINST (:keyword IN NATURAL LANGUAGE MODE) AS score
+        FROM
+            community c
+        JOIN
+            user u ON c.user_id = u.id
+        WHERE
+            MATCH(c.title, c.content) AGAINST (:keyword IN NATURAL LANGUAGE MODE)
+        ORDER BY
+            score DESC, c.created_at DESC
+        """,
+            countQuery = """
+        SELECT COUNT(c.id) FROM community c
+        WHERE MATCH(c.title, c.content) AGAINST (:keyword IN NATURAL LANGUAGE MODE)
+        """,
+            nativeQuery = true)
+    Page<Object[]> searchSummariesByFullText(@Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * 게시글 ID 목록으로 요약 정보를 조회합니다. (외부 검색 색인 결과를 DTO로 변환할 때 사용, 순서는 보장하지 않음)
+     */
+    @Query("SELECT new com.team05.linkup.domain.community.dto.CommunitySummaryResponseDTO(" +
+            "c.id, u.nickname, c.title, c.category, c.createdAt, c.viewCount, c.likeCount, c.content, " +
+            "u.profileImageUrl, c.commentCount) " +
+            "FROM Community c JOIN c.user u " +
+            "WHERE c.id IN :ids")
+    List<CommunitySummaryResponseDTO> findSummariesByIds(@Param("ids") Collection<String> ids);
+
+    /**
+     * 검색 색인 구축용 게시글 본문 조회 ([0]: id, [1]: title, [2]: content)
+     */
+    @Query("SELECT c.id, c.title, c.content FROM Community c WHERE c.id IN :ids")
+    List<Object[]> findSearchDocumentsByIds(@Param("ids") Collection<String> ids);
+
+    /**
+     * 랭킹 영향 판단용 정렬 키 조회 ([0]: id, [1]: 조회수, [2]: 좋아요 수, [3]: 작성일시)
+     */
+    @Query("SELECT c.id, c.viewCount, c.likeCount, c.createdAt FROM Community c WHERE c.id IN :ids")
+    List<Object[]> findRankingKeysByIds(@Param("ids") Collection<String> ids);
+
+    /**
+     * AI 답변이 없고 진행 중인 답변 작업도 없는(작업이 없거나 DEAD) 질문 게시글을 (created_at, id) 오름차순 키셋으로 조회합니다.
+     * ([0]: 게시글 ID, [1]: 작성일시)
+     */
+    @Query("SELECT c.id, c.createdAt FROM Community c " +
+            "WHERE c.category = com.team05.linkup.domain.community.domain.CommunityCategory.QUESTION " +
+            "AND (c.createdAt > :afterCreatedAt OR (c.createdAt = :afterCreatedAt AND c.id > :afterId)) " +
+            "AND NOT EXISTS (SELECT 1 FROM AiComment a WHERE a.community = c) " +
+            "AND NOT EXISTS (SELECT 1 FROM AiCommentJob j WHERE j.communityId = c.id " +
+            "AND j.status <> com.team05.linkup.domain.community.domain.AiCommentJobStatus.DEAD) " +
+            "ORDER BY c.createdAt, c.id")
+    List<Object[]> findQuestionsWithoutAiCommentAfter(@Param("afterCreatedAt") ZonedDateTime afterCreatedAt,
+                                                      @Param("afterId") String afterId,
+                                                      Pageable pageable);
+
+    /**
+     * 검색 색인 구축용 게시글 ID 페이지 조회
+     */
+    @Query("SELECT c.id FROM Community c ORDER BY c.id")
+    Page<String> findAllIds(Pageable pageable);
+
+    /**
+     * 검색 색인 구축용 게시글별 태그 이름 조회 ([0]: 게시글 ID, [1]: 태그 이름)
+     */
+    @Query("SELECT c.id, t.name FROM Community c JOIN c.tags t WHERE c.id IN :ids")
+    List<Object[]> findTagNamesByCommunityIds(@Param("ids") Collection<String> ids);
+
     // 좋아요 증감 메서드 유지
     @Modifying
     @Transactional
@@ -128,6 +277,55 @@ public interface CommunityRepository extends JpaRepository<Community, String>, C
     @Query("UPDATE Community c SET c.likeCount = CASE WHEN c.likeCount > 0 THEN c.likeCount - 1 ELSE 0 END WHERE c.id = :communityId")
     int decrementLikeCount(@Param("communityId") String communityId);
 
+    /**
+     * 게시글의 좋아요 수만 조회합니다. (엔티티 로딩 없이 최신값 확인용)
+     */
+    @Query("SELECT c.likeCount FROM Community c WHERE c.id = :communityId")
+    Optional<Long> findLikeCountById(@Param("communityId") String communityId);
+
+    // 댓글 수 증감 (댓글 작성/삭제 트랜잭션 안에서 호출)
+    @Modifying
+    @Transactional
+    @Query("UPDATE Community c SET c.commentCount = c.commentCount + :delta WHERE c.id = :communityId")
+    int incrementCommentCount(@Param("communityId") String communityId, @Param("delta") long delta);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Community c SET c.commentCount = CASE WHEN c.commentCount > :delta THEN c.commentCount - :delta ELSE 0 END WHERE c.id = :communityId")
+    int decrementCommentCount(@Param("communityId") String communityId, @Param("delta") long delta);
+
+    /**
+     * comment_count 컬럼을 실제 댓글 수와 일치시키는 보정 쿼리.
+     * 값이 어긋난 게시글만 갱신하며, 갱신된 행 수를 반환합니다.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE community c
+        LEFT JOIN (
+            SELECT cmt.community_id, COUNT(*) AS cnt
+            FROM comments cmt
+            GROUP BY cmt.community_id
+        ) x ON x.community_id = c.id
+        SET c.comment_count = COALESCE(x.cnt, 0)
+        WHERE c.comment_count <> COALESCE(x.cnt, 0)
+        """, nativeQuery = true)
+    int reconcileCommentCounts();
+
+    /**
+     * 지정된 시점 이후 작성된 게시글 수를 작성자/작성 시각(1시간) 단위로 집계합니다. (활동 사용자 랭킹 초기 적재용)
+     *
+     * @param since 집계 시작 시점
+     * @return Object[] 리스트 ([0]: 사용자 ID(String), [1]: 작성 시각을 시 단위로 절삭한 값(Timestamp), [2]: 게시글 수(Long))
+     */
+    @Query(value = """
+        SELECT c.user_id, CAST(DATE_FORMAT(c.created_at, '%Y-%m-%d %H:00:00') AS DATETIME), COUNT(*)
+        FROM community c
+        WHERE c.created_at >= :since
+        GROUP BY c.user_id, CAST(DATE_FORMAT(c.created_at, '%Y-%m-%d %H:00:00') AS DATETIME)
+        """, nativeQuery = true)
+    List<Object[]> countPostsByUserAndHourSince(@Param("since") ZonedDateTime since);
+
 
     /**
      * 멘토 마이페이지 - 내가 등록한 재능 목록 (미리보기 용, 최신 2개)
@@ -189,18 +387,14 @@ public interface CommunityRepository extends JpaRepository<Community, String>, C
         END AS content,
         c.view_count,
         c.like_count,
-        COUNT(ct.id) AS comment_count
+        c.comment_count
     FROM 
         community c 
-    LEFT JOIN 
-        comments ct ON c.id = ct.community_id
     WHERE 
         c.category != 'TALENT'
         AND c.user_id IN (
             SELECT u.id FROM user u WHERE u.nickname = :nickname
         )
-    GROUP BY 
-        c.id
     ORDER BY 
         c.updated_at DESC 
     LIMIT :limit
@@ -228,18 +422,14 @@ public interface CommunityRepository extends JpaRepository<Community, String>, C
         END AS content,
         c.view_count,
         c.like_count,
-        COUNT(ct.id) AS comment_count
+        c.comment_count
     FROM 
         community c 
-    LEFT JOIN 
-        comments ct ON c.id = ct.community_id
     WHERE 
         c.category != 'TALENT'
         AND c.user_id IN (
             SELECT u.id FROM user u WHERE u.nickname = :nickname
         )
-    GROUP BY 
-        c.id
     ORDER BY 
         c.updated_at DESC
     """,
@@ -426,11 +616,7 @@ public interface CommunityRepository extends JpaRepository<Community, String>, C
             c.content,
             c.view_count,
             c.like_count,
-            (
-                SELECT COUNT(*) 
-                FROM comments cm 
-                WHERE cm.community_id = c.id
-            ) AS comment_count
+            c.comment_count
         FROM community c
         JOIN user u ON c.user_id = u.id
         WHERE u.nickname = :nickname
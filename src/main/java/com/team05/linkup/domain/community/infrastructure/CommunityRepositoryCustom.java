@@ -8,6 +8,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 
 public interface CommunityRepositoryCustom {
 
@@ -43,4 +44,20 @@ public interface CommunityRepositoryCustom {
             Tag tag,
             Pageable pageable
     );
+
+    /**
+     * 게시글별 조회수 증가분을 한 번의 UPDATE ... CASE 문으로 반영합니다.
+     *
+     * @param deltas 게시글 ID별 조회수 증가분
+     * @return 갱신된 게시글 수
+     */
+    long addViewCounts(Map<String, Long> deltas);
+
+    /**
+     * 게시글별 좋아요 수 증감분을 한 번의 UPDATE ... CASE 문으로 반영합니다. (0 미만으로 내려가지 않음)
+     *
+     * @param deltas 게시글 ID별 좋아요 수 증감분
+     * @return 갱신된 게시글 수
+     */
+    long addLikeCounts(Map<String, Long> deltas);
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.team05.linkup.domain.community.infrastructure;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.team05.linkup.domain.community.domain.*;
 import com.team05.linkup.domain.user.domain.QUser;
@@ -12,9 +15,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.Map;
 
 @Repository
 @RequiredArgsConstructor
@@ -24,7 +29,6 @@ public class CommunityRepositoryCustomImpl implements CommunityRepositoryCustom
 
     private final QCommunity community = QCommunity.community;
     private final QUser user = QUser.user;
-    private final QComment comment = QComment.comment;
     private final QTag tag = QTag.tag; // QTag 추가
 
     /**
@@ -42,12 +46,11 @@ public class CommunityRepositoryCustomImpl implements CommunityRepositoryCustom
                         community.title,
                         community.content,
                         Expressions.constant(""),
-                        comment.id.count().intValue()
+                        community.commentCount.intValue()
                 ))
                 .from(community)
                 .join(community.user, user)
                 .leftJoin(community.tags, tag)
-                .leftJoin(comment).on(comment.communityId.eq(community.id))
                 .where(
                         community.category.eq(CommunityCategory.QUESTION),
                         tag.name.in(tags)
@@ -58,7 +61,8 @@ public class CommunityRepositoryCustomImpl implements CommunityRepositoryCustom
                         user.profileImageUrl,
                         community.updatedAt,
                         community.title,
-                        community.content
+                        community.content,
+                        community.commentCount
                 )
                 .orderBy(community.updatedAt.desc())
                 .limit(limit)
@@ -84,12 +88,11 @@ public class CommunityRepositoryCustomImpl implements CommunityRepositoryCustom
                         community.title,
                         community.content,
                         Expressions.constant(""),
-                        comment.id.count().intValue()
+                        community.commentCount.intValue()
                 ))
                 .from(community)
                 .join(community.user, user)
                 .leftJoin(community.tags, tag)
-                .leftJoin(comment).on(comment.communityId.eq(community.id))
                 .where(
                         community.category.eq(CommunityCategory.QUESTION),
                         tag.name.in(interests)
@@ -100,7 +103,8 @@ public class CommunityRepositoryCustomImpl implements CommunityRepositoryCustom
                         user.profileImageUrl,
                         community.updatedAt,
                         community.title,
-                        community.content
+                        community.content,
+                        community.commentCount
                 )
                 .orderBy(community.updatedAt.desc())
                 .offset(pageable.getOffset())
@@ -197,4 +201,53 @@ public class CommunityRepositoryCustomImpl implements CommunityRepositoryCustom
 
         return new PageImpl<>(results, pageable, total != null ? total : 0L);
     }
-}
\ No newline at end of file
+
+    /**
+     * 게시글별 조회수 증가분을 한 번의 UPDATE 로 반영합니다.
+     * UPDATE community SET view_count = CASE WHEN id = ? THEN view_count + ? ... END WHERE id IN (...)
+     *
+     * @param deltas 게시글 ID별 조회수 증가분
+     * @return 갱신된 게시글 수
+     */
+    @Override
+    @Transactional
+    public long addViewCounts(Map<String, Long> deltas) {
+        return addCounts(community.viewCount, deltas);
+    }
+
+    /**
+     * 게시글별 좋아요 수 증감분을 한 번의 UPDATE 로 반영합니다. 결과가 음수이면 0 으로 보정합니다.
+     *
+     * @param deltas 게시글 ID별 좋아요 수 증감분
+     * @return 갱신된 게시글 수
+     */
+    @Override
+    @Transactional
+    public long addLikeCounts(Map<String, Long> deltas) {
+        return addCounts(community.likeCount, deltas);
+    }
+
+    // 카운터 컬럼에 게시글별 증감분을 CASE 문으로 일괄 반영 (0 미만 방지)
+    private long addCounts(NumberPath<Long> counter, Map<String, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return 0L;
+        }
+
+        CaseBuilder.Cases<Long, NumberExpression<Long>> cases = null;
+        for (Map.Entry<String, Long> entry : deltas.entrySet()) {
+            NumberExpression<Long> updated = counter.add(entry.getValue());
+            if (entry.getValue() < 0) {
+                updated = new CaseBuilder().when(updated.lt(0L)).then(0L).otherwise(updated);
+            }
+            cases = (cases == null)
+                    ? new CaseBuilder().when(community.id.eq(entry.getKey())).then(updated)
+                    : cases.when(community.id.eq(entry.getKey())).then(updated);
+        }
+
+        return queryFactory
+                .update(community)
+                .set(counter, cases.otherwise(counter))
+                .where(community.id.in(deltas.keySet()))
+                .execute();
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -40,6 +41,36 @@ public interface LikeRepository extends JpaRepository<Like, String> {
 
     long countByCommunityId(String communityId);
 
+    /**
+     * 사용자의 '좋아요'를 삭제합니다. (토글의 취소 단계)
+     *
+     * @param userId      사용자 ID
+     * @param communityId 게시글 ID
+     * @return 삭제된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM likes WHERE user_id = :userId AND community_id = :communityId", nativeQuery = true)
+    int deleteLike(@Param("userId") String userId, @Param("communityId") String communityId);
+
+    /**
+     * '좋아요'를 추가합니다. (토글의 추가 단계)
+     * INSERT IGNORE 는 외래 키 위반까지 경고로 바꾸므로 쓰지 않습니다. (user_id, community_id) 유니크 제약이나
+     * 외래 키 제약에 걸리면 DataIntegrityViolationException 이 발생하며, 호출 측에서 원인을 구분합니다.
+     *
+     * @param id          새 '좋아요' ID (UUID)
+     * @param userId      사용자 ID
+     * @param communityId 게시글 ID
+     * @return 추가된 행 수 (1)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        INSERT INTO likes (id, user_id, community_id, created_at, updated_at)
+        VALUES (:id, :userId, :communityId, NOW(), NOW())
+        """, nativeQuery = true)
+    int insertLike(@Param("id") String id, @Param("userId") String userId, @Param("communityId") String communityId);
+
 
     /**
      * 특정 커뮤니티 게시글에 연결된 모든 '좋아요' 레코드를 삭제합니다.
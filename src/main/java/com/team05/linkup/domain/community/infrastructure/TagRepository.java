@@ -2,13 +2,16 @@ package com.team05.linkup.domain.community.infrastructure;
 
 import com.team05.linkup.domain.community.domain.Tag;
 import com.team05.linkup.domain.community.dto.TagDTO;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,7 +21,7 @@ import java.util.Optional;
  * 필요한 커스텀 쿼리 메서드를 정의할 수 있습니다.
  */
 @Repository
-public interface TagRepository extends JpaRepository<Tag, Long> {
+public interface TagRepository extends JpaRepository<Tag, Long>, TagRepositoryCustom {
 
     /**
      * 태그 이름으로 기존 태그를 조회합니다. (대소문자 구분)
@@ -27,6 +30,25 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
      */
     Optional<Tag> findByName(String name);
 
+    /**
+     * 여러 태그 이름에 해당하는 태그를 한 번에 조회합니다.
+     *
+     * @param names 조회할 태그 이름 목록
+     * @return 존재하는 태그 목록
+     */
+    List<Tag> findByNameIn(Collection<String> names);
+
+    /**
+     * 여러 태그 이름에 해당하는 태그를 공유 잠금 읽기(SELECT ... FOR SHARE)로 조회합니다.
+     * 스냅샷이 아닌 최신 커밋 데이터를 읽으므로, INSERT IGNORE 직후 다른 트랜잭션이 먼저 저장한 태그도 조회됩니다.
+     *
+     * @param names 조회할 태그 이름 목록
+     * @return 존재하는 태그 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT t FROM Tag t WHERE t.name IN :names")
+    List<Tag> findLatestByNameIn(@Param("names") Collection<String> names);
+
     // 최근 N일 동안 사용된 태그를 빈도순으로 조회
     // COUNT(c.id) 대신 COUNT(t.id) 또는 조인 테이블의 레코드를 세는 것이 더 정확할 수 있습니다.
     @Query("SELECT new com.team05.linkup.domain.community.dto.TagDTO(t.name) " +
@@ -36,5 +58,21 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
             "ORDER BY COUNT(c.id) DESC, t.name ASC")
     List<TagDTO> findPopularTagsSince(@Param("sinceDate") ZonedDateTime sinceDate, Pageable pageable);
 
+    /**
+     * 지정된 시점 이후 작성된 게시글의 태그 사용 횟수를 태그/작성 시각(1시간) 단위로 집계합니다. (인기 태그 초기 적재용)
+     *
+     * @param since 집계 시작 시점
+     * @return Object[] 리스트 ([0]: 태그 이름(String), [1]: 작성 시각을 시 단위로 절삭한 값(Timestamp), [2]: 사용 횟수(Long))
+     */
+    @Query(value = """
+        SELECT t.name, CAST(DATE_FORMAT(c.created_at, '%Y-%m-%d %H:00:00') AS DATETIME), COUNT(*)
+        FROM community c
+        JOIN community_tag_join ctj ON ctj.community_id = c.id
+        JOIN tags t ON t.id = ctj.tag_id
+        WHERE c.created_at >= :since
+        GROUP BY t.name, CAST(DATE_FORMAT(c.created_at, '%Y-%m-%d %H:00:00') AS DATETIME)
+        """, nativeQuery = true)
+    List<Object[]> countTagUsageByHourSince(@Param("since") ZonedDateTime since);
+
     boolean existsByName(String name); // 태그 존재 여부 확인 메소드 (활용 가능)
 }
\ No newline at end of file
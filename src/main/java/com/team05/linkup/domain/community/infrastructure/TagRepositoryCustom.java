@@ -0,0 +1,15 @@
+package com.team05.linkup.domain.community.infrastructure;
+
+import java.util.Collection;
+
+public interface TagRepositoryCustom {
+
+    /**
+     * 여러 태그 이름을 한 번의 INSERT IGNORE 문으로 저장합니다.
+     * 이미 존재하는 이름(동시에 다른 트랜잭션이 저장한 경우 포함)은 유니크 제약에 의해 무시됩니다.
+     *
+     * @param names 저장할 태그 이름 목록
+     * @return 새로 저장된 행 수
+     */
+    int insertIgnoreNames(Collection<String> names);
+}
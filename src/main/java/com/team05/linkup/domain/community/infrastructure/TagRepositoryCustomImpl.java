@@ -0,0 +1,36 @@
+package com.team05.linkup.domain.community.infrastructure;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Collections;
+
+@Repository
+public class TagRepositoryCustomImpl implements TagRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * INSERT IGNORE INTO tags (name) VALUES (?), (?), ... 형태로 일괄 저장합니다.
+     */
+    @Override
+    @Transactional
+    public int insertIgnoreNames(Collection<String> names) {
+        if (names.isEmpty()) {
+            return 0;
+        }
+
+        String values = String.join(", ", Collections.nCopies(names.size(), "(?)"));
+        Query query = entityManager.createNativeQuery("INSERT IGNORE INTO tags (name) VALUES " + values);
+        int position = 1;
+        for (String name : names) {
+            query.setParameter(position++, name);
+        }
+        return query.executeUpdate();
+    }
+}
@@ -0,0 +1,21 @@
+package com.team05.linkup.domain.community.infrastructure.search;
+
+import com.team05.linkup.domain.community.dto.CommunitySummaryResponseDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 커뮤니티 게시글 키워드 검색 백엔드.
+ * community.search.backend 설정값(like | fulltext | lucene)에 따라 하나의 구현체가 등록됩니다.
+ */
+public interface CommunitySearchBackend {
+
+    /**
+     * 키워드로 게시글을 검색합니다.
+     *
+     * @param keyword  공백이 제거된 검색 키워드 (빈 문자열 아님)
+     * @param pageable 페이징 정보 (관련도 순위를 지원하는 백엔드는 정렬 조건을 무시하고 관련도 순으로 반환)
+     * @return 검색된 게시글 요약 페이지
+     */
+    Page<CommunitySummaryResponseDTO> search(String keyword, Pageable pageable);
+}
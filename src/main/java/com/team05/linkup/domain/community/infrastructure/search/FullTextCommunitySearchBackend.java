@@ -0,0 +1,38 @@
+package com.team05.linkup.domain.community.infrastructure.search;
+
+import com.team05.linkup.domain.community.dto.CommunitySummaryResponseDTO;
+import com.team05.linkup.domain.community.infrastructure.CommunityRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * MySQL FULLTEXT(ngram parser) 인덱스 기반 검색 백엔드.
+ * MATCH ... AGAINST 점수로 관련도 순 정렬하며, sql/community_fulltext_search.sql 의 인덱스가 필요합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "community.search.backend", havingValue = "fulltext")
+public class FullTextCommunitySearchBackend implements CommunitySearchBackend {
+
+    /** ngram_token_size 기본값. 이보다 짧은 키워드는 ngram 토큰이 만들어지지 않아 검색되지 않는다. */
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
+    private final CommunityRepository communityRepository;
+
+    @Override
+    public Page<CommunitySummaryResponseDTO> search(String keyword, Pageable pageable) {
+        if (keyword.length() < NGRAM_TOKEN_SIZE) {
+            // 한 글자 검색어는 FULLTEXT 로 찾을 수 없으므로 기존 LIKE 경로 사용
+            return communityRepository.searchSummariesByKeyword(keyword, pageable);
+        }
+
+        // 관련도 순 정렬은 쿼리에 고정되어 있으므로 정렬 조건 없이 페이징만 전달
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        return communityRepository.searchSummariesByFullText(keyword, unsorted)
+                .map(CommunitySummaryResponseDTO::fromObjectArray);
+    }
+}
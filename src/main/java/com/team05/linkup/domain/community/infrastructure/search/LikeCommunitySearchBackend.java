@@ -0,0 +1,26 @@
+package com.team05.linkup.domain.community.infrastructure.search;
+
+import com.team05.linkup.domain.community.dto.CommunitySummaryResponseDTO;
+import com.team05.linkup.domain.community.infrastructure.CommunityRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기존 LIKE '%keyword%' 방식의 검색 백엔드 (기본값).
+ * 인덱스를 사용하지 못해 전체 스캔이 발생하지만 별도 색인 없이 동작하며, FULLTEXT 백엔드와 비교하는 기준선입니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "community.search.backend", havingValue = "like", matchIfMissing = true)
+public class LikeCommunitySearchBackend implements CommunitySearchBackend {
+
+    private final CommunityRepository communityRepository;
+
+    @Override
+    public Page<CommunitySummaryResponseDTO> search(String keyword, Pageable pageable) {
+        return communityRepository.searchSummariesByKeyword(keyword, pageable);
+    }
+}
@@ -0,0 +1,202 @@
+package com.team05.linkup.domain.community.infrastructure.search;
+
+import com.team05.linkup.domain.community.dto.CommunityChangedEventDTO;
+import com.team05.linkup.domain.community.dto.CommunitySummaryResponseDTO;
+import com.team05.linkup.domain.community.infrastructure.CommunityRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 임베디드 Lucene 색인 기반 검색 백엔드.
+ * 제목/본문/태그를 한국어 형태소 분석기(Nori)로 색인하고 BM25 점수로 관련도 순 정렬합니다.
+ * 게시글 생성/수정/삭제 이벤트를 커밋 이후 받아 색인을 갱신하며, 색인이 비어 있으면 기동 시 DB 에서 전체 재구축합니다.
+ * 색인은 인스턴스 로컬 디렉터리에 저장되므로 단일 인스턴스 배포를 전제로 합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "community.search.backend", havingValue = "lucene")
+public class LuceneCommunitySearchBackend implements CommunitySearchBackend {
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_CONTENT = "content";
+    private static final String FIELD_TAGS = "tags";
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(FIELD_TITLE, 2.0f, FIELD_TAGS, 1.5f, FIELD_CONTENT, 1.0f);
+
+    /** 색인 재구축 시 한 번에 읽어올 게시글 수 */
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final CommunityRepository communityRepository;
+    private final Analyzer analyzer = new KoreanAnalyzer();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public LuceneCommunitySearchBackend(CommunityRepository communityRepository,
+                                        @Value("${community.search.lucene.index-dir:./data/community-index}") String indexDir) throws IOException {
+        this.communityRepository = communityRepository;
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        this.writer = new IndexWriter(FSDirectory.open(Path.of(indexDir)), config);
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    @Override
+    public Page<CommunitySummaryResponseDTO> search(String keyword, Pageable pageable) {
+        Query query = parse(keyword);
+        int offset = (int) pageable.getOffset();
+
+        List<String> ids = new ArrayList<>();
+        int total;
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                total = searcher.count(query);
+                TopDocs topDocs = searcher.search(query, offset + pageable.getPageSize());
+                ScoreDoc[] hits = topDocs.scoreDocs;
+                for (int i = offset; i < hits.length; i++) {
+                    ids.add(searcher.storedFields().document(hits[i].doc).get(FIELD_ID));
+                }
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Lucene 검색 실패: " + keyword, e);
+        }
+
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+
+        // DB 에서 요약 정보를 가져온 뒤 Lucene 관련도 순서로 재정렬
+        Map<String, CommunitySummaryResponseDTO> summaries = communityRepository.findSummariesByIds(ids).stream()
+                .collect(Collectors.toMap(CommunitySummaryResponseDTO::id, Function.identity()));
+        List<CommunitySummaryResponseDTO> content = ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 게시글 변경 이벤트를 커밋 이후 색인에 반영합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommunityChanged(CommunityChangedEventDTO event) {
+        try {
+            if (event.type() == CommunityChangedEventDTO.ChangeType.DELETED) {
+                writer.deleteDocuments(new Term(FIELD_ID, event.communityId()));
+            } else {
+                indexDocuments(List.of(event.communityId()));
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            // 색인 갱신 실패는 게시글 작업에 영향을 주지 않으며, 재구축 시 복구됨
+            log.error("검색 색인 갱신 실패: communityId={}, type={}", event.communityId(), event.type(), e);
+        }
+    }
+
+    /**
+     * 색인이 비어 있으면 DB 의 모든 게시글로 색인을 구축합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() throws IOException {
+        if (writer.getDocStats().numDocs > 0) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        int indexed = 0;
+        Page<String> page;
+        int pageNumber = 0;
+        do {
+            page = communityRepository.findAllIds(PageRequest.of(pageNumber++, REBUILD_BATCH_SIZE));
+            indexDocuments(page.getContent());
+            indexed += page.getNumberOfElements();
+        } while (page.hasNext());
+        writer.commit();
+        searcherManager.maybeRefresh();
+        log.info("검색 색인 재구축 완료: 게시글 수={}, 소요={}ms", indexed, System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 변경 사항을 주기적으로 디스크에 커밋합니다. (검색 반영은 maybeRefresh 로 즉시 이루어짐)
+     */
+    @Scheduled(fixedDelayString = "${community.search.lucene.commit-interval-ms:30000}")
+    public void commit() throws IOException {
+        if (writer.hasUncommittedChanges()) {
+            writer.commit();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        analyzer.close();
+    }
+
+    private void indexDocuments(List<String> communityIds) throws IOException {
+        if (communityIds.isEmpty()) {
+            return;
+        }
+        Map<String, List<String>> tagsById = new HashMap<>();
+        for (Object[] row : communityRepository.findTagNamesByCommunityIds(communityIds)) {
+            tagsById.computeIfAbsent((String) row[0], k -> new ArrayList<>()).add((String) row[1]);
+        }
+        for (Object[] row : communityRepository.findSearchDocumentsByIds(communityIds)) {
+            String id = (String) row[0];
+            Document doc = new Document();
+            doc.add(new StringField(FIELD_ID, id, Field.Store.YES));
+            doc.add(new TextField(FIELD_TITLE, (String) row[1], Field.Store.NO));
+            doc.add(new TextField(FIELD_CONTENT, (String) row[2], Field.Store.NO));
+            doc.add(new TextField(FIELD_TAGS, String.join(" ", tagsById.getOrDefault(id, List.of())), Field.Store.NO));
+            writer.updateDocument(new Term(FIELD_ID, id), doc);
+        }
+    }
+
+    private Query parse(String keyword) {
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(
+                new String[]{FIELD_TITLE, FIELD_CONTENT, FIELD_TAGS}, analyzer, FIELD_BOOSTS);
+        try {
+            return parser.parse(QueryParser.escape(keyword));
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("검색어를 해석할 수 없습니다: " + keyword, e);
+        }
+    }
+}
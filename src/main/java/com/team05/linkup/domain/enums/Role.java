@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 public enum Role {
     ROLE_TEMP,
     ROLE_MENTOR,
-    ROLE_MENTEE
+    ROLE_MENTEE,
+    ROLE_ADMIN // 운영용 내부 API 전용 (회원가입 시 선택 불가)
 
 }
@@ -46,6 +46,8 @@ public class AiMatchingController {
             return ResponseEntity.ok(ApiResponse.error(ResponseCode.TIMEOUT));
         } catch (UserNotfoundException e){
             return ResponseEntity.ok(ApiResponse.error(ResponseCode.ENTITY_NOT_FOUND));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.ok(ApiResponse.error(ResponseCode.INVALID_INPUT_VALUE, e.getMessage()));
         }
         catch (Exception e) {
             return ResponseEntity.ok(ApiResponse.error(ResponseCode.INTERNAL_SERVER_ERROR));
@@ -53,10 +55,11 @@ public class AiMatchingController {
     }
 
     @PostMapping("/recommendations/{nickname}")
-    @Operation(description = "ai 매칭 멘토 선택")
+    @Operation(description = "ai 매칭 멘토 선택 (Idempotency-Key 헤더로 재시도 시 같은 세션 유지)")
     @PreAuthorize("hasAuthority('ROLE_MENTEE')")
     public ResponseEntity<ApiResponse> matchMentor(@PathVariable String nickname,
-                                                   @AuthenticationPrincipal UserPrincipal userPrincipal) {
+                                                   @AuthenticationPrincipal UserPrincipal userPrincipal,
+                                                   @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         try {
             String providerId = userPrincipal.providerId();
             String provider = userPrincipal.provider();
@@ -66,12 +69,14 @@ public class AiMatchingController {
                         .body(ApiResponse.error(ResponseCode.UNAUTHORIZED));
             }
 
-            aiMatchingSelectorServiceImpl.matchingMentor(userPrincipal, nickname);
+            aiMatchingSelectorServiceImpl.matchingMentor(userPrincipal, nickname, idempotencyKey);
             return ResponseEntity.ok(ApiResponse.success());
         } catch (DuplicateMentoringMatchException e) {
             return ResponseEntity.ok(ApiResponse.error(ResponseCode.INVALID_INPUT_VALUE));
         } catch (UserNotfoundException e){
             return ResponseEntity.ok(ApiResponse.error(ResponseCode.ENTITY_NOT_FOUND));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.ok(ApiResponse.error(ResponseCode.INVALID_INPUT_VALUE, e.getMessage()));
         }
 
         catch (Exception e) {
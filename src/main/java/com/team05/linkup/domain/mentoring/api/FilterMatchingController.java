@@ -4,7 +4,9 @@ import com.team05.linkup.common.dto.ApiResponse;
 import com.team05.linkup.common.dto.UserPrincipal;
 import com.team05.linkup.common.enums.ResponseCode;
 import com.team05.linkup.domain.mentoring.application.FilterMatchingService;
+import com.team05.linkup.domain.mentoring.dto.MentorCardCursorResponseDTO;
 import com.team05.linkup.domain.mentoring.dto.MentorCardDTO;
+import com.team05.linkup.domain.mentoring.dto.MentorFacetCountsDTO;
 import com.team05.linkup.domain.mentoring.dto.MentorFilterDTO;
 import com.team05.linkup.domain.mentoring.dto.MentorProfileDTO;
 import com.team05.linkup.domain.user.domain.User;
@@ -32,16 +34,17 @@ public class FilterMatchingController {
     private final FilterMatchingService filterMatchingService;
 
     @PostMapping("/{nickname}")
-    @Operation(summary = "수동 매칭 멘토링 확정", description = "해당 닉네임의 멘토와 멘토링을 진행하도록 설정하고, 멘토링_세션 DB에 '진행 중' 상태로 저장합니다.")
+    @Operation(summary = "수동 매칭 멘토링 확정", description = "해당 닉네임의 멘토와 멘토링을 진행하도록 설정하고, 멘토링_세션 DB에 '진행 중' 상태로 저장합니다. 이미 진행 중인 매칭이 있거나 같은 Idempotency-Key 로 재시도하면 기존 매칭의 연락처를 반환합니다.")
     @PreAuthorize("hasAuthority('ROLE_MENTEE')")
-    public ResponseEntity<ApiResponse> createMatching(@AuthenticationPrincipal UserPrincipal userPrincipal, @PathVariable String nickname) {
+    public ResponseEntity<ApiResponse> createMatching(@AuthenticationPrincipal UserPrincipal userPrincipal, @PathVariable String nickname,
+                                                      @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         Optional<User> userOpt = userRepository.findByProviderAndProviderId(
                 userPrincipal.provider(), userPrincipal.providerId());
         if (userOpt.isEmpty())
             return ResponseEntity.ok(ApiResponse.error(ResponseCode.ENTITY_NOT_FOUND, "프로필을 찾을 수 없습니다."));
 
         try {
-            String contactLink = filterMatchingService.createMatching(nickname, userPrincipal);
+            String contactLink = filterMatchingService.createMatching(nickname, userPrincipal, idempotencyKey);
             return ResponseEntity.ok(ApiResponse.created(contactLink));
         } catch (IllegalArgumentException ex) {
             // 잘못된 요청 처리
@@ -85,4 +88,34 @@ public class FilterMatchingController {
                     "멘토 목록을 가져오는 중 오류가 발생했습니다."));
         }
     }
+
+    @PostMapping("/list/paged")
+    @Operation(summary = "수동 매칭 리스트 커서 조회", description = "/list 와 같은 필터로 멘토 카드를 멘토 ID 순 커서 방식으로 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다. (size 기본값 20, 최대 50)")
+    @PreAuthorize("hasAuthority('ROLE_MENTEE')")
+    public ResponseEntity<ApiResponse<MentorCardCursorResponseDTO>> filterMentorsPaged(
+            @RequestBody MentorFilterDTO mentorFilterDTO,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(
+                    filterMatchingService.filterMentors(mentorFilterDTO, cursor, size)));
+        } catch (Exception ex) {
+            logger.error("멘토 필터링(커서) 중 오류 발생: {}", ex.getMessage());
+            return ResponseEntity.ok(ApiResponse.error(ResponseCode.INTERNAL_SERVER_ERROR,
+                    "멘토 목록을 가져오는 중 오류가 발생했습니다."));
+        }
+    }
+
+    @PostMapping("/list/facets")
+    @Operation(summary = "수동 매칭 필터 항목별 멘토 수", description = "/list 와 같은 필터 본문을 받아 관심 분야, 지역, 시군구, 활동 시간대, 활동 유형 값별 멘토 수를 조회합니다. 각 항목은 자기 조건을 뺀 나머지 필터 기준으로 셉니다.")
+    @PreAuthorize("hasAuthority('ROLE_MENTEE')")
+    public ResponseEntity<ApiResponse<MentorFacetCountsDTO>> countMentorFacets(@RequestBody MentorFilterDTO mentorFilterDTO) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(filterMatchingService.countFacets(mentorFilterDTO)));
+        } catch (Exception ex) {
+            logger.error("멘토 필터 항목 집계 중 오류 발생: {}", ex.getMessage());
+            return ResponseEntity.ok(ApiResponse.error(ResponseCode.INTERNAL_SERVER_ERROR,
+                    "멘토 필터 항목을 집계하는 중 오류가 발생했습니다."));
+        }
+    }
 }
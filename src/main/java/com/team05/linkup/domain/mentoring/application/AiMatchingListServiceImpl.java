@@ -2,14 +2,11 @@ package com.team05.linkup.domain.mentoring.application;
 
 import com.team05.linkup.common.dto.UserPrincipal;
 import com.team05.linkup.common.exception.UserNotfoundException;
-import com.team05.linkup.common.util.ApiUtils;
 import com.team05.linkup.domain.enums.Interest;
 import com.team05.linkup.domain.mentoring.dto.AiMatchingRequestDTO;
 import com.team05.linkup.domain.mentoring.dto.AiMatchingResponseDTO;
 import com.team05.linkup.domain.mentoring.dto.ProfileTagInterestDTO;
-import com.team05.linkup.domain.mentoring.util.NgrokApiUrl;
 import com.team05.linkup.domain.mentoring.util.RecommendationLogic;
-import com.team05.linkup.domain.user.infrastructure.CustomerUserRepositoryImpl;
 import com.team05.linkup.domain.user.infrastructure.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.apache.logging.log4j.LogManager;
@@ -26,12 +23,10 @@ import java.util.concurrent.TimeoutException;
 public class AiMatchingListServiceImpl implements AiMatchingService {
     private static final Logger logger = LogManager.getLogger();
     private final UserRepository userRepository;
-    private final CustomerUserRepositoryImpl customerUserRepositoryImpl;
-    private final ApiUtils apiUtils;
+    private final MentorCandidateIndex mentorCandidateIndex;
+    private final MentorSimilarityEngine similarityEngine;
     private final RecommendationLogic recommendationLogic;
 
-    private final NgrokApiUrl apiUrl;
-
     @Override
     public AiMatchingResponseDTO matchMentor(UserPrincipal userPrincipal) throws TimeoutException {
         try {
@@ -45,16 +40,12 @@ public class AiMatchingListServiceImpl implements AiMatchingService {
             Interest myInterest = result.interest();
 
             logger.debug("myProfileTag: {}, myInterest: {}", myProfileTag, myInterest);
-            List<AiMatchingRequestDTO.OtherProfile> resultList = customerUserRepositoryImpl.findOtherProfileTagsByProviderId(provider,
-                                                                                        providerId,
-                                                                                        myInterest);
+            List<AiMatchingRequestDTO.OtherProfile> resultList = mentorCandidateIndex.candidates(myInterest, provider, providerId);
             logger.debug("resultList: {}", resultList);
 
             AiMatchingRequestDTO requestDTO = new AiMatchingRequestDTO(myProfileTag, resultList);
-            logger.debug("api url: {}", apiUrl);
-            String url = "%s/word-similarity".formatted(apiUrl.getApiUrl());
 
-            Optional<AiMatchingResponseDTO> responseOpt = apiUtils.getApiResponse(url, "POST", requestDTO, AiMatchingResponseDTO.class);
+            Optional<AiMatchingResponseDTO> responseOpt = similarityEngine.score(requestDTO);
 
             AiMatchingResponseDTO response = responseOpt.orElseThrow(() ->
                     new UserNotfoundException("mentor is not found"));
@@ -3,10 +3,6 @@ package com.team05.linkup.domain.mentoring.application;
 import com.team05.linkup.common.dto.UserPrincipal;
 import com.team05.linkup.common.exception.DuplicateMentoringMatchException;
 import com.team05.linkup.common.exception.UserNotfoundException;
-import com.team05.linkup.domain.enums.MentoringStatus;
-import com.team05.linkup.domain.mentoring.domain.MentoringSessions;
-import com.team05.linkup.domain.mentoring.infrastructure.CustomUserRepositoryImpl;
-import com.team05.linkup.domain.mentoring.infrastructure.MentoringRepository;
 import com.team05.linkup.domain.user.domain.User;
 import com.team05.linkup.domain.user.infrastructure.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -19,11 +15,10 @@ import org.springframework.stereotype.Service;
 public class AiMatchingSelectorServiceImpl implements MatchingService {
     private static final Logger logger = LogManager.getLogger(AiMatchingSelectorServiceImpl.class);
     private final UserRepository userRepository;
-    private final MentoringRepository mentoringRepository;
-    private final CustomUserRepositoryImpl customUserRepositoryImpl;
+    private final MentoringSessionCommandService mentoringSessionCommandService;
 
     @Override
-    public void matchingMentor(UserPrincipal userPrincipal, String nickname) throws Exception {
+    public void matchingMentor(UserPrincipal userPrincipal, String nickname, String idempotencyKey) throws Exception {
         try {
             String provider = userPrincipal.provider();
             String providerId = userPrincipal.providerId();
@@ -33,20 +28,20 @@ public class AiMatchingSelectorServiceImpl implements MatchingService {
             User mentor = userRepository.findByNickname(nickname)
                     .orElseThrow(() -> new UserNotfoundException("Mentor not found"));
 
-            boolean exist = customUserRepositoryImpl.existsMentoringSession(providerId, nickname);
+            // 중복 판정은 유니크 제약으로 (조회 후 저장 경쟁 없음)
+            MentoringSessionCommandService.OpenResult result =
+                    mentoringSessionCommandService.open(mentor, mentee, idempotencyKey);
 
-            if (exist) {
-                logger.debug("mentee {} is already matched with mentor {}", nickname, providerId);
+            // 같은 키의 재시도는 성공, 다른 요청이 이미 만든 진행 중 세션이면 중복
+            boolean replayed = idempotencyKey != null
+                    && idempotencyKey.trim().equals(result.session().getIdempotencyKey());
+            if (!result.created() && !replayed) {
+                logger.debug("mentee {} is already matched with mentor {}", providerId, nickname);
                 throw new DuplicateMentoringMatchException("mentee is already matched with mentor");
             }
-            MentoringSessions newMentoringSessions = MentoringSessions.builder()
-                                                    .mentor(mentor)
-                                                    .mentee(mentee)
-                                                    .interest(mentor.getInterest())
-                                                    .status(MentoringStatus.IN_PROGRESS)
-                                                    .build();
-            logger.debug("new mentoring session: {}", newMentoringSessions);
-            mentoringRepository.save(newMentoringSessions);
+            logger.debug("mentoring session: {}, created: {}", result.session().getId(), result.created());
+        } catch (DuplicateMentoringMatchException | UserNotfoundException | IllegalArgumentException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Error in matchingMentor: {}", e.getMessage());
             throw new Exception("Error in matchingMentor: " + e.getMessage(), e);
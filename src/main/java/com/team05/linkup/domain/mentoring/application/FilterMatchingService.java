@@ -5,17 +5,14 @@ import com.team05.linkup.domain.community.domain.Community;
 import com.team05.linkup.domain.community.domain.CommunityCategory;
 import com.team05.linkup.domain.community.infrastructure.CommentRepository;
 import com.team05.linkup.domain.community.infrastructure.CommunityRepository;
-import com.team05.linkup.domain.enums.MentoringStatus;
-import com.team05.linkup.domain.mentoring.domain.MentoringSessions;
+import com.team05.linkup.domain.mentoring.dto.MentorCardCursorResponseDTO;
 import com.team05.linkup.domain.mentoring.dto.MentorCardDTO;
+import com.team05.linkup.domain.mentoring.dto.MentorFacetCountsDTO;
 import com.team05.linkup.domain.mentoring.dto.MentorFilterDTO;
 import com.team05.linkup.domain.mentoring.dto.MentorProfileDTO;
 import com.team05.linkup.domain.mentoring.infrastructure.MentorFilterRepository;
-import com.team05.linkup.domain.mentoring.infrastructure.MentoringRepository;
-import com.team05.linkup.domain.user.domain.Sigungu;
-import com.team05.linkup.domain.user.domain.SigunguId;
+import com.team05.linkup.domain.user.application.RegionDictionary;
 import com.team05.linkup.domain.user.domain.User;
-import com.team05.linkup.domain.user.infrastructure.SigunguRepository;
 import com.team05.linkup.domain.user.infrastructure.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.apache.logging.log4j.LogManager;
@@ -32,14 +29,21 @@ import java.util.stream.Collectors;
 public class FilterMatchingService {
 
     private static final Logger logger = LogManager.getLogger();
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
     private final UserRepository userRepository;
-    private final MentoringRepository mentoringRepository;
-    private final SigunguRepository sigunguRepository;
+    private final MentoringSessionCommandService mentoringSessionCommandService;
+    private final RegionDictionary regionDictionary;
     private final CommunityRepository communityRepository;
     private final CommentRepository commentRepository;
     private final MentorFilterRepository mentorFilterRepository;
+    private final MentorFacetIndex mentorFacetIndex;
 
-    public String createMatching(String nickname, UserPrincipal userPrincipal) {
+    /**
+     * 멘토와의 멘토링 세션을 만들고 멘토의 연락처 링크를 반환합니다.
+     * 같은 멘토-멘티 쌍의 진행 중 세션이 이미 있거나 같은 키로 재시도하면 새로 만들지 않고 같은 결과를 반환합니다.
+     * @param idempotencyKey 클라이언트 재시도 식별 키 (없으면 null)
+     */
+    public String createMatching(String nickname, UserPrincipal userPrincipal, String idempotencyKey) {
         // 1. 닉네임 유효성 검증
         if (nickname == null || nickname.isEmpty()) {
             throw new IllegalArgumentException("닉네임이 유효하지 않습니다.");
@@ -55,40 +59,33 @@ public class FilterMatchingService {
         User mentee = userRepository.findByProviderAndProviderId(principalProvider, principalProviderId)
                 .orElseThrow(() -> new IllegalArgumentException("현재 사용자를 찾을 수 없습니다."));
 
+        // 4. 멘토링 세션 생성 (진행 중 상태, 중복 요청이면 기존 세션)
+        MentoringSessionCommandService.OpenResult result = mentoringSessionCommandService.open(mentor, mentee, idempotencyKey);
+        if (result.created()) {
+            logger.info("매칭이 성공적으로 생성되었습니다. 멘토: {}, 멘티: {}", mentor.getNickname(), mentee.getNickname());
+        } else {
+            logger.info("이미 진행 중인 매칭을 반환합니다. 멘토: {}, 멘티: {}", mentor.getNickname(), mentee.getNickname());
+        }
 
-        // 4. 멘토링 세션 생성
-        MentoringSessions session = MentoringSessions.builder()
-                .mentor(mentor)
-                .mentee(mentee)
-                .interest(mentor.getInterest())
-                .status(MentoringStatus.IN_PROGRESS) // 상태: 진행 중
-                .build();
-
-        // 5. 저장
-        mentoringRepository.save(session);
-        logger.info("매칭이 성공적으로 생성되었습니다. 멘토: {}, 멘티: {}", mentor.getNickname(), mentee.getNickname());
-
-        // 6. 멘토의 contactLink 반환
+        // 5. 멘토의 contactLink 반환
         return mentor.getContactLink();
     }
 
     @Transactional
     public MentorProfileDTO getMentor(User mentor) {
         // 1. Null 체크
-        if (mentor.getArea() == null || mentor.getSigunguCode() == null) {
+        if (mentor.getAreaCode() == null || mentor.getSigunguCode() == null) {
             throw new IllegalArgumentException("멘토의 지역 정보가 유효하지 않습니다.");
         }
 
         // 2. areaName 생성
-        String areaName = mentor.getArea().getAreaName();
+        String areaName = regionDictionary.areaName(mentor.getAreaCode());
 
         // 3. sigunguName 생성
-        String sigunguName = sigunguRepository.findById(SigunguId.builder()
-                        .areacode(mentor.getArea().getAreacode())
-                        .sigungucode(mentor.getSigunguCode())
-                        .build())
-                .map(Sigungu::getSigunguname)
-                .orElseThrow(() -> new IllegalArgumentException("시군구 정보를 찾을 수 없습니다."));
+        String sigunguName = regionDictionary.sigunguName(mentor.getAreaCode(), mentor.getSigunguCode());
+        if (sigunguName == null) {
+            throw new IllegalArgumentException("시군구 정보를 찾을 수 없습니다.");
+        }
 
 
         // 4. 커뮤니티 게시물 조회
@@ -148,48 +145,47 @@ public class FilterMatchingService {
 
     /**
      * 멘토 필터 조건을 기반으로 멘토 리스트를 조회하고, 카드 형태의 DTO로 변환하여 반환합니다.
+     * {@link MentorFacetIndex} 의 BitSet 연산으로 처리하고, 색인이 준비되지 않았으면 DB 에서 {@link MentorCardDTO} 로 바로 투영합니다.
      * @param filterDTO 필터 조건 (관심 분야, 지역, 활동 시간대, 활동 유형 등)
      * @return 필터링된 멘토 리스트 (MentorCardDTO 리스트)
      */
     @Transactional(readOnly = true)
     public List<MentorCardDTO> filterMentors(MentorFilterDTO filterDTO) {
-        List<User> filteredMentors = mentorFilterRepository.findMentorsWithFilters(filterDTO);
-        return convertToMentorCardDTOs(filteredMentors);
+        return mentorFacetIndex.filter(filterDTO, null, 0)
+                .orElseGet(() -> mentorFilterRepository.findMentorCardsWithFilters(filterDTO));
     }
 
     /**
-     * User 엔티티 리스트를 MentorCardDTO 리스트로 변환합니다.
-     * @param users 필터링된 User 엔티티 리스트
-     * @return 변환된 MentorCardDTO 리스트
+     * 멘토 필터 조건을 기반으로 멘토 카드를 커서(keyset) 방식으로 조회합니다. (멘토 ID 순 고정)
+     * 전체 개수를 계산하지 않고, 다음 페이지 존재 여부 판단을 위해 한 건을 더 조회합니다.
+     * @param filterDTO 필터 조건
+     * @param cursor    이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size      페이지 크기 (1 ~ {@value #MAX_CURSOR_PAGE_SIZE})
+     * @return 멘토 카드 목록과 다음 커서
      */
-    private List<MentorCardDTO> convertToMentorCardDTOs(List<User> users) {
-        return users.stream()
-                .map(user -> {
-                    // Lazy Loading 문제 방지: 필요한 데이터를 미리 로드
-                    String areaName = user.getArea() != null ? user.getArea().getAreaName() : null;
-                    String sigunguName = null;
-
-                    if (user.getSigunguCode() != null && user.getArea() != null) {
-                        sigunguName = sigunguRepository.findById(SigunguId.builder()
-                                        .areacode(user.getArea().getAreacode())
-                                        .sigungucode(user.getSigunguCode())
-                                        .build())
-                                .map(Sigungu::getSigunguname)
-                                .orElse(null);
-                    }
-
-                    return MentorCardDTO.builder()
-                            .mentorId(user.getId())
-                            .nickname(user.getNickname())
-                            .interest(user.getInterest().getDisplayName())
-                            .profileImageUrl(user.getProfileImageUrl())
-                            .areaName(areaName)
-                            .sigunguName(sigunguName)
-                            .introduction(user.getIntroduction())
-                            .activityTime(user.getActivityTime().getDisplayName())
-                            .activityType(user.getActivityType().getDisplayName())
-                            .build();
-                })
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public MentorCardCursorResponseDTO filterMentors(MentorFilterDTO filterDTO, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        String afterId = (cursor == null || cursor.isBlank()) ? null : cursor.trim();
+
+        List<MentorCardDTO> rows = mentorFacetIndex.filter(filterDTO, afterId, pageSize + 1)
+                .orElseGet(() -> mentorFilterRepository.findMentorCardsWithFilters(filterDTO, afterId, pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<MentorCardDTO> content = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? content.get(content.size() - 1).getMentorId() : null;
+        return new MentorCardCursorResponseDTO(content, nextCursor, hasNext);
+    }
+
+    /**
+     * 현재 필터 조건에서 항목(관심 분야, 지역, 시군구, 활동 시간대, 활동 유형)별 멘토 수를 계산합니다.
+     * 색인이 준비되지 않았으면(기동 직후, 적재 실패) DB 에서 멘토 항목을 읽어 같은 방식으로 계산합니다.
+     * @param filterDTO 필터 조건
+     * @return 항목별 멘토 수
+     */
+    @Transactional(readOnly = true)
+    public MentorFacetCountsDTO countFacets(MentorFilterDTO filterDTO) {
+        return mentorFacetIndex.counts(filterDTO)
+                .orElseGet(() -> MentorFacetIndex.countEntries(mentorFilterRepository.findMentorFacetEntries(null), filterDTO));
     }
 }
@@ -0,0 +1,133 @@
+package com.team05.linkup.domain.mentoring.application;
+
+import com.team05.linkup.domain.mentoring.dto.AiMatchingRequestDTO;
+import com.team05.linkup.domain.mentoring.dto.AiMatchingResponseDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * 프로세스 안에서 태그 TF-IDF 코사인 유사도로 후보 멘토를 점수화하는 엔진.
+ * <p>
+ * 프로필 태그(쉼표 구분, {@code User.parseTags()} 와 같은 규칙)를 다음 특징으로 바꿉니다.
+ * <ul>
+ *     <li>태그 전체 (가중치 1): 같은 태그가 있으면 가장 크게 반영</li>
+ *     <li>태그의 글자 바이그램 (가중치 bigram-weight): "스프링" 과 "스프링부트" 처럼 부분적으로 겹치는 태그도 반영</li>
+ * </ul>
+ * IDF 는 요청마다 멘티와 후보 목록을 문서 집합으로 계산하므로 흔한 태그보다 드문 태그가 일치할 때 점수가 높습니다.
+ * 외부 호출이 없어 오프라인에서도 동작합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "matching.similarity.engine", havingValue = "local")
+public class LocalMentorSimilarityEngine implements MentorSimilarityEngine {
+
+    private final double bigramWeight;
+
+    public LocalMentorSimilarityEngine(@Value("${matching.similarity.bigram-weight:0.5}") double bigramWeight) {
+        this.bigramWeight = bigramWeight;
+    }
+
+    @Override
+    public Optional<AiMatchingResponseDTO> score(AiMatchingRequestDTO request) {
+        List<AiMatchingRequestDTO.OtherProfile> candidates =
+                request.otherProfiles() == null ? List.of() : request.otherProfiles();
+
+        Map<String, Double> query = features(request.profileTag());
+        List<Map<String, Double>> documents = new ArrayList<>(candidates.size());
+        Map<String, Integer> documentFrequency = new HashMap<>();
+        query.keySet().forEach(feature -> documentFrequency.merge(feature, 1, Integer::sum));
+        for (AiMatchingRequestDTO.OtherProfile candidate : candidates) {
+            Map<String, Double> document = features(candidate.profileTag());
+            document.keySet().forEach(feature -> documentFrequency.merge(feature, 1, Integer::sum));
+            documents.add(document);
+        }
+
+        int documentCount = candidates.size() + 1;
+        Map<String, Double> queryVector = weigh(query, documentFrequency, documentCount);
+        double queryNorm = norm(queryVector);
+
+        List<AiMatchingResponseDTO.Result> results = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            Map<String, Double> vector = weigh(documents.get(i), documentFrequency, documentCount);
+            double similarity = cosine(queryVector, queryNorm, vector);
+            AiMatchingRequestDTO.OtherProfile candidate = candidates.get(i);
+            results.add(new AiMatchingResponseDTO.Result(
+                    candidate.areacode(),
+                    candidate.areaName(),
+                    candidate.sigungucode(),
+                    candidate.sigunguname(),
+                    candidate.nickname(),
+                    candidate.profileTag(),
+                    candidate.profileImageUrl(),
+                    similarity,
+                    candidate.contactLink()));
+        }
+        results.sort(Comparator.comparingDouble(AiMatchingResponseDTO.Result::similarity).reversed());
+        return Optional.of(new AiMatchingResponseDTO(request.profileTag(), results));
+    }
+
+    /**
+     * 프로필 태그 문자열을 특징별 빈도(TF)로 변환합니다.
+     */
+    Map<String, Double> features(String profileTag) {
+        Map<String, Double> features = new HashMap<>();
+        if (profileTag == null || profileTag.isBlank()) {
+            return features;
+        }
+        for (String rawTag : profileTag.split(",")) {
+            String tag = normalize(rawTag);
+            if (tag.isEmpty()) {
+                continue;
+            }
+            features.merge("t:" + tag, 1.0, Double::sum);
+            for (int i = 0; i + 1 < tag.length(); i++) {
+                features.merge("g:" + tag.substring(i, i + 2), bigramWeight, Double::sum);
+            }
+        }
+        return features;
+    }
+
+    // 전각/반각, 대소문자, 공백 차이를 무시
+    private static String normalize(String tag) {
+        return Normalizer.normalize(tag, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", "");
+    }
+
+    // TF * 평활화 IDF (ln((1 + N) / (1 + df)) + 1)
+    private static Map<String, Double> weigh(Map<String, Double> termFrequency, Map<String, Integer> documentFrequency,
+                                             int documentCount) {
+        Map<String, Double> weighted = new HashMap<>(termFrequency.size() * 2);
+        for (Map.Entry<String, Double> entry : termFrequency.entrySet()) {
+            int df = documentFrequency.getOrDefault(entry.getKey(), 0);
+            double idf = Math.log((1.0 + documentCount) / (1.0 + df)) + 1.0;
+            weighted.put(entry.getKey(), entry.getValue() * idf);
+        }
+        return weighted;
+    }
+
+    private static double cosine(Map<String, Double> query, double queryNorm, Map<String, Double> document) {
+        if (queryNorm == 0 || document.isEmpty()) {
+            return 0;
+        }
+        double dot = 0;
+        for (Map.Entry<String, Double> entry : query.entrySet()) {
+            Double weight = document.get(entry.getKey());
+            if (weight != null) {
+                dot += entry.getValue() * weight;
+            }
+        }
+        return dot == 0 ? 0 : dot / (queryNorm * norm(document));
+    }
+
+    private static double norm(Map<String, Double> vector) {
+        double sum = 0;
+        for (double weight : vector.values()) {
+            sum += weight * weight;
+        }
+        return Math.sqrt(sum);
+    }
+}
@@ -3,5 +3,10 @@ package com.team05.linkup.domain.mentoring.application;
 import com.team05.linkup.common.dto.UserPrincipal;
 
 public interface MatchingService {
-    void matchingMentor(UserPrincipal userPrincipal, String nickname) throws Exception;
+    /**
+     * 멘토와의 멘토링 세션을 만듭니다.
+     *
+     * @param idempotencyKey 클라이언트 재시도 식별 키 (없으면 null). 같은 키로 다시 요청하면 처음 만든 세션으로 성공 처리
+     */
+    void matchingMentor(UserPrincipal userPrincipal, String nickname, String idempotencyKey) throws Exception;
 }
@@ -0,0 +1,139 @@
+package com.team05.linkup.domain.mentoring.application;
+
+import com.team05.linkup.domain.enums.Interest;
+import com.team05.linkup.domain.mentoring.dto.AiMatchingRequestDTO;
+import com.team05.linkup.domain.mentoring.dto.MentorCandidateDTO;
+import com.team05.linkup.domain.user.dto.MentorProfileChangedEventDTO;
+import com.team05.linkup.domain.user.infrastructure.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * AI 매칭 후보 멘토 색인.
+ * 관심 분야({@link Interest})별로 멘토의 후보 정보를 메모리에 보관하여, 매칭 요청마다 user/area/sigungu 조인을 실행하지 않습니다.
+ * <p>
+ * 기동 시와 주기적으로 전체를 다시 적재하고, 그 사이에는 {@link MentorProfileChangedEventDTO} 를 받아 해당 사용자만 다시 읽어
+ * 갱신합니다(관심 분야 변경 시 파티션 이동, 멘토가 아니게 되면 제거). 전체 적재 중에 들어온 변경은 적재가 끝난 뒤 다시 반영합니다.
+ * 초기 적재 전에는 DB 에서 직접 조회합니다.
+ */
+@Slf4j
+@Component
+public class MentorCandidateIndex {
+
+    private final UserRepository userRepository;
+
+    private volatile Map<Interest, Map<String, MentorCandidateDTO>> partitions;
+    /** 전체 적재 중 변경된 사용자 ID (적재 중이 아니면 null) */
+    private volatile Set<String> changedDuringRebuild;
+
+    public MentorCandidateIndex(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * 관심 분야가 같은 멘토 후보 목록을 반환합니다.
+     *
+     * @param interest          관심 분야
+     * @param provider          요청자 OAuth 제공자 (초기 적재 전 DB 조회에 사용)
+     * @param excludeProviderId 제외할 요청자 providerId
+     * @return 후보 목록 (호출 측이 수정해도 색인에 영향 없음)
+     */
+    public List<AiMatchingRequestDTO.OtherProfile> candidates(Interest interest, String provider, String excludeProviderId) {
+        Map<Interest, Map<String, MentorCandidateDTO>> current = partitions;
+        if (current == null) {
+            return userRepository.findOtherProfileTagsByProviderId(provider, excludeProviderId, interest);
+        }
+        Map<String, MentorCandidateDTO> partition = current.get(interest);
+        if (partition == null) {
+            return new ArrayList<>();
+        }
+        List<AiMatchingRequestDTO.OtherProfile> candidates = new ArrayList<>(partition.size());
+        for (MentorCandidateDTO candidate : partition.values()) {
+            if (!Objects.equals(candidate.providerId(), excludeProviderId)) {
+                candidates.add(candidate.toOtherProfile());
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * 사용자 변경이 커밋되면 해당 사용자의 후보 정보를 다시 읽어 반영합니다.
+     * 트랜잭션 밖에서 발행된 이벤트도 처리합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMentorProfileChanged(MentorProfileChangedEventDTO event) {
+        Set<String> pending = changedDuringRebuild;
+        if (pending != null) {
+            pending.add(event.userId());
+        }
+        Map<Interest, Map<String, MentorCandidateDTO>> current = partitions;
+        if (current == null) {
+            return;
+        }
+        try {
+            refresh(current, List.of(event.userId()));
+        } catch (RuntimeException e) {
+            // 다음 전체 적재에서 반영됨
+            log.error("멘토 후보 색인 갱신 실패: userId={}", event.userId(), e);
+        }
+    }
+
+    /**
+     * 기동 시 및 주기적으로 전체 멘토 후보를 다시 적재합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${matching.candidate-index.rebuild-cron:0 0 4 * * *}")
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        Set<String> pending = ConcurrentHashMap.newKeySet();
+        changedDuringRebuild = pending;
+        try {
+            Map<Interest, Map<String, MentorCandidateDTO>> rebuilt = new ConcurrentHashMap<>();
+            List<MentorCandidateDTO> mentors = userRepository.findMentorCandidates(null);
+            for (MentorCandidateDTO mentor : mentors) {
+                rebuilt.computeIfAbsent(mentor.interest(), key -> new ConcurrentHashMap<>()).put(mentor.userId(), mentor);
+            }
+            partitions = rebuilt;
+            if (!pending.isEmpty()) {
+                refresh(rebuilt, pending);
+            }
+            log.info("멘토 후보 색인 적재 완료: 멘토={}명, 소요={}ms", mentors.size(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.error("멘토 후보 색인 적재 실패", e);
+        } finally {
+            changedDuringRebuild = null;
+        }
+    }
+
+    public int size() {
+        Map<Interest, Map<String, MentorCandidateDTO>> current = partitions;
+        return current == null ? 0 : current.values().stream().mapToInt(Map::size).sum();
+    }
+
+    // 사용자를 모든 파티션에서 지운 뒤, 아직 멘토이면 현재 관심 분야 파티션에 다시 넣음
+    private void refresh(Map<Interest, Map<String, MentorCandidateDTO>> target, Collection<String> userIds) {
+        Map<String, MentorCandidateDTO> loaded = new HashMap<>();
+        for (MentorCandidateDTO mentor : userRepository.findMentorCandidates(userIds)) {
+            loaded.put(mentor.userId(), mentor);
+        }
+        for (String userId : userIds) {
+            MentorCandidateDTO mentor = loaded.get(userId);
+            target.forEach((interest, partition) -> {
+                if (mentor == null || interest != mentor.interest()) {
+                    partition.remove(userId);
+                }
+            });
+            if (mentor != null) {
+                target.computeIfAbsent(mentor.interest(), key -> new ConcurrentHashMap<>()).put(userId, mentor);
+            }
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package com.team05.linkup.domain.mentoring.application;
+
+import com.team05.linkup.domain.enums.ActivityTime;
+import com.team05.linkup.domain.enums.ActivityType;
+import com.team05.linkup.domain.enums.Interest;
+import com.team05.linkup.domain.mentoring.dto.MentorCardDTO;
+import com.team05.linkup.domain.mentoring.dto.MentorFacetCountsDTO;
+import com.team05.linkup.domain.mentoring.dto.MentorFacetEntryDTO;
+import com.team05.linkup.domain.mentoring.dto.MentorFilterDTO;
+import com.team05.linkup.domain.mentoring.infrastructure.MentorFilterRepository;
+import com.team05.linkup.domain.user.dto.MentorProfileChangedEventDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 수동 매칭 멘토 필터 색인.
+ * 매칭 가능한 멘토마다 슬롯 번호를 주고, 관심 분야/지역/시군구/활동 시간대/활동 유형 값마다 해당 멘토 슬롯의 {@link BitSet} 을 유지합니다.
+ * 필터 조합은 BitSet AND/OR 로 계산하므로 DB 조회 없이 처리되고, 같은 방식으로 항목별 개수(facet)도 계산합니다.
+ * <p>
+ * 기동 시와 주기적으로 전체를 다시 적재하고, 그 사이에는 {@link MentorProfileChangedEventDTO} 를 받아 해당 사용자만 다시 읽어
+ * 갱신합니다(매칭 불가/멘토 아님이 되면 제거). 전체 적재 중에 들어온 변경은 적재가 끝난 뒤 다시 반영합니다.
+ * 적재 전이거나 적재에 실패하면 {@link Optional#empty()} 를 반환하므로 호출 측은 DB 조회로 대신합니다.
+ * 항목별 개수는 DB 에서 읽은 멘토 항목으로 {@link #countEntries(List, MentorFilterDTO)} 를 호출하여 같은 방식으로 계산합니다.
+ */
+@Slf4j
+@Component
+public class MentorFacetIndex {
+
+    private final MentorFilterRepository mentorFilterRepository;
+
+    private volatile Facets facets;
+    /** 전체 적재 중 변경된 사용자 ID (적재 중이 아니면 null) */
+    private volatile Set<String> changedDuringRebuild;
+
+    public MentorFacetIndex(MentorFilterRepository mentorFilterRepository) {
+        this.mentorFilterRepository = mentorFilterRepository;
+    }
+
+    /**
+     * 필터 조건에 맞는 멘토 카드를 멘토 ID 오름차순으로 반환합니다.
+     *
+     * @param filterDTO 필터 조건
+     * @param afterId   이 ID 보다 큰 멘토만 (null 이면 처음부터)
+     * @param limit     최대 개수 (0 이하이면 전체)
+     * @return 멘토 카드 목록, 색인이 준비되지 않았으면 empty
+     */
+    public Optional<List<MentorCardDTO>> filter(MentorFilterDTO filterDTO, String afterId, int limit) {
+        Facets current = facets;
+        if (current == null) {
+            return Optional.empty();
+        }
+        List<MentorCardDTO> cards = new ArrayList<>();
+        current.lock.readLock().lock();
+        try {
+            BitSet matched = current.match(filterDTO, null);
+            for (int slot = matched.nextSetBit(0); slot >= 0; slot = matched.nextSetBit(slot + 1)) {
+                MentorCardDTO card = current.entries[slot].card();
+                if (afterId == null || card.getMentorId().compareTo(afterId) > 0) {
+                    cards.add(card);
+                }
+            }
+        } finally {
+            current.lock.readLock().unlock();
+        }
+        cards.sort(Comparator.comparing(MentorCardDTO::getMentorId));
+        return Optional.of(limit > 0 && cards.size() > limit ? new ArrayList<>(cards.subList(0, limit)) : cards);
+    }
+
+    /**
+     * 필터 항목별 멘토 수를 계산합니다.
+     * 각 항목은 자신의 조건만 뺀 나머지 필터를 적용한 상태에서 값별 개수를 셉니다.
+     *
+     * @return 항목별 개수, 색인이 준비되지 않았으면 empty
+     */
+    public Optional<MentorFacetCountsDTO> counts(MentorFilterDTO filterDTO) {
+        Facets current = facets;
+        if (current == null) {
+            return Optional.empty();
+        }
+        current.lock.readLock().lock();
+        try {
+            return Optional.of(current.counts(filterDTO));
+        } finally {
+            current.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인을 거치지 않고 주어진 멘토 항목만으로 항목별 멘토 수를 계산합니다.
+     * 색인이 준비되지 않았을 때 DB 에서 읽은 항목으로 {@link #counts(MentorFilterDTO)} 와 같은 결과를 만들기 위해 사용합니다.
+     *
+     * @param entries   매칭 가능한 멘토 항목
+     * @param filterDTO 필터 조건
+     * @return 항목별 개수
+     */
+    public static MentorFacetCountsDTO countEntries(List<MentorFacetEntryDTO> entries, MentorFilterDTO filterDTO) {
+        Facets snapshot = new Facets(entries.size());
+        entries.forEach(snapshot::put);
+        return snapshot.counts(filterDTO);
+    }
+
+    /**
+     * 사용자 변경이 커밋되면 해당 사용자의 필터 항목을 다시 읽어 반영합니다.
+     * 트랜잭션 밖에서 발행된 이벤트도 처리합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMentorProfileChanged(MentorProfileChangedEventDTO event) {
+        Set<String> pending = changedDuringRebuild;
+        if (pending != null) {
+            pending.add(event.userId());
+        }
+        Facets current = facets;
+        if (current == null) {
+            return;
+        }
+        try {
+            refresh(current, List.of(event.userId()));
+        } catch (RuntimeException e) {
+            // 다음 전체 적재에서 반영됨
+            log.error("멘토 필터 색인 갱신 실패: userId={}", event.userId(), e);
+        }
+    }
+
+    /**
+     * 기동 시 및 주기적으로 전체 멘토를 다시 적재합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${matching.facet-index.rebuild-cron:0 10 4 * * *}")
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        Set<String> pending = ConcurrentHashMap.newKeySet();
+        changedDuringRebuild = pending;
+        try {
+            List<MentorFacetEntryDTO> entries = mentorFilterRepository.findMentorFacetEntries(null);
+            Facets rebuilt = new Facets(entries.size());
+            for (MentorFacetEntryDTO entry : entries) {
+                rebuilt.put(entry);
+            }
+            facets = rebuilt;
+            if (!pending.isEmpty()) {
+                refresh(rebuilt, pending);
+            }
+            log.info("멘토 필터 색인 적재 완료: 멘토={}명, 소요={}ms", entries.size(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.error("멘토 필터 색인 적재 실패", e);
+        } finally {
+            changedDuringRebuild = null;
+        }
+    }
+
+    public int size() {
+        Facets current = facets;
+        if (current == null) {
+            return 0;
+        }
+        current.lock.readLock().lock();
+        try {
+            return current.slotByUserId.size();
+        } finally {
+            current.lock.readLock().unlock();
+        }
+    }
+
+    // 사용자를 지운 뒤, 아직 매칭 가능한 멘토이면 다시 넣음
+    private void refresh(Facets target, Collection<String> userIds) {
+        Map<String, MentorFacetEntryDTO> loaded = new HashMap<>();
+        for (MentorFacetEntryDTO entry : mentorFilterRepository.findMentorFacetEntries(userIds)) {
+            loaded.put(entry.card().getMentorId(), entry);
+        }
+        target.lock.writeLock().lock();
+        try {
+            for (String userId : userIds) {
+                target.remove(userId);
+                MentorFacetEntryDTO entry = loaded.get(userId);
+                if (entry != null) {
+                    target.put(entry);
+                }
+            }
+        } finally {
+            target.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 슬롯 배열과 값별 BitSet. 조회는 읽기 잠금, 증분 갱신은 쓰기 잠금 안에서 수행합니다.
+     */
+    private static final class Facets {
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private MentorFacetEntryDTO[] entries;
+        private final Map<String, Integer> slotByUserId = new HashMap<>();
+        private final BitSet alive = new BitSet();
+
+        private final Map<Interest, BitSet> byInterest = new EnumMap<>(Interest.class);
+        private final Map<Integer, BitSet> byArea = new HashMap<>();
+        private final Map<Long, BitSet> bySigungu = new HashMap<>();
+        private final Map<ActivityTime, BitSet> byActivityTime = new EnumMap<>(ActivityTime.class);
+        private final Map<ActivityType, BitSet> byActivityType = new EnumMap<>(ActivityType.class);
+
+        private Facets(int expectedSize) {
+            this.entries = new MentorFacetEntryDTO[Math.max(16, expectedSize)];
+        }
+
+        private void put(MentorFacetEntryDTO entry) {
+            int slot = alive.nextClearBit(0);
+            if (slot >= entries.length) {
+                entries = Arrays.copyOf(entries, entries.length * 2);
+            }
+            entries[slot] = entry;
+            slotByUserId.put(entry.card().getMentorId(), slot);
+            alive.set(slot);
+            forEachBits(entry, true, bits -> bits.set(slot));
+        }
+
+        private void remove(String userId) {
+            Integer slot = slotByUserId.remove(userId);
+            if (slot == null) {
+                return;
+            }
+            forEachBits(entries[slot], false, bits -> bits.clear(slot));
+            alive.clear(slot);
+            entries[slot] = null;
+        }
+
+        private void forEachBits(MentorFacetEntryDTO entry, boolean create, Consumer<BitSet> action) {
+            if (entry.interest() != null) {
+                apply(byInterest, entry.interest(), create, action);
+            }
+            if (entry.areaCode() != null) {
+                apply(byArea, entry.areaCode(), create, action);
+                if (entry.sigunguCode() != null) {
+                    apply(bySigungu, regionKey(entry.areaCode(), entry.sigunguCode()), create, action);
+                }
+            }
+            if (entry.activityTime() != null) {
+                apply(byActivityTime, entry.activityTime(), create, action);
+            }
+            if (entry.activityType() != null) {
+                apply(byActivityType, entry.activityType(), create, action);
+            }
+        }
+
+        private static <K> void apply(Map<K, BitSet> bitsByValue, K value, boolean create,
+                                      Consumer<BitSet> action) {
+            BitSet bits = create ? bitsByValue.computeIfAbsent(value, key -> new BitSet()) : bitsByValue.get(value);
+            if (bits != null) {
+                action.accept(bits);
+            }
+        }
+
+        /**
+         * 필터 조건에 맞는 슬롯. skip 으로 지정한 항목의 조건은 적용하지 않습니다.
+         */
+        private BitSet match(MentorFilterDTO filter, Facet skip) {
+            BitSet result = (BitSet) alive.clone();
+            if (skip != Facet.INTEREST && filter.getInterest() != null) {
+                and(result, byInterest.get(filter.getInterest()));
+            }
+            if (skip != Facet.AREA && filter.getAreaCode() != null) {
+                and(result, byArea.get(filter.getAreaCode()));
+            }
+            if (skip != Facet.AREA && skip != Facet.SIGUNGU
+                    && filter.getAreaCode() != null && filter.getSigunguCode() != null) {
+                and(result, bySigungu.get(regionKey(filter.getAreaCode(), filter.getSigunguCode())));
+            }
+            if (skip != Facet.ACTIVITY_TIME && filter.getActivityTime() != null && !filter.getActivityTime().isEmpty()) {
+                BitSet anyTime = new BitSet();
+                for (ActivityTime time : filter.getActivityTime()) {
+                    or(anyTime, byActivityTime.get(time));
+                }
+                result.and(anyTime);
+            }
+            if (skip != Facet.ACTIVITY_TYPE && filter.getActivityType() != null) {
+                and(result, activityTypeBits(filter.getActivityType()));
+            }
+            return result;
+        }
+
+        // 'ALL' 은 모든 유형, 그 외는 해당 유형 또는 'ALL' 로 등록한 멘토
+        private BitSet activityTypeBits(ActivityType type) {
+            if (type == ActivityType.ALL) {
+                return alive;
+            }
+            BitSet bits = new BitSet();
+            or(bits, byActivityType.get(type));
+            or(bits, byActivityType.get(ActivityType.ALL));
+            return bits;
+        }
+
+        private MentorFacetCountsDTO counts(MentorFilterDTO filter) {
+            long total = match(filter, null).cardinality();
+
+            BitSet base = match(filter, Facet.INTEREST);
+            Map<Interest, Long> interest = new EnumMap<>(Interest.class);
+            byInterest.forEach((value, bits) -> interest.put(value, intersectionCount(base, bits)));
+
+            BitSet areaBase = match(filter, Facet.AREA);
+            Map<Integer, Long> area = new TreeMap<>();
+            byArea.forEach((value, bits) -> area.put(value, intersectionCount(areaBase, bits)));
+
+            Map<Integer, Long> sigungu = new TreeMap<>();
+            if (filter.getAreaCode() != null) {
+                BitSet sigunguBase = match(filter, Facet.SIGUNGU);
+                bySigungu.forEach((key, bits) -> {
+                    if ((int) (key >>> 32) == filter.getAreaCode()) {
+                        sigungu.put((int) (long) key, intersectionCount(sigunguBase, bits));
+                    }
+                });
+            }
+
+            BitSet timeBase = match(filter, Facet.ACTIVITY_TIME);
+            Map<ActivityTime, Long> activityTime = new EnumMap<>(ActivityTime.class);
+            byActivityTime.forEach((value, bits) -> activityTime.put(value, intersectionCount(timeBase, bits)));
+
+            BitSet typeBase = match(filter, Facet.ACTIVITY_TYPE);
+            Map<ActivityType, Long> activityType = new EnumMap<>(ActivityType.class);
+            for (ActivityType value : ActivityType.values()) {
+                activityType.put(value, intersectionCount(typeBase, activityTypeBits(value)));
+            }
+
+            return new MentorFacetCountsDTO(total, interest, area, sigungu, activityTime, activityType);
+        }
+
+        private static long intersectionCount(BitSet base, BitSet bits) {
+            BitSet intersection = (BitSet) base.clone();
+            intersection.and(bits);
+            return intersection.cardinality();
+        }
+
+        // 값에 해당하는 멘토가 없으면 결과도 비어야 함
+        private static void and(BitSet result, BitSet bits) {
+            if (bits == null) {
+                result.clear();
+            } else {
+                result.and(bits);
+            }
+        }
+
+        private static void or(BitSet result, BitSet bits) {
+            if (bits != null) {
+                result.or(bits);
+            }
+        }
+
+        private static long regionKey(int areaCode, int sigunguCode) {
+            return ((long) areaCode << 32) | (sigunguCode & 0xffffffffL);
+        }
+    }
+
+    private enum Facet {
+        INTEREST, AREA, SIGUNGU, ACTIVITY_TIME, ACTIVITY_TYPE
+    }
+}
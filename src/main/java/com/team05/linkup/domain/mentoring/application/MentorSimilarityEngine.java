@@ -0,0 +1,21 @@
+package com.team05.linkup.domain.mentoring.application;
+
+import com.team05.linkup.domain.mentoring.dto.AiMatchingRequestDTO;
+import com.team05.linkup.domain.mentoring.dto.AiMatchingResponseDTO;
+
+import java.util.Optional;
+
+/**
+ * 멘티 프로필 태그와 후보 멘토들의 태그 유사도를 계산하는 엔진.
+ * matching.similarity.engine 설정으로 구현을 선택합니다. (remote: 외부 word-similarity API, local: 프로세스 내 TF-IDF)
+ */
+public interface MentorSimilarityEngine {
+
+    /**
+     * 후보 멘토별 유사도를 계산합니다.
+     *
+     * @param request 멘티 프로필 태그와 후보 멘토 목록
+     * @return 후보별 유사도(0~1)를 담은 결과, 계산할 수 없으면 empty
+     */
+    Optional<AiMatchingResponseDTO> score(AiMatchingRequestDTO request);
+}
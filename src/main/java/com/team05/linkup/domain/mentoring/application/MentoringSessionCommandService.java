@@ -0,0 +1,115 @@
+package com.team05.linkup.domain.mentoring.application;
+
+import com.team05.linkup.domain.enums.MentoringStatus;
+import com.team05.linkup.domain.mentoring.domain.MentoringSessions;
+import com.team05.linkup.domain.mentoring.infrastructure.MentoringRepository;
+import com.team05.linkup.domain.user.domain.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+/**
+ * 멘토링 세션 생성 명령 (수동 매칭, AI 매칭 공통).
+ * <p>
+ * 중복 여부를 먼저 조회한 뒤 저장하면 두 요청이 동시에 조회를 통과할 수 있으므로, 중복 판정은 DB 유니크 제약에 맡깁니다.
+ * <ul>
+ *     <li>uk_mentoring_active_pair: 같은 멘토-멘티 쌍의 진행 중 세션은 하나</li>
+ *     <li>uk_mentoring_mentee_idempotency_key: 같은 멘티의 같은 멱등 키는 세션 하나</li>
+ * </ul>
+ * 저장은 별도 트랜잭션에서 바로 flush 하고, 제약 위반이면 이미 있는 세션을 찾아 반환합니다.
+ * 따라서 동시에 몇 번을 요청해도 세션은 하나만 생기고, 같은 키로 재시도하면 처음 만든 세션을 그대로 받습니다.
+ */
+@Slf4j
+@Service
+public class MentoringSessionCommandService {
+
+    public static final int MAX_IDEMPOTENCY_KEY_LENGTH = 64;
+
+    private final MentoringRepository mentoringRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public MentoringSessionCommandService(MentoringRepository mentoringRepository,
+                                          PlatformTransactionManager transactionManager) {
+        this.mentoringRepository = mentoringRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 호출 측 트랜잭션이 있어도 제약 위반이 그 트랜잭션을 롤백 전용으로 만들지 않도록 분리
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 멘토-멘티 쌍의 진행 중 세션을 만들거나, 이미 있으면 그 세션을 반환합니다.
+     *
+     * @param mentor         멘토
+     * @param mentee         멘티
+     * @param idempotencyKey 클라이언트 재시도 식별 키 (없으면 null)
+     * @return 세션과 이번 호출에서 새로 만들었는지 여부
+     * @throws IllegalArgumentException 자기 자신과 매칭하거나, 멱등 키가 너무 길거나 다른 멘토와의 매칭에 이미 쓰인 경우
+     */
+    public OpenResult open(User mentor, User mentee, String idempotencyKey) {
+        if (mentor.getId().equals(mentee.getId())) {
+            throw new IllegalArgumentException("자기 자신과는 매칭할 수 없습니다.");
+        }
+        String key = normalizeKey(idempotencyKey);
+
+        // 같은 키의 재시도는 저장을 시도하지 않고 처음 결과를 반환
+        if (key != null) {
+            Optional<MentoringSessions> replayed = findByKey(mentor, mentee, key);
+            if (replayed.isPresent()) {
+                return new OpenResult(replayed.get(), false);
+            }
+        }
+
+        try {
+            MentoringSessions created = transactionTemplate.execute(status -> mentoringRepository.saveAndFlush(
+                    MentoringSessions.builder()
+                            .mentor(mentor)
+                            .mentee(mentee)
+                            .interest(mentor.getInterest())
+                            .status(MentoringStatus.IN_PROGRESS)
+                            .idempotencyKey(key)
+                            .build()));
+            return new OpenResult(created, true);
+        } catch (DataIntegrityViolationException e) {
+            // 동시 요청이 먼저 커밋함: 같은 키의 세션 또는 쌍의 진행 중 세션이 이미 있음
+            Optional<MentoringSessions> existing = key == null
+                    ? Optional.empty()
+                    : findByKey(mentor, mentee, key);
+            if (existing.isEmpty()) {
+                existing = mentoringRepository.findActiveSession(mentor.getId(), mentee.getId());
+            }
+            log.debug("멘토링 세션 중복 생성 요청: mentor={}, mentee={}", mentor.getId(), mentee.getId());
+            return new OpenResult(existing.orElseThrow(() -> e), false);
+        }
+    }
+
+    private Optional<MentoringSessions> findByKey(User mentor, User mentee, String key) {
+        Optional<MentoringSessions> session = mentoringRepository.findByMenteeIdAndIdempotencyKey(mentee.getId(), key);
+        if (session.isPresent() && !session.get().getMentor().getId().equals(mentor.getId())) {
+            throw new IllegalArgumentException("다른 멘토와의 매칭에 이미 사용한 Idempotency-Key 입니다.");
+        }
+        return session;
+    }
+
+    private static String normalizeKey(String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return null;
+        }
+        String key = idempotencyKey.trim();
+        if (key.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key 는 " + MAX_IDEMPOTENCY_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+        return key;
+    }
+
+    /**
+     * @param session 생성되었거나 이미 있던 세션
+     * @param created 이번 호출에서 새로 만들었으면 true
+     */
+    public record OpenResult(MentoringSessions session, boolean created) {
+    }
+}
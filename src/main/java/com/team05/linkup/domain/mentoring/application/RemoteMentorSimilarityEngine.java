@@ -0,0 +1,33 @@
+package com.team05.linkup.domain.mentoring.application;
+
+import com.team05.linkup.common.util.ApiUtils;
+import com.team05.linkup.domain.mentoring.dto.AiMatchingRequestDTO;
+import com.team05.linkup.domain.mentoring.dto.AiMatchingResponseDTO;
+import com.team05.linkup.domain.mentoring.util.NgrokApiUrl;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 외부 유사도 서버(/word-similarity)에 후보 목록을 보내 유사도를 계산하는 엔진.
+ * 타임아웃·동시 호출 한도·서킷 브레이커는 http-client.endpoints.word-similarity 설정을 따릅니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "matching.similarity.engine", havingValue = "remote", matchIfMissing = true)
+public class RemoteMentorSimilarityEngine implements MentorSimilarityEngine {
+
+    // http-client.endpoints.word-similarity.* 타임아웃/동시 호출 한도 적용
+    static final String WORD_SIMILARITY_ENDPOINT = "word-similarity";
+
+    private final ApiUtils apiUtils;
+    private final NgrokApiUrl apiUrl;
+
+    @Override
+    public Optional<AiMatchingResponseDTO> score(AiMatchingRequestDTO request) {
+        String url = "%s/word-similarity".formatted(apiUrl.getApiUrl());
+        return apiUtils.getApiResponse(WORD_SIMILARITY_ENDPOINT, url, "POST", request, AiMatchingResponseDTO.class);
+    }
+}
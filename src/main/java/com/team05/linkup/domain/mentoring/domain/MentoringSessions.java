@@ -11,6 +11,9 @@ import lombok.*;
 @Table(name = "mentoring_sessions", indexes = {
         @Index(name = "idx_mentoring_mentor", columnList = "mentor_user_id"),
         @Index(name = "idx_mentoring_mentee", columnList = "mentee_user_id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_mentoring_active_pair", columnNames = "active_pair"), // 멘토-멘티 쌍당 진행 중 세션 1개
+        @UniqueConstraint(name = "uk_mentoring_mentee_idempotency_key", columnNames = {"mentee_user_id", "idempotency_key"})
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -38,5 +41,13 @@ public class MentoringSessions extends BaseEntity {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     @Setter
-    private MentoringStatus status;  // 멘토링 진행 상태 (ex: '진행중', '완료')
+    private MentoringStatus status;  // 멘토링 진행 상태 (DB 에는 'IN_PROGRESS', 'COMPLETED' 로 저장)
+
+    @Column(name = "idempotency_key", length = 64)
+    private String idempotencyKey;  // 매칭 요청 재시도 식별 키 (같은 멘티의 같은 키는 같은 세션)
+
+    // 진행 중인 세션에만 값이 있는 생성 칼럼. 완료된 세션은 NULL 이므로 유니크 제약에 걸리지 않음
+    @Column(name = "active_pair", length = 73, insertable = false, updatable = false,
+            columnDefinition = "varchar(73) GENERATED ALWAYS AS (CASE WHEN status = 'IN_PROGRESS' THEN CONCAT(mentor_user_id, ':', mentee_user_id) END) STORED")
+    private String activePair;
 }
@@ -0,0 +1,25 @@
+package com.team05.linkup.domain.mentoring.dto;
+
+import com.team05.linkup.domain.enums.Interest;
+
+/**
+ * 멘토 후보 색인 적재용 프로젝션. AI 매칭 요청의 후보 정보에 색인 키(사용자 ID, 관심 분야)를 더한 형태입니다.
+ */
+public record MentorCandidateDTO(
+        String userId,
+        Interest interest,
+        Integer areacode,
+        String areaName,
+        Integer sigungucode,
+        String sigunguname,
+        String nickname,
+        String profileTag,
+        String profileImageUrl,
+        String providerId,
+        String contactLink
+) {
+    public AiMatchingRequestDTO.OtherProfile toOtherProfile() {
+        return new AiMatchingRequestDTO.OtherProfile(areacode, areaName, sigungucode, sigunguname,
+                nickname, profileTag, profileImageUrl, providerId, contactLink);
+    }
+}
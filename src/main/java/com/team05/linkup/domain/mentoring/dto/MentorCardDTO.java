@@ -1,5 +1,6 @@
 package com.team05.linkup.domain.mentoring.dto;
 
+import com.querydsl.core.annotations.QueryProjection;
 import com.team05.linkup.domain.enums.ActivityTime;
 import com.team05.linkup.domain.enums.ActivityType;
 import com.team05.linkup.domain.enums.Interest;
@@ -17,9 +18,27 @@ public class MentorCardDTO {
     private String nickname;
     private String interest;
     private String profileImageUrl;
+    private String profileThumbnailUrl; // 아바타용 축소 이미지 URL (없으면 원본)
     private String areaName;
     private String sigunguName;
     private String introduction;
     private String activityTime;
     private String activityType;
-}
\ No newline at end of file
+
+    // QueryDSL Projection용: 지역/시군구 이름은 쿼리에서 조인, enum 은 표시 이름으로 변환
+    @QueryProjection
+    public MentorCardDTO(String mentorId, String nickname, Interest interest, String profileImageUrl,
+                         String profileThumbnailUrl, String areaName, String sigunguName, String introduction,
+                         ActivityTime activityTime, ActivityType activityType) {
+        this.mentorId = mentorId;
+        this.nickname = nickname;
+        this.interest = interest != null ? interest.getDisplayName() : null;
+        this.profileImageUrl = profileImageUrl;
+        this.profileThumbnailUrl = profileThumbnailUrl != null ? profileThumbnailUrl : profileImageUrl;
+        this.areaName = areaName;
+        this.sigunguName = sigunguName;
+        this.introduction = introduction;
+        this.activityTime = activityTime != null ? activityTime.getDisplayName() : null;
+        this.activityType = activityType != null ? activityType.getDisplayName() : null;
+    }
+}
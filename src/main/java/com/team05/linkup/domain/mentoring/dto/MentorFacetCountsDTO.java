@@ -0,0 +1,28 @@
+package com.team05.linkup.domain.mentoring.dto;
+
+import com.team05.linkup.domain.enums.ActivityTime;
+import com.team05.linkup.domain.enums.ActivityType;
+import com.team05.linkup.domain.enums.Interest;
+
+import java.util.Map;
+
+/**
+ * 멘토 필터 항목별 개수 응답 DTO.
+ * 각 항목의 개수는 해당 항목 자신의 조건만 뺀 나머지 필터를 적용한 상태에서 그 값을 선택했을 때의 멘토 수입니다.
+ *
+ * @param total        현재 필터 전체에 해당하는 멘토 수.
+ * @param interest     관심 분야별 멘토 수.
+ * @param area         지역 코드별 멘토 수.
+ * @param sigungu      선택한 지역 안의 시군구 코드별 멘토 수 (지역을 선택하지 않았으면 비어 있음).
+ * @param activityTime 활동 시간대별 멘토 수.
+ * @param activityType 활동 유형별 멘토 수 ('모두' 로 등록한 멘토 포함).
+ */
+public record MentorFacetCountsDTO(
+        long total,
+        Map<Interest, Long> interest,
+        Map<Integer, Long> area,
+        Map<Integer, Long> sigungu,
+        Map<ActivityTime, Long> activityTime,
+        Map<ActivityType, Long> activityType
+) {
+}
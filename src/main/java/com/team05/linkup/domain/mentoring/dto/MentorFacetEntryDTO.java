@@ -0,0 +1,18 @@
+package com.team05.linkup.domain.mentoring.dto;
+
+import com.team05.linkup.domain.enums.ActivityTime;
+import com.team05.linkup.domain.enums.ActivityType;
+import com.team05.linkup.domain.enums.Interest;
+
+/**
+ * 멘토 필터 색인 항목: 응답에 쓰는 카드와 필터 대상 값(facet)을 함께 담습니다.
+ */
+public record MentorFacetEntryDTO(
+        MentorCardDTO card,
+        Interest interest,
+        Integer areaCode,
+        Integer sigunguCode,
+        ActivityTime activityTime,
+        ActivityType activityType
+) {
+}
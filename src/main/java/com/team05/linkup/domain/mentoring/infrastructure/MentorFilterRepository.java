@@ -1,32 +1,133 @@
 package com.team05.linkup.domain.mentoring.infrastructure;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.team05.linkup.domain.enums.ActivityTime;
 import com.team05.linkup.domain.enums.ActivityType;
 import com.team05.linkup.domain.enums.Role;
+import com.team05.linkup.domain.mentoring.dto.MentorCardDTO;
+import com.team05.linkup.domain.mentoring.dto.MentorFacetEntryDTO;
 import com.team05.linkup.domain.mentoring.dto.MentorFilterDTO;
+import com.team05.linkup.domain.mentoring.dto.QMentorCardDTO;
+import com.team05.linkup.domain.user.domain.QArea;
+import com.team05.linkup.domain.user.domain.QSigungu;
 import com.team05.linkup.domain.user.domain.QUser;
-import com.team05.linkup.domain.user.domain.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
+/**
+ * 수동 매칭 멘토 필터 조회.
+ * User 엔티티 대신 {@link MentorCardDTO} 로 바로 투영하며, 지역/시군구 이름은 같은 쿼리에서 조인합니다.
+ * 필터 조건은 idx_user_mentor_filter (role, match_status, interest, area, sigungu_code) 인덱스를 타고,
+ * 정렬 키인 id 는 InnoDB 보조 인덱스에 PK 로 포함되므로 커서 조회도 같은 인덱스 범위 안에서 끝납니다.
+ */
 @Repository
 @RequiredArgsConstructor
 public class MentorFilterRepository {
 
     private final JPAQueryFactory queryFactory;
 
-    public List<User> findMentorsWithFilters(MentorFilterDTO filterDTO) {
+    /**
+     * 필터 조건에 맞는 멘토 카드 전체를 조회합니다.
+     */
+    public List<MentorCardDTO> findMentorCardsWithFilters(MentorFilterDTO filterDTO) {
+        return selectMentorCards(filterCondition(filterDTO)).fetch();
+    }
+
+    /**
+     * 필터 조건에 맞는 멘토 카드를 id 오름차순 커서 방식으로 조회합니다.
+     *
+     * @param filterDTO 필터 조건
+     * @param afterId   이전 페이지 마지막 멘토 ID (첫 페이지는 null)
+     * @param limit     최대 조회 개수
+     */
+    public List<MentorCardDTO> findMentorCardsWithFilters(MentorFilterDTO filterDTO, String afterId, int limit) {
+        BooleanBuilder builder = filterCondition(filterDTO);
+        if (afterId != null) {
+            builder.and(QUser.user.id.gt(afterId));
+        }
+        return selectMentorCards(builder)
+                .orderBy(QUser.user.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 멘토 필터 색인에 넣을 항목을 조회합니다. (매칭 가능한 멘토만)
+     *
+     * @param userIds 조회할 사용자 ID (null 이면 전체)
+     */
+    public List<MentorFacetEntryDTO> findMentorFacetEntries(Collection<String> userIds) {
+        QUser user = QUser.user;
+        BooleanBuilder builder = filterCondition(MentorFilterDTO.builder().build());
+        if (userIds != null) {
+            builder.and(user.id.in(userIds));
+        }
+
+        QMentorCardDTO card = mentorCard();
+        return withRegionNames(queryFactory
+                .select(card, user.interest, user.areaCode, user.sigunguCode, user.activityTime, user.activityType)
+                .from(user))
+                .where(builder)
+                .fetch()
+                .stream()
+                .map(tuple -> new MentorFacetEntryDTO(
+                        tuple.get(card),
+                        tuple.get(user.interest),
+                        tuple.get(user.areaCode),
+                        tuple.get(user.sigunguCode),
+                        tuple.get(user.activityTime),
+                        tuple.get(user.activityType)))
+                .toList();
+    }
+
+    private JPAQuery<MentorCardDTO> selectMentorCards(BooleanBuilder condition) {
+        return withRegionNames(queryFactory
+                .select(mentorCard())
+                .from(QUser.user))
+                .where(condition);
+    }
+
+    private static QMentorCardDTO mentorCard() {
+        QUser user = QUser.user;
+        return new QMentorCardDTO(
+                user.id,
+                user.nickname,
+                user.interest,
+                user.profileImageUrl,
+                user.profileThumbnailUrl,
+                QArea.area.areaName,
+                QSigungu.sigungu.sigunguname,
+                user.introduction,
+                user.activityTime,
+                user.activityType
+        );
+    }
+
+    // 지역/시군구 이름 조인 (코드가 없는 멘토도 포함)
+    private static <T> JPAQuery<T> withRegionNames(JPAQuery<T> query) {
+        QUser user = QUser.user;
+        QArea area = QArea.area;
+        QSigungu sigungu = QSigungu.sigungu;
+
+        return query
+                .leftJoin(area).on(area.areacode.eq(user.areaCode))
+                .leftJoin(sigungu).on(sigungu.id.areacode.eq(user.areaCode)
+                        .and(sigungu.id.sigungucode.eq(user.sigunguCode)));
+    }
+
+    private BooleanBuilder filterCondition(MentorFilterDTO filterDTO) {
         QUser user = QUser.user;
 
         // 동적 쿼리를 위한 BooleanBuilder 생성
         BooleanBuilder builder = new BooleanBuilder();
 
-        // 멘토 역할만 필터링 (필수 조건)
+        // 멘토 역할, 매칭 가능한 멘토만 필터링 (필수 조건, 인덱스 선두 컬럼)
         builder.and(user.role.eq(Role.ROLE_MENTOR));
+        builder.and(user.matchStatus.eq(true));
 
         // 옵션 필터: 관심 분야
         if (filterDTO.getInterest() != null) {
@@ -35,7 +136,7 @@ public class MentorFilterRepository {
 
         // 옵션 필터: 지역
         if (filterDTO.getAreaCode() != null) {
-            builder.and(user.area.areacode.eq(filterDTO.getAreaCode()));
+            builder.and(user.areaCode.eq(filterDTO.getAreaCode()));
 
             // 시군구 코드도 함께 있는 경우
             if (filterDTO.getSigunguCode() != null) {
@@ -43,31 +144,19 @@ public class MentorFilterRepository {
             }
         }
 
-        // 옵션 필터: 활동 시간대
+        // 옵션 필터: 활동 시간대 (리스트에 있는 시간 중 하나라도 일치)
         if (filterDTO.getActivityTime() != null && !filterDTO.getActivityTime().isEmpty()) {
-            // 리스트에 있는 시간 중 하나라도 일치하는 경우 (OR 조건)
-            BooleanBuilder timeBuilder = new BooleanBuilder();
-            for (ActivityTime time : filterDTO.getActivityTime()) {
-                timeBuilder.or(user.activityTime.eq(time));
-            }
-            builder.and(timeBuilder);
+            builder.and(user.activityTime.in(filterDTO.getActivityTime()));
         }
 
         // 옵션 필터: 활동 유형
         if (filterDTO.getActivityType() != null) {
             // 활동 유형이 'ALL'인 경우 어떤 활동 유형도 매칭됨
             if (filterDTO.getActivityType() != ActivityType.ALL) {
-                builder.and(user.activityType.eq(filterDTO.getActivityType())
-                        .or(user.activityType.eq(ActivityType.ALL)));
+                builder.and(user.activityType.in(filterDTO.getActivityType(), ActivityType.ALL));
             }
         }
 
-        // 매칭 가능한 멘토만 필터링 (필수 조건)
-        builder.and(user.matchStatus.eq(true));
-
-        return queryFactory
-                .selectFrom(user)
-                .where(builder)
-                .fetch();
+        return builder;
     }
-}
\ No newline at end of file
+}
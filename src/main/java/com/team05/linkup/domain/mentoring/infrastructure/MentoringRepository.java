@@ -72,4 +72,13 @@ public interface MentoringRepository extends JpaRepository<MentoringSessions, St
     // menteeId로 페이징된 매칭 세션 조회 + 상태 필터링
     @Query("SELECT m FROM MentoringSessions m WHERE m.mentee.id = :menteeId AND m.status = :status ORDER BY m.createdAt DESC")
     Page<MentoringSessions> findByMenteeUserIdAndStatusPaged(@Param("menteeId") String menteeId, @Param("status") MentoringStatus status, Pageable pageable);
+
+    // 멘토-멘티 쌍의 진행 중 세션 (uk_mentoring_active_pair 로 최대 1개)
+    @Query("SELECT m FROM MentoringSessions m WHERE m.mentor.id = :mentorId AND m.mentee.id = :menteeId AND m.status = 'IN_PROGRESS'")
+    Optional<MentoringSessions> findActiveSession(@Param("mentorId") String mentorId, @Param("menteeId") String menteeId);
+
+    // 같은 멘티가 같은 멱등 키로 이미 만든 세션
+    @Query("SELECT m FROM MentoringSessions m WHERE m.mentee.id = :menteeId AND m.idempotencyKey = :idempotencyKey")
+    Optional<MentoringSessions> findByMenteeIdAndIdempotencyKey(@Param("menteeId") String menteeId,
+                                                                @Param("idempotencyKey") String idempotencyKey);
 }
@@ -1,35 +1,18 @@
 package com.team05.linkup.domain.mentoring.util;
 
+import com.team05.linkup.common.util.WeightedSampler;
 import com.team05.linkup.domain.mentoring.dto.AiMatchingResponseDTO;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 @Component
 public class RecommendationLogic {
-    public List<AiMatchingResponseDTO.Result> weightedRandomSample(List<AiMatchingResponseDTO.Result> items, int sampleSize) {
-        Random rand = new Random();
-        List<AiMatchingResponseDTO.Result> sampled = new ArrayList<>();
-        double totalWeight = items.stream().mapToDouble(AiMatchingResponseDTO.Result::similarity).sum();
-
-        for (int i = 0; i < sampleSize && !items.isEmpty(); i++) {
-            double r = rand.nextDouble() * totalWeight;
-            double cumulative = 0.0;
 
-            for (int j = 0; j < items.size(); j++) {
-                AiMatchingResponseDTO.Result item = items.get(j);
-                cumulative += item.similarity();
-
-                if (cumulative >= r) {
-                    sampled.add(item);
-                    totalWeight -= item.similarity();
-                    items.remove(j);
-                    break;
-                }
-            }
-        }
-        return sampled;
+    /**
+     * 유사도를 가중치로 후보를 최대 sampleSize 명 중복 없이 추출합니다. 입력 목록은 수정하지 않습니다.
+     */
+    public List<AiMatchingResponseDTO.Result> weightedRandomSample(List<AiMatchingResponseDTO.Result> items, int sampleSize) {
+        return WeightedSampler.sample(items, AiMatchingResponseDTO.Result::similarity, sampleSize);
     }
 }
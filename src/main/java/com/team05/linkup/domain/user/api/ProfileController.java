@@ -423,13 +423,18 @@ public class ProfileController {
             logger.info("👤 사용자 조회 성공: id = {}, nickname = {}", user.getId(), user.getNickname());
 
             // 업로드 및 URL 저장
-            String imageUrl = profileImageService.uploadProfileImage(user.getId(), profileImage);
-            logger.info("✅ Supabase 업로드 완료, imageUrl = {}", imageUrl);
+            String previousImageUrl = user.getProfileImageUrl();
+            String previousThumbnailUrl = user.getProfileThumbnailUrl();
 
-            // 사용자 프로필 이미지 경로 업데이트 및 저장
-            user.updateProfileImage(imageUrl);
-            logger.info("imageUrl = " + imageUrl);
-            userRepository.save(user); // 저장 - DB 반영
+            ProfileImageUploadResultDTO uploaded = profileImageService.uploadProfileImage(user.getId(), profileImage);
+            logger.info("✅ Supabase 업로드 완료, imageUrl = {}, thumbnailUrl = {}", uploaded.imageUrl(), uploaded.thumbnailUrl());
+
+            // 사용자 프로필 이미지 및 썸네일 경로 업데이트 및 저장
+            profileService.updateProfileImage(user, uploaded); // 저장 - DB 반영
+            logger.info("imageUrl = " + uploaded.imageUrl());
+
+            // 교체된 이전 이미지는 비동기로 삭제 (응답을 기다리지 않음)
+            profileImageService.deleteProfileImages(previousImageUrl, previousThumbnailUrl);
 
             return ResponseEntity.ok(ApiResponse.success("프로필 이미지가 변경되었습니다."));
 
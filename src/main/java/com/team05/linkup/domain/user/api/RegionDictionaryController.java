@@ -0,0 +1,31 @@
+package com.team05.linkup.domain.user.api;
+
+import com.team05.linkup.common.dto.ApiResponse;
+import com.team05.linkup.domain.user.application.RegionDictionary;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 지역 사전 재적재 API (관리자 전용)
+ */
+@Tag(name = "지역 사전 관리 API", description = "메모리 지역 사전 재적재")
+@RestController
+@RequestMapping("/v1/internal")
+@RequiredArgsConstructor
+public class RegionDictionaryController {
+
+    private final RegionDictionary regionDictionary;
+
+    @Operation(summary = "지역 사전 재적재", description = "area/sigungu 테이블을 다시 읽어 메모리 지역 사전을 교체하고, 적재된 시군구 수를 반환합니다.")
+    @PostMapping("/regions/refresh")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> refreshRegions() {
+        return ResponseEntity.ok(ApiResponse.success(regionDictionary.refresh()));
+    }
+}
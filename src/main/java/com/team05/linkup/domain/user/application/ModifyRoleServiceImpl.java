@@ -6,11 +6,13 @@ import com.team05.linkup.common.oauth.jwtAssistant.OAuth2ProviderStrategy;
 import com.team05.linkup.common.oauth.jwtAssistant.OAuth2ProviderStrategyFactory;
 import com.team05.linkup.domain.enums.Role;
 import com.team05.linkup.domain.user.domain.User;
+import com.team05.linkup.domain.user.dto.MentorProfileChangedEventDTO;
 import com.team05.linkup.domain.user.infrastructure.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -31,6 +33,7 @@ public class ModifyRoleServiceImpl implements ModifyRoleService {
     private static final Logger logger = LogManager.getLogger();
     private final UserRepository userRepository;
     private final OAuth2ProviderStrategyFactory strategyFactory;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Authentication modifyRole(UserPrincipal userPrincipal, Role role) throws Exception {
@@ -44,6 +47,11 @@ public class ModifyRoleServiceImpl implements ModifyRoleService {
                 throw new IllegalStateException("ROLE_TEMP 상태인 사용자만 역할을 변경할 수 있습니다.");
             }
 
+            // 멘토/멘티만 직접 선택 가능 (관리자 권한은 DB 에서만 부여)
+            if (role != Role.ROLE_MENTOR && role != Role.ROLE_MENTEE) {
+                throw new IllegalArgumentException("멘토 또는 멘티 역할만 선택할 수 있습니다.");
+            }
+
             Authentication currentAuth = SecurityContextHolder.getContext().getAuthentication();
 
             if (currentAuth != null) {
@@ -68,6 +76,10 @@ public class ModifyRoleServiceImpl implements ModifyRoleService {
                 );
 
                 userRepository.updateUserRole(user.getId(), role);
+                if (role == Role.ROLE_MENTOR) {
+                    // 커밋 후 멘토 후보 색인에 추가
+                    eventPublisher.publishEvent(new MentorProfileChangedEventDTO(user.getId()));
+                }
                 SecurityContextHolder.getContext().setAuthentication(newAuth);
                 return newAuth;
             }
@@ -1,45 +1,58 @@
 package com.team05.linkup.domain.user.application;
 
-import io.supabase.StorageClient;
-import io.supabase.api.IStorageFileAPI;
+import com.team05.linkup.common.image.ImageVariant;
+import com.team05.linkup.common.image.ImageVariantProcessor;
+import com.team05.linkup.common.image.ProcessedImage;
+import com.team05.linkup.common.storage.ObjectStorage;
+import com.team05.linkup.common.storage.StoragePaths;
+import com.team05.linkup.domain.user.dto.ProfileImageUploadResultDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ProfileImageService {
 
-    private final StorageClient storageClient;
+    private final ObjectStorage objectStorage;   // 커뮤니티 이미지와 공유하는 스토리지 게이트웨이 (커넥션 풀 재사용)
+    private final ImageVariantProcessor variantProcessor;
 
-    @Value("${supabase.profile-image-bucket}")
-    private String profileImageBucket;
+    @Value("${image.processing.profile-timeout-ms:10000}")
+    private long thumbnailTimeoutMillis;
 
-    @Value("${supabase.storage-url}")   // 공개 URL 생성용
-    private String url;
+    @Value("${storage.upload-timeout-ms:30000}")
+    private long uploadTimeoutMillis;
 
-    @Value("${supabase.service-key}")  // 🔐 yml에서 직접 주입
-    private String supabaseApiKey;
+    @Value("${supabase.profile-image-bucket}")
+    private String profileImageBucket;
 
     /**
      * 🔹 프로필 이미지 업로드
      * - 경로: userId/uuid-파일명
      * - MIME, 용량 검사
      * - Supabase 업로드 완료까지 대기
-     * - 업로드된 이미지의 public URL 반환
+     * - 썸네일 변형(긴 변 160px)을 만들어 함께 업로드
+     * - 업로드된 이미지와 썸네일의 public URL 반환
      */
-    public String uploadProfileImage(String userId, MultipartFile file) {
+    public ProfileImageUploadResultDTO uploadProfileImage(String userId, MultipartFile file) {
         log.info("🚀 Supabase upload 시작");
 
-        // MIME type 검사
-        String contentType = file.getContentType();
+        // MIME type 검사 (대소문자 구분 없음)
+        String contentType = file.getContentType() == null ? null : file.getContentType().toLowerCase(Locale.ROOT);
         if (contentType == null || !contentType.matches("image/(jpeg|png|gif|webp|svg\\+xml)")) {
             throw new IllegalArgumentException("❗허용되지 않는 이미지 형식입니다.");
         }
@@ -51,13 +64,6 @@ public class ProfileImageService {
         log.info("🔎 file.getSize() = " + file.getSize());
 
 
-        String storageBaseUrl  = url;
-        StorageClient fixedClient = new StorageClient(supabaseApiKey, storageBaseUrl );
-
-        IStorageFileAPI fileApi = fixedClient.from(profileImageBucket);
-//        IStorageFileAPI fileApi = storageClient.from(profileImageBucket);
-        log.info("🔎 fileApi.toString() = " + fileApi.toString());
-
         String originalName = Optional.ofNullable(file.getOriginalFilename())
                 .orElseThrow(() -> new IllegalArgumentException("파일 이름이 없습니다."));
 
@@ -69,32 +75,76 @@ public class ProfileImageService {
         );
         log.info("✅ objectPath = {}", objectPath);
 
-        File tempFile = null;
+        // 썸네일 생성(CPU)과 원본 업로드(I/O)를 동시에 진행 (프로필은 썸네일만 저장하므로 썸네일만 생성)
+        CompletableFuture<ProcessedImage> processing = variantProcessor.processAsync(file, EnumSet.of(ImageVariant.THUMBNAIL));
         try {
-            tempFile = File.createTempFile("profile-", "-" + file.getOriginalFilename());
-            log.info("📍 tempFile.getAbsolutePath = " + tempFile.getAbsolutePath());
-
-            file.transferTo(tempFile);
-            log.info("📍 file.getOriginalFilename() = " + file.getOriginalFilename());
-
-            fileApi.upload(objectPath, tempFile).get(); // 동기 처리
+            // 임시 파일 없이 MultipartFile 에서 바로 스트리밍
+            objectStorage.upload(profileImageBucket, objectPath, file, file.getSize(), contentType)
+                    .get(uploadTimeoutMillis, TimeUnit.MILLISECONDS); // 동기 처리
 
             log.info("✅ Supabase 업로드 요청 완료 - objectPath = {}", objectPath);
 
         } catch (Exception e) {
+            processing.cancel(true);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
             log.error("❌ Supabase 업로드 실패", e);
             throw new RuntimeException("Supabase 업로드 실패", e);
-        } finally {
-            if (tempFile != null && tempFile.exists()) {
-                boolean deleted = tempFile.delete();
-                log.info("🧹 임시 파일 삭제: {}", deleted);
-            }
         }
 
-        // 방어적 코드
-        String fixedUrl = url.replaceAll("/$", ""); // 끝 슬래시 제거
         // ✅ 프론트에 제공할 public URL 반환
-        return String.format("%s/object/public/%s/%s", fixedUrl, profileImageBucket, objectPath);
+        String imageUrl = objectStorage.publicUrl(profileImageBucket, objectPath);
+        return new ProfileImageUploadResultDTO(imageUrl, uploadThumbnail(processing, objectPath));
+    }
+
+    /**
+     * 🔹 이전 프로필 이미지 삭제 (비동기)
+     * - 이 버킷에 업로드된 이미지만 삭제 (소셜 로그인 프로필 등 외부 URL 은 무시)
+     * - 삭제 실패는 로그만 남기며 프로필 변경에는 영향 없음
+     */
+    public CompletableFuture<Void> deleteProfileImages(String... imageUrls) {
+        List<String> objectPaths = Arrays.stream(imageUrls)
+                .filter(Objects::nonNull)
+                .filter(stored -> StoragePaths.isPublicUrl(stored, profileImageBucket))
+                .map(stored -> StoragePaths.toObjectPath(stored, profileImageBucket))
+                .toList();
+        if (objectPaths.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return objectStorage.delete(profileImageBucket, objectPaths)
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        log.warn("⚠️ 이전 프로필 이미지 삭제 실패: {}", objectPaths, error);
+                    } else {
+                        log.info("🧹 이전 프로필 이미지 삭제: {}", objectPaths);
+                    }
+                });
+    }
+
+    /**
+     * 🔹 썸네일 업로드
+     * - 변형 생성이나 업로드에 실패해도 원본은 유지하고 null 반환 (화면에서는 원본 사용)
+     */
+    private String uploadThumbnail(CompletableFuture<ProcessedImage> processing, String objectPath) {
+        try {
+            ProcessedImage processed = processing.get(thumbnailTimeoutMillis, TimeUnit.MILLISECONDS);
+            ProcessedImage.EncodedImage thumbnail = processed.variants().get(ImageVariant.THUMBNAIL);
+            if (thumbnail == null) {
+                return null;
+            }
+            String thumbnailPath = "%s-%s.%s".formatted(objectPath, ImageVariant.THUMBNAIL.suffix(), thumbnail.extension());
+            objectStorage.upload(profileImageBucket, thumbnailPath, new ByteArrayResource(thumbnail.data()),
+                            thumbnail.data().length, thumbnail.contentType())
+                    .get(thumbnailTimeoutMillis, TimeUnit.MILLISECONDS);
+            return objectStorage.publicUrl(profileImageBucket, thumbnailPath);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            log.warn("⚠️ 프로필 썸네일 생성/업로드 실패, 원본만 사용합니다: {} ({})", objectPath, e.toString());
+            return null;
+        }
     }
 
 }
\ No newline at end of file
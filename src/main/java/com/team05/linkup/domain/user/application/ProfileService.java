@@ -3,17 +3,17 @@ package com.team05.linkup.domain.user.application;
 import com.team05.linkup.common.dto.UserPrincipal;
 import com.team05.linkup.domain.community.domain.CommunityCategory;
 import com.team05.linkup.domain.community.infrastructure.CommunityRepository;
+import com.team05.linkup.domain.enums.Role;
 import com.team05.linkup.domain.user.domain.Area;
-import com.team05.linkup.domain.user.domain.Sigungu;
 import com.team05.linkup.domain.user.domain.User;
 import com.team05.linkup.domain.user.dto.*;
 import com.team05.linkup.domain.user.infrastructure.AreaRepository;
-import com.team05.linkup.domain.user.infrastructure.SigunguRepository;
 import com.team05.linkup.domain.user.infrastructure.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -35,21 +35,13 @@ import java.util.stream.Collectors;
 public class ProfileService {
 
     private static final Logger logger = LogManager.getLogger();
-    private final SigunguRepository sigunguRepository;
+    private final RegionDictionary regionDictionary;
 
     @Transactional(readOnly = true)
     public ProfilePageDTO getProfile(User user, UserPrincipal userPrincipal) {
-        // Area 객체에서 지역 이름을 가져옵니다
-        String areaName = Optional.ofNullable(user.getArea())
-                .map(Area::getAreaName)
-                .orElse(null);
-
-        // 사용자의 sigunguCode가 있으면 해당 시군구 정보를 가져옵니다
-        String sigungu = Optional.ofNullable(user.getArea())
-                .flatMap(area -> Optional.ofNullable(user.getSigunguCode())
-                        .flatMap(code -> sigunguRepository.findByIdAreacodeAndIdSigungucode(area.getAreacode(), code))
-                        .map(Sigungu::getSigunguname))
-                .orElse(null);
+        // 지역/시군구 이름은 메모리 사전에서 가져옵니다
+        String areaName = regionDictionary.areaName(user.getAreaCode());
+        String sigungu = regionDictionary.sigunguName(user.getAreaCode(), user.getSigunguCode());
 
         boolean isCurrentUser = isCurrentUser(user, userPrincipal);
 
@@ -57,6 +49,7 @@ public class ProfileService {
                 .id(user.getId())
                 .nickname(user.getNickname())
                 .profileImageUrl(user.getProfileImageUrl())
+                .profileThumbnailUrl(user.getAvatarUrl())
                 .role(user.getRole().name())
                 .tag(user.getProfileTag())
                 .interest(user.getInterest() != null ? user.getInterest().getDisplayName() : null)
@@ -447,15 +440,12 @@ public class ProfileService {
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
 
         // 시군구 이름 조회
-        String sigunguName = Optional.ofNullable(user.getArea())
-                .flatMap(area -> Optional.ofNullable(user.getSigunguCode())
-                        .flatMap(code -> sigunguRepository.findByIdAreacodeAndIdSigungucode(area.getAreacode(), code))
-                        .map(Sigungu::getSigunguname))
-                .orElse(null);
+        String sigunguName = regionDictionary.sigunguName(user.getAreaCode(), user.getSigunguCode());
 
         return ProfileSettingsResponseDTO.builder()
                 .nickname(user.getNickname())
                 .profileImageUrl(user.getProfileImageUrl())
+                .profileThumbnailUrl(user.getAvatarUrl())
                 .introduction(user.getIntroduction())
                 .interest(user.getInterest())
                 .interestDisplayName(user.getInterest() != null ? user.getInterest().getDisplayName() : null)
@@ -466,8 +456,8 @@ public class ProfileService {
                 .activityType(user.getActivityType())
                 .activityTypeDisplayName(user.getActivityType() != null ? user.getActivityType().getDisplayName() : null)
 
-                .areaCode(user.getArea() != null ? user.getArea().getAreacode() : null)
-                .area(user.getArea() != null ? user.getArea().getAreaName() : null)
+                .areaCode(user.getAreaCode())
+                .area(regionDictionary.areaName(user.getAreaCode()))
                 .sigunguCode(user.getSigunguCode())
                 .sigunguName(sigunguName)
                 .tags(user.parseTags())
@@ -480,6 +470,7 @@ public class ProfileService {
 
 
     private final AreaRepository areaRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void updateProfileFields(String nickname, ProfileUpdateRequestDTO dto, UserPrincipal userPrincipal) {
@@ -509,7 +500,24 @@ public class ProfileService {
         // 5. User 객체 업데이트
         user.updateProfileFields(dto, area);
 
-        // 6. 저장은 @Transactional로 처리 완료
+        // 6. 저장은 @Transactional로 처리 완료, 커밋 후 멘토 후보 색인 갱신
+        publishMentorProfileChanged(user);
+    }
+
+    /**
+     * 프로필 이미지와 썸네일 경로를 저장합니다.
+     */
+    @Transactional
+    public void updateProfileImage(User user, ProfileImageUploadResultDTO uploaded) {
+        user.updateProfileImage(uploaded.imageUrl(), uploaded.thumbnailUrl());
+        userRepository.save(user);
+        publishMentorProfileChanged(user);
+    }
+
+    private void publishMentorProfileChanged(User user) {
+        if (user.getRole() == Role.ROLE_MENTOR) {
+            eventPublisher.publishEvent(new MentorProfileChangedEventDTO(user.getId()));
+        }
     }
 
 
@@ -0,0 +1,104 @@
+package com.team05.linkup.domain.user.application;
+
+import com.team05.linkup.domain.user.domain.Area;
+import com.team05.linkup.domain.user.domain.Sigungu;
+import com.team05.linkup.domain.user.infrastructure.AreaRepository;
+import com.team05.linkup.domain.user.infrastructure.SigunguRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 지역(area)/시군구(sigungu) 이름 사전.
+ * 거의 바뀌지 않는 기준 데이터이므로 기동 시 한 번 적재한 불변 Map 으로 조회하여, 사용자마다 sigungu 를 조회하지 않습니다.
+ * <p>
+ * {@link #refresh()} 는 새 Map 을 만든 뒤 통째로 교체하므로 조회 중인 요청은 이전 사전이나 새 사전 중 하나를 온전히 봅니다.
+ * 기동 이벤트 전에 조회되면 그 자리에서 적재합니다.
+ */
+@Slf4j
+@Component
+public class RegionDictionary {
+
+    private final AreaRepository areaRepository;
+    private final SigunguRepository sigunguRepository;
+
+    private volatile Snapshot snapshot;
+
+    public RegionDictionary(AreaRepository areaRepository, SigunguRepository sigunguRepository) {
+        this.areaRepository = areaRepository;
+        this.sigunguRepository = sigunguRepository;
+    }
+
+    /**
+     * 지역 코드에 해당하는 지역 이름을 반환합니다.
+     *
+     * @return 지역 이름 (코드가 null 이거나 없으면 null)
+     */
+    public String areaName(Integer areacode) {
+        if (areacode == null) {
+            return null;
+        }
+        return current().areaNames().get(areacode);
+    }
+
+    /**
+     * 지역/시군구 코드에 해당하는 시군구 이름을 반환합니다.
+     *
+     * @return 시군구 이름 (코드가 null 이거나 없으면 null)
+     */
+    public String sigunguName(Integer areacode, Integer sigungucode) {
+        if (areacode == null || sigungucode == null) {
+            return null;
+        }
+        Map<Integer, String> sigungus = current().sigunguNames().get(areacode);
+        return sigungus == null ? null : sigungus.get(sigungucode);
+    }
+
+    /**
+     * area/sigungu 테이블을 다시 읽어 사전을 교체합니다.
+     *
+     * @return 적재된 시군구 수
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized int refresh() {
+        Map<Integer, String> areaNames = new HashMap<>();
+        for (Area area : areaRepository.findAll()) {
+            areaNames.put(area.getAreacode(), area.getAreaName());
+        }
+
+        // 복합 키에 areacode 가 있으므로 Sigungu.area 프록시는 건드리지 않음
+        Map<Integer, Map<Integer, String>> grouped = new HashMap<>();
+        int count = 0;
+        for (Sigungu sigungu : sigunguRepository.findAll()) {
+            grouped.computeIfAbsent(sigungu.getId().getAreacode(), key -> new HashMap<>())
+                    .put(sigungu.getId().getSigungucode(), sigungu.getSigunguname());
+            count++;
+        }
+        Map<Integer, Map<Integer, String>> sigunguNames = new HashMap<>();
+        grouped.forEach((areacode, names) -> sigunguNames.put(areacode, Map.copyOf(names)));
+
+        snapshot = new Snapshot(Map.copyOf(areaNames), Map.copyOf(sigunguNames));
+        log.info("지역 사전 적재 완료: 지역={}개, 시군구={}개", areaNames.size(), count);
+        return count;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private record Snapshot(Map<Integer, String> areaNames, Map<Integer, Map<Integer, String>> sigunguNames) {
+    }
+}
@@ -16,7 +16,8 @@ import java.util.List;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(uniqueConstraints = @UniqueConstraint(name = "uk_provider_provider_id", columnNames = {"provider", "providerId"}))
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_provider_provider_id", columnNames = {"provider", "providerId"}),
+        indexes = @Index(name = "idx_user_mentor_filter", columnList = "role, match_status, interest, area, sigungu_code")) // 수동 매칭 멘토 필터용
 public class User extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -38,6 +39,9 @@ public class User extends BaseEntity {
     private Role role;
     @Column(length = 255, nullable = false)
     private String profileImageUrl;
+    // 아바타용 축소 이미지 (없으면 profileImageUrl 사용)
+    @Column(length = 255)
+    private String profileThumbnailUrl;
     @Builder.Default
     private boolean accountDisable = false;
 
@@ -45,6 +49,10 @@ public class User extends BaseEntity {
     @JoinColumn(name = "area", referencedColumnName = "areacode")
     private Area area;
 
+    // area 외래 키 값 (읽기 전용). 지역 이름은 RegionDictionary 로 조회하므로 Area 프록시를 초기화하지 않음
+    @Column(name = "area", insertable = false, updatable = false)
+    private Integer areaCode;
+
     @Column(name = "sigunguCode")
     private Integer sigunguCode;
 
@@ -92,7 +100,10 @@ public class User extends BaseEntity {
         if (dto.getSigunguCode() != null) this.sigunguCode = dto.getSigunguCode();
 
         // Area는 service 단에서 미리 주입해서 넘어오므로 null 허용
-        if (dto.getAreaCode() != null) this.area = area; // 서비스단에서 set 해주는 걸로 간주
+        if (dto.getAreaCode() != null) {
+            this.area = area; // 서비스단에서 set 해주는 걸로 간주
+            this.areaCode = area != null ? area.getAreacode() : null;
+        }
 
         if (dto.getTags() != null) {
             this.profileTag = String.join(",", dto.getTags());
@@ -102,5 +113,17 @@ public class User extends BaseEntity {
     // 프로필 이미지 URL만 업데이트
     public void updateProfileImage(String imageUrl) {
         this.profileImageUrl = imageUrl;
+        this.profileThumbnailUrl = null;
+    }
+
+    // 프로필 이미지와 썸네일 URL 업데이트
+    public void updateProfileImage(String imageUrl, String thumbnailUrl) {
+        this.profileImageUrl = imageUrl;
+        this.profileThumbnailUrl = thumbnailUrl;
+    }
+
+    // 아바타 표시용 URL (썸네일이 없으면 원본 프로필 이미지)
+    public String getAvatarUrl() {
+        return profileThumbnailUrl != null ? profileThumbnailUrl : profileImageUrl;
     }
 }
@@ -0,0 +1,10 @@
+package com.team05.linkup.domain.user.dto;
+
+/**
+ * 멘토 매칭 후보 정보(역할, 관심 분야, 지역, 닉네임, 태그, 프로필 이미지, 연락처)에 영향을 주는 사용자 변경 이벤트.
+ * 멘토 후보 색인이 트랜잭션 커밋 이후 해당 사용자만 다시 읽어 갱신하는 데 사용합니다.
+ *
+ * @param userId 변경된 사용자 ID
+ */
+public record MentorProfileChangedEventDTO(String userId) {
+}
@@ -0,0 +1,12 @@
+package com.team05.linkup.domain.user.dto;
+
+/**
+ * 프로필 이미지 업로드 결과
+ *
+ * @param imageUrl     원본 이미지 public URL
+ * @param thumbnailUrl 썸네일 public URL (변형을 만들 수 없는 형식이면 null)
+ */
+public record ProfileImageUploadResultDTO(
+        String imageUrl,
+        String thumbnailUrl
+) { }
@@ -9,6 +9,7 @@ public class ProfilePageDTO {
     private String id; // 사용자 ID
     private String nickname; // 사용자 닉네임
     private String profileImageUrl; // 프로필 이미지 URL
+    private String profileThumbnailUrl; // 아바타용 축소 이미지 URL (없으면 원본)
     private String role; // 사용자 역할 (멘티, 멘토)
     private String tag; // 사용자 태그
     private String interest; // 관심 주제
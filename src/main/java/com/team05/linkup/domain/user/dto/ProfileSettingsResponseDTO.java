@@ -17,6 +17,7 @@ public class ProfileSettingsResponseDTO {
     // 🔹 기본 정보
     private String nickname;
     private String profileImageUrl;
+    private String profileThumbnailUrl; // 아바타용 축소 이미지 URL (없으면 원본)
     private String introduction;
 
     // 🔹 활동 관련
@@ -2,9 +2,18 @@ package com.team05.linkup.domain.user.infrastructure;
 
 import com.team05.linkup.domain.enums.Interest;
 import com.team05.linkup.domain.mentoring.dto.AiMatchingRequestDTO;
+import com.team05.linkup.domain.mentoring.dto.MentorCandidateDTO;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CustomerUserRepository{
     List<AiMatchingRequestDTO.OtherProfile> findOtherProfileTagsByProviderId(String provider, String providerId, Interest interest);
+
+    /**
+     * 관심 분야가 있는 멘토의 매칭 후보 정보를 조회합니다.
+     *
+     * @param userIds 조회할 사용자 ID (null 이면 전체 멘토)
+     */
+    List<MentorCandidateDTO> findMentorCandidates(Collection<String> userIds);
 }
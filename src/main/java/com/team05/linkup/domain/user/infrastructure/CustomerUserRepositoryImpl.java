@@ -5,12 +5,14 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.team05.linkup.domain.enums.Interest;
 import com.team05.linkup.domain.enums.Role;
 import com.team05.linkup.domain.mentoring.dto.AiMatchingRequestDTO;
+import com.team05.linkup.domain.mentoring.dto.MentorCandidateDTO;
 import com.team05.linkup.domain.user.domain.QArea;
 import com.team05.linkup.domain.user.domain.QSigungu;
 import com.team05.linkup.domain.user.domain.QUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -47,4 +49,31 @@ public class CustomerUserRepositoryImpl implements CustomerUserRepository {
                 .fetch();
 
     }
+
+    @Override
+    public List<MentorCandidateDTO> findMentorCandidates(Collection<String> userIds) {
+        return queryFactory.select(Projections.constructor(MentorCandidateDTO.class,
+                        user.id,
+                        user.interest,
+                        user.area.areacode,
+                        user.area.areaName,
+                        user.sigunguCode,
+                        sigungu.sigunguname,
+                        user.nickname,
+                        user.profileTag,
+                        user.profileImageUrl,
+                        user.providerId,
+                        user.contactLink
+                ))
+                .from(user)
+                .leftJoin(user.area, area)
+                .leftJoin(sigungu).on(sigungu.id.sigungucode.eq(user.sigunguCode)
+                        .and(sigungu.id.areacode.eq(user.area.areacode)))
+                .where(
+                        userIds == null ? null : user.id.in(userIds),
+                        user.interest.isNotNull(),
+                        user.role.eq(Role.ROLE_MENTOR)
+                )
+                .fetch();
+    }
 }
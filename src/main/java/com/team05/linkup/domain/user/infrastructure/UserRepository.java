@@ -13,6 +13,7 @@ import org.springframework.stereotype.Repository;
 
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -93,4 +94,22 @@ public interface UserRepository extends JpaRepository<User, String> , CustomerUs
             "WHERE u.accountDisable = false") // User 엔티티의 accountDisable 필드 활용
     List<ActiveUsersTempDTO> findUserActivities(@Param("startDate") ZonedDateTime startDate);
 
+    /**
+     * 여러 사용자의 프로필 이미지 URL을 한 번에 조회합니다. (댓글 작성자 일괄 조회용)
+     *
+     * @param ids 사용자 ID 목록
+     * @return Object[] 리스트 ([0]: 사용자 ID(String), [1]: 프로필 이미지 URL(String), [2]: 썸네일 URL(String))
+     */
+    @Query("SELECT u.id, u.profileImageUrl, u.profileThumbnailUrl FROM User u WHERE u.id IN :ids")
+    List<Object[]> findProfileImageUrlsByIds(@Param("ids") Collection<String> ids);
+
+    /**
+     * 여러 사용자의 닉네임과 프로필 이미지 URL을 한 번에 조회합니다. 비활성화된 계정은 제외합니다. (활동 사용자 랭킹용)
+     *
+     * @param ids 사용자 ID 목록
+     * @return Object[] 리스트 ([0]: 사용자 ID(String), [1]: 닉네임(String), [2]: 프로필 이미지 URL(String))
+     */
+    @Query("SELECT u.id, u.nickname, u.profileImageUrl FROM User u WHERE u.id IN :ids AND u.accountDisable = false")
+    List<Object[]> findActiveProfilesByIds(@Param("ids") Collection<String> ids);
+
 }
@@ -0,0 +1,40 @@
+package com.team05.linkup.common;
+
+import com.team05.linkup.common.config.QuerydslConfig;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 실제 MySQL(Testcontainers) 위에서 저장소와 서비스를 검증하는 테스트의 공통 설정.
+ * 유니크 제약, INSERT IGNORE, 생성 칼럼처럼 DB 가 보장하는 동작은 Mockito 로 흉내내지 않고 이 설정으로 검증합니다.
+ * <ul>
+ *     <li>스키마는 엔티티 매핑으로 생성합니다. (create-drop)</li>
+ *     <li>동시 요청이 서로의 커밋을 보도록 테스트 트랜잭션을 사용하지 않습니다. 테스트 클래스들이 같은 DB 를 쓰므로 데이터 정리는 각 테스트에서 합니다.</li>
+ *     <li>Docker 를 쓸 수 없는 환경에서는 건너뜁니다.</li>
+ * </ul>
+ */
+@DataJpaTest(properties = {
+        "SPRING_PROFILES_ACTIVE=test",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QuerydslConfig.class)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public abstract class MySqlRepositoryTest {
+
+    // 하위 테스트 클래스들이 캐시된 스프링 컨텍스트를 공유하므로 컨테이너도 JVM 당 하나만 띄웁니다. (종료는 Testcontainers 가 처리)
+    @ServiceConnection
+    protected static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    static {
+        MYSQL.start();
+    }
+}
@@ -0,0 +1,57 @@
+package com.team05.linkup.common.image;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 요청한 변형만 생성하는지, 전체 변형 생성 시 크기 제한을 지키는지 검증합니다.
+ */
+public class ImageVariantProcessorTest {
+
+    private final ImageVariantProcessor processor = new ImageVariantProcessor(1, 4, 50_000_000L, 0.82f);
+
+    @AfterEach
+    public void tearDown() {
+        processor.shutdown();
+    }
+
+    @Test
+    public void testOnlyRequestedVariantIsEncoded() throws IOException {
+        ProcessedImage processed = processor.process(png(3000, 1500), EnumSet.of(ImageVariant.THUMBNAIL));
+
+        assertEquals(Set.of(ImageVariant.THUMBNAIL), processed.variants().keySet());
+        ProcessedImage.EncodedImage thumbnail = processed.variants().get(ImageVariant.THUMBNAIL);
+        assertEquals(160, thumbnail.width());
+        assertEquals(80, thumbnail.height());
+    }
+
+    @Test
+    public void testAllVariantsRespectMaxEdge() throws IOException {
+        ProcessedImage processed = processor.process(png(3000, 1500));
+
+        assertEquals(EnumSet.allOf(ImageVariant.class), processed.variants().keySet());
+        processed.variants().forEach((variant, encoded) ->
+                assertTrue(Math.max(encoded.width(), encoded.height()) <= variant.maxEdge(), variant.name()));
+    }
+
+    @Test
+    public void testNoRequestedVariantSkipsDecoding() throws IOException {
+        assertTrue(processor.process(png(100, 100), EnumSet.noneOf(ImageVariant.class)).variants().isEmpty());
+    }
+
+    private static ByteArrayResource png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return new ByteArrayResource(out.toByteArray());
+    }
+}
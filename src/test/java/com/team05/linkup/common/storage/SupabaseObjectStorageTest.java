@@ -0,0 +1,153 @@
+package com.team05.linkup.common.storage;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로컬 HTTP 서버를 Supabase Storage 대신 사용하여 커넥션 재사용, 동시 실행 한도, 삭제 요청 형식을 검증합니다.
+ */
+public class SupabaseObjectStorageTest {
+
+    private HttpServer server;
+    private SupabaseObjectStorage storage;
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger maxConcurrent = new AtomicInteger();
+    private final Queue<String> requests = new ConcurrentLinkedQueue<>();
+    private volatile long handlerDelayMillis;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/storage/v1", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (storage != null) {
+            storage.shutdown();
+        }
+        server.stop(0);
+    }
+
+    private void createStorage(int maxConcurrency, int queueCapacity) {
+        String baseUrl = "http://127.0.0.1:%d/storage/v1".formatted(server.getAddress().getPort());
+        storage = new SupabaseObjectStorage(baseUrl, "service-key", 1_000, 5_000, maxConcurrency, queueCapacity, 30_000);
+    }
+
+    @Test
+    public void testSequentialUploadsReuseConnection() throws Exception {
+        createStorage(4, 16);
+
+        for (int i = 0; i < 5; i++) {
+            storage.upload("bucket", "user-1/image-" + i + ".png", body(), 3, "image/png").get(5, TimeUnit.SECONDS);
+        }
+
+        StorageMetrics metrics = storage.metrics();
+        assertEquals(5, metrics.requests());
+        assertEquals(0, metrics.failures());
+        assertEquals(1, metrics.connectionsOpened());
+        assertEquals(4, metrics.connectionsReused());
+        assertEquals(1, metrics.poolAvailable());
+    }
+
+    @Test
+    public void testConcurrencyIsLimited() throws Exception {
+        createStorage(2, 16);
+        handlerDelayMillis = 100;
+
+        List<CompletableFuture<String>> uploads = IntStream.range(0, 6)
+                .mapToObj(i -> storage.upload("bucket", "image-" + i + ".png", body(), 3, "image/png"))
+                .toList();
+        CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, maxConcurrent.get());
+        // 풀 크기만큼만 연결하고 나머지 요청은 재사용
+        assertEquals(2, storage.metrics().connectionsOpened());
+        assertEquals(4, storage.metrics().connectionsReused());
+    }
+
+    @Test
+    public void testFullQueueRejectsImmediately() throws Exception {
+        createStorage(1, 1);
+        handlerDelayMillis = 300;
+
+        CompletableFuture<String> running = storage.upload("bucket", "a.png", body(), 3, "image/png");
+        Thread.sleep(50); // 첫 요청이 실행 스레드를 점유할 때까지 대기
+        CompletableFuture<String> queued = storage.upload("bucket", "b.png", body(), 3, "image/png");
+        CompletableFuture<String> rejected = storage.upload("bucket", "c.png", body(), 3, "image/png");
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> rejected.get(100, TimeUnit.MILLISECONDS));
+        assertInstanceOf(RejectedExecutionException.class, error.getCause());
+        running.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+        assertEquals(1, storage.metrics().rejected());
+    }
+
+    @Test
+    public void testDeleteSendsPrefixes() throws Exception {
+        createStorage(2, 16);
+
+        storage.delete("bucket", List.of("user-1/a.png", "user-1/a.png-thumbnail.jpg")).get(5, TimeUnit.SECONDS);
+
+        String request = requests.poll();
+        assertNotNull(request);
+        assertTrue(request.startsWith("DELETE /storage/v1/object/bucket "), request);
+        assertTrue(request.contains("\"prefixes\":[\"user-1/a.png\",\"user-1/a.png-thumbnail.jpg\"]"), request);
+    }
+
+    @Test
+    public void testErrorResponseFailsFuture() {
+        createStorage(2, 16);
+
+        CompletableFuture<String> upload = storage.upload("bucket", "fail.png", body(), 3, "image/png");
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> upload.get(5, TimeUnit.SECONDS));
+        assertTrue(error.getCause().getMessage().contains("status=409"));
+        assertEquals(1, storage.metrics().failures());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int current = concurrent.incrementAndGet();
+        maxConcurrent.accumulateAndGet(current, Math::max);
+        try (InputStream in = exchange.getRequestBody()) {
+            String body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            requests.add(exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath() + " " + body);
+            if (handlerDelayMillis > 0) {
+                Thread.sleep(handlerDelayMillis);
+            }
+            boolean conflict = exchange.getRequestURI().getPath().endsWith("fail.png");
+            byte[] response = (conflict ? "{\"error\":\"Duplicate\"}" : "{\"Key\":\"ok\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(conflict ? 409 : 200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            concurrent.decrementAndGet();
+        }
+    }
+
+    private static ByteArrayResource body() {
+        return new ByteArrayResource(new byte[]{1, 2, 3});
+    }
+}
@@ -0,0 +1,208 @@
+package com.team05.linkup.common.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.team05.linkup.common.dto.ApiEndpointMetrics;
+import com.team05.linkup.common.exception.ExternalApiException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 로컬 HTTP 서버를 외부 API 대신 사용하여 타임아웃, 서킷 브레이커, 동시 호출 한도, 지연 시간 지표를 검증합니다.
+ */
+public class ApiUtilsTest {
+
+    private HttpServer server;
+    private ApiUtils apiUtils;
+    private final AtomicInteger hits = new AtomicInteger();
+    private volatile long handlerDelayMillis;
+    private volatile int responseStatus = 200;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", this::handle);
+        server.start();
+
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("http-client.default.connect-timeout-ms", "1000")
+                .withProperty("http-client.default.read-timeout-ms", "2000")
+                .withProperty("http-client.default.failure-threshold", "2")
+                .withProperty("http-client.default.open-duration-ms", "60000")
+                .withProperty("http-client.endpoints.slow.read-timeout-ms", "200")
+                .withProperty("http-client.endpoints.single.max-concurrent", "1")
+                .withProperty("http-client.endpoints.hung.connect-timeout-ms", "100")
+                .withProperty("http-client.endpoints.hung.read-timeout-ms", "200");
+        apiUtils = new ApiUtils(new ObjectMapper(), environment);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testSuccessParsesResponseAndRecordsLatency() {
+        Optional<Echo> response = apiUtils.getApiResponse("echo", url(), "POST", Map.of("word", "java"), Echo.class);
+
+        assertEquals(Optional.of(new Echo("ok")), response);
+        ApiEndpointMetrics metrics = metrics("echo");
+        assertEquals(1, metrics.calls());
+        assertEquals(0, metrics.failures());
+        assertEquals(1, metrics.latency().count());
+        assertEquals(CircuitBreaker.State.CLOSED, metrics.circuitState());
+    }
+
+    @Test
+    public void testSlowEndpointTimesOut() {
+        handlerDelayMillis = 1_000;
+
+        CompletableFuture<Echo> future = apiUtils.sendAsync("slow", url(), "POST", null, Echo.class);
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(HttpTimeoutException.class, error.getCause());
+        assertEquals(1, metrics("slow").timeouts());
+        assertTrue(apiUtils.getApiResponse("slow", url(), "POST", null, Echo.class).isEmpty());
+    }
+
+    @Test
+    public void testCircuitOpensAfterConsecutiveServerErrors() {
+        responseStatus = 503;
+
+        assertTrue(apiUtils.getApiResponse("flaky", url(), "GET", null, Echo.class).isEmpty());
+        assertTrue(apiUtils.getApiResponse("flaky", url(), "GET", null, Echo.class).isEmpty());
+        CompletableFuture<Echo> shortCircuited = apiUtils.sendAsync("flaky", url(), "GET", null, Echo.class);
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> shortCircuited.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, error.getCause());
+        assertEquals(2, hits.get());
+        ApiEndpointMetrics metrics = metrics("flaky");
+        assertEquals(CircuitBreaker.State.OPEN, metrics.circuitState());
+        assertEquals(1, metrics.shortCircuited());
+    }
+
+    @Test
+    public void testClientErrorsDoNotOpenCircuit() {
+        responseStatus = 404;
+
+        for (int i = 0; i < 3; i++) {
+            CompletableFuture<Echo> future = apiUtils.sendAsync("missing", url(), "GET", null, Echo.class);
+            ExecutionException error = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertEquals(404, assertInstanceOf(ExternalApiException.class, error.getCause()).getStatusCode());
+        }
+
+        assertEquals(3, hits.get());
+        assertEquals(CircuitBreaker.State.CLOSED, metrics("missing").circuitState());
+        assertEquals(3, metrics("missing").clientErrors());
+    }
+
+    @Test
+    public void testBulkheadRejectsWhenFull() throws Exception {
+        handlerDelayMillis = 300;
+
+        CompletableFuture<Echo> running = apiUtils.sendAsync("single", url(), "GET", null, Echo.class);
+        CompletableFuture<Echo> rejected = apiUtils.sendAsync("single", url(), "GET", null, Echo.class);
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> rejected.get(100, TimeUnit.MILLISECONDS));
+        assertInstanceOf(RejectedExecutionException.class, error.getCause());
+        assertEquals(new Echo("ok"), running.get(5, TimeUnit.SECONDS));
+        assertEquals(1, metrics("single").rejected());
+        assertEquals(0, metrics("single").inFlight());
+    }
+
+    @Test
+    public void testSynchronousSendFailureReleasesPermit() throws Exception {
+        HttpClient client = replaceClient("single");
+        doThrow(new IllegalArgumentException("잘못된 요청")).when(client).sendAsync(any(), any());
+
+        CompletableFuture<Echo> failed = apiUtils.sendAsync("single", url(), "GET", null, Echo.class);
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> failed.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, error.getCause());
+        ApiEndpointMetrics metrics = metrics("single");
+        assertEquals(0, metrics.inFlight());
+        assertEquals(1, metrics.failures());
+        assertEquals(0, metrics.rejected());
+    }
+
+    @Test
+    public void testHungClientIsBoundedByOverallDeadline() {
+        HttpClient client = replaceClient("hung");
+        // HttpClient 가 끝내 완료하지 않는 경우
+        doReturn(new CompletableFuture<>()).when(client).sendAsync(any(), any());
+
+        long started = System.nanoTime();
+        Optional<Echo> response = apiUtils.getApiResponse("hung", url(), "GET", null, Echo.class);
+
+        assertTrue(response.isEmpty());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) < 2_000);
+        ApiEndpointMetrics metrics = metrics("hung");
+        assertEquals(1, metrics.timeouts());
+        assertEquals(0, metrics.inFlight());
+    }
+
+    // 한 번 호출하여 엔드포인트를 만든 뒤 HttpClient 를 mock 으로 바꿈
+    private HttpClient replaceClient(String endpoint) {
+        assertTrue(apiUtils.getApiResponse(endpoint, url(), "GET", null, Echo.class).isPresent());
+        Map<?, ?> endpoints = (Map<?, ?>) ReflectionTestUtils.getField(apiUtils, "endpoints");
+        HttpClient client = mock(HttpClient.class);
+        ReflectionTestUtils.setField(endpoints.get(endpoint), "client", client);
+        return client;
+    }
+
+    private String url() {
+        return "http://127.0.0.1:%d/word-similarity".formatted(server.getAddress().getPort());
+    }
+
+    private ApiEndpointMetrics metrics(String endpoint) {
+        return apiUtils.metrics().stream()
+                .filter(metrics -> metrics.endpoint().equals(endpoint))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        hits.incrementAndGet();
+        try (InputStream in = exchange.getRequestBody()) {
+            in.readAllBytes();
+            if (handlerDelayMillis > 0) {
+                Thread.sleep(handlerDelayMillis);
+            }
+            byte[] response = "{\"value\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(responseStatus, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException ignored) {
+            // 타임아웃으로 클라이언트가 먼저 연결을 끊은 경우
+        } finally {
+            exchange.close();
+        }
+    }
+
+    public record Echo(String value) {
+    }
+}
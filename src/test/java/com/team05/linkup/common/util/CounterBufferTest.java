@@ -0,0 +1,115 @@
+package com.team05.linkup.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 증가와 drain 이 동시에 일어나도 증감량이 유실되거나 중복되지 않는지 검증합니다.
+ */
+public class CounterBufferTest {
+
+    private static final int WRITER_COUNT = 8;
+    private static final int ADDS_PER_WRITER = 200_000;
+    private static final List<String> KEYS = List.of("a", "b", "c");
+
+    @Test
+    public void testConcurrentAddAndDrainLoseNothing() throws InterruptedException {
+        CounterBuffer buffer = new CounterBuffer();
+        ExecutorService executor = Executors.newFixedThreadPool(WRITER_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(WRITER_COUNT);
+
+        for (int w = 0; w < WRITER_COUNT; w++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < ADDS_PER_WRITER; i++) {
+                        // +1, -1 을 섞어 합이 0 이 되어 항목이 제거되는 경우도 함께 만든다
+                        buffer.add(KEYS.get(i % KEYS.size()), i % 5 == 4 ? -1L : 1L);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // 쓰기가 끝날 때까지 계속 drain 하여 제거/재생성 경합을 만든다
+        Map<String, Long> total = new HashMap<>();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        Thread drainer = new Thread(() -> {
+            while (writing.get()) {
+                buffer.drain().forEach((key, value) -> total.merge(key, value, Long::sum));
+            }
+        });
+        drainer.start();
+        start.countDown();
+        assertTrue(done.await(60, TimeUnit.SECONDS));
+        writing.set(false);
+        drainer.join();
+        executor.shutdown();
+        buffer.drain().forEach((key, value) -> total.merge(key, value, Long::sum));
+
+        for (int k = 0; k < KEYS.size(); k++) {
+            assertEquals(expectedSum(k), (long) total.getOrDefault(KEYS.get(k), 0L), "key=" + KEYS.get(k));
+        }
+        assertTrue(buffer.drain().isEmpty());
+    }
+
+    @Test
+    public void testPendingAndRestore() {
+        CounterBuffer buffer = new CounterBuffer();
+        buffer.add("a", 3L);
+        buffer.add("a", -3L);
+        buffer.add("b", 2L);
+
+        assertEquals(0L, buffer.pending("a"));
+        assertEquals(2L, buffer.pending("b"));
+
+        Map<String, Long> drained = buffer.drain();
+        assertEquals(Map.of("b", 2L), drained);
+        assertEquals(0L, buffer.pending("b"));
+
+        buffer.restore(drained);
+        buffer.add("b", 1L);
+        assertEquals(3L, buffer.pending("b"));
+    }
+
+    @Test
+    public void testFlushRestoresFailedChunk() {
+        CounterBuffer buffer = new CounterBuffer();
+        buffer.add("a", 1L);
+
+        CounterBuffer.FlushResult failed = buffer.flush(10, chunk -> {
+            throw new IllegalStateException("DB 오류");
+        });
+        assertEquals(1, failed.failedCount());
+        assertEquals(1L, buffer.pending("a"));
+
+        CounterBuffer.FlushResult flushed = buffer.flush(10, chunk -> assertEquals(Map.of("a", 1L), chunk));
+        assertEquals(0, flushed.failedCount());
+        assertEquals(Set.of("a"), flushed.flushedKeys());
+        assertEquals(0L, buffer.pending("a"));
+    }
+
+    // 키 인덱스 k 에 더해지는 값의 합 (모든 writer 합계)
+    private static long expectedSum(int k) {
+        long perWriter = 0;
+        for (int i = k; i < ADDS_PER_WRITER; i += KEYS.size()) {
+            perWriter += i % 5 == 4 ? -1L : 1L;
+        }
+        return perWriter * WRITER_COUNT;
+    }
+}
@@ -0,0 +1,109 @@
+package com.team05.linkup.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 합산 윈도우가 달력 날짜가 아닌 현재 시각 기준으로 움직이는지 고정 시계로 검증합니다.
+ */
+public class SlidingWindowCounterTest {
+
+    // 2026-03-10 00:30 (자정 직후)
+    private static final ZonedDateTime NOW = ZonedDateTime.of(2026, 3, 10, 0, 30, 0, 0, ZoneId.systemDefault());
+
+    private final AtomicLong clock = new AtomicLong(NOW.toInstant().toEpochMilli());
+    private final SlidingWindowCounter<String> counter =
+            new SlidingWindowCounter<>(Duration.ofDays(7).plusHours(1), clock::get);
+
+    @Test
+    public void testWindowIsRollingNotCalendarAligned() {
+        // 달력 기준 "최근 1일" 이면 어제 00시~ 전체가 포함되지만, 현재 시각 기준이면 어제 00:30 이후만 포함
+        counter.add("a", NOW.minusHours(23), 1);
+        counter.add("b", NOW.minusHours(22), 1);
+        counter.add("b", NOW.minusHours(2), 1);
+        counter.add("c", NOW.minusHours(30), 1);
+
+        assertEquals(Map.of("a", 1L, "b", 2L), counter.sumLast(Duration.ofDays(1)));
+    }
+
+    @Test
+    public void testWindowMovesWithClock() {
+        counter.add("a", NOW.minusHours(20), 1);
+        assertEquals(Map.of("a", 1L), counter.sumLast(Duration.ofDays(1)));
+
+        // 6시간 뒤에는 26시간 전 활동이 되어 1일 윈도우에서 빠짐
+        clock.addAndGet(Duration.ofHours(6).toMillis());
+        assertTrue(counter.sumLast(Duration.ofDays(1)).isEmpty());
+        assertEquals(Map.of("a", 1L), counter.sumLast(Duration.ofDays(2)));
+    }
+
+    @Test
+    public void testBoundaryBucketIsIncluded() {
+        // 시작 경계(어제 00:30)가 속한 00시 버킷은 통째로 포함됨 (최대 1시간 오차)
+        counter.add("edge", NOW.minusDays(1).minusMinutes(10), 1);
+        counter.add("before", NOW.minusDays(1).minusMinutes(40), 1);
+
+        assertEquals(Map.of("edge", 1L), counter.sumLast(Duration.ofDays(1)));
+    }
+
+    @Test
+    public void testZeroDayWindowCountsCurrentHourOnly() {
+        counter.add("now", NOW, 1);
+        counter.add("earlier", NOW.minusHours(1), 1);
+
+        assertEquals(Map.of("now", 1L), counter.sumLast(Duration.ZERO));
+    }
+
+    @Test
+    public void testDeletesCancelAndOldEventsAreIgnored() {
+        counter.add("a", NOW.minusHours(3), 1);
+        counter.add("a", NOW.minusHours(3), -1);
+        counter.add("old", NOW.minusDays(8), 5);
+
+        assertTrue(counter.sumLast(Duration.ofDays(7)).isEmpty());
+        assertTrue(counter.covers(Duration.ofDays(7)));
+        assertFalse(counter.covers(Duration.ofDays(8)));
+    }
+
+    @Test
+    public void testAddRowsLoadsHourBuckets() {
+        LocalDateTime hour = NOW.minusHours(5).toLocalDateTime().withMinute(0);
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{"a", Timestamp.valueOf(hour), 2L});
+        rows.add(new Object[]{"b", hour.minusDays(2), 3});
+        counter.addRows(rows);
+
+        assertEquals(Map.of("a", 2L), counter.sumLast(Duration.ofDays(1)));
+        assertEquals(Map.of("a", 2L, "b", 3L), counter.sumLast(Duration.ofDays(3)));
+    }
+
+    @Test
+    public void testEvictExpiredDropsBucketsOutsideRetention() {
+        counter.add("old", NOW.minusDays(6), 1);
+        counter.add("recent", NOW, 1);
+
+        // 2일 뒤에는 8일 전 버킷이 보관 기간을 벗어나 제거됨
+        clock.addAndGet(Duration.ofDays(2).toMillis());
+        counter.evictExpired();
+
+        // 시계를 되돌려 합산해도 제거된 버킷은 나오지 않음
+        clock.set(NOW.toInstant().toEpochMilli());
+        assertEquals(Map.of("recent", 1L), counter.sumLast(Duration.ofDays(7)));
+    }
+
+    @Test
+    public void testRejectsRetentionShorterThanBucket() {
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowCounter<String>(Duration.ofMinutes(30)));
+    }
+}
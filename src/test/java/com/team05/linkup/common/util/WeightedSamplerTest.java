@@ -0,0 +1,59 @@
+package com.team05.linkup.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 가중치 비복원 추출의 중복 없음, 입력 불변, 가중치 비례성을 검증합니다.
+ */
+public class WeightedSamplerTest {
+
+    private record Item(String name, double weight) {
+    }
+
+    @Test
+    public void testSamplesDistinctItemsWithoutMutatingInput() {
+        List<Item> items = new ArrayList<>(IntStream.range(0, 20).mapToObj(i -> new Item("i" + i, i + 1)).toList());
+        List<Item> snapshot = List.copyOf(items);
+
+        List<Item> sampled = WeightedSampler.sample(items, Item::weight, 4);
+
+        assertEquals(4, sampled.size());
+        assertEquals(4, new HashSet<>(sampled).size());
+        assertEquals(snapshot, items);
+    }
+
+    @Test
+    public void testReturnsAllItemsWhenFewerThanK() {
+        List<Item> items = List.of(new Item("a", 1), new Item("b", 0), new Item("c", Double.NaN));
+
+        List<Item> sampled = WeightedSampler.sample(items, Item::weight, 4);
+
+        assertEquals(3, sampled.size());
+        // 양수 가중치 항목이 0/NaN 가중치 항목보다 먼저 추출됨
+        assertEquals("a", sampled.get(0).name());
+        assertTrue(WeightedSampler.sample(items, Item::weight, 0).isEmpty());
+    }
+
+    @Test
+    public void testFirstDrawIsProportionalToWeight() {
+        List<Item> items = List.of(new Item("heavy", 3), new Item("light", 1));
+        Map<String, Integer> firstDraws = new ConcurrentHashMap<>();
+        int trials = 20_000;
+
+        // 여러 스레드에서 동시에 호출해도 안전
+        IntStream.range(0, trials).parallel().forEach(i ->
+                firstDraws.merge(WeightedSampler.sample(items, Item::weight, 1).get(0).name(), 1, Integer::sum));
+
+        double heavyRatio = firstDraws.getOrDefault("heavy", 0) / (double) trials;
+        assertEquals(0.75, heavyRatio, 0.02);
+    }
+}
@@ -0,0 +1,114 @@
+package com.team05.linkup.domain.community.application;
+
+import com.team05.linkup.domain.community.dto.ActiveUsersResponseDTO;
+import com.team05.linkup.domain.community.dto.UserActivityEventDTO;
+import com.team05.linkup.domain.community.infrastructure.CommentRepository;
+import com.team05.linkup.domain.community.infrastructure.CommunityRepository;
+import com.team05.linkup.domain.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+/**
+ * 활동 사용자 랭킹이 현재 시각 기준 최근 N일 윈도우로 집계되고,
+ * 점수/닉네임 순서와 비활성화 계정 제외가 DB 집계와 같은지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+public class ActiveUserLeaderboardTest {
+
+    @Mock
+    private CommunityRepository communityRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private ActiveUserLeaderboard leaderboard;
+
+    // 사용자 ID → 닉네임 (비활성화 계정은 포함하지 않음)
+    private final Map<String, String> activeUsers = Map.of("alice", "앨리스", "bob", "밥", "carol", "캐럴");
+
+    @BeforeEach
+    public void setUp() {
+        leaderboard = new ActiveUserLeaderboard(communityRepository, commentRepository, userRepository, 30);
+        when(communityRepository.countPostsByUserAndHourSince(any(ZonedDateTime.class))).thenReturn(List.of());
+        when(commentRepository.countCommentsByUserAndHourSince(any(ZonedDateTime.class))).thenReturn(List.of());
+        leaderboard.rebuild();
+
+        lenient().when(userRepository.findActiveProfilesByIds(anyCollection())).thenAnswer(inv ->
+                inv.<Collection<String>>getArgument(0).stream()
+                        .filter(activeUsers::containsKey)
+                        .map(id -> new Object[]{id, activeUsers.get(id), "https://example.com/" + id + ".png"})
+                        .toList());
+    }
+
+    @Test
+    public void testWindowIsRollingFromNow() {
+        // 47시간 전 활동은 최근 2일에 포함되고, 49시간 전 활동은 달력상 이틀 전이어도 제외됨
+        post("alice", ZonedDateTime.now().minusHours(47));
+        post("bob", ZonedDateTime.now().minusHours(49));
+
+        assertEquals(List.of("alice"), userIds(leaderboard.top(10, 2)));
+        assertEquals(List.of("alice", "bob"), userIds(leaderboard.top(10, 3)).stream().sorted().toList());
+    }
+
+    @Test
+    public void testRanksByScoreThenNickname() {
+        ZonedDateTime recent = ZonedDateTime.now().minusHours(1);
+        // 앨리스와 밥은 3점으로 동점이므로 닉네임 오름차순("밥" < "앨리스"), 캐럴은 1점
+        post("alice", recent);
+        comment("bob", recent, 3);
+        comment("carol", recent, 1);
+
+        List<ActiveUsersResponseDTO> top = leaderboard.top(2, 7);
+
+        assertEquals(List.of("bob", "alice"), userIds(top));
+        assertEquals(1L, top.get(1).getPostCount());
+        assertEquals(3L, top.get(0).getCommentCount());
+    }
+
+    @Test
+    public void testDeletedActivityAndDisabledAccountsAreExcluded() {
+        ZonedDateTime recent = ZonedDateTime.now().minusHours(1);
+        post("alice", recent);
+        leaderboard.onUserActivity(new UserActivityEventDTO("alice", UserActivityEventDTO.ActivityType.POST, recent, -1));
+        post("disabled", recent);
+        comment("carol", recent, 1);
+
+        assertEquals(List.of("carol"), userIds(leaderboard.top(10, 1)));
+    }
+
+    @Test
+    public void testCoversOnlyRetainedWindowAfterLoad() {
+        assertTrue(leaderboard.covers(30));
+        assertFalse(leaderboard.covers(31));
+        assertFalse(new ActiveUserLeaderboard(communityRepository, commentRepository, userRepository, 30).covers(1));
+    }
+
+    private void post(String userId, ZonedDateTime at) {
+        leaderboard.onUserActivity(new UserActivityEventDTO(userId, UserActivityEventDTO.ActivityType.POST, at, 1));
+    }
+
+    private void comment(String userId, ZonedDateTime at, long count) {
+        leaderboard.onUserActivity(new UserActivityEventDTO(userId, UserActivityEventDTO.ActivityType.COMMENT, at, count));
+    }
+
+    private static List<String> userIds(List<ActiveUsersResponseDTO> users) {
+        return users.stream().map(ActiveUsersResponseDTO::getUserId).toList();
+    }
+}
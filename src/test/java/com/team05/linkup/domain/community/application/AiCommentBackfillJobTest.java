@@ -0,0 +1,148 @@
+package com.team05.linkup.domain.community.application;
+
+import com.team05.linkup.domain.community.domain.AiCommentJobStatus;
+import com.team05.linkup.domain.community.domain.BatchCheckpoint;
+import com.team05.linkup.domain.community.infrastructure.AiCommentJobRepository;
+import com.team05.linkup.domain.community.infrastructure.BatchCheckpointRepository;
+import com.team05.linkup.domain.community.infrastructure.CommunityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * AI 답변 백필의 키셋 커서 전진, 체크포인트 재개, 대기 작업 상한, DEAD 작업 재등록 제한을 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+public class AiCommentBackfillJobTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_PENDING = 10;
+    private static final int REVIVE_MAX = 3;
+    private static final long REVIVE_COOLDOWN_MS = 3_600_000;
+
+    @Mock
+    private CommunityRepository communityRepository;
+
+    @Mock
+    private AiCommentJobRepository jobRepository;
+
+    @Mock
+    private BatchCheckpointRepository checkpointRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AiCommentBackfillJob backfillJob;
+    private BatchCheckpoint checkpoint;
+
+    @BeforeEach
+    public void setUp() {
+        backfillJob = new AiCommentBackfillJob(communityRepository, jobRepository, checkpointRepository,
+                transactionManager, true, BATCH_SIZE, MAX_PENDING, 10, REVIVE_MAX, REVIVE_COOLDOWN_MS);
+        checkpoint = BeanUtils.instantiateClass(BatchCheckpoint.class);
+        ReflectionTestUtils.setField(checkpoint, "jobName", AiCommentBackfillJob.JOB_NAME);
+    }
+
+    @Test
+    public void testEnqueuesMissingQuestionsAndCompletesSweep() {
+        givenCheckpoint();
+        ZonedDateTime t1 = ZonedDateTime.now().minusDays(2);
+        ZonedDateTime t2 = ZonedDateTime.now().minusDays(1);
+        when(communityRepository.findQuestionsWithoutAiCommentAfter(any(), anyString(), any(Pageable.class)))
+                .thenReturn(List.of(row("c1", t1), row("c2", t2)))
+                .thenReturn(List.of());
+        when(jobRepository.insertIgnore(anyString(), anyString(), any())).thenReturn(1);
+
+        int enqueued = backfillJob.run();
+
+        assertEquals(2, enqueued);
+        verify(jobRepository).insertIgnore(anyString(), eq("c1"), any());
+        verify(jobRepository).insertIgnore(anyString(), eq("c2"), any());
+        verify(jobRepository).requeueDead(eq(List.of("c1", "c2")), any(), any(), eq(REVIVE_MAX));
+        // 마지막 빈 배치에서 끝까지 확인했으므로 커서를 비움
+        assertNull(checkpoint.getLastId());
+        assertNull(checkpoint.getLastCreatedAt());
+        assertNotNull(checkpoint.getLastCompletedAt());
+        assertEquals(2, checkpoint.getProcessedCount());
+    }
+
+    @Test
+    public void testResumesFromCheckpointCursor() {
+        ZonedDateTime cursorAt = ZonedDateTime.now().minusDays(3);
+        checkpoint.advance(cursorAt, "c0", 5);
+        givenCheckpoint();
+        when(communityRepository.findQuestionsWithoutAiCommentAfter(any(), anyString(), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        backfillJob.run();
+
+        verify(communityRepository).findQuestionsWithoutAiCommentAfter(eq(cursorAt), eq("c0"), any(Pageable.class));
+        verify(jobRepository, never()).insertIgnore(anyString(), anyString(), any());
+    }
+
+    @Test
+    public void testCheckpointAdvancesAfterFullBatch() {
+        givenCheckpoint();
+        ZonedDateTime t1 = ZonedDateTime.now().minusDays(2);
+        ZonedDateTime t2 = ZonedDateTime.now().minusDays(1);
+        when(jobRepository.countInStatus(AiCommentJobStatus.PENDING)).thenReturn(0L, (long) MAX_PENDING);
+        when(communityRepository.findQuestionsWithoutAiCommentAfter(any(), anyString(), any(Pageable.class)))
+                .thenReturn(List.of(row("c1", t1), row("c2", t2)));
+
+        backfillJob.run();
+
+        // 대기 작업이 상한에 도달하여 한 배치만 실행하고, 다음 실행은 c2 이후부터 이어감
+        verify(communityRepository, times(1)).findQuestionsWithoutAiCommentAfter(any(), anyString(), any(Pageable.class));
+        assertEquals("c2", checkpoint.getLastId());
+        assertEquals(t2, checkpoint.getLastCreatedAt());
+        assertNull(checkpoint.getLastCompletedAt());
+    }
+
+    @Test
+    public void testRevivesDeadJobsOnlyAfterCooldown() {
+        givenCheckpoint();
+        when(communityRepository.findQuestionsWithoutAiCommentAfter(any(), anyString(), any(Pageable.class)))
+                .thenReturn(List.of(row("c1", ZonedDateTime.now().minusDays(1))));
+
+        backfillJob.run();
+
+        // DEAD 전환 후 쿨다운이 지난 작업만, 되살린 횟수가 상한 미만일 때만 다시 등록
+        ArgumentCaptor<ZonedDateTime> now = ArgumentCaptor.forClass(ZonedDateTime.class);
+        ArgumentCaptor<ZonedDateTime> deadBefore = ArgumentCaptor.forClass(ZonedDateTime.class);
+        verify(jobRepository).requeueDead(eq(List.of("c1")), now.capture(), deadBefore.capture(), eq(REVIVE_MAX));
+        assertEquals(now.getValue().minus(Duration.ofMillis(REVIVE_COOLDOWN_MS)), deadBefore.getValue());
+    }
+
+    @Test
+    public void testSkipsWhenPendingQueueIsFull() {
+        when(jobRepository.countInStatus(AiCommentJobStatus.PENDING)).thenReturn((long) MAX_PENDING);
+
+        assertEquals(0, backfillJob.run());
+
+        verifyNoInteractions(communityRepository, checkpointRepository);
+    }
+
+    private void givenCheckpoint() {
+        when(checkpointRepository.lockByJobName(AiCommentBackfillJob.JOB_NAME)).thenReturn(Optional.of(checkpoint));
+    }
+
+    private static Object[] row(String communityId, ZonedDateTime createdAt) {
+        return new Object[]{communityId, createdAt};
+    }
+}
@@ -0,0 +1,163 @@
+package com.team05.linkup.domain.community.application;
+
+import com.team05.linkup.domain.community.domain.AiComment;
+import com.team05.linkup.domain.community.domain.Community;
+import com.team05.linkup.domain.community.domain.CommunityCategory;
+import com.team05.linkup.domain.community.infrastructure.AiCommentJobRepository;
+import com.team05.linkup.domain.community.infrastructure.AiCommentRepository;
+import com.team05.linkup.domain.community.infrastructure.CommunityRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * AI 답변 작업 워커의 완료, 백오프 재시도, DEAD 전환과 점유를 잃은 뒤의 결과 폐기를 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+public class AiCommentJobWorkerTest {
+
+    private static final String JOB_ID = "job-1";
+    private static final String COMMUNITY_ID = "community-1";
+    private static final String LEASE_OWNER = "lease-1";
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private AiCommentJobRepository jobRepository;
+
+    @Mock
+    private AiCommentRepository aiCommentRepository;
+
+    @Mock
+    private CommunityRepository communityRepository;
+
+    @Mock
+    private GeminiService geminiService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AiCommentJobWorker worker;
+
+    @BeforeEach
+    public void setUp() {
+        worker = new AiCommentJobWorker(jobRepository, aiCommentRepository, communityRepository, geminiService,
+                transactionManager, 2, MAX_ATTEMPTS, 300_000, 1_000, 8_000, 0);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    public void testSuccessSavesCommentAndCompletesJob() throws Exception {
+        givenQuestion();
+        when(geminiService.getGeminiResponse(anyString())).thenReturn("답변");
+        when(jobRepository.completeLeased(eq(JOB_ID), eq(LEASE_OWNER), any())).thenReturn(1);
+
+        worker.process(claimed(1));
+
+        verify(aiCommentRepository).save(any(AiComment.class));
+        assertEquals(1, worker.metrics().completed());
+    }
+
+    @Test
+    public void testFailureSchedulesRetryWithBackoff() throws Exception {
+        givenQuestion();
+        when(geminiService.getGeminiResponse(anyString())).thenThrow(new IllegalStateException("429 Too Many Requests"));
+        when(jobRepository.retryLeased(eq(JOB_ID), eq(LEASE_OWNER), any(), anyString(), any())).thenReturn(1);
+
+        ZonedDateTime before = ZonedDateTime.now();
+        worker.process(claimed(1));
+
+        ArgumentCaptor<ZonedDateTime> nextAttemptAt = ArgumentCaptor.forClass(ZonedDateTime.class);
+        ArgumentCaptor<String> error = ArgumentCaptor.forClass(String.class);
+        verify(jobRepository).retryLeased(eq(JOB_ID), eq(LEASE_OWNER), nextAttemptAt.capture(), error.capture(), any());
+        assertTrue(nextAttemptAt.getValue().isAfter(before.plusNanos(700_000_000L)));
+        assertTrue(error.getValue().contains("429"));
+        verify(aiCommentRepository, never()).save(any());
+        assertEquals(1, worker.metrics().retried());
+    }
+
+    @Test
+    public void testFailureAtMaxAttemptsMovesToDead() throws Exception {
+        givenQuestion();
+        when(geminiService.getGeminiResponse(anyString())).thenThrow(new IllegalStateException("500"));
+        when(jobRepository.markDeadLeased(eq(JOB_ID), eq(LEASE_OWNER), anyString(), any())).thenReturn(1);
+
+        worker.process(claimed(MAX_ATTEMPTS));
+
+        verify(jobRepository, never()).retryLeased(anyString(), anyString(), any(), anyString(), any());
+        assertEquals(1, worker.metrics().deadLettered());
+    }
+
+    @Test
+    public void testExistingCommentSkipsModelCall() throws Exception {
+        givenQuestion();
+        when(aiCommentRepository.existsByCommunityId(COMMUNITY_ID)).thenReturn(true);
+
+        worker.process(claimed(1));
+
+        verify(geminiService, never()).getGeminiResponse(anyString());
+        verify(jobRepository).completeLeased(eq(JOB_ID), eq(LEASE_OWNER), any());
+    }
+
+    @Test
+    public void testLostLeaseDropsGeneratedComment() throws Exception {
+        // 점유 기한이 지나 다른 워커가 다시 가져간 뒤에 생성이 끝난 경우
+        givenQuestion();
+        when(geminiService.getGeminiResponse(anyString())).thenReturn("늦은 답변");
+        when(jobRepository.completeLeased(eq(JOB_ID), eq(LEASE_OWNER), any())).thenReturn(0);
+
+        worker.process(claimed(1));
+
+        verify(aiCommentRepository, never()).save(any());
+        assertEquals(0, worker.metrics().completed());
+    }
+
+    @Test
+    public void testLostLeaseDropsFailure() throws Exception {
+        givenQuestion();
+        when(geminiService.getGeminiResponse(anyString())).thenThrow(new IllegalStateException("500"));
+        when(jobRepository.markDeadLeased(eq(JOB_ID), eq(LEASE_OWNER), anyString(), any())).thenReturn(0);
+
+        worker.process(claimed(MAX_ATTEMPTS));
+
+        assertEquals(0, worker.metrics().deadLettered());
+        assertEquals(0, worker.metrics().retried());
+    }
+
+    @Test
+    public void testBackoffIsExponentialAndCapped() {
+        // base 1s, max 8s, ±20% 지터
+        assertTrue(worker.backoffMillis(1) >= 800 && worker.backoffMillis(1) <= 1_200);
+        assertTrue(worker.backoffMillis(3) >= 3_200 && worker.backoffMillis(3) <= 4_800);
+        assertTrue(worker.backoffMillis(10) <= 9_600);
+    }
+
+    private void givenQuestion() {
+        Community question = Community.builder()
+                .category(CommunityCategory.QUESTION)
+                .content("스프링 트랜잭션 전파가 궁금합니다")
+                .build();
+        when(communityRepository.findById(COMMUNITY_ID)).thenReturn(Optional.of(question));
+    }
+
+    private static AiCommentJobWorker.ClaimedJob claimed(int attempts) {
+        return new AiCommentJobWorker.ClaimedJob(JOB_ID, LEASE_OWNER, COMMUNITY_ID, attempts, ZonedDateTime.now());
+    }
+}
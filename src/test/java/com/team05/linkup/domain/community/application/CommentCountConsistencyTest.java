@@ -0,0 +1,155 @@
+package com.team05.linkup.domain.community.application;
+
+import com.team05.linkup.common.MySqlRepositoryTest;
+import com.team05.linkup.common.dto.UserPrincipal;
+import com.team05.linkup.common.scheduler.CommentCountReconcileScheduler;
+import com.team05.linkup.domain.community.domain.Community;
+import com.team05.linkup.domain.community.domain.CommunityCategory;
+import com.team05.linkup.domain.community.dto.CommentDto;
+import com.team05.linkup.domain.community.infrastructure.CommentRepository;
+import com.team05.linkup.domain.community.infrastructure.CommunityRepository;
+import com.team05.linkup.domain.enums.Role;
+import com.team05.linkup.domain.user.domain.User;
+import com.team05.linkup.domain.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 게시글의 comment_count 가 댓글 작성/삭제(답글 포함) 후 실제 댓글 수와 같고,
+ * 보정 스케줄러가 어긋난 값을 실제 댓글 수로 맞추며, 어떤 경우에도 음수가 되지 않는지 실제 MySQL 에서 검증합니다.
+ */
+public class CommentCountConsistencyTest extends MySqlRepositoryTest {
+
+    private static final UserPrincipal PRINCIPAL = new UserPrincipal("comment-author", "kakao");
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CommunityRepository communityRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private CommentService commentService;
+    private CommentCountReconcileScheduler reconcileScheduler;
+    private String communityId;
+
+    @BeforeEach
+    public void setUp() {
+        commentService = new CommentService(commentRepository, communityRepository, userRepository,
+                new CommentTreeLoader(commentRepository, userRepository), event -> { });
+        reconcileScheduler = new CommentCountReconcileScheduler(communityRepository);
+
+        User author = userRepository.save(User.builder()
+                .provider("kakao")
+                .providerId("comment-author")
+                .userNameAttribute("id")
+                .name("작성자")
+                .nickname("comment-author")
+                .role(Role.ROLE_MENTEE)
+                .profileImageUrl("https://example.com/author.png")
+                .build());
+        communityId = communityRepository.save(Community.builder()
+                .user(author)
+                .title("댓글 수")
+                .category(CommunityCategory.FREE)
+                .content("본문")
+                .build()).getId();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        commentRepository.deleteAllInBatch();
+        communityRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void testCreateCountsCommentsAndReplies() {
+        String parentId = comment(null);
+        comment(parentId);
+        comment(null);
+
+        assertCount(3);
+    }
+
+    @Test
+    public void testDeletingReplyDecrementsByOne() {
+        String parentId = comment(null);
+        String replyId = comment(parentId);
+
+        commentService.deleteComment(PRINCIPAL, communityId, replyId);
+
+        assertCount(1);
+    }
+
+    @Test
+    public void testDeletingParentDecrementsRepliesToo() {
+        String parentId = comment(null);
+        comment(parentId);
+        comment(parentId);
+        comment(null);
+
+        commentService.deleteComment(PRINCIPAL, communityId, parentId);
+
+        assertCount(1);
+    }
+
+    @Test
+    public void testReconcileCorrectsDrift() {
+        comment(null);
+        comment(null);
+        setStoredCount(10);
+
+        reconcileScheduler.reconcileCommentCounts();
+        assertCount(2);
+
+        // 어긋난 값이 없으면 갱신하지 않음
+        assertEquals(0, communityRepository.reconcileCommentCounts());
+    }
+
+    @Test
+    public void testCountNeverGoesNegative() {
+        String parentId = comment(null);
+        comment(parentId);
+        // 카운터가 실제보다 작게 어긋난 상태에서 답글이 달린 부모 댓글을 삭제
+        setStoredCount(1);
+
+        commentService.deleteComment(PRINCIPAL, communityId, parentId);
+        assertEquals(0L, storedCount());
+
+        communityRepository.decrementCommentCount(communityId, 5);
+        assertEquals(0L, storedCount());
+    }
+
+    private String comment(String parentCommentId) {
+        CommentDto.Request request = new CommentDto.Request();
+        ReflectionTestUtils.setField(request, "commentContent", "댓글");
+        ReflectionTestUtils.setField(request, "parentCommentId", parentCommentId);
+        return commentService.createComment(PRINCIPAL, communityId, request).getId();
+    }
+
+    // 저장된 comment_count 가 실제 댓글 수와 같아야 함
+    private void assertCount(long expected) {
+        assertEquals(expected, commentRepository.countByCommunityId(communityId));
+        assertEquals(expected, storedCount());
+    }
+
+    private long storedCount() {
+        return jdbcTemplate.queryForObject("SELECT comment_count FROM community WHERE id = ?", Long.class, communityId);
+    }
+
+    private void setStoredCount(long count) {
+        jdbcTemplate.update("UPDATE community SET comment_count = ? WHERE id = ?", count, communityId);
+    }
+}
@@ -0,0 +1,135 @@
+package com.team05.linkup.domain.community.application;
+
+import com.team05.linkup.domain.community.domain.Comment;
+import com.team05.linkup.domain.community.dto.CommentDto;
+import com.team05.linkup.domain.community.infrastructure.CommentRepository;
+import com.team05.linkup.domain.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * 부모 댓글 페이지와 답글 목록을 응답 트리로 조립할 때 답글이 올바른 부모에 붙고,
+ * 순서가 유지되며, 페이지에 없는(삭제된) 부모의 답글과 빈 게시글을 올바르게 처리하는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+public class CommentTreeLoaderTest {
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private CommentTreeLoader loader;
+
+    @BeforeEach
+    public void setUp() {
+        loader = new CommentTreeLoader(commentRepository, userRepository);
+    }
+
+    @Test
+    public void testRepliesAreAttachedToTheirParents() {
+        Comment first = comment("p1", null, "user-1");
+        Comment second = comment("p2", null, "user-2");
+        when(commentRepository.findChildCommentsByParentIds(List.of("p1", "p2"))).thenReturn(List.of(
+                comment("c1", "p1", "user-2"),
+                comment("c2", "p2", "user-1"),
+                comment("c3", "p1", "user-3")));
+        when(userRepository.findProfileImageUrlsByIds(anyCollection())).thenReturn(List.of(
+                new Object[]{"user-1", "https://example.com/1.png", "https://example.com/1-thumb.png"},
+                new Object[]{"user-2", "https://example.com/2.png", null}));
+
+        List<CommentDto.Response> trees = loader.loadTrees(List.of(first, second));
+
+        assertEquals(List.of("p1", "p2"), ids(trees));
+        assertEquals(List.of("c1", "c3"), ids(trees.get(0).getChildComments()));
+        assertEquals(List.of("c2"), ids(trees.get(1).getChildComments()));
+        assertTrue(trees.get(0).isParent());
+
+        CommentDto.Response reply = trees.get(0).getChildComments().get(0);
+        assertFalse(reply.isParent());
+        assertTrue(reply.getChildComments().isEmpty());
+        // 썸네일이 없으면 원본, 프로필 이미지가 없는 작성자는 null
+        assertEquals("https://example.com/2.png", reply.getProfileThumbnailUrl());
+        assertEquals("https://example.com/1-thumb.png", trees.get(0).getProfileThumbnailUrl());
+        assertNull(trees.get(0).getChildComments().get(1).getProfileImageUrl());
+    }
+
+    @Test
+    public void testParentAndReplyOrderIsPreserved() {
+        // 부모는 페이지 순서, 답글은 저장소가 돌려준 작성 순서를 그대로 유지
+        Comment later = comment("p2", null, "user-1");
+        Comment earlier = comment("p1", null, "user-1");
+        when(commentRepository.findChildCommentsByParentIds(List.of("p2", "p1"))).thenReturn(List.of(
+                comment("c3", "p1", "user-1"),
+                comment("c1", "p2", "user-1"),
+                comment("c2", "p1", "user-1")));
+        when(userRepository.findProfileImageUrlsByIds(anyCollection())).thenReturn(List.of());
+
+        List<CommentDto.Response> trees = loader.loadTrees(List.of(later, earlier));
+
+        assertEquals(List.of("p2", "p1"), ids(trees));
+        assertEquals(List.of("c1"), ids(trees.get(0).getChildComments()));
+        assertEquals(List.of("c3", "c2"), ids(trees.get(1).getChildComments()));
+    }
+
+    @Test
+    public void testRepliesOfParentsOutsideThePageAreDropped() {
+        // 삭제되었거나 다른 페이지에 있는 부모의 답글은 어느 트리에도 붙지 않음
+        Comment parent = comment("p1", null, "user-1");
+        when(commentRepository.findChildCommentsByParentIds(List.of("p1"))).thenReturn(List.of(
+                comment("orphan", "deleted-parent", "user-2"),
+                comment("c1", "p1", "user-1")));
+        when(userRepository.findProfileImageUrlsByIds(anyCollection())).thenReturn(List.of());
+
+        List<CommentDto.Response> trees = loader.loadTrees(List.of(parent));
+
+        assertEquals(List.of("p1"), ids(trees));
+        assertEquals(List.of("c1"), ids(trees.get(0).getChildComments()));
+    }
+
+    @Test
+    public void testParentWithoutRepliesHasEmptyChildren() {
+        Comment parent = comment("p1", null, "user-1");
+        when(commentRepository.findChildCommentsByParentIds(List.of("p1"))).thenReturn(List.of());
+        when(userRepository.findProfileImageUrlsByIds(anyCollection())).thenReturn(List.of());
+
+        List<CommentDto.Response> trees = loader.loadTrees(List.of(parent));
+
+        assertEquals(1, trees.size());
+        assertTrue(trees.get(0).getChildComments().isEmpty());
+    }
+
+    @Test
+    public void testEmptyPostRunsNoQueries() {
+        assertTrue(loader.loadTrees(List.of()).isEmpty());
+        assertTrue(loader.loadFlat(List.of()).isEmpty());
+
+        verifyNoInteractions(commentRepository, userRepository);
+    }
+
+    private static Comment comment(String id, String parentCommentId, String userId) {
+        return Comment.builder()
+                .id(id)
+                .userId(userId)
+                .communityId("community-1")
+                .commentContent("댓글 " + id)
+                .isParent(parentCommentId == null)
+                .parentCommentId(parentCommentId)
+                .name("nick-" + userId)
+                .build();
+    }
+
+    private static List<String> ids(List<CommentDto.Response> responses) {
+        return responses.stream().map(CommentDto.Response::getId).toList();
+    }
+}
@@ -0,0 +1,173 @@
+package com.team05.linkup.domain.community.application;
+
+import com.team05.linkup.common.image.ImageVariantProcessor;
+import com.team05.linkup.common.storage.InMemoryObjectStorage;
+import com.team05.linkup.domain.community.dto.ImageDto;
+import com.team05.linkup.common.storage.SignedUrlCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 메모리 저장소로 이미지 일괄 업로드의 동시 실행, 부분 실패, 배치 마감 시간과
+ * 서명 URL 캐시의 재사용 및 동시 요청 병합, 축소 변형 업로드를 검증합니다.
+ */
+public class CommunityImageServiceTest {
+
+    private static final String BUCKET = "community-images";
+
+    private final InMemoryObjectStorage storage = new InMemoryObjectStorage();
+    private final ImageVariantProcessor variantProcessor = new ImageVariantProcessor(2, 32, 50_000_000L, 0.82f);
+    private CommunityImageService imageService;
+
+    private void createService(long batchTimeoutMillis) {
+        imageService = new CommunityImageService(storage, new SignedUrlCache(storage, 5_000, 100),
+                variantProcessor, 4, batchTimeoutMillis, 5_000);
+        ReflectionTestUtils.setField(imageService, "bucket", BUCKET);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        imageService.shutdown();
+        variantProcessor.shutdown();
+    }
+
+    @Test
+    public void testUploadsRunConcurrently() {
+        createService(5_000);
+        storage.setLatency(Duration.ofMillis(300));
+
+        long started = System.currentTimeMillis();
+        ImageDto.UploadResult result = imageService.uploadImages(images(8), "user-1");
+        long elapsed = System.currentTimeMillis() - started;
+
+        assertEquals(8, result.getImageUrls().size());
+        assertTrue(result.getFailures().isEmpty());
+        assertEquals(8, storage.size());
+        // 동시 업로드 4개 → 300ms * 2 라운드, 순차였다면 2400ms
+        assertTrue(elapsed < 2_000, "elapsed=" + elapsed);
+        // 요청 순서 유지
+        for (int i = 0; i < 8; i++) {
+            assertTrue(result.getImageUrls().get(i).endsWith("-image-" + i + ".png"));
+        }
+    }
+
+    @Test
+    public void testPartialFailureIsReported() {
+        createService(5_000);
+        storage.setFailure(path -> path.endsWith("image-1.png"));
+
+        ImageDto.UploadResult result = imageService.uploadImages(images(3), "user-1");
+
+        assertEquals(2, result.getImageUrls().size());
+        assertEquals(1, result.getFailures().size());
+        assertEquals("image-1.png", result.getFailures().get(0).fileName());
+    }
+
+    @Test
+    public void testBatchDeadlineFailsSlowUploads() {
+        createService(200);
+        storage.setLatency(Duration.ofSeconds(2));
+
+        long started = System.currentTimeMillis();
+        ImageDto.UploadResult result = imageService.uploadImages(images(2), "user-1");
+
+        assertTrue(System.currentTimeMillis() - started < 1_500);
+        assertTrue(result.getImageUrls().isEmpty());
+        assertEquals(2, result.getFailures().size());
+    }
+
+    @Test
+    public void testUploadsFinishingAfterDeadlineAreDeleted() throws InterruptedException {
+        createService(100);
+        storage.setLatency(Duration.ofMillis(400));
+
+        ImageDto.UploadResult result = imageService.uploadImages(images(2), "user-1");
+        assertEquals(2, result.getFailures().size());
+
+        // 취소해도 진행 중인 업로드는 끝까지 저장되므로, 저장 완료 후 삭제 요청까지 처리되어야 함 (업로드 2 + 삭제 2)
+        storage.setLatency(Duration.ZERO);
+        long waitUntil = System.currentTimeMillis() + 5_000;
+        while (storage.metrics().requests() < 4 && System.currentTimeMillis() < waitUntil) {
+            Thread.sleep(20);
+        }
+        assertEquals(4, storage.metrics().requests());
+        assertEquals(0, storage.size());
+    }
+
+    @Test
+    public void testSignedUrlsAreCachedAndCoalesced() {
+        createService(5_000);
+        storage.setLatency(Duration.ofMillis(100));
+        String stored = storage.publicUrl(BUCKET, "user-1/uuid-사진 1.png");
+
+        // 같은 경로를 동시에 요청해도 발급은 한 번
+        List<String> first = imageService.getSignedUrls(List.of(stored, stored, stored), 60);
+        assertEquals(1, storage.signCount());
+        assertEquals(1, first.stream().distinct().count());
+
+        // 비슷한 TTL 요청은 캐시된 URL 재사용
+        assertEquals(first.get(0), imageService.getSignedUrl(stored, 45));
+        assertEquals(1, storage.signCount());
+        assertTrue(first.get(0).contains("/object/sign/" + BUCKET + "/user-1/uuid-%EC%82%AC%EC%A7%84%201.png"));
+    }
+
+    @Test
+    public void testVariantsAreUploadedAlongsideOriginal() throws IOException {
+        createService(5_000);
+        MultipartFile photo = new MockMultipartFile("images", "photo.png", "image/png", png(3000, 1500));
+        // 피드 변형 업로드만 실패 → 원본과 나머지 변형은 유지
+        storage.setFailure(path -> path.endsWith("-feed.jpg"));
+
+        ImageDto.UploadResult result = imageService.uploadImages(List.of(photo), "user-1");
+
+        assertTrue(result.getFailures().isEmpty());
+        ImageDto.UploadedImage uploaded = result.getImages().get(0);
+        assertEquals(result.getImageUrls().get(0), uploaded.originalUrl());
+        assertTrue(uploaded.thumbnailUrl().endsWith("-thumbnail.jpg"));
+        assertTrue(uploaded.fullUrl().endsWith("-full.jpg"));
+        assertNull(uploaded.feedUrl());
+        assertEquals(3, storage.size());
+
+        // 긴 변이 변형 크기에 맞게 줄어들고 JPEG 로 재인코딩
+        String thumbnailPath = uploaded.thumbnailUrl().substring(uploaded.thumbnailUrl().indexOf("user-1/"));
+        byte[] thumbnail = storage.get(BUCKET, thumbnailPath);
+        assertNotNull(thumbnail);
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(thumbnail));
+        assertEquals(160, decoded.getWidth());
+        assertEquals(80, decoded.getHeight());
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < width; x += 10) {
+            image.setRGB(x, x % height, 0xFF8800);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private static List<MultipartFile> images(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> (MultipartFile) new MockMultipartFile(
+                        "images", "image-" + i + ".png", "image/png", new byte[]{1, 2, 3}))
+                .toList();
+    }
+}
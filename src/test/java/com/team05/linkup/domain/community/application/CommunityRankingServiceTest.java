@@ -0,0 +1,237 @@
+package com.team05.linkup.domain.community.application;
+
+import com.team05.linkup.domain.community.dto.CommunityChangedEventDTO;
+import com.team05.linkup.domain.community.dto.CommunityCountersFlushedEventDTO;
+import com.team05.linkup.domain.community.dto.CommunitySummaryResponseDTO;
+import com.team05.linkup.domain.community.dto.CommunityWeeklyPopularDTO;
+import com.team05.linkup.domain.community.infrastructure.CommunityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * 바뀐 게시글이 상위 순위에 영향을 줄 때만 랭킹을 다시 계산하고,
+ * 스냅샷이 없을 때 동시 요청이 한 번의 계산을 기다리며, 유지 기간 수와 미사용 기간이 정리되는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+public class CommunityRankingServiceTest {
+
+    private static final int DAY = 7;
+
+    @Mock
+    private CommunityRepository communityRepository;
+
+    private CommunityRankingService rankingService;
+
+    // findPopularSince 가 반환할 게시글 (순위 순)
+    private final List<Object[]> ranked = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        rankingService = new CommunityRankingService(communityRepository, 60_000L, 600_000L);
+    }
+
+    @Test
+    public void testFlushOutsideTopNDoesNotRebuild() {
+        fillRanking(CommunityRankingService.MAX_LIMIT);
+        rankingService.getPopular(10, DAY);
+
+        // 마지막 순위(조회수 1)보다 낮은 게시글의 조회수 반영
+        stubRankingKey("outsider", 0L, 0L, ZonedDateTime.now().minusHours(1));
+        rankingService.onCountersFlushed(new CommunityCountersFlushedEventDTO(Set.of("outsider")));
+        rankingService.refresh();
+
+        verify(communityRepository, times(1)).findPopularSince(any(ZonedDateTime.class), any(Pageable.class));
+    }
+
+    @Test
+    public void testFlushOfRankedPostRebuilds() {
+        fillRanking(CommunityRankingService.MAX_LIMIT);
+        rankingService.getPopular(10, DAY);
+
+        stubRankingKey("post-49", 1L, 0L, ZonedDateTime.now().minusHours(1));
+        rankingService.onCountersFlushed(new CommunityCountersFlushedEventDTO(Set.of("post-49")));
+        rankingService.refresh();
+
+        verify(communityRepository, times(2)).findPopularSince(any(ZonedDateTime.class), any(Pageable.class));
+    }
+
+    @Test
+    public void testPostThatCanEnterTopNRebuilds() {
+        fillRanking(CommunityRankingService.MAX_LIMIT);
+        rankingService.getPopular(10, DAY);
+
+        stubRankingKey("rising", 1_000L, 0L, ZonedDateTime.now().minusHours(1));
+        rankingService.onCountersFlushed(new CommunityCountersFlushedEventDTO(Set.of("rising")));
+        rankingService.refresh();
+
+        verify(communityRepository, times(2)).findPopularSince(any(ZonedDateTime.class), any(Pageable.class));
+    }
+
+    @Test
+    public void testNewPostRebuildsWhenSnapshotIsNotFull() {
+        fillRanking(3);
+        rankingService.getPopular(10, DAY);
+
+        stubRankingKey("new", 0L, 0L, ZonedDateTime.now());
+        rankingService.onCommunityChanged(new CommunityChangedEventDTO("new", CommunityChangedEventDTO.ChangeType.CREATED));
+        rankingService.refresh();
+
+        verify(communityRepository, times(2)).findPopularSince(any(ZonedDateTime.class), any(Pageable.class));
+    }
+
+    @Test
+    public void testPostOutsideWindowDoesNotRebuild() {
+        fillRanking(3);
+        rankingService.getPopular(10, DAY);
+
+        stubRankingKey("old", 1_000L, 0L, ZonedDateTime.now().minusDays(DAY + 1));
+        rankingService.onCountersFlushed(new CommunityCountersFlushedEventDTO(Set.of("old")));
+        rankingService.refresh();
+
+        verify(communityRepository, times(1)).findPopularSince(any(ZonedDateTime.class), any(Pageable.class));
+    }
+
+    @Test
+    public void testConcurrentMissesWaitForSingleLoad() throws Exception {
+        fillRanking(3);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(communityRepository.findPopularSince(any(ZonedDateTime.class), any(Pageable.class))).thenAnswer(inv -> {
+            loading.countDown();
+            assertTrue(release.await(10, TimeUnit.SECONDS));
+            return ranked;
+        });
+
+        int callers = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        List<Future<List<CommunitySummaryResponseDTO>>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> rankingService.getPopular(10, DAY)));
+        }
+        assertTrue(loading.await(10, TimeUnit.SECONDS));
+        // 첫 계산이 끝나지 않은 동안 나머지 요청이 도착할 시간을 줌
+        Thread.sleep(100);
+        release.countDown();
+
+        for (Future<List<CommunitySummaryResponseDTO>> result : results) {
+            assertEquals(3, result.get(10, TimeUnit.SECONDS).size());
+        }
+        executor.shutdown();
+        verify(communityRepository, times(1)).findPopularSince(any(ZonedDateTime.class), any(Pageable.class));
+    }
+
+    @Test
+    public void testWeeklyPopularIsServedFromSameSnapshot() {
+        fillRanking(3);
+
+        List<CommunitySummaryResponseDTO> popular = rankingService.getPopular(2, DAY);
+        List<CommunityWeeklyPopularDTO> weekly = rankingService.getWeeklyPopular(2, DAY);
+
+        assertEquals(List.of("post-0", "post-1"), popular.stream().map(CommunitySummaryResponseDTO::id).toList());
+        assertEquals(List.of("post-0", "post-1"), weekly.stream().map(CommunityWeeklyPopularDTO::id).toList());
+        verify(communityRepository, never()).findWeeklyPopular(any(ZonedDateTime.class), any(Pageable.class));
+        verify(communityRepository, times(1)).findPopularSince(any(ZonedDateTime.class), any(Pageable.class));
+    }
+
+    @Test
+    public void testStaleSnapshotIsRebuiltWithoutChanges() throws InterruptedException {
+        rankingService = new CommunityRankingService(communityRepository, 0L, 600_000L);
+        fillRanking(3);
+        rankingService.getPopular(10, DAY);
+
+        Thread.sleep(5);
+        rankingService.refresh();
+
+        verify(communityRepository, times(2)).findPopularSince(any(ZonedDateTime.class), any(Pageable.class));
+        verify(communityRepository, never()).findRankingKeysByIds(anyCollection());
+    }
+
+    @Test
+    public void testFailedRefreshKeepsSnapshotAndRetries() {
+        fillRanking(3);
+        rankingService.getPopular(10, DAY);
+
+        when(communityRepository.findPopularSince(any(ZonedDateTime.class), any(Pageable.class)))
+                .thenThrow(new IllegalStateException("DB 오류"))
+                .thenReturn(ranked);
+        stubRankingKey("post-0", 100L, 0L, ZonedDateTime.now().minusHours(1));
+        rankingService.onCountersFlushed(new CommunityCountersFlushedEventDTO(Set.of("post-0")));
+
+        rankingService.refresh();
+        assertEquals(3, rankingService.getPopular(10, DAY).size());
+
+        // 실패한 기간은 새 이벤트 없이 다음 주기에 다시 계산
+        rankingService.refresh();
+        verify(communityRepository, times(3)).findPopularSince(any(ZonedDateTime.class), any(Pageable.class));
+    }
+
+    @Test
+    public void testLeastRecentlyReadWindowIsEvictedWhenFull() {
+        fillRanking(3);
+        for (int day = 1; day <= CommunityRankingService.MAX_WINDOWS; day++) {
+            rankingService.getPopular(10, day);
+        }
+        // day=1 을 다시 조회하여 가장 오래 조회되지 않은 기간은 day=2
+        rankingService.getPopular(10, 1);
+
+        // 가득 찬 상태에서 새 기간도 캐시되고(DB 재조회 없음), day=2 는 다시 계산해야 함
+        rankingService.getPopular(10, 20);
+        rankingService.getPopular(10, 20);
+        rankingService.getPopular(10, 1);
+        verify(communityRepository, times(CommunityRankingService.MAX_WINDOWS + 1))
+                .findPopularSince(any(ZonedDateTime.class), any(Pageable.class));
+
+        rankingService.getPopular(10, 2);
+        verify(communityRepository, times(CommunityRankingService.MAX_WINDOWS + 2))
+                .findPopularSince(any(ZonedDateTime.class), any(Pageable.class));
+    }
+
+    @Test
+    public void testIdleWindowIsDroppedInsteadOfRebuilt() throws InterruptedException {
+        rankingService = new CommunityRankingService(communityRepository, 0L, 0L);
+        fillRanking(3);
+        rankingService.getPopular(10, DAY);
+
+        Thread.sleep(5);
+        rankingService.refresh();
+
+        // 조회되지 않은 기간은 재계산하지 않고, 다음 조회에서 새로 계산
+        verify(communityRepository, times(1)).findPopularSince(any(ZonedDateTime.class), any(Pageable.class));
+        rankingService.getPopular(10, DAY);
+        verify(communityRepository, times(2)).findPopularSince(any(ZonedDateTime.class), any(Pageable.class));
+    }
+
+    // 조회수가 count, count-1, ..., 1 인 게시글 count 개로 랭킹 구성
+    private void fillRanking(int count) {
+        ZonedDateTime createdAt = ZonedDateTime.now().minusHours(2);
+        IntStream.range(0, count).forEach(i -> ranked.add(new Object[]{
+                "post-" + i, "작성자", "제목" + i, "QUESTION", createdAt, (long) (count - i), 0L, "본문", null, 0L}));
+        lenient().when(communityRepository.findPopularSince(any(ZonedDateTime.class), any(Pageable.class))).thenReturn(ranked);
+    }
+
+    private void stubRankingKey(String id, long viewCount, long likeCount, ZonedDateTime createdAt) {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{id, viewCount, likeCount, createdAt});
+        when(communityRepository.findRankingKeysByIds(anyCollection())).thenReturn(rows);
+    }
+}
@@ -0,0 +1,112 @@
+package com.team05.linkup.domain.community.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Gemini 응답 캐시의 정규화 키, TTL/크기 제한, 동시 요청 병합과 병합 대기 시간 제한을 검증합니다.
+ */
+public class GeminiResponseCacheTest {
+
+    @Test
+    public void testNearIdenticalQuestionsShareAnswer() throws Exception {
+        GeminiResponseCache cache = new GeminiResponseCache(60_000, 100, 5_000);
+        AtomicInteger calls = new AtomicInteger();
+
+        String first = cache.get("Spring  트랜잭션이\n뭔가요?", () -> "답변-" + calls.incrementAndGet());
+        String second = cache.get("  spring 트랜잭션이 뭔가요? ", () -> "답변-" + calls.incrementAndGet());
+
+        assertEquals(first, second);
+        assertEquals(1, calls.get());
+        assertEquals(1, cache.metrics().hits());
+        assertEquals(1, cache.metrics().misses());
+    }
+
+    @Test
+    public void testExpiredAndEvictedEntriesAreRegenerated() throws Exception {
+        GeminiResponseCache cache = new GeminiResponseCache(50, 2, 5_000);
+        AtomicInteger calls = new AtomicInteger();
+
+        cache.get("q1", () -> "a" + calls.incrementAndGet());
+        Thread.sleep(100);
+        cache.get("q1", () -> "a" + calls.incrementAndGet());
+        assertEquals(2, calls.get());
+
+        GeminiResponseCache bounded = new GeminiResponseCache(60_000, 2, 5_000);
+        bounded.get("q1", () -> "a1");
+        bounded.get("q2", () -> "a2");
+        bounded.get("q3", () -> "a3");
+        assertEquals(2, bounded.size());
+        assertEquals("new", bounded.get("q1", () -> "new"));
+    }
+
+    @Test
+    public void testFailuresAreNotCached() throws Exception {
+        GeminiResponseCache cache = new GeminiResponseCache(60_000, 100, 5_000);
+
+        assertThrows(IllegalStateException.class, () -> cache.get("q", () -> {
+            throw new IllegalStateException("429");
+        }));
+        assertEquals("ok", cache.get("q", () -> "ok"));
+    }
+
+    @Test
+    public void testConcurrentIdenticalPromptsCallModelOnce() throws Exception {
+        GeminiResponseCache cache = new GeminiResponseCache(60_000, 100, 5_000);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        try {
+            List<Future<String>> futures = IntStream.range(0, 20)
+                    .mapToObj(i -> executor.submit(() -> {
+                        start.await();
+                        return cache.get("같은 질문", () -> {
+                            calls.incrementAndGet();
+                            Thread.sleep(200);
+                            return "답변";
+                        });
+                    }))
+                    .toList();
+            start.countDown();
+            for (Future<String> future : futures) {
+                assertEquals("답변", future.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, calls.get());
+        assertEquals(19, cache.metrics().coalesced() + cache.metrics().hits());
+    }
+
+    @Test
+    public void testCoalescedWaitIsBounded() throws Exception {
+        GeminiResponseCache cache = new GeminiResponseCache(60_000, 100, 100);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // 먼저 들어온 요청의 모델 호출이 끝나지 않는 상황
+            Future<String> first = executor.submit(() -> cache.get("같은 질문", () -> {
+                loading.countDown();
+                release.await();
+                return "답변";
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            assertThrows(TimeoutException.class, () -> cache.get("같은 질문", () -> "다른 답변"));
+            assertEquals(1, cache.metrics().awaitTimeouts());
+
+            release.countDown();
+            assertEquals("답변", first.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
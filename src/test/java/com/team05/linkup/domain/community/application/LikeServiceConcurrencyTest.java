@@ -0,0 +1,176 @@
+package com.team05.linkup.domain.community.application;
+
+import com.team05.linkup.common.MySqlRepositoryTest;
+import com.team05.linkup.common.dto.UserPrincipal;
+import com.team05.linkup.domain.community.domain.Community;
+import com.team05.linkup.domain.community.domain.CommunityCategory;
+import com.team05.linkup.domain.community.dto.LikeResponseDTO;
+import com.team05.linkup.domain.community.infrastructure.CommunityRepository;
+import com.team05.linkup.domain.community.infrastructure.LikeRepository;
+import com.team05.linkup.domain.enums.Role;
+import com.team05.linkup.domain.user.domain.User;
+import com.team05.linkup.domain.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 한 게시글에 200개 스레드가 동시에 좋아요를 토글할 때
+ * 실제 MySQL 의 likes (user_id, community_id) 유니크 제약 위에서 중복 행이 생기지 않고,
+ * likes 행 수와 like_count(DB 값 + 반영 대기 증감분)가 항상 일치하는지 검증합니다.
+ */
+public class LikeServiceConcurrencyTest extends MySqlRepositoryTest {
+
+    private static final int THREAD_COUNT = 200;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private CommunityRepository communityRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private LikeCountBuffer likeCountBuffer;
+    private LikeService likeService;
+    private String communityId;
+
+    // 스레드별 토글 결과와, 락 경합으로 DB 가 거절한 요청
+    private final List<LikeResponseDTO> results = new CopyOnWriteArrayList<>();
+    private final List<Throwable> lockFailures = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        likeCountBuffer = new LikeCountBuffer(communityRepository, event -> { });
+        likeService = new LikeService(likeRepository, communityRepository, userRepository, likeCountBuffer);
+
+        User author = userRepository.save(user("author"));
+        communityId = communityRepository.save(Community.builder()
+                .user(author)
+                .title("좋아요 동시성")
+                .category(CommunityCategory.FREE)
+                .content("본문")
+                .build()).getId();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        likeRepository.deleteAllInBatch();
+        communityRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void testDistinctUsersLikeConcurrently() throws InterruptedException {
+        // 200명의 서로 다른 사용자가 동시에 좋아요
+        saveUsers(THREAD_COUNT);
+        runConcurrently(i -> new UserPrincipal("provider-" + i, "kakao"));
+
+        assertEquals(results.size(), likeRows());
+        assertTrue(results.stream().allMatch(LikeResponseDTO::liked));
+        assertCountersInStep();
+    }
+
+    @Test
+    public void testSameUserDoubleClicksConcurrently() throws InterruptedException {
+        // 한 사용자가 200번 동시에 토글해도 중복 행이 생기거나 카운터가 어긋나면 안 됨
+        saveUsers(1);
+        runConcurrently(i -> new UserPrincipal("provider-0", "kakao"));
+
+        assertTrue(likeRows() <= 1);
+        assertCountersInStep();
+    }
+
+    @Test
+    public void testMixedTogglesKeepCounterInStep() throws InterruptedException {
+        // 100명의 사용자가 각각 두 번씩 동시에 토글
+        saveUsers(100);
+        runConcurrently(i -> new UserPrincipal("provider-" + (i % 100), "kakao"));
+
+        assertCountersInStep();
+    }
+
+    // 유니크 제약으로 중복 행이 없고, 반영 전/후 모두 like_count 가 실제 행 수와 같아야 함
+    private void assertCountersInStep() {
+        assertEquals(0L, duplicateRows());
+        assertEquals(THREAD_COUNT, results.size() + lockFailures.size());
+
+        long rows = likeRows();
+        assertEquals(rows, likeCountBuffer.pending(communityId));
+
+        likeCountBuffer.flush();
+        assertEquals(0L, likeCountBuffer.pending(communityId));
+        assertEquals(rows, communityRepository.findLikeCountById(communityId).orElseThrow());
+    }
+
+    private long likeRows() {
+        return likeRepository.countByCommunityId(communityId);
+    }
+
+    private long duplicateRows() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) - COUNT(DISTINCT user_id) FROM likes WHERE community_id = ?", Long.class, communityId);
+    }
+
+    private void saveUsers(int count) {
+        userRepository.saveAll(IntStream.range(0, count).mapToObj(i -> user(String.valueOf(i))).toList());
+    }
+
+    private static User user(String suffix) {
+        return User.builder()
+                .provider("kakao")
+                .providerId("provider-" + suffix)
+                .userNameAttribute("id")
+                .name("사용자" + suffix)
+                .nickname("nick-" + suffix)
+                .role(Role.ROLE_MENTEE)
+                .profileImageUrl("https://example.com/" + suffix + ".png")
+                .build();
+    }
+
+    private void runConcurrently(IntFunction<UserPrincipal> principalFactory) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            UserPrincipal principal = principalFactory.apply(i);
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    results.add(likeService.toggleLike(principal, communityId));
+                } catch (ConcurrencyFailureException e) {
+                    // 교착 상태/락 대기 초과로 거절된 요청은 롤백되며 카운터도 바꾸지 않음
+                    lockFailures.add(e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        assertTrue(done.await(60, TimeUnit.SECONDS));
+        executor.shutdown();
+    }
+}
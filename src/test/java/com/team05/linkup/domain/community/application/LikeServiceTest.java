@@ -0,0 +1,100 @@
+package com.team05.linkup.domain.community.application;
+
+import com.team05.linkup.common.dto.UserPrincipal;
+import com.team05.linkup.domain.community.dto.LikeResponseDTO;
+import com.team05.linkup.domain.community.infrastructure.CommunityRepository;
+import com.team05.linkup.domain.community.infrastructure.LikeRepository;
+import com.team05.linkup.domain.user.domain.User;
+import com.team05.linkup.domain.user.infrastructure.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * '좋아요' 추가 단계에서 유니크 키 충돌과 외래 키 위반을 구분하고,
+ * 반환하는 '좋아요' 상태가 실제 행 상태를 따르는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+public class LikeServiceTest {
+
+    private static final String COMMUNITY_ID = "community-1";
+
+    @Mock
+    private LikeRepository likeRepository;
+
+    @Mock
+    private CommunityRepository communityRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private LikeCountBuffer likeCountBuffer;
+
+    @InjectMocks
+    private LikeService likeService;
+
+    private final UserPrincipal principal = new UserPrincipal("provider-1", "kakao");
+    private final User user = User.builder().id("user-1").build();
+
+    @BeforeEach
+    public void setUp() {
+        when(userRepository.findByProviderAndProviderId("kakao", "provider-1")).thenReturn(Optional.of(user));
+        when(communityRepository.existsById(COMMUNITY_ID)).thenReturn(true);
+        when(likeRepository.deleteLike("user-1", COMMUNITY_ID)).thenReturn(0);
+        lenient().when(communityRepository.findLikeCountById(COMMUNITY_ID)).thenReturn(Optional.of(3L));
+    }
+
+    @Test
+    public void testInsertedLikeIsCounted() {
+        when(likeRepository.insertLike(anyString(), eq("user-1"), eq(COMMUNITY_ID))).thenReturn(1);
+
+        LikeResponseDTO response = likeService.toggleLike(principal, COMMUNITY_ID);
+
+        assertTrue(response.liked());
+        verify(likeCountBuffer).add(COMMUNITY_ID, 1L);
+    }
+
+    @Test
+    public void testDuplicateKeyReportsCurrentRowState() {
+        when(likeRepository.insertLike(anyString(), eq("user-1"), eq(COMMUNITY_ID)))
+                .thenThrow(violation(1062, "Duplicate entry for key 'uk_likes_user_community'"));
+        // 동시 요청이 추가한 뒤 다시 취소하여 행이 없는 경우
+        when(likeRepository.existsByUserAndCommunityId(user, COMMUNITY_ID)).thenReturn(false);
+
+        LikeResponseDTO response = likeService.toggleLike(principal, COMMUNITY_ID);
+
+        assertFalse(response.liked());
+        verify(likeCountBuffer, never()).add(anyString(), anyLong());
+    }
+
+    @Test
+    public void testForeignKeyViolationIsNotReportedAsLiked() {
+        // 존재 확인 직후 게시글이 삭제됨
+        when(likeRepository.insertLike(anyString(), eq("user-1"), eq(COMMUNITY_ID)))
+                .thenThrow(violation(1452, "Cannot add or update a child row: a foreign key constraint fails"));
+
+        assertThrows(EntityNotFoundException.class, () -> likeService.toggleLike(principal, COMMUNITY_ID));
+        verify(likeCountBuffer, never()).add(anyString(), anyLong());
+        verify(likeRepository, never()).existsByUserAndCommunityId(any(), anyString());
+    }
+
+    private static DataIntegrityViolationException violation(int errorCode, String message) {
+        SQLException cause = new SQLIntegrityConstraintViolationException(message, "23000", errorCode);
+        return new DataIntegrityViolationException(message, cause);
+    }
+}
@@ -0,0 +1,138 @@
+package com.team05.linkup.domain.community.application;
+
+import com.team05.linkup.domain.community.dto.TagDTO;
+import com.team05.linkup.domain.community.dto.TagUsageChangedEventDTO;
+import com.team05.linkup.domain.community.infrastructure.TagRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 인기 태그를 메모리 버킷에서 계산할 때 기존 쿼리와 같은 순서(사용 횟수 내림차순, 이름 오름차순)로
+ * 상위 limit 개를 고르고, 게시글 생성/수정/삭제 이벤트가 반영되는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+public class PopularTagServiceTest {
+
+    private static final int MAX_DAYS = 30;
+
+    @Mock
+    private TagRepository tagRepository;
+
+    private final List<Object[]> usageRows = new ArrayList<>();
+
+    @Test
+    public void testRanksByCountThenName() {
+        load(Map.of("spring", 3, "java", 3, "jpa", 5, "react", 1));
+
+        assertEquals(List.of("jpa", "java", "spring"), names(service().findPopularTags(3, 7)));
+        verify(tagRepository, never()).findPopularTagsSince(any(ZonedDateTime.class), any(Pageable.class));
+    }
+
+    @Test
+    public void testHeapSelectionMatchesFullSort() {
+        // 동점이 많은 임의의 사용 횟수로 전체 정렬 결과와 상위 limit 개가 같은지 비교
+        Random random = new Random(42);
+        Map<String, Integer> counts = new TreeMap<>();
+        for (int i = 0; i < 500; i++) {
+            counts.put("tag-" + i, 1 + random.nextInt(20));
+        }
+        load(counts);
+
+        List<String> expected = counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(10)
+                .map(Map.Entry::getKey)
+                .toList();
+        assertEquals(expected, names(service().findPopularTags(10, 7)));
+    }
+
+    @Test
+    public void testCreateUpdateAndDeleteEventsAreApplied() {
+        load(Map.of("java", 1));
+        PopularTagService service = service();
+        ZonedDateTime postedAt = ZonedDateTime.now().minusHours(2);
+
+        // 생성: spring, jpa 추가 / 수정: jpa 제거, react 추가 / 삭제: spring, react 제거
+        service.onTagUsageChanged(new TagUsageChangedEventDTO(postedAt, Set.of("spring", "jpa"), Set.of()));
+        service.onTagUsageChanged(new TagUsageChangedEventDTO(postedAt, Set.of("spring"), Set.of()));
+        assertEquals(List.of("spring", "java", "jpa"), names(service.findPopularTags(5, 7)));
+
+        service.onTagUsageChanged(new TagUsageChangedEventDTO(postedAt, Set.of("react"), Set.of("jpa")));
+        assertEquals(List.of("spring", "java", "react"), names(service.findPopularTags(5, 7)));
+
+        service.onTagUsageChanged(new TagUsageChangedEventDTO(postedAt, Set.of(), Set.of("spring", "react")));
+        assertEquals(List.of("java", "spring"), names(service.findPopularTags(5, 7)));
+    }
+
+    @Test
+    public void testCountsOnlyPostsInsideRollingWindow() {
+        load(Map.of());
+        PopularTagService service = service();
+        service.onTagUsageChanged(new TagUsageChangedEventDTO(ZonedDateTime.now().minusHours(20), Set.of("recent"), Set.of()));
+        service.onTagUsageChanged(new TagUsageChangedEventDTO(ZonedDateTime.now().minusHours(30), Set.of("older"), Set.of()));
+
+        assertEquals(List.of("recent"), names(service.findPopularTags(5, 1)));
+        assertEquals(List.of("older", "recent"), names(service.findPopularTags(5, 2)));
+    }
+
+    @Test
+    public void testFallsBackToQueryBeyondRetentionOrBeforeLoad() {
+        List<TagDTO> fromDb = List.of(new TagDTO("db"));
+        when(tagRepository.findPopularTagsSince(any(ZonedDateTime.class), any(Pageable.class))).thenReturn(fromDb);
+
+        PopularTagService notLoaded = new PopularTagService(tagRepository, MAX_DAYS);
+        assertEquals(fromDb, notLoaded.findPopularTags(5, 7));
+
+        load(Map.of("java", 1));
+        assertEquals(fromDb, service().findPopularTags(5, MAX_DAYS + 1));
+        verify(tagRepository, times(2)).findPopularTagsSince(any(ZonedDateTime.class), any(Pageable.class));
+    }
+
+    @Test
+    public void testFailedReloadKeepsPreviousCounts() {
+        load(Map.of("java", 2));
+        PopularTagService service = service();
+
+        when(tagRepository.countTagUsageByHourSince(any(ZonedDateTime.class))).thenThrow(new IllegalStateException("DB 오류"));
+        service.rebuild();
+
+        assertEquals(List.of("java"), names(service.findPopularTags(5, 7)));
+    }
+
+    // 1시간 전 버킷에 태그별 사용 횟수를 적재할 행 구성
+    private void load(Map<String, Integer> counts) {
+        LocalDateTime hour = LocalDateTime.now().minusHours(1).truncatedTo(ChronoUnit.HOURS);
+        counts.forEach((name, count) -> usageRows.add(new Object[]{name, Timestamp.valueOf(hour), (long) count}));
+        when(tagRepository.countTagUsageByHourSince(any(ZonedDateTime.class))).thenReturn(usageRows);
+    }
+
+    private PopularTagService service() {
+        PopularTagService service = new PopularTagService(tagRepository, MAX_DAYS);
+        service.rebuild();
+        return service;
+    }
+
+    private static List<String> names(List<TagDTO> tags) {
+        return tags.stream().map(TagDTO::name).toList();
+    }
+}
@@ -0,0 +1,125 @@
+package com.team05.linkup.domain.community.application;
+
+import com.team05.linkup.domain.community.domain.Tag;
+import com.team05.linkup.domain.community.infrastructure.TagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * 대소문자만 다른 태그 이름이 같은 태그로 해석되고, 컬럼 길이를 넘는 이름은 저장 전에 거절되는지 검증합니다.
+ * 저장소 목은 대소문자를 구분하지 않는 tags.name collation 처럼 동작합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+public class TagResolverTest {
+
+    @Mock
+    private TagRepository tagRepository;
+
+    private TagResolver tagResolver;
+
+    // DB 에 저장된 태그
+    private final List<Tag> stored = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        tagResolver = new TagResolver(tagRepository, 100);
+        lenient().when(tagRepository.findByNameIn(anyCollection())).thenAnswer(inv -> find(inv.getArgument(0)));
+        lenient().when(tagRepository.findLatestByNameIn(anyCollection())).thenAnswer(inv -> find(inv.getArgument(0)));
+        lenient().when(tagRepository.insertIgnoreNames(anyCollection())).thenAnswer(inv -> {
+            int inserted = 0;
+            for (String name : inv.<Collection<String>>getArgument(0)) {
+                if (find(List.of(name)).isEmpty()) {
+                    stored.add(Tag.builder().id((long) stored.size() + 1).name(name).build());
+                    inserted++;
+                }
+            }
+            return inserted;
+        });
+        lenient().when(tagRepository.getReferenceById(anyLong())).thenAnswer(inv ->
+                stored.stream().filter(tag -> tag.getId().equals(inv.getArgument(0))).findFirst().orElseThrow());
+    }
+
+    @Test
+    public void testCaseVariantResolvesToStoredTag() {
+        stored.add(Tag.builder().id(1L).name("spring").build());
+
+        Map<String, Tag> resolved = tagResolver.resolve(List.of(" Spring "));
+
+        assertEquals(List.of("spring"), List.copyOf(resolved.keySet()));
+        assertEquals(1L, resolved.get("spring").getId());
+        verify(tagRepository, never()).insertIgnoreNames(anyCollection());
+    }
+
+    @Test
+    public void testCaseVariantsInRequestAreDeduplicated() {
+        Map<String, Tag> resolved = tagResolver.resolve(List.of("Java", "java ", "JAVA", "jpa"));
+
+        assertEquals(List.of("Java", "jpa"), List.copyOf(resolved.keySet()));
+        assertEquals(2, stored.size());
+        verify(tagRepository).insertIgnoreNames(argThat(names -> List.copyOf(names).equals(List.of("Java", "jpa"))));
+    }
+
+    @Test
+    public void testConcurrentlyCreatedCaseVariantIsShared() {
+        // 조회 시에는 없었지만 다른 트랜잭션이 먼저 "react" 를 저장해 INSERT IGNORE 가 무시된 경우
+        when(tagRepository.findByNameIn(anyCollection())).thenReturn(List.of());
+        stored.add(Tag.builder().id(7L).name("react").build());
+
+        Map<String, Tag> resolved = tagResolver.resolve(List.of("React"));
+
+        assertEquals(List.of("react"), List.copyOf(resolved.keySet()));
+        assertEquals(7L, resolved.get("react").getId());
+    }
+
+    @Test
+    public void testCachedTagMatchesCaseInsensitively() {
+        stored.add(Tag.builder().id(1L).name("spring").build());
+        tagResolver.resolve(List.of("spring"));
+
+        Map<String, Tag> resolved = tagResolver.resolve(List.of("SPRING"));
+
+        assertEquals(List.of("spring"), List.copyOf(resolved.keySet()));
+        verify(tagRepository, times(1)).findByNameIn(anyCollection());
+        verify(tagRepository).getReferenceById(1L);
+    }
+
+    @Test
+    public void testKeepsRequestOrderAcrossCacheAndDatabase() {
+        stored.add(Tag.builder().id(1L).name("cached").build());
+        tagResolver.resolve(List.of("cached"));
+
+        Map<String, Tag> resolved = tagResolver.resolve(List.of("new", "Cached", "", "other"));
+
+        assertEquals(List.of("new", "cached", "other"), List.copyOf(resolved.keySet()));
+    }
+
+    @Test
+    public void testRejectsOverLengthNameBeforeInsert() {
+        String maxLength = "가".repeat(Tag.NAME_MAX_LENGTH);
+        String tooLong = "a".repeat(Tag.NAME_MAX_LENGTH + 1);
+
+        assertThrows(IllegalArgumentException.class, () -> tagResolver.resolve(List.of("spring", tooLong)));
+        verifyNoInteractions(tagRepository);
+
+        assertEquals(List.of(maxLength), List.copyOf(tagResolver.resolve(List.of(maxLength)).keySet()));
+    }
+
+    // 대소문자를 구분하지 않는 IN 조회
+    private List<Tag> find(Collection<String> names) {
+        return stored.stream()
+                .filter(tag -> names.stream().anyMatch(name -> name.equalsIgnoreCase(tag.getName())))
+                .toList();
+    }
+}
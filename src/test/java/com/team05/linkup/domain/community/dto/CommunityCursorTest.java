@@ -0,0 +1,82 @@
+package com.team05.linkup.domain.community.dto;
+
+import com.team05.linkup.domain.community.domain.CommunityCategory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 커서 인코딩/디코딩 왕복, 잘못된 커서 거절, 서버 시간대와 무관한 해석을 검증합니다.
+ */
+public class CommunityCursorTest {
+
+    private static final ZonedDateTime CREATED_AT =
+            ZonedDateTime.of(2026, 3, 10, 9, 30, 15, 123_456_000, ZoneId.of("Asia/Seoul"));
+
+    private final TimeZone originalZone = TimeZone.getDefault();
+
+    @AfterEach
+    public void restoreZone() {
+        TimeZone.setDefault(originalZone);
+    }
+
+    @Test
+    public void testRoundTripKeepsInstantAndId() {
+        CommunityCursor cursor = new CommunityCursor(CREATED_AT, "post-1");
+
+        CommunityCursor decoded = CommunityCursor.decode(cursor.encode());
+
+        assertEquals(CREATED_AT.toInstant(), decoded.createdAt().toInstant());
+        assertEquals("post-1", decoded.id());
+    }
+
+    @Test
+    public void testFromUsesLastSummary() {
+        CommunitySummaryResponseDTO last = new CommunitySummaryResponseDTO(
+                "post-9", "닉네임", "제목", CommunityCategory.FREE, CREATED_AT, 0L, 0L, "본문", null, 0L);
+
+        CommunityCursor cursor = CommunityCursor.from(last);
+
+        assertEquals(new CommunityCursor(CREATED_AT, "post-9"), cursor);
+    }
+
+    @Test
+    public void testDecodeDoesNotDependOnServerZone() {
+        String encoded = new CommunityCursor(CREATED_AT, "post-1").encode();
+
+        TimeZone.setDefault(TimeZone.getTimeZone("America/Los_Angeles"));
+        CommunityCursor inLosAngeles = CommunityCursor.decode(encoded);
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Seoul"));
+        CommunityCursor inSeoul = CommunityCursor.decode(encoded);
+
+        assertEquals(inLosAngeles, inSeoul);
+        assertEquals(ZoneId.of("Z"), inSeoul.createdAt().getZone());
+    }
+
+    @Test
+    public void testBlankCursorMeansFirstPage() {
+        assertNull(CommunityCursor.decode(null));
+        assertNull(CommunityCursor.decode(""));
+        assertNull(CommunityCursor.decode("   "));
+    }
+
+    @Test
+    public void testMalformedCursorsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> CommunityCursor.decode("!!not-base64!!"));
+        assertThrows(IllegalArgumentException.class, () -> CommunityCursor.decode(encode("no-delimiter")));
+        assertThrows(IllegalArgumentException.class, () -> CommunityCursor.decode(encode("|post-1")));
+        assertThrows(IllegalArgumentException.class, () -> CommunityCursor.decode(encode("2026-03-10T00:30:00Z|")));
+        assertThrows(IllegalArgumentException.class, () -> CommunityCursor.decode(encode("yesterday|post-1")));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
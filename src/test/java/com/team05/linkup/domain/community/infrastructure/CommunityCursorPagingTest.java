@@ -0,0 +1,133 @@
+package com.team05.linkup.domain.community.infrastructure;
+
+import com.team05.linkup.common.MySqlRepositoryTest;
+import com.team05.linkup.domain.community.domain.Community;
+import com.team05.linkup.domain.community.domain.CommunityCategory;
+import com.team05.linkup.domain.community.dto.CommunityCursor;
+import com.team05.linkup.domain.community.dto.CommunitySummaryResponseDTO;
+import com.team05.linkup.domain.enums.Role;
+import com.team05.linkup.domain.user.domain.User;
+import com.team05.linkup.domain.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 작성 시각이 같은 게시글이 여러 건 있어도 커서 페이지네이션이 (created_at DESC, id DESC) 순서로
+ * 빠짐이나 중복 없이 모든 게시글을 돌려주는지 실제 MySQL 에서 검증합니다.
+ * 페이지 사이의 커서는 서비스와 같이 인코딩/디코딩을 거쳐 전달합니다.
+ */
+public class CommunityCursorPagingTest extends MySqlRepositoryTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired
+    private CommunityRepository communityRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User author;
+
+    @BeforeEach
+    public void setUp() {
+        author = userRepository.save(User.builder()
+                .provider("kakao")
+                .providerId("cursor-author")
+                .userNameAttribute("id")
+                .name("작성자")
+                .nickname("cursor-author")
+                .role(Role.ROLE_MENTEE)
+                .profileImageUrl("https://example.com/author.png")
+                .build());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        communityRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void testPagesThroughDuplicateTimestampsWithoutGapsOrRepeats() {
+        LocalDateTime t1 = LocalDateTime.of(2026, 3, 10, 9, 0, 0, 123_456_000);
+        LocalDateTime t2 = t1.minusMinutes(1);
+        List<Post> posts = new ArrayList<>();
+        // 페이지 경계가 같은 작성 시각 묶음 가운데에 걸리도록 3건, 3건, 1건으로 구성
+        for (int i = 0; i < 3; i++) {
+            posts.add(save(CommunityCategory.FREE, t1));
+        }
+        for (int i = 0; i < 3; i++) {
+            posts.add(save(CommunityCategory.QUESTION, t2));
+        }
+        posts.add(save(CommunityCategory.FREE, t2.minusMinutes(1)));
+
+        List<String> expected = posts.stream()
+                .sorted(Comparator.comparing(Post::createdAt).thenComparing(Post::id).reversed())
+                .map(Post::id)
+                .toList();
+        assertEquals(expected, pageThrough(null));
+    }
+
+    @Test
+    public void testCursorKeepsCategoryFilter() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 3, 10, 9, 0);
+        List<String> questions = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            questions.add(save(CommunityCategory.QUESTION, createdAt).id());
+            save(CommunityCategory.FREE, createdAt);
+        }
+
+        List<String> expected = questions.stream().sorted(Comparator.reverseOrder()).toList();
+        assertEquals(expected, pageThrough(CommunityCategory.QUESTION.name()));
+    }
+
+    // 서비스와 같이 limit + 1 건을 조회하고, 다음 페이지가 있으면 인코딩한 커서로 이어서 조회
+    private List<String> pageThrough(String category) {
+        List<String> ids = new ArrayList<>();
+        String encoded = null;
+        int pages = 0;
+        do {
+            CommunityCursor cursor = CommunityCursor.decode(encoded);
+            List<Object[]> rows = cursor == null
+                    ? communityRepository.findCommunitySummariesFirst(category, null, PAGE_SIZE + 1)
+                    : communityRepository.findCommunitySummariesAfter(
+                            category, null, cursor.createdAt(), cursor.id(), PAGE_SIZE + 1);
+            List<CommunitySummaryResponseDTO> page = rows.stream()
+                    .limit(PAGE_SIZE)
+                    .map(CommunitySummaryResponseDTO::fromObjectArray)
+                    .toList();
+            page.forEach(summary -> ids.add(summary.id()));
+            encoded = rows.size() > PAGE_SIZE ? CommunityCursor.from(page.get(page.size() - 1)).encode() : null;
+            assertTrue(++pages <= 10, "커서가 진행하지 않습니다.");
+        } while (encoded != null);
+        return ids;
+    }
+
+    private Post save(CommunityCategory category, LocalDateTime createdAt) {
+        String id = communityRepository.save(Community.builder()
+                .user(author)
+                .title("커서 페이지")
+                .category(category)
+                .content("본문")
+                .build()).getId();
+        jdbcTemplate.update("UPDATE community SET created_at = ? WHERE id = ?", Timestamp.valueOf(createdAt), id);
+        return new Post(id, createdAt);
+    }
+
+    private record Post(String id, LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,166 @@
+package com.team05.linkup.domain.community.infrastructure.search;
+
+import com.team05.linkup.common.MySqlRepositoryTest;
+import com.team05.linkup.domain.community.dto.CommunitySummaryResponseDTO;
+import com.team05.linkup.domain.community.infrastructure.CommunityRepository;
+import com.team05.linkup.domain.enums.Role;
+import com.team05.linkup.domain.user.domain.User;
+import com.team05.linkup.domain.user.infrastructure.UserRepository;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * LIKE 백엔드(기존)와 FULLTEXT 백엔드의 검색 소요 시간을 실제 MySQL 에서 측정합니다.
+ * 게시글 {@value #ROWS} 건을 넣고 키워드마다 워밍업 {@value #WARMUP} 회 뒤 {@value #RUNS} 회 실행하여
+ * 중앙값과 p95 를 로그로 남깁니다. 실행 환경에 따라 수치가 달라지므로 시간은 단언하지 않고, 두 백엔드의 검색 건수만 비교합니다.
+ * <p>
+ * 시간이 오래 걸리므로 -Dsearch.benchmark=true 일 때만 실행합니다.
+ * <pre>./gradlew test -Dsearch.benchmark=true --tests '*CommunitySearchBenchmarkTest'</pre>
+ */
+@EnabledIfSystemProperty(named = "search.benchmark", matches = "true")
+public class CommunitySearchBenchmarkTest extends MySqlRepositoryTest {
+
+    private static final Logger logger = LogManager.getLogger();
+
+    private static final int ROWS = 20_000;
+    private static final int WARMUP = 5;
+    private static final int RUNS = 30;
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10);
+
+    // 드문 키워드(약 1%), 흔한 키워드(약 20%), 없는 키워드
+    private static final String RARE = "쿠버네티스";
+    private static final String COMMON = "스프링";
+    private static final String MISSING = "코볼메인프레임";
+    private static final List<String> FILLER = List.of(
+            "오늘", "질문", "자바", "설정", "에러", "배포", "공부", "프로젝트", "멘토링", "데이터베이스",
+            "리액트", "서버", "테스트", "코드", "리뷰", "점심", "취업", "면접", "알고리즘", "네트워크");
+
+    @Autowired
+    private CommunityRepository communityRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private LikeCommunitySearchBackend likeBackend;
+    private FullTextCommunitySearchBackend fullTextBackend;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        MySqlCommunitySearchBackendTest.applyFullTextIndex(jdbcTemplate);
+        likeBackend = new LikeCommunitySearchBackend(communityRepository);
+        fullTextBackend = new FullTextCommunitySearchBackend(communityRepository);
+
+        User author = userRepository.save(User.builder()
+                .provider("kakao")
+                .providerId("benchmark-author")
+                .userNameAttribute("id")
+                .name("작성자")
+                .nickname("benchmark-author")
+                .role(Role.ROLE_MENTEE)
+                .profileImageUrl("https://example.com/author.png")
+                .build());
+        seed(author.getId());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        communityRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void testCompareLikeAndFullText() {
+        for (String keyword : List.of(RARE, COMMON, MISSING)) {
+            Timing like = measure(keyword, likeBackend::search);
+            Timing fullText = measure(keyword, fullTextBackend::search);
+
+            assertEquals(like.total(), fullText.total(), () -> "검색 건수가 다릅니다: " + keyword);
+            logger.info("search benchmark rows={} keyword={} matches={} | LIKE median={}ms p95={}ms | FULLTEXT median={}ms p95={}ms",
+                    ROWS, keyword, like.total(), like.medianMillis(), like.p95Millis(),
+                    fullText.medianMillis(), fullText.p95Millis());
+        }
+    }
+
+    private Timing measure(String keyword, SearchCall search) {
+        long total = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            total = search.apply(keyword, FIRST_PAGE).getTotalElements();
+        }
+        long[] elapsed = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            search.apply(keyword, FIRST_PAGE);
+            elapsed[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+        return new Timing(total, elapsed);
+    }
+
+    // 제목/본문에 채움 단어를 섞고 일부 게시글에만 측정용 키워드를 넣음
+    private void seed(String userId) {
+        Random random = new Random(42);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            StringBuilder content = new StringBuilder();
+            for (int w = 0; w < 60; w++) {
+                content.append(FILLER.get(random.nextInt(FILLER.size()))).append(' ');
+            }
+            if (i % 100 == 0) {
+                content.append(RARE).append(' ');
+            }
+            if (i % 5 == 0) {
+                content.append(COMMON).append(' ');
+            }
+            String title = FILLER.get(random.nextInt(FILLER.size())) + " " + FILLER.get(random.nextInt(FILLER.size()));
+            rows.add(new Object[]{UUID.randomUUID().toString(), userId, title, "FREE", content.toString(), now, now});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO community (id, user_id, title, category, content, view_count, like_count, comment_count, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, 0, 0, 0, ?, ?)
+                """, rows);
+    }
+
+    @FunctionalInterface
+    private interface SearchCall {
+        Page<CommunitySummaryResponseDTO> apply(String keyword, Pageable pageable);
+    }
+
+    private record Timing(long total, long[] sortedNanos) {
+
+        double medianMillis() {
+            return toMillis(sortedNanos[sortedNanos.length / 2]);
+        }
+
+        double p95Millis() {
+            return toMillis(sortedNanos[(int) Math.ceil(sortedNanos.length * 0.95) - 1]);
+        }
+
+        private static double toMillis(long nanos) {
+            return Math.round(nanos / 10_000.0) / 100.0;
+        }
+    }
+}
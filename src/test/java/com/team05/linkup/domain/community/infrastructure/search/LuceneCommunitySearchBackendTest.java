@@ -0,0 +1,171 @@
+package com.team05.linkup.domain.community.infrastructure.search;
+
+import com.team05.linkup.domain.community.domain.CommunityCategory;
+import com.team05.linkup.domain.community.dto.CommunityChangedEventDTO;
+import com.team05.linkup.domain.community.dto.CommunitySummaryResponseDTO;
+import com.team05.linkup.domain.community.infrastructure.CommunityRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.lenient;
+
+/**
+ * Lucene 검색 백엔드의 색인 갱신과 관련도 순위를 임시 디렉터리 색인으로 검증합니다.
+ * 게시글 본문/태그/요약은 저장소 목으로 제공합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+public class LuceneCommunitySearchBackendTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10);
+
+    @Mock
+    private CommunityRepository communityRepository;
+
+    @TempDir
+    Path indexDir;
+
+    private LuceneCommunitySearchBackend backend;
+
+    // 게시글 ID → [제목, 본문], 게시글 ID → 태그
+    private final Map<String, String[]> documents = new LinkedHashMap<>();
+    private final Map<String, List<String>> tags = new LinkedHashMap<>();
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        backend = new LuceneCommunitySearchBackend(communityRepository, indexDir.toString());
+
+        lenient().when(communityRepository.findSearchDocumentsByIds(anyCollection())).thenAnswer(inv -> {
+            List<Object[]> rows = new ArrayList<>();
+            for (String id : inv.<Collection<String>>getArgument(0)) {
+                String[] doc = documents.get(id);
+                if (doc != null) {
+                    rows.add(new Object[]{id, doc[0], doc[1]});
+                }
+            }
+            return rows;
+        });
+        lenient().when(communityRepository.findTagNamesByCommunityIds(anyCollection())).thenAnswer(inv -> {
+            List<Object[]> rows = new ArrayList<>();
+            for (String id : inv.<Collection<String>>getArgument(0)) {
+                tags.getOrDefault(id, List.of()).forEach(tag -> rows.add(new Object[]{id, tag}));
+            }
+            return rows;
+        });
+        lenient().when(communityRepository.findSummariesByIds(anyCollection())).thenAnswer(inv ->
+                inv.<Collection<String>>getArgument(0).stream()
+                        .filter(documents::containsKey)
+                        .map(id -> summary(id, documents.get(id)))
+                        .toList());
+        lenient().when(communityRepository.findAllIds(any(Pageable.class))).thenAnswer(inv -> {
+            Pageable pageable = inv.getArgument(0);
+            return new PageImpl<>(new ArrayList<>(documents.keySet()), pageable, documents.size());
+        });
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        backend.close();
+    }
+
+    @Test
+    public void testTitleMatchRanksAboveContentMatch() {
+        index("content-only", "자바 질문", "빈 주입이 안 되는데 스프링 문제일까요");
+        index("title", "스프링 설정 질문", "설정 파일 위치가 궁금합니다");
+        index("unrelated", "오늘 점심", "김치찌개를 먹었습니다");
+
+        Page<CommunitySummaryResponseDTO> result = backend.search("스프링", FIRST_PAGE);
+
+        assertEquals(2, result.getTotalElements());
+        assertEquals(List.of("title", "content-only"), ids(result));
+    }
+
+    @Test
+    public void testMatchesInflectedFormsAndTags() {
+        // Nori 형태소 분석으로 조사가 붙은 형태("스프링을")와 태그도 검색됨
+        index("inflected", "공부 기록", "요즘 스프링을 공부합니다");
+        index("tagged", "질문 있어요", "설정이 안 됩니다");
+        tags.put("tagged", List.of("스프링"));
+        backend.onCommunityChanged(new CommunityChangedEventDTO("tagged", CommunityChangedEventDTO.ChangeType.UPDATED));
+
+        assertEquals(List.of("inflected", "tagged"), ids(backend.search("스프링", FIRST_PAGE)).stream().sorted().toList());
+    }
+
+    @Test
+    public void testUpdateAndDeleteEventsRefreshIndex() {
+        index("post", "스프링 질문", "본문");
+        assertEquals(List.of("post"), ids(backend.search("스프링", FIRST_PAGE)));
+
+        documents.put("post", new String[]{"자바 질문", "본문"});
+        backend.onCommunityChanged(new CommunityChangedEventDTO("post", CommunityChangedEventDTO.ChangeType.UPDATED));
+        assertTrue(backend.search("스프링", FIRST_PAGE).isEmpty());
+        assertEquals(List.of("post"), ids(backend.search("자바", FIRST_PAGE)));
+
+        documents.remove("post");
+        backend.onCommunityChanged(new CommunityChangedEventDTO("post", CommunityChangedEventDTO.ChangeType.DELETED));
+        assertTrue(backend.search("자바", FIRST_PAGE).isEmpty());
+    }
+
+    @Test
+    public void testPagesThroughRankedHits() {
+        index("best", "스프링 스프링", "스프링 스프링 스프링");
+        index("middle", "스프링 질문", "본문");
+        index("worst", "질문", "스프링 관련");
+
+        Page<CommunitySummaryResponseDTO> second = backend.search("스프링", PageRequest.of(1, 1));
+
+        assertEquals(3, second.getTotalElements());
+        assertEquals(List.of("middle"), ids(second));
+    }
+
+    @Test
+    public void testRebuildsEmptyIndexFromDatabase() throws IOException {
+        documents.put("a", new String[]{"스프링 질문", "본문"});
+        documents.put("b", new String[]{"자바 질문", "스프링 본문"});
+
+        backend.rebuildIfEmpty();
+
+        assertEquals(2, backend.search("스프링", FIRST_PAGE).getTotalElements());
+    }
+
+    @Test
+    public void testQuerySyntaxIsEscaped() {
+        index("post", "C++ 질문", "포인터가 어렵습니다");
+
+        assertDoesNotThrow(() -> backend.search("C++ (포인터", FIRST_PAGE));
+    }
+
+    private void index(String id, String title, String content) {
+        documents.put(id, new String[]{title, content});
+        backend.onCommunityChanged(new CommunityChangedEventDTO(id, CommunityChangedEventDTO.ChangeType.CREATED));
+    }
+
+    private static CommunitySummaryResponseDTO summary(String id, String[] doc) {
+        return new CommunitySummaryResponseDTO(id, "작성자", doc[0], CommunityCategory.QUESTION,
+                ZonedDateTime.now(), 0L, 0L, doc[1], null, 0L);
+    }
+
+    private static List<String> ids(Page<CommunitySummaryResponseDTO> page) {
+        return page.getContent().stream().map(CommunitySummaryResponseDTO::id).toList();
+    }
+}
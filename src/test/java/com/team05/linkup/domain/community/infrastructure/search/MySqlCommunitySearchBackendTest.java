@@ -0,0 +1,163 @@
+package com.team05.linkup.domain.community.infrastructure.search;
+
+import com.team05.linkup.common.MySqlRepositoryTest;
+import com.team05.linkup.domain.community.domain.Community;
+import com.team05.linkup.domain.community.domain.CommunityCategory;
+import com.team05.linkup.domain.community.dto.CommunitySummaryResponseDTO;
+import com.team05.linkup.domain.community.infrastructure.CommunityRepository;
+import com.team05.linkup.domain.enums.Role;
+import com.team05.linkup.domain.user.domain.User;
+import com.team05.linkup.domain.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LIKE 백엔드와 FULLTEXT 백엔드를 실제 MySQL 에서 비교합니다.
+ * FULLTEXT 인덱스는 sql/community_fulltext_search.sql 을 그대로 적용하여 만듭니다.
+ * <ul>
+ *     <li>같은 키워드에 대해 두 백엔드가 같은 게시글을 찾는지</li>
+ *     <li>FULLTEXT 는 관련도 순으로 정렬하고, 한 글자 키워드는 LIKE 로 대체하는지</li>
+ *     <li>실행 계획에서 LIKE 는 전체 스캔(type=ALL), FULLTEXT 는 인덱스(type=fulltext)를 사용하는지</li>
+ * </ul>
+ * 실행 계획만 확인하며 속도는 측정하지 않습니다. 소요 시간 비교는 {@link CommunitySearchBenchmarkTest} 로 합니다.
+ */
+public class MySqlCommunitySearchBackendTest extends MySqlRepositoryTest {
+
+    private static final Path FULLTEXT_SQL = Path.of("sql", "community_fulltext_search.sql");
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10);
+
+    @Autowired
+    private CommunityRepository communityRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private LikeCommunitySearchBackend likeBackend;
+    private FullTextCommunitySearchBackend fullTextBackend;
+
+    private String springTitleId;
+    private String springContentId;
+    private String lunchId;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        applyFullTextIndex(jdbcTemplate);
+        likeBackend = new LikeCommunitySearchBackend(communityRepository);
+        fullTextBackend = new FullTextCommunitySearchBackend(communityRepository);
+
+        User author = userRepository.save(User.builder()
+                .provider("kakao")
+                .providerId("search-author")
+                .userNameAttribute("id")
+                .name("작성자")
+                .nickname("search-author")
+                .role(Role.ROLE_MENTEE)
+                .profileImageUrl("https://example.com/author.png")
+                .build());
+        springTitleId = save(author, "스프링 시큐리티 스프링 설정", "스프링 부트에서 스프링 시큐리티 설정이 안 됩니다");
+        springContentId = save(author, "자바 질문", "빈 주입이 안 되는데 스프링 문제일까요");
+        lunchId = save(author, "오늘 점심", "김치찌개를 먹었습니다");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        communityRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void testBackendsFindSameMatches() {
+        Set<String> byLike = ids(likeBackend.search("스프링", FIRST_PAGE));
+        Set<String> byFullText = ids(fullTextBackend.search("스프링", FIRST_PAGE));
+
+        assertEquals(Set.of(springTitleId, springContentId), byLike);
+        assertEquals(byLike, byFullText);
+    }
+
+    @Test
+    public void testFullTextRanksByRelevance() {
+        Page<CommunitySummaryResponseDTO> result = fullTextBackend.search("스프링", FIRST_PAGE);
+
+        assertEquals(2, result.getTotalElements());
+        assertEquals(List.of(springTitleId, springContentId),
+                result.getContent().stream().map(CommunitySummaryResponseDTO::id).toList());
+    }
+
+    @Test
+    public void testFullTextFallsBackToLikeForSingleCharacter() {
+        // ngram_token_size(2) 보다 짧으면 FULLTEXT 로 찾을 수 없음
+        assertEquals(Set.of(lunchId), ids(fullTextBackend.search("찌", FIRST_PAGE)));
+    }
+
+    @Test
+    public void testFullTextUsesIndexWhileLikeScans() {
+        String likeType = planType("""
+                EXPLAIN SELECT c.id FROM community c
+                WHERE c.title LIKE CONCAT('%', '스프링', '%') OR c.content LIKE CONCAT('%', '스프링', '%')
+                """);
+        String fullTextType = planType("""
+                EXPLAIN SELECT c.id FROM community c
+                WHERE MATCH(c.title, c.content) AGAINST ('스프링' IN NATURAL LANGUAGE MODE)
+                """);
+
+        assertEquals("ALL", likeType);
+        assertEquals("fulltext", fullTextType);
+    }
+
+    private String save(User author, String title, String content) {
+        return communityRepository.save(Community.builder()
+                .user(author)
+                .title(title)
+                .category(CommunityCategory.QUESTION)
+                .content(content)
+                .build()).getId();
+    }
+
+    // 마이그레이션 파일의 ALTER 문을 적용 (컨텍스트를 공유하는 다른 테스트에서 이미 적용했으면 건너뜀)
+    static void applyFullTextIndex(JdbcTemplate jdbcTemplate) throws IOException {
+        Integer existing = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'community' AND index_name = 'ft_community_title_content'
+                """, Integer.class);
+        if (existing != null && existing > 0) {
+            return;
+        }
+        String script = Files.readAllLines(FULLTEXT_SQL, StandardCharsets.UTF_8).stream()
+                .filter(line -> !line.trim().startsWith("--"))
+                .collect(Collectors.joining("\n"));
+        Arrays.stream(script.split(";"))
+                .map(String::trim)
+                .filter(statement -> !statement.isEmpty())
+                .forEach(jdbcTemplate::execute);
+    }
+
+    private String planType(String explain) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList(explain);
+        return String.valueOf(plan.get(0).get("type"));
+    }
+
+    private static Set<String> ids(Page<CommunitySummaryResponseDTO> page) {
+        return page.getContent().stream().map(CommunitySummaryResponseDTO::id).collect(Collectors.toSet());
+    }
+}
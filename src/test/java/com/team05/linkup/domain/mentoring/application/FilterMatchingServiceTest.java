@@ -0,0 +1,81 @@
+package com.team05.linkup.domain.mentoring.application;
+
+import com.team05.linkup.domain.enums.ActivityTime;
+import com.team05.linkup.domain.enums.ActivityType;
+import com.team05.linkup.domain.enums.Interest;
+import com.team05.linkup.domain.mentoring.dto.MentorCardCursorResponseDTO;
+import com.team05.linkup.domain.mentoring.dto.MentorCardDTO;
+import com.team05.linkup.domain.mentoring.dto.MentorFacetCountsDTO;
+import com.team05.linkup.domain.mentoring.dto.MentorFacetEntryDTO;
+import com.team05.linkup.domain.mentoring.dto.MentorFilterDTO;
+import com.team05.linkup.domain.mentoring.infrastructure.MentorFilterRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * 멘토 필터 커서 조회의 페이지 크기 제한과 다음 커서 계산, 항목별 개수 계산을 검증합니다. (색인 적재 전 DB 조회 경로)
+ */
+@ExtendWith(MockitoExtension.class)
+public class FilterMatchingServiceTest {
+
+    @Mock
+    private MentorFilterRepository mentorFilterRepository;
+
+    @Mock
+    private MentorFacetIndex mentorFacetIndex; // 적재 전 상태 (Optional.empty) → DB 조회
+
+    @InjectMocks
+    private FilterMatchingService filterMatchingService;
+
+    private final MentorFilterDTO filter = MentorFilterDTO.builder().build();
+
+    @Test
+    public void testExtraRowMeansNextPage() {
+        when(mentorFilterRepository.findMentorCardsWithFilters(filter, null, 3))
+                .thenReturn(List.of(card("a"), card("b"), card("c")));
+
+        MentorCardCursorResponseDTO page = filterMatchingService.filterMentors(filter, null, 2);
+
+        assertEquals(List.of("a", "b"), page.content().stream().map(MentorCardDTO::getMentorId).toList());
+        assertTrue(page.hasNext());
+        assertEquals("b", page.nextCursor());
+    }
+
+    @Test
+    public void testLastPageAndSizeClamp() {
+        when(mentorFilterRepository.findMentorCardsWithFilters(filter, "b", 51)).thenReturn(List.of(card("c")));
+
+        MentorCardCursorResponseDTO page = filterMatchingService.filterMentors(filter, " b ", 1000);
+
+        assertEquals(1, page.content().size());
+        assertFalse(page.hasNext());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    public void testFacetCountsFallBackToDatabaseBeforeIndexLoads() {
+        when(mentorFilterRepository.findMentorFacetEntries(isNull())).thenReturn(List.of(
+                new MentorFacetEntryDTO(card("a"), Interest.WEB_DEV, 1, 1, ActivityTime.WEEKDAY_EVENING, ActivityType.ONLINE),
+                new MentorFacetEntryDTO(card("b"), Interest.MUSIC_PIANO, 1, 2, ActivityTime.WEEKEND_MORNING, ActivityType.ALL)));
+
+        MentorFacetCountsDTO counts = filterMatchingService.countFacets(
+                MentorFilterDTO.builder().interest(Interest.WEB_DEV).build());
+
+        assertEquals(1, counts.total());
+        assertEquals(1L, counts.interest().get(Interest.MUSIC_PIANO));
+        assertEquals(1L, counts.area().get(1));
+    }
+
+    private static MentorCardDTO card(String mentorId) {
+        return MentorCardDTO.builder().mentorId(mentorId).build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.team05.linkup.domain.mentoring.application;
+
+import com.team05.linkup.domain.mentoring.dto.AiMatchingRequestDTO;
+import com.team05.linkup.domain.mentoring.dto.AiMatchingResponseDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로컬 TF-IDF 유사도 엔진의 순위와 점수 범위를 검증합니다.
+ */
+public class LocalMentorSimilarityEngineTest {
+
+    private final LocalMentorSimilarityEngine engine = new LocalMentorSimilarityEngine(0.5);
+
+    @Test
+    public void testExactTagMatchRanksFirst() {
+        AiMatchingResponseDTO response = engine.score(request("자바, 스프링",
+                candidate("unrelated", "피아노, 요가"),
+                candidate("partial", "스프링부트"),
+                candidate("exact", "Java, 자바, 스프링"))).orElseThrow();
+
+        List<String> ranking = response.results().stream().map(AiMatchingResponseDTO.Result::nickname).toList();
+        assertEquals(List.of("exact", "partial", "unrelated"), ranking);
+        assertEquals(0.0, response.results().get(2).similarity());
+        response.results().forEach(result -> assertTrue(result.similarity() >= 0 && result.similarity() <= 1.0 + 1e-9));
+    }
+
+    @Test
+    public void testNormalizesCaseAndWhitespace() {
+        AiMatchingResponseDTO response = engine.score(request("Spring Boot",
+                candidate("same", " spring boot "))).orElseThrow();
+
+        assertEquals(1.0, response.results().get(0).similarity(), 1e-9);
+    }
+
+    @Test
+    public void testEmptyProfileTagScoresZero() {
+        AiMatchingResponseDTO response = engine.score(request("",
+                candidate("mentor", "자바"))).orElseThrow();
+
+        assertEquals(0.0, response.results().get(0).similarity());
+    }
+
+    private static AiMatchingRequestDTO request(String profileTag, AiMatchingRequestDTO.OtherProfile... candidates) {
+        return new AiMatchingRequestDTO(profileTag, List.of(candidates));
+    }
+
+    private static AiMatchingRequestDTO.OtherProfile candidate(String nickname, String profileTag) {
+        return new AiMatchingRequestDTO.OtherProfile(1, "서울", 1, "강남구", nickname, profileTag, null, nickname, null);
+    }
+}
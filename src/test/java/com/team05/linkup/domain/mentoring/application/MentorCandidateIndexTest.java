@@ -0,0 +1,93 @@
+package com.team05.linkup.domain.mentoring.application;
+
+import com.team05.linkup.domain.enums.Interest;
+import com.team05.linkup.domain.mentoring.dto.AiMatchingRequestDTO;
+import com.team05.linkup.domain.mentoring.dto.MentorCandidateDTO;
+import com.team05.linkup.domain.user.dto.MentorProfileChangedEventDTO;
+import com.team05.linkup.domain.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * 멘토 후보 색인의 관심 분야별 조회와 프로필 변경 이벤트에 따른 증분 갱신을 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+public class MentorCandidateIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private MentorCandidateIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        when(userRepository.findMentorCandidates(isNull())).thenReturn(List.of(
+                mentor("u1", Interest.WEB_DEV, "자바"),
+                mentor("u2", Interest.WEB_DEV, "리액트"),
+                mentor("u3", Interest.MUSIC_PIANO, "피아노")));
+        index.rebuild();
+    }
+
+    @Test
+    public void testCandidatesArePartitionedByInterestWithoutDbQuery() {
+        List<AiMatchingRequestDTO.OtherProfile> candidates = index.candidates(Interest.WEB_DEV, "kakao", "provider-u1");
+
+        assertEquals(List.of("u2"), nicknames(candidates));
+        assertTrue(index.candidates(Interest.FITNESS_YOGA, "kakao", "provider-u1").isEmpty());
+        verify(userRepository, never()).findOtherProfileTagsByProviderId(any(), any(), any());
+    }
+
+    @Test
+    public void testProfileChangeMovesMentorToNewInterest() {
+        when(userRepository.findMentorCandidates(List.of("u2")))
+                .thenReturn(List.of(mentor("u2", Interest.MUSIC_PIANO, "재즈피아노")));
+
+        index.onMentorProfileChanged(new MentorProfileChangedEventDTO("u2"));
+
+        assertEquals(List.of("u1"), nicknames(index.candidates(Interest.WEB_DEV, "kakao", "me")));
+        List<AiMatchingRequestDTO.OtherProfile> piano = index.candidates(Interest.MUSIC_PIANO, "kakao", "me");
+        assertEquals(2, piano.size());
+        assertTrue(piano.stream().anyMatch(profile -> "재즈피아노".equals(profile.profileTag())));
+    }
+
+    @Test
+    public void testUserNoLongerMentorIsRemoved() {
+        when(userRepository.findMentorCandidates(List.of("u3"))).thenReturn(List.of());
+
+        index.onMentorProfileChanged(new MentorProfileChangedEventDTO("u3"));
+
+        assertTrue(index.candidates(Interest.MUSIC_PIANO, "kakao", "me").isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    public void testNewMentorIsAdded() {
+        when(userRepository.findMentorCandidates(List.of("u4")))
+                .thenReturn(List.of(mentor("u4", Interest.WEB_DEV, "스프링")));
+
+        index.onMentorProfileChanged(new MentorProfileChangedEventDTO("u4"));
+
+        assertEquals(3, index.candidates(Interest.WEB_DEV, "kakao", "me").size());
+    }
+
+    private static MentorCandidateDTO mentor(String userId, Interest interest, String profileTag) {
+        return new MentorCandidateDTO(userId, interest, 1, "서울", 680, "강남구", userId, profileTag,
+                "https://example.com/" + userId + ".png", "provider-" + userId, null);
+    }
+
+    private static List<String> nicknames(List<AiMatchingRequestDTO.OtherProfile> candidates) {
+        return candidates.stream().map(AiMatchingRequestDTO.OtherProfile::nickname).sorted().toList();
+    }
+}
@@ -0,0 +1,125 @@
+package com.team05.linkup.domain.mentoring.application;
+
+import com.team05.linkup.domain.enums.ActivityTime;
+import com.team05.linkup.domain.enums.ActivityType;
+import com.team05.linkup.domain.enums.Interest;
+import com.team05.linkup.domain.mentoring.dto.MentorCardDTO;
+import com.team05.linkup.domain.mentoring.dto.MentorFacetCountsDTO;
+import com.team05.linkup.domain.mentoring.dto.MentorFacetEntryDTO;
+import com.team05.linkup.domain.mentoring.dto.MentorFilterDTO;
+import com.team05.linkup.domain.mentoring.infrastructure.MentorFilterRepository;
+import com.team05.linkup.domain.user.dto.MentorProfileChangedEventDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * 멘토 필터 BitSet 색인의 필터 조합, 항목별 개수, 증분 갱신을 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+public class MentorFacetIndexTest {
+
+    @Mock
+    private MentorFilterRepository mentorFilterRepository;
+
+    @InjectMocks
+    private MentorFacetIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        when(mentorFilterRepository.findMentorFacetEntries(isNull())).thenReturn(List.of(
+                mentor("m1", Interest.WEB_DEV, 1, 1, ActivityTime.WEEKDAY_EVENING, ActivityType.ONLINE),
+                mentor("m2", Interest.WEB_DEV, 1, 2, ActivityTime.WEEKEND_MORNING, ActivityType.ALL),
+                mentor("m3", Interest.WEB_DEV, 2, 1, ActivityTime.WEEKDAY_EVENING, ActivityType.OFFLINE),
+                mentor("m4", Interest.MUSIC_PIANO, 1, 1, ActivityTime.WEEKDAY_EVENING, ActivityType.ONLINE)));
+        index.rebuild();
+    }
+
+    @Test
+    public void testFilterCombinesFacets() {
+        MentorFilterDTO filter = MentorFilterDTO.builder()
+                .interest(Interest.WEB_DEV)
+                .areaCode(1)
+                .activityTime(List.of(ActivityTime.WEEKDAY_EVENING, ActivityTime.WEEKEND_MORNING))
+                .activityType(ActivityType.ONLINE)
+                .build();
+
+        assertEquals(List.of("m1", "m2"), ids(index.filter(filter, null, 0).orElseThrow()));
+        assertEquals(List.of("m2"), ids(index.filter(filter, "m1", 0).orElseThrow()));
+
+        MentorFilterDTO sigungu = MentorFilterDTO.builder().areaCode(1).sigunguCode(1).build();
+        assertEquals(List.of("m1", "m4"), ids(index.filter(sigungu, null, 0).orElseThrow()));
+        assertEquals(List.of("m1"), ids(index.filter(sigungu, null, 1).orElseThrow()));
+    }
+
+    @Test
+    public void testFacetCountsExcludeOwnCondition() {
+        MentorFilterDTO filter = MentorFilterDTO.builder().interest(Interest.WEB_DEV).areaCode(1).build();
+
+        MentorFacetCountsDTO counts = index.counts(filter).orElseThrow();
+
+        assertEquals(2, counts.total());
+        assertEquals(2L, counts.interest().get(Interest.WEB_DEV));
+        assertEquals(1L, counts.interest().get(Interest.MUSIC_PIANO));
+        assertEquals(2L, counts.area().get(1));
+        assertEquals(1L, counts.area().get(2));
+        assertEquals(1L, counts.sigungu().get(1));
+        assertEquals(1L, counts.sigungu().get(2));
+        assertEquals(2L, counts.activityType().get(ActivityType.ALL));
+        assertEquals(2L, counts.activityType().get(ActivityType.ONLINE));
+        assertEquals(1L, counts.activityType().get(ActivityType.OFFLINE));
+    }
+
+    @Test
+    public void testProfileChangeUpdatesBits() {
+        when(mentorFilterRepository.findMentorFacetEntries(List.of("m4"))).thenReturn(List.of(
+                mentor("m4", Interest.WEB_DEV, 2, 1, ActivityTime.WEEKDAY_EVENING, ActivityType.ONLINE)));
+        when(mentorFilterRepository.findMentorFacetEntries(List.of("m1"))).thenReturn(List.of());
+
+        index.onMentorProfileChanged(new MentorProfileChangedEventDTO("m4"));
+        index.onMentorProfileChanged(new MentorProfileChangedEventDTO("m1"));
+
+        MentorFilterDTO webDev = MentorFilterDTO.builder().interest(Interest.WEB_DEV).build();
+        assertEquals(List.of("m2", "m3", "m4"), ids(index.filter(webDev, null, 0).orElseThrow()));
+        assertEquals(0L, index.counts(webDev).orElseThrow().interest().get(Interest.MUSIC_PIANO));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    public void testNotReadyReturnsEmpty() {
+        MentorFacetIndex notLoaded = new MentorFacetIndex(mentorFilterRepository);
+
+        assertTrue(notLoaded.filter(MentorFilterDTO.builder().build(), null, 0).isEmpty());
+        assertTrue(notLoaded.counts(MentorFilterDTO.builder().build()).isEmpty());
+    }
+
+    @Test
+    public void testCountEntriesMatchesIndexCounts() {
+        // 색인 적재 전 DB 조회 결과로 계산한 개수가 색인의 개수와 같아야 함
+        MentorFilterDTO filter = MentorFilterDTO.builder().interest(Interest.WEB_DEV).areaCode(1).build();
+
+        MentorFacetCountsDTO fromEntries = MentorFacetIndex.countEntries(
+                mentorFilterRepository.findMentorFacetEntries(null), filter);
+
+        assertEquals(index.counts(filter).orElseThrow(), fromEntries);
+    }
+
+    private static MentorFacetEntryDTO mentor(String id, Interest interest, int areaCode, int sigunguCode,
+                                              ActivityTime activityTime, ActivityType activityType) {
+        MentorCardDTO card = MentorCardDTO.builder().mentorId(id).nickname(id).build();
+        return new MentorFacetEntryDTO(card, interest, areaCode, sigunguCode, activityTime, activityType);
+    }
+
+    private static List<String> ids(List<MentorCardDTO> cards) {
+        return cards.stream().map(MentorCardDTO::getMentorId).toList();
+    }
+}
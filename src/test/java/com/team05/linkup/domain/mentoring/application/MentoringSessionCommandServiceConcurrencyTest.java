@@ -0,0 +1,182 @@
+package com.team05.linkup.domain.mentoring.application;
+
+import com.team05.linkup.common.MySqlRepositoryTest;
+import com.team05.linkup.domain.enums.Interest;
+import com.team05.linkup.domain.enums.MentoringStatus;
+import com.team05.linkup.domain.enums.Role;
+import com.team05.linkup.domain.mentoring.domain.MentoringSessions;
+import com.team05.linkup.domain.mentoring.infrastructure.MentoringRepository;
+import com.team05.linkup.domain.user.domain.User;
+import com.team05.linkup.domain.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 같은 멘토에게 100번 동시에 매칭을 요청해도 진행 중 세션이 하나만 생기고,
+ * 모든 요청이 그 세션을 돌려받는지 실제 MySQL 의 mentoring_sessions 제약 위에서 검증합니다.
+ * status 칼럼에 enum 이름('IN_PROGRESS')이 저장되어 active_pair 생성 칼럼이 채워지는지도 함께 확인합니다.
+ */
+public class MentoringSessionCommandServiceConcurrencyTest extends MySqlRepositoryTest {
+
+    private static final int THREAD_COUNT = 100;
+
+    @Autowired
+    private MentoringRepository mentoringRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MentoringSessionCommandService commandService;
+    private User mentor;
+    private User mentee;
+
+    @BeforeEach
+    public void setUp() {
+        commandService = new MentoringSessionCommandService(mentoringRepository, transactionManager);
+        mentor = userRepository.save(user("mentor-1", Role.ROLE_MENTOR));
+        mentee = userRepository.save(user("mentee-1", Role.ROLE_MENTEE));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        mentoringRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void testSimultaneousClicksCreateOneSession() throws InterruptedException {
+        List<MentoringSessionCommandService.OpenResult> results = runConcurrently(i -> null);
+
+        assertOneSession(results);
+    }
+
+    @Test
+    public void testSimultaneousRetriesWithSameKeyCreateOneSession() throws InterruptedException {
+        List<MentoringSessionCommandService.OpenResult> results = runConcurrently(i -> "click-1");
+
+        assertOneSession(results);
+        assertEquals("click-1", results.get(0).session().getIdempotencyKey());
+    }
+
+    @Test
+    public void testStatusColumnFillsActivePair() {
+        MentoringSessions session = commandService.open(mentor, mentee, null).session();
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT status, active_pair FROM mentoring_sessions WHERE id = ?", session.getId());
+        assertEquals("IN_PROGRESS", row.get("status"));
+        assertEquals(mentor.getId() + ":" + mentee.getId(), row.get("active_pair"));
+    }
+
+    @Test
+    public void testCompletedSessionAllowsNewMatch() {
+        MentoringSessions first = commandService.open(mentor, mentee, null).session();
+        first.setStatus(MentoringStatus.COMPLETED);
+        mentoringRepository.saveAndFlush(first);
+
+        // 완료된 세션은 active_pair 가 NULL 이 되어 같은 쌍의 새 진행 중 세션을 막지 않음
+        assertNull(jdbcTemplate.queryForObject(
+                "SELECT active_pair FROM mentoring_sessions WHERE id = ?", String.class, first.getId()));
+        MentoringSessionCommandService.OpenResult second = commandService.open(mentor, mentee, null);
+
+        assertTrue(second.created());
+        assertNotEquals(first.getId(), second.session().getId());
+        assertEquals(2L, mentoringRepository.count());
+    }
+
+    @Test
+    public void testRetryWithSameKeyReturnsSessionWithoutInsert() {
+        MentoringSessionCommandService.OpenResult first = commandService.open(mentor, mentee, "click-1");
+        MentoringSessionCommandService.OpenResult retry = commandService.open(mentor, mentee, " click-1 ");
+
+        assertTrue(first.created());
+        assertFalse(retry.created());
+        assertEquals(first.session().getId(), retry.session().getId());
+        assertEquals(1L, mentoringRepository.count());
+    }
+
+    @Test
+    public void testKeyReusedForAnotherMentorIsRejected() {
+        commandService.open(mentor, mentee, "click-1");
+        User otherMentor = userRepository.save(user("mentor-2", Role.ROLE_MENTOR));
+
+        assertThrows(IllegalArgumentException.class, () -> commandService.open(otherMentor, mentee, "click-1"));
+    }
+
+    private void assertOneSession(List<MentoringSessionCommandService.OpenResult> results) {
+        assertEquals(THREAD_COUNT, results.size());
+        assertEquals(1L, mentoringRepository.count());
+        assertEquals(1, results.stream().filter(MentoringSessionCommandService.OpenResult::created).count());
+        Set<String> sessionIds = new HashSet<>();
+        results.forEach(result -> sessionIds.add(result.session().getId()));
+        assertEquals(1, sessionIds.size());
+    }
+
+    private static User user(String suffix, Role role) {
+        return User.builder()
+                .provider("kakao")
+                .providerId("provider-" + suffix)
+                .userNameAttribute("id")
+                .name("사용자-" + suffix)
+                .nickname("nick-" + suffix)
+                .role(role)
+                .interest(Interest.WEB_DEV)
+                .profileImageUrl("https://example.com/" + suffix + ".png")
+                .build();
+    }
+
+    private List<MentoringSessionCommandService.OpenResult> runConcurrently(
+            IntFunction<String> idempotencyKey) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+        List<MentoringSessionCommandService.OpenResult> results = new CopyOnWriteArrayList<>();
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            int index = i;
+            executor.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    results.add(commandService.open(mentor, mentee, idempotencyKey.apply(index)));
+                } catch (Throwable e) {
+                    errors.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.await();
+        start.countDown();
+        assertTrue(done.await(60, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        assertTrue(errors.isEmpty(), () -> "예외 발생: " + errors);
+        return results;
+    }
+}
@@ -0,0 +1,76 @@
+package com.team05.linkup.domain.user.application;
+
+import com.team05.linkup.domain.user.domain.Area;
+import com.team05.linkup.domain.user.domain.Sigungu;
+import com.team05.linkup.domain.user.domain.SigunguId;
+import com.team05.linkup.domain.user.infrastructure.AreaRepository;
+import com.team05.linkup.domain.user.infrastructure.SigunguRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 지역 사전의 조회, 지연 적재, 재적재를 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+public class RegionDictionaryTest {
+
+    @Mock
+    private AreaRepository areaRepository;
+
+    @Mock
+    private SigunguRepository sigunguRepository;
+
+    @InjectMocks
+    private RegionDictionary regionDictionary;
+
+    @Test
+    public void testLookupsLoadOnceWithoutFurtherQueries() {
+        when(areaRepository.findAll()).thenReturn(List.of(area(1, "서울"), area(6, "부산")));
+        when(sigunguRepository.findAll()).thenReturn(List.of(sigungu(1, 1, "강남구"), sigungu(6, 1, "강서구")));
+
+        for (int i = 0; i < 200; i++) {
+            assertEquals("서울", regionDictionary.areaName(1));
+            assertEquals("강남구", regionDictionary.sigunguName(1, 1));
+            assertEquals("강서구", regionDictionary.sigunguName(6, 1));
+        }
+        assertNull(regionDictionary.areaName(null));
+        assertNull(regionDictionary.sigunguName(1, null));
+        assertNull(regionDictionary.sigunguName(1, 99));
+
+        verify(areaRepository, times(1)).findAll();
+        verify(sigunguRepository, times(1)).findAll();
+    }
+
+    @Test
+    public void testRefreshReplacesDictionary() {
+        when(areaRepository.findAll()).thenReturn(List.of(area(1, "서울")));
+        when(sigunguRepository.findAll())
+                .thenReturn(List.of(sigungu(1, 1, "강남구")))
+                .thenReturn(List.of(sigungu(1, 1, "강남구"), sigungu(1, 2, "강동구")));
+
+        assertEquals(1, regionDictionary.refresh());
+        assertNull(regionDictionary.sigunguName(1, 2));
+
+        assertEquals(2, regionDictionary.refresh());
+        assertEquals("강동구", regionDictionary.sigunguName(1, 2));
+    }
+
+    private static Area area(int areacode, String name) {
+        return Area.builder().areacode(areacode).areaName(name).build();
+    }
+
+    private static Sigungu sigungu(int areacode, int sigungucode, String name) {
+        return Sigungu.builder()
+                .id(SigunguId.builder().areacode(areacode).sigungucode(sigungucode).build())
+                .sigunguname(name)
+                .build();
+    }
+}